@@ -0,0 +1,16 @@
+package com.endava.cats.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks fuzzers whose test cases depend on each other. Test cases
+ * for these fuzzers are always executed one after another, even
+ * when {@code --concurrency} is greater than 1.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SequentialFuzzer {
+}
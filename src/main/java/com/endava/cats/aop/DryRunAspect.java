@@ -3,8 +3,10 @@ package com.endava.cats.aop;
 import com.endava.cats.annotations.DryRun;
 import com.endava.cats.args.FilterArguments;
 import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.exception.CatsException;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.TestPlan;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.JsonUtils;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
@@ -14,9 +16,15 @@ import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static org.fusesource.jansi.Ansi.ansi;
 
@@ -31,7 +39,7 @@ import static org.fusesource.jansi.Ansi.ansi;
 public class DryRunAspect {
 
     private final PrettyLogger logger = PrettyLoggerFactory.getConsoleLogger();
-    private final Map<String, Integer> paths = new TreeMap<>();
+    private final Map<String, Integer> paths = new ConcurrentSkipListMap<>();
     @Inject
     FilterArguments filterArguments;
 
@@ -39,6 +47,7 @@ public class DryRunAspect {
     ReportingArguments reportingArguments;
 
     private int counter;
+    private Writer planWriter;
 
     /**
      * Intercepts the startSession from the TestCaseListener.
@@ -80,6 +89,7 @@ public class DryRunAspect {
      * @return nothing
      */
     public Object endSession() {
+        this.closePlanWriter();
         if (reportingArguments.isJsonOutput()) {
             List<DryRunEntry> pathTests = paths.entrySet().stream()
                     .map(entry -> {
@@ -116,6 +126,50 @@ public class DryRunAspect {
         return null;
     }
 
+    /**
+     * Logic to be executed instead of TestCaseListener.executePlan(). The plan is only counted, without executing any test case.
+     *
+     * @param context invocation context
+     * @return nothing
+     */
+    public Object countPlan(InvocationContext context) {
+        TestPlan<?> testPlan = (TestPlan<?>) context.getParameters()[2];
+        int planSize = (int) (filterArguments.getExportPlan() != null ? this.exportPlan(testPlan) : testPlan.count());
+
+        if (planSize > 0) {
+            paths.merge(testPlan.getFuzzingData().getPath() + "_" + testPlan.getFuzzingData().getMethod(), planSize, Integer::sum);
+        }
+        counter += planSize;
+        return null;
+    }
+
+    /**
+     * Writes the plan in the {@code --exportPlan} file, which is created on the first exported plan.
+     */
+    private synchronized long exportPlan(TestPlan<?> testPlan) {
+        try {
+            if (planWriter == null) {
+                planWriter = Files.newBufferedWriter(Path.of(filterArguments.getExportPlan()), StandardCharsets.UTF_8);
+            }
+            return testPlan.writeJsonLines(planWriter);
+        } catch (IOException e) {
+            throw new CatsException("Unable to export the test plan to " + filterArguments.getExportPlan(), e);
+        }
+    }
+
+    private synchronized void closePlanWriter() {
+        if (planWriter == null) {
+            return;
+        }
+        try {
+            planWriter.close();
+        } catch (IOException e) {
+            throw new CatsException("Unable to export the test plan to " + filterArguments.getExportPlan(), e);
+        } finally {
+            planWriter = null;
+        }
+    }
+
     /**
      * Intercepts all calls annotated with DryRun
      *
@@ -132,8 +186,10 @@ public class DryRunAspect {
         String methodName = context.getMethod().getName();
         return switch (methodName) {
             case String s when s.startsWith("report") -> report(context);
+            case String s when s.startsWith("executePlan") -> countPlan(context);
             case String s when s.startsWith("endSession") -> endSession();
             case String s when s.startsWith("startSession") -> startSession(context);
+            case String s when s.startsWith("callAsync") -> CompletableFuture.completedFuture(dontInvokeService());
             case String s when s.startsWith("call") -> dontInvokeService();
             case String s when s.startsWith("writeTestCase") -> dontWriteTestCase();
             case String s when s.startsWith("getErrors") ||
@@ -18,6 +18,46 @@ public class ApiArguments {
             defaultValue = "10000")
     private int maxRequestsPerMinute = 10000;
 
+    @CommandLine.Option(names = {"--adaptiveRateLimit"},
+            description = "Adapt the request rate based on the service responses. CATS starts slower and increases the rate while responses are fast, up to @|bold --maxRequestsPerMinute|@. The rate is reduced when the service returns 429 or 503, latency increases or requests fail without a response, such as on timeouts. Retry-After and RateLimit-* headers are honoured")
+    private boolean adaptiveRateLimit;
+
+    @CommandLine.Option(names = {"--concurrency"},
+            description = "Maximum number of test cases executed in parallel for a given fuzzer and HTTP operation. When greater than 1, test cases are run on virtual threads. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "1")
+    private int concurrency = 1;
+
+    @CommandLine.Option(names = {"--pathConcurrency"},
+            description = "Maximum number of OpenAPI paths fuzzed in parallel. Operations and fuzzers for a given path still run in order. A path and its child paths, such as @|bold /pets|@ and @|bold /pets/{id}|@, are fuzzed one after another. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "1")
+    private int pathConcurrency = 1;
+
+    @CommandLine.Option(names = {"--maxInFlightRequests"},
+            description = "When greater than 0, requests are sent asynchronously and at most this number of requests will wait for a response at the same time. Requests sent at the same time against the service are still bounded by @|bold --maxRequestsPerHost|@. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "0")
+    private int maxInFlightRequests;
+
+    @CommandLine.Option(names = {"--deduplicateRequests"},
+            description = "Don't send a request identical to one already sent by a previous test case (same HTTP method, final URL, headers and body). The recorded response is reused and checked against the expectations of the current test case. " +
+                    "Only idempotent requests are deduplicated: @|bold GET|@, @|bold HEAD|@ and @|bold PUT|@. Recorded responses of a path are discarded once a @|bold POST|@, @|bold PATCH|@ or @|bold DELETE|@ is sent to the same path, a parent or a child path")
+    private boolean deduplicateRequests;
+
+    @CommandLine.Option(names = {"--httpProtocol"},
+            description = "The HTTP protocol used to call the service. @|bold H2|@ negotiates HTTP/2 over TLS and falls back to HTTP/1.1, @|bold H2C|@ uses HTTP/2 without TLS assuming the server supports it (prior knowledge), @|bold HTTP_1_1|@ always uses HTTP/1.1. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "H2")
+    private HttpProtocol httpProtocol = HttpProtocol.H2;
+
+    @CommandLine.Option(names = {"--maxRequestsPerHost"},
+            description = "Maximum number of asynchronous requests executed at the same time against the service. When using HTTP/2 these are multiplexed as streams over the same connection. " +
+                    "When lower than @|bold --maxInFlightRequests|@, the remaining in-flight requests wait for a free slot. Requests sent synchronously, including the ones sent by @|bold --concurrency|@ threads, are not bounded by this setting. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "5")
+    private int maxRequestsPerHost = 5;
+
+    @CommandLine.Option(names = {"--maxIdleConnections"},
+            description = "Maximum number of idle connections kept open in the connection pool. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "10")
+    private int maxIdleConnections = 10;
+
     @CommandLine.Option(names = {"--connectionTimeout"},
             description = "Time period in seconds within which CATS should establish a connection with the server. Default: @|bold,underline ${DEFAULT-VALUE}|@",
             defaultValue = "10")
@@ -33,6 +73,11 @@ public class ApiArguments {
             defaultValue = "10")
     private int readTimeout = 10;
 
+    @CommandLine.Option(names = {"--maxResponseBodyBytes"},
+            description = "Maximum number of bytes kept from each response body. Longer bodies are truncated, but their length, number of words and number of lines are computed on the entire body. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "10485760")
+    private long maxResponseBodyBytes = 10485760;
+
     @CommandLine.Option(names = {"--userAgent"},
             description = "The user agent to be set in the User-Agent HTTP header. Default: @|bold,underline cats/${app.version}|@")
     private String userAgent;
@@ -78,6 +123,33 @@ public class ApiArguments {
         }
     }
 
+    /**
+     * Checks if test cases should be executed in parallel.
+     *
+     * @return true if {@code --concurrency} is greater than 1, false otherwise
+     */
+    public boolean isConcurrent() {
+        return concurrency > 1;
+    }
+
+    /**
+     * Checks if multiple OpenAPI paths should be fuzzed in parallel.
+     *
+     * @return true if {@code --pathConcurrency} is greater than 1, false otherwise
+     */
+    public boolean isPathConcurrent() {
+        return pathConcurrency > 1;
+    }
+
+    /**
+     * Checks if requests should be sent asynchronously.
+     *
+     * @return true if {@code --maxInFlightRequests} is greater than 0, false otherwise
+     */
+    public boolean isAsyncRequests() {
+        return maxInFlightRequests > 0;
+    }
+
     /**
      * Returns the full user agent, appending the testId and the fuzzer name.
      *
@@ -91,4 +163,22 @@ public class ApiArguments {
         }
         return this.userAgent + " (Test " + testId + " - " + fuzzer + ")";
     }
+
+    /**
+     * Enumerates the HTTP protocols which can be used to call the service.
+     */
+    public enum HttpProtocol {
+        /**
+         * Always uses HTTP/1.1.
+         */
+        HTTP_1_1,
+        /**
+         * Uses HTTP/2 if negotiated through TLS, with fallback to HTTP/1.1.
+         */
+        H2,
+        /**
+         * Uses cleartext HTTP/2 without any upgrade, assuming the server supports it.
+         */
+        H2C
+    }
 }
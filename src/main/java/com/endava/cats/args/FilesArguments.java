@@ -127,6 +127,11 @@ public class FilesArguments {
     @Setter
     private File mutatorsFolder;
 
+    @CommandLine.Option(names = {"--corpus"},
+            description = "A folder where the payloads reaching new service behaviour are stored and loaded from in subsequent runs. This argument is taken in consideration only when using the `cats random` command with @|bold --coverageGuided|@")
+    @Getter
+    @Setter
+    private File corpusFolder;
 
     /**
      * Loads all supplied files for --securityFuzzerFile, --customFuzzerFile, --refData, --urlParams and --headers.
@@ -96,6 +96,9 @@ public class FilterArguments {
     @CommandLine.Option(names = {"-d", "--dryRun"},
             description = "Simulate a possible run without actually invoking the service. This will print how many tests will actually be executed and with which Fuzzers")
     private boolean dryRun;
+    @CommandLine.Option(names = {"--exportPlan"},
+            description = "When running with @|bold --dryRun|@, write the test cases planned by the Fuzzers iterating through fields and headers to the given file, as JSON Lines. Each line holds the Fuzzer, the path, the HTTP method, the fuzzed field or header and the fuzzed value")
+    private String exportPlan;
     @CommandLine.Option(names = {"--fieldTypes", "--fieldType"},
             description = "A comma separated list of OpenAPI data types to include. It only supports standard types: @|underline https://swagger.io/docs/specification/data-models/data-types|@", split = ",")
     private List<FieldType> fieldTypes;
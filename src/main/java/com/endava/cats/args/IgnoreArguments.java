@@ -2,6 +2,7 @@ package com.endava.cats.args;
 
 import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.util.CompiledPatterns;
 import jakarta.inject.Singleton;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
@@ -129,7 +130,7 @@ public class IgnoreArguments {
      * @return true if the regex is not found in the body, false otherwise
      */
     public boolean isNotIgnoredRegex(String body) {
-        return !body.matches(Optional.ofNullable(ignoreResponseRegex).orElse("cats_body"));
+        return !CompiledPatterns.matches(body, Optional.ofNullable(ignoreResponseRegex).orElse("cats_body"));
     }
 
     /**
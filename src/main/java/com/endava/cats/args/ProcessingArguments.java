@@ -24,6 +24,10 @@ public class ProcessingArguments {
             description = "The maximum number of fields that will be removed from a request when using the @|bold,underline SIZE|@ fieldsFuzzingStrategy")
     private int maxFieldsToRemove;
 
+    @CommandLine.Option(names = {"--maxFieldsSubsets"},
+            description = "The maximum number of fields subsets used by the @|bold,underline fieldsFuzzingStrategy|@. When the strategy produces more subsets, random distinct subsets are selected. 0 means no limit. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int maxFieldsSubsets;
+
     @CommandLine.Option(names = {"--edgeSpacesStrategy"},
             description = "This can be either @|bold,underline VALIDATE_AND_TRIM|@ or @|bold,underline TRIM_AND_VALIDATE|@. It can be used to specify what CATS should expect when sending trailing and leading spaces valid values within fields. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private TrimmingStrategy edgeSpacesStrategy = TrimmingStrategy.TRIM_AND_VALIDATE;
@@ -77,6 +81,12 @@ public class ProcessingArguments {
             description = "Max number of anyOf/oneOf combinations. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private int limitXxxOfCombinations = 20;
 
+    @CommandLine.Option(names = {"--xxxOfSampling"},
+            description = "How anyOf/oneOf combinations are selected when there are more than @|bold --limitXxxOfCombinations|@: " +
+                    "@|bold NONE|@ takes the first combinations, @|bold RANDOM|@ selects random combinations and @|bold COVERING|@ selects combinations so that each anyOf/oneOf element is used as early as possible. " +
+                    "Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private XxxOfSampling xxxOfSampling = XxxOfSampling.NONE;
+
     @CommandLine.Option(names = {"--generateXxxCombinationsForResponses"},
             description = "Generate anyOf/oneOf combinations also for response schemas. By default it creates one response payload with all possibilities. Default: @|bold,underline ${DEFAULT-VALUE}|@")
     private boolean generateAllXxxCombinationsForResponses;
@@ -185,4 +195,22 @@ public class ProcessingArguments {
          */
         ONEBYONE
     }
+
+    /**
+     * How anyOf/oneOf combinations are selected.
+     */
+    public enum XxxOfSampling {
+        /**
+         * Take combinations in order until the limit is reached.
+         */
+        NONE,
+        /**
+         * Choose a random element for each anyOf/oneOf.
+         */
+        RANDOM,
+        /**
+         * Choose the least used element for each anyOf/oneOf, so that all elements are covered with as few combinations as possible.
+         */
+        COVERING
+    }
 }
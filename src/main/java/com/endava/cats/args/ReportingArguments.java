@@ -54,10 +54,37 @@ public class ReportingArguments {
             description = "The format of the CATS report. Default: @|bold,underline ${DEFAULT-VALUE}|@. For example, the @|bold,underline HTML_ONLY|@ report format does not contain any Javascript. This is useful for large number of tests, as the page will render faster and also in CI environments due to Javascript content security policies")
     private ReportFormat reportFormat = ReportFormat.HTML_JS;
 
+    @CommandLine.Option(names = {"--reportWriterQueueSize"},
+            description = "The maximum number of finished test cases waiting to be written in the report. Test case files are written in the background and, when the queue is full, fuzzing waits for the report writer to catch up. " +
+                    "Use @|bold 0|@ to write each test case before moving to the next one. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int reportWriterQueueSize = 256;
+
+    @CommandLine.Option(names = {"--reportStorage"},
+            description = "How individual test cases are stored in the report folder. @|bold,underline FILES|@ writes an HTML and a JSON file for each test case. " +
+                    "@|bold,underline SEGMENTS|@ appends test cases to a few JSON lines segment files with an index; individual test cases can then be rendered using @|bold cats view|@. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private ReportStorage reportStorage = ReportStorage.FILES;
+
+    @CommandLine.Option(names = {"--summaryBufferSize"},
+            description = "The maximum number of test case summaries kept in memory for the final report. When exceeded, summaries are sorted and spilled to temporary files, which are merged when the summary and the execution times report are written. Use @|bold 0|@ to keep all summaries in memory. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int summaryBufferSize = 50_000;
+
+    @CommandLine.Option(names = {"--reportBlobThreshold"},
+            description = "When set, request payloads, response bodies and header sets longer than this number of characters are stored once, compressed, in the @|bold blobs|@ folder of the report and referenced by digest from the test case files. " +
+                    "Test case pages only show the beginning of them; the full test case can be rendered using @|bold cats view|@. By default they are kept inline. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    private int reportBlobThreshold;
+
     @CommandLine.Option(names = {"-o", "--output"},
             description = "The output folder of the CATS report. Default: @|bold,underline cats-report|@ in the current directory")
     private String outputReportFolder = "cats-report";
 
+    @CommandLine.Option(names = {"--journal"},
+            description = "Keep a journal of the run in the report folder, so that an interrupted run can be continued using @|bold --resume|@. The journal is always kept when resuming a run")
+    private boolean journal;
+
+    @CommandLine.Option(names = {"--resume"},
+            description = "Resume an interrupted run using the journal from the given report folder. Test cases of completed fuzzer runs are kept and the remaining ones are executed. The report is written in the same folder, overriding @|bold --output|@")
+    private String resume;
+
     @CommandLine.Option(names = {"-j", "--json"},
             description = "Make selected commands output to console in JSON format")
     private boolean jsonOutput;
@@ -178,6 +205,33 @@ public class ReportingArguments {
         return verbosity == Verbosity.SUMMARY;
     }
 
+    /**
+     * Checks if the run resumes a previous, interrupted, run.
+     *
+     * @return true if --resume is supplied, false otherwise
+     */
+    public boolean isResume() {
+        return resume != null;
+    }
+
+    /**
+     * Checks if the run journal must be kept.
+     *
+     * @return true if --journal or --resume is supplied, false otherwise
+     */
+    public boolean isJournal() {
+        return journal || this.isResume();
+    }
+
+    /**
+     * Returns the folder where the report is written. When resuming a previous run, this is the resumed report folder.
+     *
+     * @return the report folder
+     */
+    public String getOutputReportFolder() {
+        return Optional.ofNullable(resume).orElse(outputReportFolder);
+    }
+
     /**
      * Enumerates different formats for generating reports.
      */
@@ -197,6 +251,20 @@ public class ReportingArguments {
         JUNIT
     }
 
+    /**
+     * Enumerates the ways in which individual test cases are stored.
+     */
+    public enum ReportStorage {
+        /**
+         * One HTML and one JSON file for each test case.
+         */
+        FILES,
+        /**
+         * Test cases appended to size rotated JSON lines segments, with an index by test id.
+         */
+        SEGMENTS
+    }
+
     /**
      * Enumerates different levels of verbosity for displaying information.
      */
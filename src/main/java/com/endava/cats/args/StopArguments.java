@@ -1,6 +1,7 @@
 package com.endava.cats.args;
 
 import jakarta.inject.Singleton;
+import lombok.Getter;
 import picocli.CommandLine;
 
 /**
@@ -20,6 +21,11 @@ public class StopArguments {
             description = "Number of mutations (test cases) after which the continuous fuzzing will stop running")
     private long stopAfterMutations;
 
+    @Getter
+    @CommandLine.Option(names = {"--coverageGuided"},
+            description = "Spend the fuzzing budget on mutating payloads which reached new service behaviour (response code, response shape, length, error message or latency) instead of always mutating the initial payload")
+    private boolean coverageGuided;
+
     /**
      * Checks if any stopXXX argument was supplied and has a positive value.
      *
@@ -17,12 +17,18 @@ import com.endava.cats.factory.FuzzingDataFactory;
 import com.endava.cats.fuzzer.api.Fuzzer;
 import com.endava.cats.fuzzer.special.FunctionalFuzzer;
 import com.endava.cats.http.HttpMethod;
+import com.endava.cats.io.FileWorkQueue;
+import com.endava.cats.model.CatsTestCase;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.WorkItem;
 import com.endava.cats.openapi.OpenApiUtils;
+import com.endava.cats.report.BlobStore;
 import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.report.TestCaseStore;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.ConsoleUtils;
+import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.VersionChecker;
 import com.endava.cats.util.VersionProvider;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
@@ -37,17 +43,32 @@ import picocli.AutoComplete;
 import picocli.CommandLine;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.fusesource.jansi.Ansi.ansi;
 
@@ -82,7 +103,7 @@ import static org.fusesource.jansi.Ansi.ansi;
         abbreviateSynopsis = true,
         synopsisHeading = "@|bold,underline Usage:|@%n",
         customSynopsis = {"@|bold cats|@ @|fg(yellow) -c|@ <CONTRACT> @|fg(yellow) -s|@ <SERVER> [ADDITIONAL OPTIONS]",
-                "@|bold cats (list | replay | run | fuzz | lint | info | stats | validate | random)|@ [OPTIONS]", "%n"},
+                "@|bold cats (list | replay | run | view | coordinator | worker | fuzz | lint | info | stats | validate | random)|@ [OPTIONS]", "%n"},
         exitCodeListHeading = "%n@|bold,underline Exit Codes:|@%n",
         exitCodeList = {"@|bold  0|@:Successful program execution",
                 "@|bold 191|@:Usage error: user input for the command was incorrect",
@@ -98,7 +119,10 @@ import static org.fusesource.jansi.Ansi.ansi;
                 CommandLine.HelpCommand.class,
                 ListCommand.class,
                 ReplayCommand.class,
+                ViewCommand.class,
                 RunCommand.class,
+                CoordinatorCommand.class,
+                WorkerCommand.class,
                 TemplateFuzzCommand.class,
                 LintCommand.class,
                 InfoCommand.class,
@@ -110,6 +134,7 @@ import static org.fusesource.jansi.Ansi.ansi;
 public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     private final PrettyLogger logger;
     private static final String SEPARATOR = "-".repeat(ConsoleUtils.getConsoleColumns(22));
+    private static final long WORK_QUEUE_POLL_INTERVAL_MS = 500;
     private final ExecutorService executor = Executors.newSingleThreadExecutor();
     @Inject
     FuzzingDataFactory fuzzingDataFactory;
@@ -166,6 +191,10 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
     private int exitCodeDueToErrors;
 
+    private Consumer<OpenAPI> pathsFuzzer;
+
+    private String reportingFolder;
+
 
     /**
      * Creates a new instance of CatsCommand.
@@ -225,11 +254,12 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         OpenAPI openAPI = this.createOpenAPI();
         this.checkOpenAPI(openAPI);
         //reporting path is initialized only if OpenAPI spec is successfully parsed
-        testCaseListener.initReportingPath();
+        testCaseListener.initReportingPath(reportingFolder);
+        testCaseListener.startRunJournal();
         this.printConfiguration(openAPI);
         this.initGlobalData(openAPI);
         testCaseListener.renderFuzzingHeader();
-        this.startFuzzing(openAPI);
+        Optional.ofNullable(pathsFuzzer).orElse(this::startFuzzing).accept(openAPI);
         this.executeCustomFuzzer();
     }
 
@@ -282,6 +312,11 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     void startFuzzing(OpenAPI openAPI) {
         List<String> suppliedPaths = filterArguments.getPathsToRun(openAPI);
 
+        if (apiArguments.isPathConcurrent()) {
+            this.startFuzzingPathsInParallel(openAPI, suppliedPaths);
+            return;
+        }
+
         for (Map.Entry<String, PathItem> entry : this.sortPathsAlphabetically(openAPI, filesArguments.getPathsOrder())) {
             if (suppliedPaths.contains(entry.getKey())) {
                 this.fuzzPath(entry, openAPI);
@@ -291,6 +326,282 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         }
     }
 
+    /**
+     * Fuzzes up to {@code --pathConcurrency} resources at the same time. A resource is a path together with its child paths,
+     * for example {@code /pets}, {@code /pets/{id}} and {@code /pets/{id}/toys}. The paths of a resource are fuzzed one after another
+     * on the same thread, so that resources created by POST requests on a path are available to the DELETE requests of its child paths,
+     * as when fuzzing paths one by one. Fuzzing data is created on the current thread as generating it updates the global context.
+     */
+    private void startFuzzingPathsInParallel(OpenAPI openAPI, List<String> suppliedPaths) {
+        Semaphore pathSlots = new Semaphore(apiArguments.getPathConcurrency());
+        List<Future<?>> fuzzedPaths = new ArrayList<>();
+        List<Map.Entry<String, PathItem>> pathsToFuzz = this.getSuppliedPathsSorted(openAPI, suppliedPaths);
+
+        try (ExecutorService pathsExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<Map.Entry<String, PathItem>> resourcePaths : groupPathsByResource(pathsToFuzz)) {
+                pathSlots.acquireUninterruptibly();
+                List<List<FuzzingData>> fuzzingDataForResource = resourcePaths.stream()
+                        .map(entry -> this.createFuzzingData(entry, openAPI))
+                        .toList();
+                fuzzedPaths.add(pathsExecutor.submit(() -> {
+                    try {
+                        fuzzingDataForResource.forEach(this::runFuzzersForPath);
+                    } finally {
+                        pathSlots.release();
+                    }
+                }));
+            }
+        }
+
+        fuzzedPaths.forEach(this::checkPathFinishedSuccessfully);
+    }
+
+    private List<Map.Entry<String, PathItem>> getSuppliedPathsSorted(OpenAPI openAPI, List<String> suppliedPaths) {
+        List<Map.Entry<String, PathItem>> pathsToFuzz = new ArrayList<>();
+        for (Map.Entry<String, PathItem> entry : this.sortPathsAlphabetically(openAPI, filesArguments.getPathsOrder())) {
+            if (suppliedPaths.contains(entry.getKey())) {
+                pathsToFuzz.add(entry);
+            } else {
+                logger.skip("Skipping path {}", entry.getKey());
+            }
+        }
+        return pathsToFuzz;
+    }
+
+    /**
+     * Groups each path with its child paths. The group of a path is given by its shortest ancestor path, including itself,
+     * which is also fuzzed. Groups and paths within groups keep the order of the given paths.
+     */
+    static <T> List<List<Map.Entry<String, T>>> groupPathsByResource(List<Map.Entry<String, T>> paths) {
+        Set<String> allPaths = paths.stream().map(Map.Entry::getKey).collect(Collectors.toSet());
+        Map<String, List<Map.Entry<String, T>>> pathsByResource = new LinkedHashMap<>();
+        for (Map.Entry<String, T> path : paths) {
+            pathsByResource.computeIfAbsent(resourceRoot(path.getKey(), allPaths), root -> new ArrayList<>()).add(path);
+        }
+        return List.copyOf(pathsByResource.values());
+    }
+
+    private static String resourceRoot(String path, Set<String> allPaths) {
+        String root = path;
+        for (String parent = parentPath(path); !parent.isEmpty(); parent = parentPath(parent)) {
+            if (allPaths.contains(parent)) {
+                root = parent;
+            }
+        }
+        return root;
+    }
+
+    private static String parentPath(String path) {
+        return path.substring(0, Math.max(0, path.lastIndexOf("/")));
+    }
+
+    /**
+     * Runs CATS as a coordinator. Instead of fuzzing the paths, the coordinator adds a work item for each path,
+     * HTTP method and fuzzer to the given queue. Once workers processed all the items, their test cases are merged
+     * into the coordinator's report. Items claimed by workers for longer than the lease are given to other workers.
+     *
+     * @param workQueue               the queue shared with the workers
+     * @param workersTimeoutInSeconds the maximum time to wait for the workers to process all items
+     * @param workItemLeaseInSeconds  the time after which a work item is given to other workers, unless its worker renews it
+     */
+    void runAsCoordinator(FileWorkQueue workQueue, int workersTimeoutInSeconds, int workItemLeaseInSeconds) {
+        this.pathsFuzzer = openAPI -> this.distributeFuzzing(openAPI, workQueue, workersTimeoutInSeconds, Duration.ofSeconds(workItemLeaseInSeconds));
+        this.run();
+    }
+
+    /**
+     * Runs CATS as a worker. The worker runs work items from the given queue until the queue is sealed by the coordinator
+     * and there are no more pending items. Test cases are written in the worker's results folder within the queue.
+     *
+     * @param workQueue the queue shared with the coordinator
+     * @param workerId  the unique id of this worker
+     */
+    void runAsWorker(FileWorkQueue workQueue, String workerId) {
+        this.reportingFolder = workQueue.getResultsFolder(workerId).toString();
+        this.pathsFuzzer = openAPI -> this.fuzzWorkItems(openAPI, workQueue, workerId);
+        this.run();
+    }
+
+    private void distributeFuzzing(OpenAPI openAPI, FileWorkQueue workQueue, int workersTimeoutInSeconds, Duration workItemLease) {
+        try {
+            workQueue.setLeaseDuration(workItemLease);
+            int workItems = this.addWorkItems(openAPI, workQueue);
+            workQueue.seal();
+            logger.complete("Added {} work items to the queue", workItems);
+            this.waitForWorkers(workQueue, workItems, workersTimeoutInSeconds, workItemLease);
+            this.mergeWorkersResults(workQueue);
+        } catch (IOException e) {
+            throw new CatsException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Work items are added per resource, so that a path and its child paths are processed by the same worker.
+     */
+    private int addWorkItems(OpenAPI openAPI, FileWorkQueue workQueue) throws IOException {
+        List<Map.Entry<String, PathItem>> pathsToFuzz = this.getSuppliedPathsSorted(openAPI, filterArguments.getPathsToRun(openAPI));
+
+        int workItems = 0;
+        for (List<Map.Entry<String, PathItem>> resourcePaths : groupPathsByResource(pathsToFuzz)) {
+            String resource = resourcePaths.getFirst().getKey();
+            for (Map.Entry<String, PathItem> entry : resourcePaths) {
+                Set<HttpMethod> httpMethods = this.createFuzzingData(entry, openAPI).stream()
+                        .map(FuzzingData::getMethod)
+                        .collect(Collectors.toCollection(LinkedHashSet::new));
+
+                for (Fuzzer fuzzer : filterArguments.filterOutFuzzersNotMatchingHttpMethods(httpMethods)) {
+                    for (HttpMethod httpMethod : httpMethods) {
+                        if (!fuzzer.skipForHttpMethods().contains(httpMethod)) {
+                            workItems++;
+                            workQueue.add(new WorkItem("%08d".formatted(workItems), entry.getKey(), httpMethod.name(), fuzzer.toString(), resource));
+                        }
+                    }
+                }
+            }
+        }
+        return workItems;
+    }
+
+    private void waitForWorkers(FileWorkQueue workQueue, int workItems, int workersTimeoutInSeconds, Duration workItemLease) throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(workersTimeoutInSeconds);
+        int doneItems = workQueue.countDone();
+        int reportedItems = -1;
+
+        while (doneItems < workItems && System.currentTimeMillis() < deadline) {
+            if (doneItems != reportedItems) {
+                logger.info("Waiting for workers: {} out of {} work items done", doneItems, workItems);
+                reportedItems = doneItems;
+            }
+            Thread.sleep(WORK_QUEUE_POLL_INTERVAL_MS);
+            int requeuedItems = workQueue.requeueExpiredClaims(workItemLease);
+            if (requeuedItems > 0) {
+                logger.warning("Requeued {} work items not finished by workers within {} seconds", requeuedItems, workItemLease.toSeconds());
+            }
+            doneItems = workQueue.countDone();
+        }
+
+        if (doneItems < workItems) {
+            logger.warning("Workers did not finish {} work items within {} seconds. The report will only contain the finished ones", workItems - doneItems, workersTimeoutInSeconds);
+        }
+    }
+
+    /**
+     * Only test cases recorded as completed by workers are merged, so that items which were requeued are not reported twice.
+     */
+    private void mergeWorkersResults(FileWorkQueue workQueue) throws IOException {
+        List<Path> testCaseFiles = workQueue.getTestCaseFiles();
+        for (Path testCaseFile : testCaseFiles) {
+            testCaseListener.mergeTestCase(this.readWorkerTestCase(testCaseFile.getParent(), Files.readString(testCaseFile, StandardCharsets.UTF_8)));
+        }
+        AtomicInteger storedTestCases = new AtomicInteger();
+        for (Path segmentsFolder : workQueue.getTestCaseSegmentFolders()) {
+            Predicate<String> completedTestCases = workQueue.getCompletedTestCases(segmentsFolder);
+            try (TestCaseStore testCaseStore = TestCaseStore.open(segmentsFolder)) {
+                testCaseStore.forEach(testCaseJson -> {
+                    CatsTestCase testCase = this.readWorkerTestCase(segmentsFolder, testCaseJson);
+                    if (completedTestCases.test(testCase.getTestId())) {
+                        testCaseListener.mergeTestCase(testCase);
+                        storedTestCases.incrementAndGet();
+                    }
+                });
+            }
+        }
+        logger.complete("Merged {} test cases from workers", testCaseFiles.size() + storedTestCases.get());
+    }
+
+    private CatsTestCase readWorkerTestCase(Path workerReportFolder, String testCaseJson) {
+        try {
+            return JsonUtils.GSON.fromJson(BlobStore.inline(workerReportFolder, testCaseJson), CatsTestCase.class);
+        } catch (IOException e) {
+            throw new CatsException(e);
+        }
+    }
+
+    private void fuzzWorkItems(OpenAPI openAPI, FileWorkQueue workQueue, String workerId) {
+        Map<String, List<FuzzingData>> fuzzingDataPerPath = new LinkedHashMap<>();
+        ScheduledExecutorService leaseRenewal = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().name("cats-lease-renewal").factory());
+        try {
+            long leaseRenewalPeriod = Math.max(1, workQueue.getLeaseDuration().toMillis() / 3);
+            while (true) {
+                /* sealed must be checked before claiming, otherwise items added between the two calls might be missed */
+                boolean sealed = workQueue.isSealed();
+                Optional<WorkItem> workItem = workQueue.claim(workerId);
+                if (workItem.isPresent()) {
+                    int firstTestNumber = testCaseListener.getCurrentTestCaseNumber() + 1;
+                    ScheduledFuture<?> renewal = leaseRenewal.scheduleAtFixedRate(() -> this.renewClaim(workQueue, workerId, workItem.get()),
+                            leaseRenewalPeriod, leaseRenewalPeriod, TimeUnit.MILLISECONDS);
+                    try {
+                        this.runWorkItem(openAPI, workItem.get(), fuzzingDataPerPath);
+                    } finally {
+                        renewal.cancel(false);
+                    }
+                    if (workQueue.complete(workerId, workItem.get())) {
+                        workQueue.recordCompletedTestCases(workerId, firstTestNumber, testCaseListener.getCurrentTestCaseNumber());
+                    } else {
+                        logger.warning("Work item {} took longer than its lease and was given to another worker. Its test cases will not be merged", workItem.get().id());
+                    }
+                } else if (sealed && workQueue.countPending() == 0) {
+                    break;
+                } else {
+                    /* pending items of resources owned by other workers are claimed once their owner stops and its lease expires */
+                    Thread.sleep(WORK_QUEUE_POLL_INTERVAL_MS);
+                }
+            }
+            int firstTestNumber = testCaseListener.getCurrentTestCaseNumber() + 1;
+            fuzzingDataPerPath.values().forEach(fuzzingData -> this.runFuzzers(fuzzingData, filterArguments.getSecondPhaseFuzzers()));
+            workQueue.recordCompletedTestCases(workerId, firstTestNumber, testCaseListener.getCurrentTestCaseNumber());
+        } catch (IOException e) {
+            throw new CatsException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            leaseRenewal.shutdownNow();
+        }
+    }
+
+    private void renewClaim(FileWorkQueue workQueue, String workerId, WorkItem workItem) {
+        try {
+            if (!workQueue.renewClaim(workerId, workItem)) {
+                logger.debug("Lease of work item {} already expired", workItem.id());
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to renew the lease of work item {}: {}", workItem.id(), e.getMessage());
+        }
+    }
+
+    private void runWorkItem(OpenAPI openAPI, WorkItem workItem, Map<String, List<FuzzingData>> fuzzingDataPerPath) {
+        PathItem pathItem = openAPI.getPaths().get(workItem.path());
+        Optional<Fuzzer> fuzzer = filterArguments.getFirstPhaseFuzzersAsFuzzers().stream()
+                .filter(configuredFuzzer -> configuredFuzzer.toString().equals(workItem.fuzzer()))
+                .findFirst();
+
+        if (pathItem == null || fuzzer.isEmpty()) {
+            logger.warning("Skipping work item {} as it doesn't match the contract or the fuzzers of this worker. Make sure the coordinator and workers use the same arguments", workItem);
+            return;
+        }
+
+        List<FuzzingData> fuzzingData = fuzzingDataPerPath.computeIfAbsent(workItem.path(), path -> this.createFuzzingData(Map.entry(path, pathItem), openAPI));
+        List<FuzzingData> fuzzingDataForHttpMethod = fuzzingData.stream()
+                .filter(data -> data.getMethod().name().equals(workItem.httpMethod()))
+                .toList();
+        this.runFuzzers(fuzzingDataForHttpMethod, List.of(fuzzer.get()));
+    }
+
+    private void checkPathFinishedSuccessfully(Future<?> fuzzedPath) {
+        try {
+            fuzzedPath.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CatsException(e);
+        }
+    }
+
     private LinkedHashSet<Map.Entry<String, PathItem>> sortPathsAlphabetically(OpenAPI openAPI, List<String> pathsOrder) {
         Comparator<Map.Entry<String, PathItem>> customComparator = CatsUtil.createCustomComparatorBasedOnPathsOrder(pathsOrder);
 
@@ -346,6 +657,10 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
     }
 
     private void fuzzPath(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
+        this.runFuzzersForPath(this.createFuzzingData(pathItemEntry, openAPI));
+    }
+
+    private List<FuzzingData> createFuzzingData(Map.Entry<String, PathItem> pathItemEntry, OpenAPI openAPI) {
         /* WE NEED TO ITERATE THROUGH EACH HTTP OPERATION CORRESPONDING TO THE CURRENT PATH ENTRY*/
         String ansiString = ansi().bold().a("Start fuzzing path {}").reset().toString();
         logger.start(ansiString, pathItemEntry.getKey());
@@ -353,15 +668,21 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
 
         if (fuzzingDataList.isEmpty()) {
             logger.warning("There was a problem fuzzing path {}. You might want to enable debug mode for more details. Additionally, you can log a GitHub issue at: https://github.com/Endava/cats/issues.", pathItemEntry.getKey());
-            return;
+            return List.of();
         }
 
         /* If certain HTTP methods are skipped, we remove corresponding FuzzingData */
         /* If request uses oneOf/anyOf we only keep the one supplied through --oneOfSelection/--anyOfSelection */
-        List<FuzzingData> filteredFuzzingData = fuzzingDataList.stream()
+        return fuzzingDataList.stream()
                 .filter(fuzzingData -> filterArguments.isHttpMethodSupplied(fuzzingData.getMethod()))
                 .filter(fuzzingData -> processingArguments.matchesXxxSelection(fuzzingData.getPayload()))
                 .toList();
+    }
+
+    private void runFuzzersForPath(List<FuzzingData> filteredFuzzingData) {
+        if (filteredFuzzingData.isEmpty()) {
+            return;
+        }
 
         Set<HttpMethod> allHttpMethodsFromFuzzingData = filteredFuzzingData
                 .stream()
@@ -384,10 +705,15 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
                     "HTTP method {} is not supported by {}",
                     t -> t.getMethod().toString(), fuzzer.toString());
             filteredData.forEach(data -> {
+                int dataIndex = indexOf(fuzzingDataListWithHttpMethodsFiltered, data);
+                if (!(fuzzer instanceof FunctionalFuzzer) && testCaseListener.isFuzzerRunCompleted(fuzzer.getClass(), data, dataIndex)) {
+                    logger.skip("Skipping Fuzzer {}, http method {}, path {} as it completed in the resumed run", fuzzer.toString(), data.getMethod(), data.getPath());
+                    return;
+                }
                 logger.start("Starting Fuzzer {}, http method {}, path {}", ansi().fgGreen().a(fuzzer.toString()).reset(), data.getMethod(), data.getPath());
                 logger.debug("Fuzzing payload: {}", data.getPayload());
                 if (!(fuzzer instanceof FunctionalFuzzer)) {
-                    testCaseListener.beforeFuzz(fuzzer.getClass(), data.getContractPath(), data.getMethod().name());
+                    testCaseListener.beforeFuzz(fuzzer.getClass(), data, dataIndex);
                 }
                 fuzzer.fuzz(data);
                 if (!(fuzzer instanceof FunctionalFuzzer)) {
@@ -399,6 +725,16 @@ public class CatsCommand implements Runnable, CommandLine.IExitCodeGenerator {
         }
     }
 
+    /**
+     * Fuzzing data are identified by their position, as their payloads are generated from random values and change between runs.
+     */
+    private static int indexOf(List<FuzzingData> fuzzingDataList, FuzzingData data) {
+        return IntStream.range(0, fuzzingDataList.size())
+                .filter(index -> fuzzingDataList.get(index) == data)
+                .findFirst()
+                .orElse(-1);
+    }
+
     @Override
     public int getExitCode() {
         return exitCodeDueToErrors + executionStatisticsListener.getErrors();
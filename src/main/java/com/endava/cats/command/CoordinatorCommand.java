@@ -0,0 +1,72 @@
+package com.endava.cats.command;
+
+import com.endava.cats.io.FileWorkQueue;
+import com.endava.cats.util.VersionProvider;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.quarkus.arc.Unremovable;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Splits the fuzzing into work items processed by one or more {@code cats worker} processes and merges their results.
+ */
+@CommandLine.Command(
+        name = "coordinator",
+        mixinStandardHelpOptions = true,
+        usageHelpAutoWidth = true,
+        description = "Split fuzzing into work items processed by CATS workers and merge their results into a single report. All the fuzzing options must be supplied before the command name",
+        abbreviateSynopsis = true,
+        exitCodeOnInvalidInput = 191,
+        exitCodeOnExecutionException = 192,
+        synopsisHeading = "%nUsage: ",
+        exitCodeListHeading = "%n@|bold,underline Exit Codes:|@%n",
+        exitCodeList = {"@|bold  0|@:Successful program execution",
+                "@|bold 191|@:Usage error: user input for the command was incorrect",
+                "@|bold 192|@:Internal execution error: an exception occurred when executing command",
+                "@|bold ERR|@:Where ERR is the number of errors reported by cats"},
+        footerHeading = "%n@|bold,underline Examples:|@%n",
+        footer = {"  Coordinate fuzzing using a folder shared with the workers:",
+                "    cats -c openapi.yml -s http://localhost:8080 coordinator --queue /shared/cats-queue"},
+        versionProvider = VersionProvider.class)
+@Unremovable
+public class CoordinatorCommand implements Runnable, CommandLine.IExitCodeGenerator {
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(CoordinatorCommand.class);
+
+    @CommandLine.Option(names = {"--queue"}, required = true,
+            description = "The folder used as work queue. It must be accessible by all the workers")
+    Path queue;
+
+    @CommandLine.Option(names = {"--workersTimeout"},
+            description = "Maximum time in seconds to wait for the workers to process all work items. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "3600")
+    int workersTimeout = 3600;
+
+    @CommandLine.Option(names = {"--workItemLease"},
+            description = "Time in seconds after which a work item claimed by a worker is given to other workers, unless the worker renews it. Running workers renew their items every third of this time, so only items of stopped or stuck workers are given to other workers. Default: @|bold,underline ${DEFAULT-VALUE}|@",
+            defaultValue = "600")
+    int workItemLease = 600;
+
+    @CommandLine.ParentCommand
+    CatsCommand catsCommand;
+
+    private int exitCode;
+
+    @Override
+    public void run() {
+        try {
+            catsCommand.runAsCoordinator(FileWorkQueue.create(queue), workersTimeout, workItemLease);
+        } catch (IOException e) {
+            logger.debug("Exception while creating queue!", e);
+            logger.error("Something went wrong while creating the work queue {}: {}", queue, e.getMessage());
+            exitCode = 192;
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode + catsCommand.getExitCode();
+    }
+}
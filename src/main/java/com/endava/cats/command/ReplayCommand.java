@@ -7,7 +7,9 @@ import com.endava.cats.util.JsonUtils;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.CatsTestCase;
 import com.endava.cats.util.KeyValuePair;
+import com.endava.cats.report.BlobStore;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.report.TestCaseStore;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.VersionProvider;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
@@ -19,6 +21,8 @@ import picocli.CommandLine;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
@@ -55,7 +59,7 @@ public class ReplayCommand implements Runnable {
 
     @CommandLine.Parameters(
             description = "The list of CATS tests. When providing a .json extension it will be considered a path, " +
-                    "otherwise it will look for that test in the cats-report folder", split = ",", arity = "1..")
+                    "otherwise it will look for that test in the cats-report folder. Tests stored using @|bold --reportStorage=SEGMENTS|@ are read from the segments of the report folder", split = ",", arity = "1..")
     String[] tests;
 
     @Inject
@@ -154,13 +158,28 @@ public class ReplayCommand implements Runnable {
     }
 
     private CatsTestCase loadTestCaseFile(String testCaseFileName) throws IOException {
-        String testCaseFile = Files.readString(Paths.get(testCaseFileName));
+        String testCaseFile = this.readTestCase(Paths.get(testCaseFileName));
         logger.config("Loaded content: \n" + testCaseFile);
         CatsTestCase testCase = JsonUtils.GSON.fromJson(testCaseFile, CatsTestCase.class);
         testCase.updateServer(server);
         return testCase;
     }
 
+    /**
+     * Test cases are read from the report segments when the report was written using {@code --reportStorage=SEGMENTS}.
+     * Payloads and responses stored as blobs are inlined back into the test case.
+     */
+    private String readTestCase(Path testCasePath) throws IOException {
+        Path reportFolder = Optional.ofNullable(testCasePath.toAbsolutePath().getParent()).orElse(Paths.get(""));
+        if (Files.exists(testCasePath) || !TestCaseStore.exists(reportFolder)) {
+            return BlobStore.inline(reportFolder, Files.readString(testCasePath));
+        }
+        String testId = testCasePath.getFileName().toString().replace(".json", "");
+        try (TestCaseStore testCaseStore = TestCaseStore.open(reportFolder)) {
+            return BlobStore.inline(reportFolder, testCaseStore.read(testId).orElseThrow(() -> new NoSuchFileException(testCasePath.toString())));
+        }
+    }
+
     private void initReportingPath() {
         if (StringUtils.isBlank(this.outputReportFolder)) {
             return;
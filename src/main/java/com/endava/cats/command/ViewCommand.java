@@ -0,0 +1,101 @@
+package com.endava.cats.command;
+
+import com.endava.cats.model.CatsTestCase;
+import com.endava.cats.report.BlobStore;
+import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.report.TestCaseStore;
+import com.endava.cats.util.JsonUtils;
+import com.endava.cats.util.VersionProvider;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.quarkus.arc.Unremovable;
+import jakarta.inject.Inject;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Renders the full HTML page of test cases. Test cases are read from the report segments, when running with {@code --reportStorage=SEGMENTS},
+ * or from their JSON files otherwise. Payloads and responses stored as blobs are rendered in full.
+ */
+@CommandLine.Command(
+        name = "view",
+        mixinStandardHelpOptions = true,
+        usageHelpAutoWidth = true,
+        exitCodeOnInvalidInput = 191,
+        exitCodeOnExecutionException = 192,
+        description = "Render test cases stored in report segments or with large bodies stored as blobs as HTML pages",
+        exitCodeListHeading = "%n@|bold,underline Exit Codes:|@%n",
+        exitCodeList = {"@|bold  0|@:Successful program execution",
+                "@|bold 191|@:Usage error: user input for the command was incorrect",
+                "@|bold 192|@:Internal execution error: an exception occurred when executing command"},
+        footerHeading = "%n@|bold,underline Examples:|@%n",
+        footer = {"  Render Test 1 from the default reporting folder:",
+                "    cats view Test1",
+                "", "  Render Test 1 and Test 2 from another reporting folder",
+                "    cats view Test1,Test2 --output path/to/report/folder"},
+        versionProvider = VersionProvider.class)
+@Unremovable
+public class ViewCommand implements Runnable {
+    private static final String HTML = ".html";
+    private static final String JSON = ".json";
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(ViewCommand.class);
+    private final TestCaseListener testCaseListener;
+
+    @CommandLine.Parameters(
+            description = "The list of CATS tests to render, for example Test1", split = ",", arity = "1..")
+    String[] tests;
+
+    @CommandLine.Option(names = {"-o", "--output"},
+            description = "The CATS report folder holding the test cases. The HTML pages are written in the same folder. Default: @|bold,underline ${DEFAULT-VALUE}|@")
+    String reportFolder = "cats-report";
+
+    /**
+     * Constructs a new instance of the {@code ViewCommand} class.
+     *
+     * @param testCaseListener the test case listener used to render test cases
+     */
+    @Inject
+    public ViewCommand(TestCaseListener testCaseListener) {
+        this.testCaseListener = testCaseListener;
+    }
+
+    @Override
+    public void run() {
+        Path folder = Paths.get(reportFolder);
+        try (TestCaseStore testCaseStore = TestCaseStore.exists(folder) ? TestCaseStore.open(folder) : null) {
+            for (String testId : Arrays.stream(tests).map(test -> test.trim().replace(" ", "")).toList()) {
+                this.render(testCaseStore, folder, testId);
+            }
+        } catch (IOException e) {
+            logger.debug("Exception while rendering test!", e);
+            logger.error("Something went wrong while reading the test cases from {}: {}", folder.toAbsolutePath(), e.toString());
+        }
+    }
+
+    private void render(TestCaseStore testCaseStore, Path folder, String testId) throws IOException {
+        Optional<String> testCaseJson = this.read(testCaseStore, folder, testId);
+        if (testCaseJson.isEmpty()) {
+            logger.error("Test case {} not found in {}", testId, folder.toAbsolutePath());
+            return;
+        }
+        CatsTestCase testCase = JsonUtils.GSON.fromJson(BlobStore.inline(folder, testCaseJson.get()), CatsTestCase.class);
+        Path htmlPath = folder.resolve(testId + HTML);
+        Files.writeString(htmlPath, testCaseListener.renderTestCase(testCase), StandardCharsets.UTF_8);
+        logger.complete("You can open {} here: {}", testId, htmlPath.toUri());
+    }
+
+    private Optional<String> read(TestCaseStore testCaseStore, Path folder, String testId) throws IOException {
+        if (testCaseStore != null) {
+            return testCaseStore.read(testId);
+        }
+        Path jsonPath = folder.resolve(testId + JSON);
+        return Files.exists(jsonPath) ? Optional.of(Files.readString(jsonPath, StandardCharsets.UTF_8)) : Optional.empty();
+    }
+}
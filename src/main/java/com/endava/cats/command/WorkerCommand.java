@@ -0,0 +1,67 @@
+package com.endava.cats.command;
+
+import com.endava.cats.io.FileWorkQueue;
+import com.endava.cats.util.VersionProvider;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import io.quarkus.arc.Unremovable;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Processes work items created by a {@code cats coordinator} process.
+ */
+@CommandLine.Command(
+        name = "worker",
+        mixinStandardHelpOptions = true,
+        usageHelpAutoWidth = true,
+        description = "Run work items created by a CATS coordinator. Workers must use the same contract and fuzzing options as the coordinator, supplied before the command name",
+        abbreviateSynopsis = true,
+        exitCodeOnInvalidInput = 191,
+        exitCodeOnExecutionException = 192,
+        synopsisHeading = "%nUsage: ",
+        exitCodeListHeading = "%n@|bold,underline Exit Codes:|@%n",
+        exitCodeList = {"@|bold  0|@:Successful program execution",
+                "@|bold 191|@:Usage error: user input for the command was incorrect",
+                "@|bold 192|@:Internal execution error: an exception occurred when executing command",
+                "@|bold ERR|@:Where ERR is the number of errors reported by cats"},
+        footerHeading = "%n@|bold,underline Examples:|@%n",
+        footer = {"  Process work items from a folder shared with the coordinator:",
+                "    cats -c openapi.yml -s http://localhost:8080 worker --queue /shared/cats-queue"},
+        versionProvider = VersionProvider.class)
+@Unremovable
+public class WorkerCommand implements Runnable, CommandLine.IExitCodeGenerator {
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(WorkerCommand.class);
+
+    @CommandLine.Option(names = {"--queue"}, required = true,
+            description = "The folder used as work queue by the coordinator")
+    Path queue;
+
+    @CommandLine.Option(names = {"--workerId"},
+            description = "A unique id for this worker. Default: a random id")
+    String workerId = UUID.randomUUID().toString();
+
+    @CommandLine.ParentCommand
+    CatsCommand catsCommand;
+
+    private int exitCode;
+
+    @Override
+    public void run() {
+        try {
+            catsCommand.runAsWorker(FileWorkQueue.open(queue), workerId);
+        } catch (IOException e) {
+            logger.debug("Exception while opening queue!", e);
+            logger.error("Something went wrong while opening the work queue {}: {}", queue, e.getMessage());
+            exitCode = 192;
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode + catsCommand.getExitCode();
+    }
+}
@@ -28,12 +28,12 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.fusesource.jansi.Ansi.ansi;
 
@@ -51,11 +51,11 @@ public class CatsGlobalContext {
     private final Map<String, Schema> requestDataTypes = new HashMap<>();
     private final Map<String, Map<String, Object>> additionalProperties = new HashMap<>();
     private final List<Discriminator> discriminators = new ArrayList<>();
-    private final Map<String, Deque<String>> postSuccessfulResponses = new HashMap<>();
-    private final Set<String> successfulDeletes = new HashSet<>();
+    private final Map<String, Deque<String>> postSuccessfulResponses = new ConcurrentHashMap<>();
+    private final Set<String> successfulDeletes = ConcurrentHashMap.newKeySet();
     private final Properties fuzzersConfiguration = new Properties();
     private final Map<String, List<String>> generatedExamplesCache = new HashMap<>();
-    private final Set<ProcessingError> recordedErrors = new HashSet<>();
+    private final Set<ProcessingError> recordedErrors = ConcurrentHashMap.newKeySet();
 
     private CatsConfiguration catsConfiguration;
     @Setter
@@ -11,10 +11,11 @@ import com.endava.cats.model.FuzzingData;
 import com.endava.cats.model.generator.OpenAPIModelGenerator;
 import com.endava.cats.openapi.OpenApiUtils;
 import com.endava.cats.util.CatsModelUtils;
-import com.endava.cats.util.JsonSet;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.KeyValuePair;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Streams;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -36,12 +37,11 @@ import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,7 +49,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.TreeSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -513,115 +512,64 @@ public class FuzzingDataFactory {
         String payloadSample = examples.get("example");
 
         payloadSample = this.squashAllOfElements(payloadSample);
-        List<String> payloadCombinationsBasedOnOneOfAndAnyOf = List.of(payloadSample);
+        Stream<String> payloadCombinationsBasedOnOneOfAndAnyOf = Stream.of(payloadSample);
 
         if (createXxxOfCombinations) {
-            payloadCombinationsBasedOnOneOfAndAnyOf = this.getPayloadCombinationsBasedOnOneOfAndAnyOf(payloadSample);
+            payloadCombinationsBasedOnOneOfAndAnyOf = Streams.stream(this.getPayloadCombinationsBasedOnOneOfAndAnyOf(payloadSample));
         }
 
         if (processingArguments.isFilterXxxFromRequestPayloads()) {
             payloadCombinationsBasedOnOneOfAndAnyOf = payloadCombinationsBasedOnOneOfAndAnyOf
-                    .stream()
-                    .filter(payload -> !(payload.contains("ANY_OF") || payload.contains("ONE_OF")))
-                    .toList();
+                    .filter(payload -> !(payload.contains("ANY_OF") || payload.contains("ONE_OF")));
         }
 
         if (processingArguments.getLimitXxxOfCombinations() > 0) {
-            int maxCombinations = Math.min(processingArguments.getLimitXxxOfCombinations(), payloadCombinationsBasedOnOneOfAndAnyOf.size());
-            return payloadCombinationsBasedOnOneOfAndAnyOf.stream()
-                    .limit(maxCombinations)
+            /*combinations are generated lazily, so generation stops once the limit is reached*/
+            return payloadCombinationsBasedOnOneOfAndAnyOf
+                    .limit(processingArguments.getLimitXxxOfCombinations())
                     .toList();
         }
+        List<String> allCombinations = payloadCombinationsBasedOnOneOfAndAnyOf.toList();
         logger.debug("Cached example for schema name {}", reqSchemaName);
-        globalContext.addGeneratedExample(reqSchemaName, payloadCombinationsBasedOnOneOfAndAnyOf);
-        return payloadCombinationsBasedOnOneOfAndAnyOf;
+        globalContext.addGeneratedExample(reqSchemaName, allCombinations);
+        return allCombinations;
     }
 
     /**
      * When we deal with AnyOf or OneOf data types, we need to create multiple payloads based on the number of subtypes defined within the contract. This method will return all these combinations
      * based on the keywords 'ANY_OF' and 'ONE_OF' generated by the OpenAPIModelGenerator.
+     * The combinations are generated lazily, while iterating.
      *
      * @param initialPayload initial Payload including ONE_OF and ANY_OF information
-     * @return a list of Payload associated with each ANY_OF, ONE_OF combination
+     * @return an iterator over the payloads associated with each ANY_OF, ONE_OF combination
      */
-    private List<String> getPayloadCombinationsBasedOnOneOfAndAnyOf(String initialPayload) {
-        List<String> result = new ArrayList<>();
+    private Iterator<String> getPayloadCombinationsBasedOnOneOfAndAnyOf(String initialPayload) {
         JsonElement jsonElement = JsonParser.parseString(initialPayload);
 
         if (jsonElement.isJsonArray()) {
-            result = this.buildArray(this.addNewCombination(jsonElement.getAsJsonArray().get(0)));
+            return Iterators.transform(this.addNewCombination(jsonElement.getAsJsonArray().get(0)), this::buildArray);
         }
         if (jsonElement.isJsonObject()) {
-            result = this.addNewCombination(jsonElement);
-        }
-        if (result.isEmpty()) {
-            result.add(initialPayload);
+            return this.addNewCombination(jsonElement);
         }
-
-        return result;
+        return Iterators.singletonIterator(initialPayload);
     }
 
-    private List<String> buildArray(List<String> singleElements) {
-        return singleElements
-                .stream()
-                .map(element -> {
-                    JsonElement jsonElement = JsonUtils.parseAsJsonElement(element);
-                    return JsonUtils.GSON.toJson(List.of(jsonElement, jsonElement));
-                })
-                .collect(Collectors.toCollection(ArrayList::new));
+    private String buildArray(String singleElement) {
+        JsonElement jsonElement = JsonUtils.parseAsJsonElement(singleElement);
+        return JsonUtils.GSON.toJson(List.of(jsonElement, jsonElement));
     }
 
     /**
      * This gets all possible ONE_OF and ANY_OF combinations, including combinations between multiple ONE_OF/ANY_OF.
      *
      * @param jsonElement the initial JSON payload
-     * @return a list with all possible ONE_OF and ANY_OF combinations based on the initial JSON payload
+     * @return an iterator over all possible ONE_OF and ANY_OF combinations based on the initial JSON payload
      */
-    private List<String> addNewCombination(JsonElement jsonElement) {
-        Set<String> result = new TreeSet<>();
-        Deque<JsonElement> stack = new ArrayDeque<>();
-        JsonSet visited = new JsonSet();
-
-        stack.push(jsonElement);
-
-        while (!stack.isEmpty()) {
-            JsonElement current = stack.pop();
-            String currentJson = current.toString();
-
-            if (visited.contains(currentJson)) {
-                continue; // Skip if already visited to avoid cycles
-            }
-
-            result.add(currentJson);
-            visited.add(currentJson);
-
-            Map<String, Map<String, JsonElement>> anyOfOrOneOfElements = getAnyOrOneOffElements("$", current);
-            anyOfOrOneOfElements = joinCommonOneAndAnyOfs(anyOfOrOneOfElements);
-
-            anyOfOrOneOfElements.forEach((pathKey, anyOfOrOneOf) -> {
-                List<String> interimCombinationList = new ArrayList<>(result).stream()
-                        .limit(Math.min(processingArguments.getLimitXxxOfCombinations(), result.size()))
-                        .collect(Collectors.toCollection(ArrayList::new));
-
-                result.clear();
-                anyOfOrOneOf.forEach((key, value) ->
-                        interimCombinationList.forEach(payload -> {
-                            if (payload.contains(ANY_OF) || payload.contains(ONE_OF)) {
-                                result.add(JsonUtils.createValidOneOfAnyOfNode(payload, pathKey, key, String.valueOf(value), anyOfOrOneOf.keySet()));
-                            } else {
-                                result.add(payload);
-                            }
-                        }));
-
-                // Add elements to the stack for further processing
-                result.stream()
-                        .filter(json -> json.contains(ANY_OF) || json.contains(ONE_OF))
-                        .map(JsonParser::parseString)
-                        .forEach(stack::push);
-            });
-        }
-
-        return new ArrayList<>(result);
+    private Iterator<String> addNewCombination(JsonElement jsonElement) {
+        return new XxxOfCombinationsIterator(jsonElement.toString(),
+                payload -> this.joinCommonOneAndAnyOfs(this.getAnyOrOneOffElements("$", JsonParser.parseString(payload))),
+                processingArguments.getXxxOfSampling());
     }
 
     private Map<String, Map<String, JsonElement>> joinCommonOneAndAnyOfs(Map<String, Map<String, JsonElement>> startingOneAnyOfs) {
@@ -0,0 +1,178 @@
+package com.endava.cats.factory;
+
+import com.endava.cats.args.ProcessingArguments;
+import com.endava.cats.util.CatsUtil;
+import com.endava.cats.util.JsonUtils;
+import com.google.common.collect.AbstractIterator;
+import com.google.gson.JsonElement;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Lazily produces the payloads resulting from choosing one element for each ONE_OF/ANY_OF group in a payload.
+ * <p>
+ * Groups are resolved one at a time, so payloads are only built when requested. The groups found in a payload are
+ * resolved in path order, each on top of the previous choices, before looking again for groups in the resulting payloads.
+ * This way, nested groups, which only become visible after choosing an element of the enclosing group, are resolved in subsequent steps,
+ * while groups found in array items are still resolved using the paths they had in the initial payload.
+ * Depending on the {@link ProcessingArguments.XxxOfSampling} mode, combinations are either enumerated depth-first,
+ * or sampled by walking from the initial payload and choosing an element for each group either randomly
+ * or by preferring the least used elements, so that all elements are covered as early as possible.
+ * When sampling keeps hitting combinations already returned, the remaining ones are enumerated.
+ * </p>
+ */
+class XxxOfCombinationsIterator extends AbstractIterator<String> {
+    private static final String OF = "_OF";
+    private static final int MAX_CONSECUTIVE_DUPLICATES = 10;
+
+    private final String initialPayload;
+    private final Function<String, Map<String, Map<String, JsonElement>>> groupsFinder;
+    private final ProcessingArguments.XxxOfSampling sampling;
+    private final Deque<Step> pending = new ArrayDeque<>();
+    private final Set<String> expanded = new HashSet<>();
+    private final Set<String> visited = new HashSet<>();
+    private final Map<String, Integer> choicesUsage = new HashMap<>();
+    private int consecutiveDuplicates;
+
+    /**
+     * Creates a new iterator over the combinations of the given payload.
+     *
+     * @param initialPayload the payload including ONE_OF and ANY_OF groups
+     * @param groupsFinder   returns the ONE_OF and ANY_OF groups of a payload, as path to group elements
+     * @param sampling       how combinations are selected
+     */
+    XxxOfCombinationsIterator(String initialPayload, Function<String, Map<String, Map<String, JsonElement>>> groupsFinder,
+                              ProcessingArguments.XxxOfSampling sampling) {
+        this.initialPayload = initialPayload;
+        this.groupsFinder = groupsFinder;
+        this.sampling = sampling != null ? sampling : ProcessingArguments.XxxOfSampling.NONE;
+        this.pending.push(new Step(initialPayload, List.of()));
+    }
+
+    @Override
+    protected String computeNext() {
+        if (sampling == ProcessingArguments.XxxOfSampling.NONE) {
+            return this.nextEnumerated();
+        }
+        return this.nextSampled();
+    }
+
+    private String nextEnumerated() {
+        while (!pending.isEmpty()) {
+            Step current = pending.pop();
+            if (!expanded.add(current.key())) {
+                continue;
+            }
+            List<Choice> choices = this.nextChoices(current);
+            if (choices.isEmpty()) {
+                if (visited.add(current.payload())) {
+                    return current.payload();
+                }
+                continue;
+            }
+            for (Choice choice : choices.reversed()) {
+                pending.push(choice.next());
+            }
+        }
+        return endOfData();
+    }
+
+    /*
+     * Sampling stops after too many consecutive walks end in already returned combinations.
+     * The remaining combinations are then enumerated, skipping the ones already returned.
+     */
+    private String nextSampled() {
+        while (consecutiveDuplicates < MAX_CONSECUTIVE_DUPLICATES) {
+            Step current = new Step(initialPayload, List.of());
+            Set<String> walked = new HashSet<>();
+            List<Choice> choices;
+            while (walked.add(current.key()) && !(choices = this.nextChoices(current)).isEmpty()) {
+                Choice choice = this.select(choices);
+                choicesUsage.merge(choice.id(), 1, Integer::sum);
+                current = choice.next();
+            }
+            if (visited.add(current.payload())) {
+                consecutiveDuplicates = 0;
+                return current.payload();
+            }
+            consecutiveDuplicates++;
+        }
+        return this.nextEnumerated();
+    }
+
+    private Choice select(List<Choice> choices) {
+        if (sampling == ProcessingArguments.XxxOfSampling.RANDOM) {
+            return choices.get(CatsUtil.random().nextInt(choices.size()));
+        }
+        List<Choice> shuffled = new ArrayList<>(choices);
+        Collections.shuffle(shuffled, CatsUtil.random());
+
+        return shuffled.stream()
+                .min(Comparator.comparingInt(choice -> choicesUsage.getOrDefault(choice.id(), 0)))
+                .orElseThrow();
+    }
+
+    /**
+     * Resolves the next group which changes the payload. Groups left from a previous step are resolved first, in path order.
+     * When none are left, the groups are looked up again in the current payload.
+     *
+     * @param step the current payload, along with the groups left to resolve
+     * @return one choice for each element of the group or empty if there is nothing left to resolve
+     */
+    private List<Choice> nextChoices(Step step) {
+        if (!step.payload().contains(OF)) {
+            return List.of();
+        }
+        List<Choice> choices = this.nextChoices(step.payload(), step.groups());
+        if (choices.isEmpty() && !step.groups().isEmpty()) {
+            return this.nextChoices(step.payload(), List.of());
+        }
+        return choices;
+    }
+
+    private List<Choice> nextChoices(String payload, List<Map.Entry<String, Map<String, JsonElement>>> remainingGroups) {
+        List<Map.Entry<String, Map<String, JsonElement>>> groups = remainingGroups.isEmpty() ?
+                List.copyOf(new TreeMap<>(groupsFinder.apply(payload)).entrySet()) : remainingGroups;
+        for (int i = 0; i < groups.size(); i++) {
+            Map.Entry<String, Map<String, JsonElement>> group = groups.get(i);
+            List<Map.Entry<String, Map<String, JsonElement>>> nextGroups = groups.subList(i + 1, groups.size());
+            Map<String, JsonElement> elements = new TreeMap<>(group.getValue());
+            List<Choice> choices = new ArrayList<>();
+            Set<String> distinctPayloads = new HashSet<>();
+            elements.forEach((key, value) -> {
+                String newPayload = JsonUtils.createValidOneOfAnyOfNode(payload, group.getKey(), key, String.valueOf(value), elements.keySet());
+                if (!newPayload.equals(payload) && distinctPayloads.add(newPayload)) {
+                    choices.add(new Choice(group.getKey() + "=" + key, new Step(newPayload, nextGroups)));
+                }
+            });
+            if (!choices.isEmpty()) {
+                choices.sort(Comparator.comparing(choice -> choice.next().payload()));
+                return choices;
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * A partially resolved payload, along with the groups, found in an earlier payload, which are still to be resolved.
+     */
+    private record Step(String payload, List<Map.Entry<String, Map<String, JsonElement>>> groups) {
+        String key() {
+            return groups.stream().map(Map.Entry::getKey).reduce(payload, (key, group) -> key + "|" + group);
+        }
+    }
+
+    private record Choice(String id, Step next) {
+    }
+}
@@ -5,10 +5,15 @@ import com.endava.cats.args.MatchArguments;
 import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.io.ServiceData;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.PlannedTestCase;
+import com.endava.cats.model.TestPlan;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.FuzzingResult;
+import com.endava.cats.util.JsonUtils;
+import com.jayway.jsonpath.Configuration;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -16,6 +21,7 @@ import jakarta.inject.Singleton;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static com.endava.cats.io.ServiceCaller.CATS_REMOVE_FIELD;
 
@@ -79,6 +85,23 @@ public class FieldsIteratorExecutor {
      *                including FuzzingData, logger, and other relevant parameters.
      */
     public void execute(FieldsIteratorExecutorContext context) {
+        TestPlan<Object> testPlan = this.plan(context);
+        if (testPlan.isEmpty()) {
+            return;
+        }
+        testCaseListener.executePlan(context.getLogger(), context.getFuzzer(), testPlan,
+                plannedTestCase -> executeTestCase(context, plannedTestCase.target(), plannedTestCase.value()));
+    }
+
+    /**
+     * Creates the test plan for the given context, without executing it.
+     * The plan will contain a test case for each fuzzed field and each value returned by the
+     * {@code FieldsIteratorExecutorContext#fuzzValueProducer} for that field.
+     *
+     * @param context the FieldsIteratorExecutorContext
+     * @return a lazy test plan
+     */
+    public TestPlan<Object> plan(FieldsIteratorExecutorContext context) {
         Set<String> allFields = context.getFuzzingData().getAllFieldsByHttpMethod();
         context.getLogger().debug("All fields: {}", allFields);
         List<String> fieldsToBeRemoved = filesArguments.getRefData(context.getFuzzingData().getPath()).entrySet()
@@ -87,20 +110,22 @@ public class FieldsIteratorExecutor {
 
         fieldsToBeRemoved.forEach(allFields::remove);
 
-        for (String fuzzedField : allFields) {
-            Schema<?> fuzzedFieldSchema = context.getFuzzingData().getRequestPropertyTypes().get(fuzzedField);
-            if (context.getSchemaFilter().test(fuzzedFieldSchema) && context.getFieldFilter().test(fuzzedField)) {
-                for (Object currentValue : context.getFuzzValueProducer().apply(fuzzedFieldSchema, fuzzedField)) {
-                    testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> executeTestCase(context, fuzzedField, currentValue), context.getFuzzingData());
-                }
-            } else {
-                context.getLogger().debug("Skipping [{}]. " + context.getSkipMessage(), fuzzedField);
-            }
+        return new TestPlan<>(String.valueOf(context.getFuzzer()), context.getFuzzingData(), () -> allFields.stream()
+                .flatMap(fuzzedField -> this.planField(context, fuzzedField)));
+    }
+
+    private Stream<PlannedTestCase<Object>> planField(FieldsIteratorExecutorContext context, String fuzzedField) {
+        Schema<?> fuzzedFieldSchema = context.getFuzzingData().getRequestPropertyTypes().get(fuzzedField);
+        if (context.getSchemaFilter().test(fuzzedFieldSchema) && context.getFieldFilter().test(fuzzedField)) {
+            return context.getFuzzValueProducer().apply(fuzzedFieldSchema, fuzzedField).stream()
+                    .map(currentValue -> new PlannedTestCase<>(fuzzedField, currentValue));
         }
+        context.getLogger().debug("Skipping [{}]. " + context.getSkipMessage(), fuzzedField);
+        return Stream.empty();
     }
 
     private void executeTestCase(FieldsIteratorExecutorContext context, String fuzzedField, Object currentValue) {
-        FuzzingStrategy strategy = context.getFuzzingStrategy().withData(currentValue);
+        FuzzingStrategy strategy = context.getFuzzingStrategy().copyWithData(currentValue);
         context.getLogger().debug("Applying [{}] for field [{}]", strategy, fuzzedField);
 
         testCaseListener.addScenario(context.getLogger(), context.getScenario() + " Current field [{}] [{}]", fuzzedField, strategy);
@@ -132,10 +157,15 @@ public class FieldsIteratorExecutor {
     }
 
     private FuzzingResult getFuzzingResult(FieldsIteratorExecutorContext context, String fuzzedField, FuzzingStrategy strategy) {
+        FuzzingData data = context.getFuzzingData();
         if (context.isSimpleReplaceField()) {
-            return CatsUtil.justReplaceField(context.getFuzzingData().getPayload(), fuzzedField, strategy.getData());
+            return data.getPayloadTemplate(fuzzedField, JsonUtils.GSON_CONFIGURATION)
+                    .flatMap(template -> template.fill(strategy.getData()))
+                    .orElseGet(() -> CatsUtil.justReplaceField(data.getPayload(), fuzzedField, strategy.getData()));
         }
-        return FuzzingStrategy.replaceField(context.getFuzzingData().getPayload(), fuzzedField, strategy);
+        return data.getPayloadTemplate(fuzzedField, Configuration.defaultConfiguration())
+                .flatMap(template -> FuzzingStrategy.replaceFieldInTemplate(template, strategy))
+                .orElseGet(() -> FuzzingStrategy.replaceFieldInParsedPayload(data.getParsedPayload(), fuzzedField, strategy));
     }
 
     /**
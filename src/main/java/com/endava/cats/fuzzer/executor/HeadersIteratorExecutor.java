@@ -8,11 +8,16 @@ import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.io.ServiceData;
 import com.endava.cats.model.CatsHeader;
 import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.PlannedTestCase;
+import com.endava.cats.model.TestPlan;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import jakarta.inject.Singleton;
 
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -53,44 +58,64 @@ public class HeadersIteratorExecutor {
         }
 
         Set<CatsHeader> clonedHeaders = Cloner.cloneMe(headersWithoutAuth);
+        Map<String, CatsHeader> headersByName = clonedHeaders.stream()
+                .collect(Collectors.toMap(CatsHeader::getName, Function.identity(), (first, second) -> first));
 
-        for (CatsHeader header : clonedHeaders) {
-            if (filterArguments.getSkipHeaders().stream().noneMatch(ignoredHeader -> ignoredHeader.equalsIgnoreCase(header.getName()))) {
-                for (FuzzingStrategy fuzzingStrategy : context.getFuzzValueProducer().get()) {
-                    context.getLogger().debug("Fuzzing strategy {} for header {}", fuzzingStrategy.name(), header);
-                    String previousHeaderValue = header.getValue();
-                    header.withValue(String.valueOf(fuzzingStrategy.process(previousHeaderValue)));
-                    try {
-                        testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> {
-                            boolean isRequiredHeaderFuzzed = clonedHeaders.stream().filter(CatsHeader::isRequired).toList().contains(header);
-                            ResponseCodeFamily expectedResponseCode = this.getExpectedResultCode(isRequiredHeaderFuzzed, context);
-
-                            testCaseListener.addScenario(context.getLogger(), context.getScenario() + "  Current header [{}] [{}]", header.getName(), fuzzingStrategy);
-                            testCaseListener.addExpectedResult(context.getLogger(), "Should return [{}]",
-                                    expectedResponseCode != null ? expectedResponseCode.asString() : "a response that doesn't match" + matchArguments.getMatchString());
-
-                            ServiceData serviceData = ServiceData.builder()
-                                    .relativePath(context.getFuzzingData().getPath())
-                                    .contractPath(context.getFuzzingData().getContractPath())
-                                    .headers(clonedHeaders)
-                                    .payload(context.getFuzzingData().getPayload())
-                                    .fuzzedHeader(header.getName())
-                                    .queryParams(context.getFuzzingData().getQueryParams())
-                                    .httpMethod(context.getFuzzingData().getMethod())
-                                    .contentType(context.getFuzzingData().getFirstRequestContentType())
-                                    .pathParamsPayload(context.getFuzzingData().getPathParamsPayload())
-                                    .build();
-
-                            CatsResponse response = serviceCaller.call(serviceData);
-                            this.reportResult(context, expectedResponseCode, response);
-                        }, context.getFuzzingData());
-                    } finally {
-                        /* we reset back the current header */
-                        header.withValue(previousHeaderValue);
-                    }
-                }
-            }
+        TestPlan<FuzzingStrategy> testPlan = this.plan(context, clonedHeaders);
+        if (testPlan.isEmpty()) {
+            return;
         }
+        testCaseListener.executePlan(context.getLogger(), context.getFuzzer(), testPlan,
+                plannedTestCase -> this.executeTestCase(context, clonedHeaders, headersByName.get(plannedTestCase.target()), plannedTestCase.value()));
+    }
+
+    /**
+     * Creates the test plan for the given context, without executing it.
+     * The plan will contain a test case for each header not skipped and each strategy returned by the
+     * {@code HeadersIteratorExecutorContext#fuzzValueProducer}.
+     *
+     * @param context the context used for fuzzing
+     * @return a lazy test plan
+     */
+    public TestPlan<FuzzingStrategy> plan(HeadersIteratorExecutorContext context) {
+        return this.plan(context, this.getHeadersWithoutAuthHeaders(context));
+    }
+
+    private TestPlan<FuzzingStrategy> plan(HeadersIteratorExecutorContext context, Set<CatsHeader> headers) {
+        return new TestPlan<>(String.valueOf(context.getFuzzer()), context.getFuzzingData(), () -> headers.stream()
+                .filter(header -> filterArguments.getSkipHeaders().stream().noneMatch(ignoredHeader -> ignoredHeader.equalsIgnoreCase(header.getName())))
+                .flatMap(header -> context.getFuzzValueProducer().get().stream()
+                        .map(fuzzingStrategy -> new PlannedTestCase<>(header.getName(), fuzzingStrategy))));
+    }
+
+    private void executeTestCase(HeadersIteratorExecutorContext context, Set<CatsHeader> clonedHeaders, CatsHeader header, FuzzingStrategy fuzzingStrategy) {
+        context.getLogger().debug("Fuzzing strategy {} for header {}", fuzzingStrategy.name(), header);
+        CatsHeader fuzzedHeader = header.copy();
+        fuzzedHeader.withValue(String.valueOf(fuzzingStrategy.process(header.getValue())));
+        Set<CatsHeader> headersForTestCase = clonedHeaders.stream()
+                .map(catsHeader -> catsHeader.equals(fuzzedHeader) ? fuzzedHeader : catsHeader)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        ResponseCodeFamily expectedResponseCode = this.getExpectedResultCode(fuzzedHeader.isRequired(), context);
+
+        testCaseListener.addScenario(context.getLogger(), context.getScenario() + "  Current header [{}] [{}]", fuzzedHeader.getName(), fuzzingStrategy);
+        testCaseListener.addExpectedResult(context.getLogger(), "Should return [{}]",
+                expectedResponseCode != null ? expectedResponseCode.asString() : "a response that doesn't match" + matchArguments.getMatchString());
+
+        ServiceData serviceData = ServiceData.builder()
+                .relativePath(context.getFuzzingData().getPath())
+                .contractPath(context.getFuzzingData().getContractPath())
+                .headers(headersForTestCase)
+                .payload(context.getFuzzingData().getPayload())
+                .fuzzedHeader(fuzzedHeader.getName())
+                .queryParams(context.getFuzzingData().getQueryParams())
+                .httpMethod(context.getFuzzingData().getMethod())
+                .contentType(context.getFuzzingData().getFirstRequestContentType())
+                .pathParamsPayload(context.getFuzzingData().getPathParamsPayload())
+                .build();
+
+        CatsResponse response = serviceCaller.call(serviceData);
+        this.reportResult(context, expectedResponseCode, response);
     }
 
     private void reportResult(HeadersIteratorExecutorContext context, ResponseCodeFamily expectedResponseCode, CatsResponse response) {
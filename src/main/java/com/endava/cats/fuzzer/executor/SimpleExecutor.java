@@ -1,5 +1,6 @@
 package com.endava.cats.fuzzer.executor;
 
+import com.endava.cats.annotations.SecondPhaseFuzzer;
 import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.io.ServiceData;
 import com.endava.cats.model.CatsResponse;
@@ -48,35 +49,62 @@ public class SimpleExecutor {
     /**
      * Executes the logic considering the given context.
      * This method will do the actual HTTP call to the service and match the response against expected behaviour.
+     * If requests are sent asynchronously, the response is matched once it's received.
      *
      * @param context the executor context
      */
     public void execute(SimpleExecutorContext context) {
-        testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> {
-            testCaseListener.addScenario(context.getLogger(), context.getScenario());
-            testCaseListener.addExpectedResult(context.getLogger(), "Should return {}" + context.getExpectedResult(), context.getExpectedSpecificResponseCode());
+        if (serviceCaller.isAsync()) {
+            testCaseListener.createAndExecuteTestAsync(context.getLogger(), context.getFuzzer(), () -> {
+                this.addScenarioAndExpectedResult(context);
+
+                return serviceCaller.callAsync(this.buildServiceData(context))
+                        .thenAccept(response -> this.processResponse(context, response));
+            }, context.getFuzzingData());
+            return;
+        }
 
-            CatsResponse response = serviceCaller.call(
-                    ServiceData.builder()
-                            .relativePath(context.getPath())
-                            .contractPath(context.getFuzzingData().getContractPath())
-                            .headers(context.getHeaders())
-                            .payload(context.getPayload())
-                            .queryParams(context.getFuzzingData().getQueryParams())
-                            .httpMethod(context.getHttpMethod())
-                            .contentType(context.getFuzzingData().getFirstRequestContentType())
-                            .replaceRefData(context.isReplaceRefData())
-                            .skippedHeaders(context.getSkippedHeaders())
-                            .addUserHeaders(context.isAddUserHeaders())
-                            .replaceUrlParams(context.isReplaceUrlParams())
-                            .pathParamsPayload(context.getFuzzingData().getPathParamsPayload())
-                            .build());
+        testCaseListener.createAndExecuteTest(context.getLogger(), context.getFuzzer(), () -> {
+            this.addScenarioAndExpectedResult(context);
 
-            if (context.getResponseProcessor() != null) {
-                context.getResponseProcessor().accept(response, context.getFuzzingData());
-            } else {
-                testCaseListener.reportResult(context.getLogger(), context.getFuzzingData(), response, context.getExpectedResponseCode(), context.isMatchResponseResult(), context.isMatchResponseContentType());
-            }
+            CatsResponse response = serviceCaller.call(this.buildServiceData(context));
+            this.processResponse(context, response);
         }, context.getFuzzingData());
     }
+
+    private void addScenarioAndExpectedResult(SimpleExecutorContext context) {
+        testCaseListener.addScenario(context.getLogger(), context.getScenario());
+        testCaseListener.addExpectedResult(context.getLogger(), "Should return {}" + context.getExpectedResult(), context.getExpectedSpecificResponseCode());
+    }
+
+    private ServiceData buildServiceData(SimpleExecutorContext context) {
+        return ServiceData.builder()
+                .relativePath(context.getPath())
+                .contractPath(context.getFuzzingData().getContractPath())
+                .headers(context.getHeaders())
+                .payload(context.getPayload())
+                .queryParams(context.getFuzzingData().getQueryParams())
+                .httpMethod(context.getHttpMethod())
+                .contentType(context.getFuzzingData().getFirstRequestContentType())
+                .replaceRefData(context.isReplaceRefData())
+                .skippedHeaders(context.getSkippedHeaders())
+                .addUserHeaders(context.isAddUserHeaders())
+                .replaceUrlParams(context.isReplaceUrlParams())
+                .pathParamsPayload(context.getFuzzingData().getPathParamsPayload())
+                .reuseResponses(!isSecondPhaseFuzzer(context))
+                .build();
+    }
+
+    /*second phase fuzzers check the state of the service after all the other fuzzers ran, so responses recorded before are stale*/
+    private static boolean isSecondPhaseFuzzer(SimpleExecutorContext context) {
+        return context.getFuzzer() != null && context.getFuzzer().getClass().isAnnotationPresent(SecondPhaseFuzzer.class);
+    }
+
+    private void processResponse(SimpleExecutorContext context, CatsResponse response) {
+        if (context.getResponseProcessor() != null) {
+            context.getResponseProcessor().accept(response, context.getFuzzingData());
+        } else {
+            testCaseListener.reportResult(context.getLogger(), context.getFuzzingData(), response, context.getExpectedResponseCode(), context.isMatchResponseResult(), context.isMatchResponseContentType());
+        }
+    }
 }
@@ -42,7 +42,7 @@ public class DefaultValuesInFieldsFuzzer implements Fuzzer {
         Predicate<Schema<?>> hasDefault = schema -> schema.getDefault() != null;
         BiFunction<Schema<?>, String, List<Object>> fuzzedValueProducer = (schema, field) -> List.of(schema.getDefault());
         Predicate<String> isNotDiscriminator = catsExecutor::isFieldNotADiscriminator;
-        Predicate<String> isFieldInRequestPayload = field -> JsonUtils.isFieldInJson(data.getPayload(), field);
+        Predicate<String> isFieldInRequestPayload = field -> JsonUtils.isFieldInParsedJson(data.getParsedPayload(), field);
 
         catsExecutor.execute(
                 FieldsIteratorExecutorContext.builder()
@@ -44,7 +44,7 @@ public class IterateThroughEnumValuesFieldsFuzzer implements Fuzzer {
                 .map(Object.class::cast)
                 .toList();
         Predicate<String> notADiscriminator = catsExecutor::isFieldNotADiscriminator;
-        Predicate<String> fieldExists = field -> JsonUtils.isFieldInJson(data.getPayload(), field);
+        Predicate<String> fieldExists = field -> JsonUtils.isFieldInParsedJson(data.getParsedPayload(), field);
 
         catsExecutor.execute(
                 FieldsIteratorExecutorContext.builder()
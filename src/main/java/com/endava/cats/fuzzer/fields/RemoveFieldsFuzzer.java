@@ -13,10 +13,12 @@ import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.ConsoleUtils;
 import com.endava.cats.util.JsonUtils;
+import com.endava.cats.util.Subsets;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.inject.Singleton;
 
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -54,7 +56,7 @@ public class RemoveFieldsFuzzer implements Fuzzer {
     @Override
     public void fuzz(FuzzingData data) {
         logger.debug("All required fields, including subfields: {}", data.getAllRequiredFields());
-        Set<Set<String>> sets = this.getAllFields(data);
+        Subsets<String> sets = this.getAllFields(data);
 
         for (Set<String> subset : sets) {
             Set<String> finalSubset = this.removeIfSkipped(subset);
@@ -70,12 +72,12 @@ public class RemoveFieldsFuzzer implements Fuzzer {
                 .collect(Collectors.toSet());
     }
 
-    private Set<Set<String>> getAllFields(FuzzingData data) {
-        Set<Set<String>> sets = data.getAllFields(FuzzingData.SetFuzzingStrategy.valueOf(processingArguments.getFieldsFuzzingStrategy().name())
-                , processingArguments.getMaxFieldsToRemove());
+    private Subsets<String> getAllFields(FuzzingData data) {
+        Subsets<String> sets = data.getAllFields(FuzzingData.SetFuzzingStrategy.valueOf(processingArguments.getFieldsFuzzingStrategy().name())
+                , processingArguments.getMaxFieldsToRemove()).sampled(processingArguments.getMaxFieldsSubsets());
 
         logger.note("Fuzzer will run with [{}] fields configuration possibilities out of [{}] maximum possible",
-                sets.size(), (int) Math.pow(2, data.getAllFieldsByHttpMethod().size()));
+                sets.size(), BigInteger.TWO.pow(data.getAllFieldsByHttpMethod().size()));
 
         return sets;
     }
@@ -46,7 +46,7 @@ public class VeryLargeStringsInFieldsFuzzer extends ExpectOnly4XXBaseFieldsFuzze
     protected List<FuzzingStrategy> getFieldFuzzingStrategy(FuzzingData data, String fuzzedField) {
         return Collections.singletonList(
                 FuzzingStrategy.replace().withData(
-                        StringGenerator.generateLargeString(processingArguments.getLargeStringsSize() / 4)));
+                        StringGenerator.generateLargeValue(processingArguments.getLargeStringsSize() / 4)));
     }
 
     @Override
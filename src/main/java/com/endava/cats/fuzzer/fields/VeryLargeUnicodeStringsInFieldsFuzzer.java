@@ -11,6 +11,7 @@ import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import jakarta.inject.Singleton;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -43,7 +44,9 @@ public class VeryLargeUnicodeStringsInFieldsFuzzer extends ExpectOnly4XXBaseFiel
 
     @Override
     protected List<FuzzingStrategy> getFieldFuzzingStrategy(FuzzingData data, String fuzzedField) {
-        return FuzzingStrategy.getLargeValuesStrategy(processingArguments.getLargeStringsSize());
+        return Collections.singletonList(
+                FuzzingStrategy.replace().withData(
+                        FuzzingStrategy.generateLargeUnicodeValue(processingArguments.getLargeStringsSize())));
     }
 
     @Override
@@ -49,7 +49,7 @@ public class ZeroWidthCharsInNamesFieldsFuzzer implements Fuzzer {
         for (String fuzzValue : UnicodeGenerator.getZwCharsSmallListFields()) {
             for (String fuzzedField : data.getAllFieldsByHttpMethod()
                     .stream()
-                    .filter(field -> JsonUtils.isFieldInJson(data.getPayload(), field))
+                    .filter(field -> JsonUtils.isFieldInParsedJson(data.getParsedPayload(), field))
                     .limit(5)
                     .collect(Collectors.toSet())) {
                 testCaseListener.createAndExecuteTest(logger, this, () -> process(data, fuzzedField, fuzzValue), data);
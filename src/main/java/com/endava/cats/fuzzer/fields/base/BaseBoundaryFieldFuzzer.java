@@ -38,7 +38,7 @@ public abstract class BaseBoundaryFieldFuzzer extends ExpectOnly4XXBaseFieldsFuz
     public List<FuzzingStrategy> getFieldFuzzingStrategy(FuzzingData data, String fuzzedField) {
         Schema<?> schema = data.getRequestPropertyTypes().get(fuzzedField);
 
-        if (this.fuzzedFieldHasAnAssociatedSchema(schema) && this.isFieldPartOfPayload(fuzzedField, data.getPayload())) {
+        if (this.fuzzedFieldHasAnAssociatedSchema(schema) && this.isFieldPartOfPayload(fuzzedField, data)) {
             logger.debug("Field {} has an associated schema", fuzzedField);
             logger.note("Field [{}] schema is [{}] and type [{}]", fuzzedField, schema.getClass().getSimpleName(), schema.getType());
             Object generatedBoundaryValue = this.getBoundaryValue(schema);
@@ -62,11 +62,11 @@ public abstract class BaseBoundaryFieldFuzzer extends ExpectOnly4XXBaseFieldsFuz
      * There are cases when field is part of a different oneOf, anyOf element.
      *
      * @param field   the field being fuzzed
-     * @param payload the payload
+     * @param data    the current fuzzing data
      * @return true if field is part of the payload, false otherwise
      */
-    private boolean isFieldPartOfPayload(String field, String payload) {
-        return JsonUtils.isFieldInJson(payload, field);
+    private boolean isFieldPartOfPayload(String field, FuzzingData data) {
+        return JsonUtils.isFieldInParsedJson(data.getParsedPayload(), field);
     }
 
     /**
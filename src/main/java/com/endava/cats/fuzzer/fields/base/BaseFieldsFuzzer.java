@@ -12,9 +12,12 @@ import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
 import com.endava.cats.util.CatsModelUtils;
+import com.endava.cats.util.CompiledPatterns;
 import com.endava.cats.util.ConsoleUtils;
 import com.endava.cats.util.FuzzingResult;
 import com.endava.cats.util.JsonUtils;
+import com.endava.cats.util.LargeValue;
+import com.jayway.jsonpath.Configuration;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.media.Schema;
@@ -99,13 +102,15 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
             testCaseListener.addScenario(logger, "Send [{}] in request fields: field [{}], value [{}], is required [{}]",
                     this.typeOfDataSentToTheService(), fuzzedField, fuzzingStrategy.truncatedValue(), fuzzingConstraints.getRequiredString());
             logger.debug("Fuzzing possible...");
-            FuzzingResult fuzzingResult = FuzzingStrategy.replaceField(data.getPayload(), fuzzedField, fuzzingStrategy);
+            FuzzingResult fuzzingResult = data.getPayloadTemplate(fuzzedField, Configuration.defaultConfiguration())
+                    .flatMap(template -> FuzzingStrategy.replaceFieldInTemplate(template, fuzzingStrategy))
+                    .orElseGet(() -> FuzzingStrategy.replaceFieldInParsedPayload(data.getParsedPayload(), fuzzedField, fuzzingStrategy));
             boolean isFuzzedValueMatchingPattern = this.isFuzzedValueMatchingPattern(fuzzingResult.fuzzedValue(), data, fuzzedField);
 
             ServiceData serviceData = ServiceData.builder().relativePath(data.getPath())
                     .headers(data.getHeaders()).payload(fuzzingResult.json()).httpMethod(data.getMethod()).contractPath(data.getContractPath())
                     .fuzzedField(fuzzedField).queryParams(data.getQueryParams()).contentType(data.getFirstRequestContentType())
-                    .pathParamsPayload(data.getPathParamsPayload()).build();
+                    .pathParamsPayload(data.getPathParamsPayload()).largeValue(getLargeValue(fuzzingStrategy)).build();
             ResponseCodeFamily expectedResponseCodeBasedOnConstraints = this.getExpectedResponseCodeBasedOnConstraints(isFuzzedValueMatchingPattern, fuzzingConstraints);
 
             testCaseListener.addExpectedResult(logger, "Should return [{}]", expectedResponseCodeBasedOnConstraints.asString());
@@ -121,6 +126,10 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
         }
     }
 
+    private static LargeValue getLargeValue(FuzzingStrategy fuzzingStrategy) {
+        return fuzzingStrategy.getData() instanceof LargeValue largeValue ? largeValue : null;
+    }
+
     private FuzzingStrategy createSkipStrategy(FuzzingStrategy fuzzingStrategy) {
         return fuzzingStrategy.isSkip() ? fuzzingStrategy : FuzzingStrategy.skip().withData(
                 "field could not be fuzzed. Possible reasons: field is not a primitive, is a discriminator, is passed as refData or is not matching the Fuzzer schemas");
@@ -190,7 +199,7 @@ public abstract class BaseFieldsFuzzer implements Fuzzer {
             if (fieldSchema.getPattern() == null || CatsModelUtils.isByteArraySchema(fieldSchema)) {
                 return true;
             }
-            Pattern pattern = Pattern.compile(fieldSchema.getPattern());
+            Pattern pattern = CompiledPatterns.compile(fieldSchema.getPattern());
 
             return fieldValue == null || pattern.matcher(this.sanitizeString(fieldValue)).matches();
         }
@@ -52,6 +52,10 @@ public class CheckDeletedResourcesNotAvailableFuzzer implements Fuzzer {
 
         logger.info("Stored successful DELETE requests: {}", catsGlobalContext.getSuccessfulDeletes().size());
         for (String delete : catsGlobalContext.getSuccessfulDeletes()) {
+            /* paths fuzzed in parallel might consume the same entries; only the one removing it will check it */
+            if (!catsGlobalContext.getSuccessfulDeletes().remove(delete)) {
+                continue;
+            }
             simpleExecutor.execute(
                     SimpleExecutorContext.builder()
                             .logger(logger)
@@ -65,7 +69,6 @@ public class CheckDeletedResourcesNotAvailableFuzzer implements Fuzzer {
                             .build()
             );
         }
-        catsGlobalContext.getSuccessfulDeletes().clear();
     }
 
     private void checkResponse(CatsResponse response, FuzzingData data) {
@@ -1,5 +1,6 @@
 package com.endava.cats.fuzzer.special;
 
+import com.endava.cats.annotations.SequentialFuzzer;
 import com.endava.cats.annotations.SpecialFuzzer;
 import com.endava.cats.args.FilesArguments;
 import com.endava.cats.fuzzer.fields.base.CustomFuzzerBase;
@@ -28,6 +29,7 @@ import java.util.Map;
  */
 @Singleton
 @SpecialFuzzer
+@SequentialFuzzer
 public class FunctionalFuzzer implements CustomFuzzerBase {
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(FunctionalFuzzer.class);
     private final FilesArguments filesArguments;
@@ -0,0 +1,132 @@
+package com.endava.cats.fuzzer.special;
+
+import com.endava.cats.util.CatsUtil;
+import com.google.common.hash.Hashing;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Payloads used as a starting point for mutations when doing coverage-guided fuzzing.
+ * <p>
+ * A mutated payload is added to the corpus only if the service response has a {@link ResponseSignature} not seen before.
+ * When a folder is supplied, new corpus entries are also written to disk and loaded in subsequent runs.
+ * </p>
+ */
+public class FuzzingCorpus {
+    private static final int MAX_ENTRIES = 1000;
+    private static final String JSON = ".json";
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(FuzzingCorpus.class);
+    private final List<String> payloads = new ArrayList<>();
+    private final Set<ResponseSignature> signatures = new HashSet<>();
+    private final Path folder;
+    private final boolean growing;
+
+    private FuzzingCorpus(Path folder, boolean growing) {
+        this.folder = folder;
+        this.growing = growing;
+    }
+
+    /**
+     * Creates a corpus which only contains the given payload and never grows.
+     *
+     * @param payload the payload
+     * @return a new corpus with a single payload
+     */
+    public static FuzzingCorpus fixed(String payload) {
+        FuzzingCorpus corpus = new FuzzingCorpus(null, false);
+        corpus.payloads.add(payload);
+        return corpus;
+    }
+
+    /**
+     * Creates a corpus for the given seed payload, loading any entries previously stored in the given folder.
+     *
+     * @param seed   the initial payload
+     * @param folder the folder storing the corpus or null if the corpus must not be persisted
+     * @return a new corpus
+     * @throws IOException if the corpus folder cannot be read
+     */
+    public static FuzzingCorpus create(String seed, Path folder) throws IOException {
+        FuzzingCorpus corpus = new FuzzingCorpus(folder, true);
+        corpus.payloads.add(seed);
+
+        if (folder != null) {
+            Files.createDirectories(folder);
+            try (Stream<Path> files = Files.list(folder)) {
+                for (Path file : files.filter(file -> file.getFileName().toString().endsWith(JSON)).sorted().toList()) {
+                    corpus.payloads.add(Files.readString(file, StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return corpus;
+    }
+
+    /**
+     * Selects a random payload from the corpus.
+     *
+     * @return a corpus payload
+     */
+    public synchronized String selectRandom() {
+        return CatsUtil.selectRandom(payloads);
+    }
+
+    /**
+     * Records the behaviour triggered by the given payload. If the behaviour was not seen before, the payload
+     * is added to the corpus, so that it gets mutated further.
+     *
+     * @param payload   the payload sent to the service
+     * @param signature the signature of the service response
+     * @return true if the payload reached new behaviour, false otherwise
+     */
+    public synchronized boolean recordBehaviour(String payload, ResponseSignature signature) {
+        if (!signatures.add(signature)) {
+            return false;
+        }
+        logger.debug("New behaviour reached: {}", signature);
+        if (growing && payloads.size() < MAX_ENTRIES && !payloads.contains(payload)) {
+            payloads.add(payload);
+            this.persist(payload);
+        }
+        return true;
+    }
+
+    private void persist(String payload) {
+        if (folder == null) {
+            return;
+        }
+        try {
+            Files.writeString(folder.resolve(Hashing.sha256().hashString(payload, StandardCharsets.UTF_8) + JSON), payload, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Unable to store corpus entry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the number of payloads in the corpus.
+     *
+     * @return the corpus size
+     */
+    public synchronized int size() {
+        return payloads.size();
+    }
+
+    /**
+     * Returns the number of distinct behaviours reached.
+     *
+     * @return the number of distinct response signatures
+     */
+    public synchronized int getBehaviours() {
+        return signatures.size();
+    }
+}
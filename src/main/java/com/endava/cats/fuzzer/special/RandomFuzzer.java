@@ -44,8 +44,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 /**
  * Fuzzer intended for continuous fuzzing. It will randomly choose fields to fuzz and mutators to apply.
@@ -54,6 +56,7 @@ import java.util.function.Predicate;
 @Singleton
 @SpecialFuzzer
 public class RandomFuzzer implements Fuzzer {
+    private static final Pattern CORPUS_FOLDER_NAME = Pattern.compile("[^a-zA-Z0-9_-]");
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(RandomFuzzer.class);
     private final SimpleExecutor simpleExecutor;
     private final TestCaseListener testCaseListener;
@@ -90,6 +93,11 @@ public class RandomFuzzer implements Fuzzer {
             return;
         }
 
+        FuzzingCorpus corpus = this.createCorpus(data);
+        if (corpus == null) {
+            return;
+        }
+
         long startTime = System.currentTimeMillis();
 
         boolean shouldStop = false;
@@ -98,10 +106,11 @@ public class RandomFuzzer implements Fuzzer {
         testCaseListener.updateUnknownProgress(data);
 
         while (!shouldStop) {
+            String payload = corpus.selectRandom();
             String targetField = CatsUtil.selectRandom(allCatsFields);
             logger.debug("Selected field to be mutated: [{}]", targetField);
 
-            if (!JsonUtils.isFieldInJson(data.getPayload(), targetField)) {
+            if (!JsonUtils.isFieldInJson(payload, targetField)) {
                 logger.debug("Field not in this payload, selecting another one...");
                 continue;
             }
@@ -109,7 +118,7 @@ public class RandomFuzzer implements Fuzzer {
             Mutator selectedRandomMutator = CatsUtil.selectRandom(mutatorsToRun);
             logger.debug("Selected mutator [{}]", selectedRandomMutator.getClass().getSimpleName());
 
-            String mutatedPayload = selectedRandomMutator.mutate(data.getPayload(), targetField);
+            String mutatedPayload = selectedRandomMutator.mutate(payload, targetField);
             Collection<CatsHeader> mutatedHeaders = selectedRandomMutator.mutate(data.getHeaders());
 
             simpleExecutor.execute(
@@ -121,12 +130,42 @@ public class RandomFuzzer implements Fuzzer {
                             .headers(mutatedHeaders)
                             .scenario("Send a random payload mutating field [%s] with [%s] mutator".formatted(targetField, selectedRandomMutator.description()))
                             .expectedSpecificResponseCode("a response that doesn't match given --matchXXX arguments")
-                            .responseProcessor(this::processResponse)
+                            .responseProcessor((catsResponse, fuzzingData) -> {
+                                this.processResponse(catsResponse, fuzzingData);
+                                if (stopArguments.isCoverageGuided()) {
+                                    corpus.recordBehaviour(mutatedPayload, ResponseSignature.from(catsResponse));
+                                }
+                            })
                             .build());
 
             testCaseListener.updateUnknownProgress(data);
             shouldStop = stopArguments.shouldStop(executionStatisticsListener.getErrors(), testCaseListener.getCurrentTestCaseNumber(), startTime);
         }
+
+        if (stopArguments.isCoverageGuided()) {
+            logger.info("Coverage-guided fuzzing reached {} distinct behaviours. Corpus size {}", corpus.getBehaviours(), corpus.size());
+        }
+    }
+
+    /**
+     * When doing coverage-guided fuzzing, mutations are applied to payloads from a corpus which grows with payloads reaching new
+     * service behaviour. Otherwise, the corpus will only contain the initial payload.
+     */
+    private FuzzingCorpus createCorpus(FuzzingData data) {
+        if (!stopArguments.isCoverageGuided()) {
+            return FuzzingCorpus.fixed(data.getPayload());
+        }
+        Path corpusFolder = Optional.ofNullable(filesArguments.getCorpusFolder())
+                .map(folder -> folder.toPath().resolve(CORPUS_FOLDER_NAME.matcher(data.getPath() + "_" + data.getMethod()).replaceAll("_")))
+                .orElse(null);
+        try {
+            FuzzingCorpus corpus = FuzzingCorpus.create(data.getPayload(), corpusFolder);
+            logger.debug("Starting coverage-guided fuzzing with a corpus of {} payloads", corpus.size());
+            return corpus;
+        } catch (IOException e) {
+            logger.error("Unable to load corpus from {}: {}", corpusFolder, e.getMessage());
+            return null;
+        }
     }
 
     void processResponse(CatsResponse catsResponse, FuzzingData fuzzingData) {
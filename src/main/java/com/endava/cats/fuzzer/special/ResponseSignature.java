@@ -0,0 +1,77 @@
+package com.endava.cats.fuzzer.special;
+
+import com.endava.cats.model.CatsResponse;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Summarizes the behaviour of the service for a given request. Two responses having the same signature
+ * are considered to exercise the same server behaviour.
+ *
+ * @param responseCode  the HTTP response code
+ * @param shape         hash of the response JSON structure, ignoring values
+ * @param lengthBucket  logarithmic bucket of the response length
+ * @param errorCluster  hash of the normalized response body for 4XX and 5XX responses, empty otherwise
+ * @param latencyBucket logarithmic bucket of the response time
+ */
+public record ResponseSignature(int responseCode, String shape, int lengthBucket, String errorCluster, int latencyBucket) {
+    private static final Pattern NUMBERS = Pattern.compile("\\d+");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+    private static final int MAX_ERROR_LENGTH = 120;
+
+    /**
+     * Computes the signature of the given response.
+     *
+     * @param response the service response
+     * @return the behaviour signature of the response
+     */
+    public static ResponseSignature from(CatsResponse response) {
+        return new ResponseSignature(response.getResponseCode(), hash(shapeOf(response.getJsonBody())),
+                bucket(response.getContentLengthInBytes()), errorCluster(response), bucket(response.getResponseTimeInMs()));
+    }
+
+    static String shapeOf(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return "null";
+        }
+        if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            return "[" + (array.isEmpty() ? "" : shapeOf(array.get(0))) + "]";
+        }
+        if (element.isJsonObject()) {
+            Map<String, String> fields = new TreeMap<>();
+            for (Map.Entry<String, JsonElement> entry : ((JsonObject) element).entrySet()) {
+                fields.put(entry.getKey(), shapeOf(entry.getValue()));
+            }
+            return fields.toString();
+        }
+        if (element.getAsJsonPrimitive().isNumber()) {
+            return "number";
+        }
+        return element.getAsJsonPrimitive().isBoolean() ? "boolean" : "string";
+    }
+
+    private static String errorCluster(CatsResponse response) {
+        if (response.getResponseCode() < 400 || response.getBody() == null) {
+            return "";
+        }
+        String normalized = WHITESPACES.matcher(NUMBERS.matcher(response.getBody().toLowerCase(Locale.ROOT)).replaceAll("#")).replaceAll(" ");
+        return hash(normalized.substring(0, Math.min(MAX_ERROR_LENGTH, normalized.length())));
+    }
+
+    static int bucket(long value) {
+        return value <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(value);
+    }
+
+    private static String hash(String value) {
+        return Hashing.murmur3_32_fixed().hashString(value, StandardCharsets.UTF_8).toString();
+    }
+}
@@ -1,5 +1,6 @@
 package com.endava.cats.fuzzer.special;
 
+import com.endava.cats.annotations.SequentialFuzzer;
 import com.endava.cats.annotations.SpecialFuzzer;
 import com.endava.cats.args.FilesArguments;
 import com.endava.cats.fuzzer.fields.base.CustomFuzzerBase;
@@ -30,6 +31,7 @@ import java.util.stream.Stream;
  */
 @Singleton
 @SpecialFuzzer
+@SequentialFuzzer
 public class SecurityFuzzer implements CustomFuzzerBase {
     private final PrettyLogger log = PrettyLoggerFactory.getLogger(this.getClass());
     private final FilesArguments filesArguments;
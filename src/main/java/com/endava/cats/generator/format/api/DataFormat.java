@@ -1,5 +1,8 @@
 package com.endava.cats.generator.format.api;
 
+import com.endava.cats.util.CompiledPatterns;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.enterprise.inject.Instance;
 
@@ -12,34 +15,45 @@ import java.util.Optional;
  * @param <T> The type of {@code DataFormatGenerator} associated with this data format.
  */
 public abstract class DataFormat<T extends DataFormatGenerator> {
+    private static final int MATCHING_GENERATORS_CACHE_SIZE = 20_000;
 
-    final Instance<T> generators;
+    final List<T> generators;
+    private final Cache<FormatAndProperty, List<T>> matchingGenerators = CacheBuilder.newBuilder().maximumSize(MATCHING_GENERATORS_CACHE_SIZE).build();
 
     /**
      * Constructs a new data format with the specified set of data format generators.
+     * The generators are resolved only once, when the data format is created.
      *
      * @param generators The set of data format generators for this data format
      */
     protected DataFormat(Instance<T> generators) {
-        this.generators = generators;
+        this.generators = generators.stream().toList();
     }
 
     /**
-     * Finds the data format generator that is appropriate for the given schema and property name.
+     * Finds the data format generators that are appropriate for the given schema and property name.
+     * Generators are matched only the first time a format and property name pair is seen, subsequent calls
+     * returning the same list.
      *
      * @param schema       The schema for the property
      * @param propertyName The name of the property
-     * @return An optional containing the data format generator for the property, if it exists
+     * @return the data format generators for the property, in the order in which they were injected
      */
     List<T> getGenerators(Schema<?> schema, String propertyName) {
+        FormatAndProperty key = new FormatAndProperty(Optional.ofNullable(schema.getFormat()).orElse(""),
+                Optional.ofNullable(propertyName).orElse(""));
+
+        return matchingGenerators.asMap().computeIfAbsent(key, this::findGenerators);
+    }
+
+    private List<T> findGenerators(FormatAndProperty key) {
         return generators.stream()
-                .filter(generator -> generator.appliesTo(Optional.ofNullable(schema.getFormat()).orElse(""),
-                        Optional.ofNullable(propertyName).orElse("")))
+                .filter(generator -> generator.appliesTo(key.format(), key.propertyName()))
                 .toList();
     }
 
     public static Object matchesPatternOrNull(Schema<?> schema, Object generated) {
-        if ((schema.getPattern() == null || (schema.getPattern() != null && String.valueOf(generated).matches(schema.getPattern())))
+        if ((schema.getPattern() == null || (schema.getPattern() != null && CompiledPatterns.matches(String.valueOf(generated), schema.getPattern())))
                 && (schema.getMaxLength() == null || (String.valueOf(generated).length() <= schema.getMaxLength()))) {
             return generated;
         }
@@ -59,4 +73,7 @@ public abstract class DataFormat<T extends DataFormatGenerator> {
 
         return attempt;
     }
+
+    private record FormatAndProperty(String format, String propertyName) {
+    }
 }
@@ -2,7 +2,11 @@ package com.endava.cats.generator.simple;
 
 import com.endava.cats.util.CatsModelUtils;
 import com.endava.cats.util.CatsUtil;
+import com.endava.cats.util.CompiledPatterns;
+import com.endava.cats.util.LargeValue;
 import com.github.curiousoddman.rgxgen.RgxGen;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.media.Schema;
@@ -19,6 +23,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -56,6 +61,7 @@ public class StringGenerator {
     private static final Pattern HAS_LENGTH_PATTERN = Pattern.compile("(\\*|\\+|\\?|\\{\\d+(,\\d*)?\\})");
     private static final Pattern SINGLE_CHAR_PATTERN = Pattern.compile("^\\[[^\\]]+\\]$");
     private static final Pattern LENGTH_INLINE_PATTERN = Pattern.compile("(\\^)?(\\[[^]]*]\\{\\d+}|\\(\\[[^]]*]\\{\\d+}\\)\\?)*(\\$)?");
+    private static final Pattern STARTS_WITH_ANCHOR_PATTERN = Pattern.compile("(?!\\().\\^.*");
     private static final List<String> WILD_CARDS = List.of(".^");
 
     private static final String ALPHANUMERIC = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
@@ -109,6 +115,15 @@ public class StringGenerator {
     public static final int DEFAULT_MAX_WHEN_NOT_PRESENT = 256;
     public static final int DEFAULT_MIN_WHEN_NOT_PRESENT = 1;
 
+    private static final int GENERATORS_CACHE_SIZE = 5_000;
+    private static final int GENERATED_VALUES_POOL_SIZE = 8;
+    /*patterns are cleaned, flattened and parsed by the generators only once, as the same patterns are used for many values*/
+    private static final Cache<String, PreparedPattern> PREPARED_PATTERNS = CacheBuilder.newBuilder().maximumSize(GENERATORS_CACHE_SIZE).build();
+    private static final Cache<String, RgxGen> RGX_GENERATORS = CacheBuilder.newBuilder().maximumSize(GENERATORS_CACHE_SIZE).build();
+    private static final Cache<String, RegExpGen> REGEXP_GENERATORS = CacheBuilder.newBuilder().maximumSize(GENERATORS_CACHE_SIZE).build();
+    /*once a pool is full, values are picked randomly from it instead of running the generators again*/
+    private static final Cache<String, List<String>> GENERATED_VALUES = CacheBuilder.newBuilder().maximumSize(GENERATORS_CACHE_SIZE).build();
+
     private StringGenerator() {
         //ntd
     }
@@ -132,6 +147,16 @@ public class StringGenerator {
         return StringUtils.repeat(FUZZ, times);
     }
 
+    /**
+     * Same as {@link #generateLargeString(int)}, but without materializing the string.
+     *
+     * @param times the number of times to repeat string "fuzz"
+     * @return a large value of length times * 4
+     */
+    public static LargeValue generateLargeValue(int times) {
+        return LargeValue.of("", FUZZ, times, "");
+    }
+
     /**
      * This method makes sure that the generated size of the string is matching the given length.
      * When patterns have length inside, for example {@code "\\d{6,10}" }, the generated value
@@ -181,10 +206,8 @@ public class StringGenerator {
      */
     public static String generate(String pattern, int min, int max) {
         LOGGER.debug("Generate for pattern {} min {} max {}", pattern, min, max);
-        String cleanedPattern = cleanPattern(pattern);
-        String flattenedPattern = RegexFlattener.flattenRegex(cleanedPattern);
-
-        GeneratorParams generatorParams = new GeneratorParams(flattenedPattern, min, max, cleanedPattern);
+        PreparedPattern preparedPattern = prepare(pattern);
+        GeneratorParams generatorParams = new GeneratorParams(preparedPattern.flattened(), min, max, preparedPattern.cleaned());
 
         String generatedWithRgxGenerator = callGenerateTwice(StringGenerator::generateUsingRgxGenerator, generatorParams);
         if (generatedWithRgxGenerator != null) {
@@ -204,10 +227,42 @@ public class StringGenerator {
         throw new IllegalArgumentException("Could not generate a string for pattern " + pattern + " with min " + min + " and max " + max);
     }
 
+    /**
+     * Same as {@link #generate(String, int, int)}, but the first generated values for each pattern and length range
+     * are kept in a small pool. Once the pool is full, values are picked randomly from the pool instead of generating new ones.
+     * This should be used when any valid value will do, like when building payload examples from contract patterns.
+     *
+     * @param pattern the regex pattern
+     * @param min     min length of the generated string
+     * @param max     max length of the generated string
+     * @return a random string corresponding to the given pattern and min, max restrictions
+     */
+    public static String generateFromPool(String pattern, int min, int max) {
+        List<String> pool = GENERATED_VALUES.asMap().computeIfAbsent(pattern + "|" + min + "|" + max, key -> new CopyOnWriteArrayList<>());
+        if (pool.size() >= GENERATED_VALUES_POOL_SIZE) {
+            return pool.get(CatsUtil.random().nextInt(pool.size()));
+        }
+        String generated = generate(pattern, min, max);
+        if (pool.size() < GENERATED_VALUES_POOL_SIZE) {
+            pool.add(generated);
+        }
+        return generated;
+    }
+
+    private static PreparedPattern prepare(String pattern) {
+        if (pattern == null) {
+            return new PreparedPattern(cleanPattern(null), RegexFlattener.flattenRegex(cleanPattern(null)));
+        }
+        return PREPARED_PATTERNS.asMap().computeIfAbsent(pattern, key -> {
+            String cleanedPattern = cleanPattern(key);
+            return new PreparedPattern(cleanedPattern, RegexFlattener.flattenRegex(cleanedPattern));
+        });
+    }
+
     public static String callGenerateTwice(Function<GeneratorParams, String> generator, GeneratorParams generatorParams) {
         try {
             String initialVersion = generator.apply(generatorParams);
-            if (initialVersion.matches(generatorParams.originalPattern())) {
+            if (CompiledPatterns.matches(initialVersion, generatorParams.originalPattern())) {
                 LOGGER.debug("Generated value " + initialVersion + " matched " + generatorParams.originalPattern());
                 return initialVersion;
             }
@@ -217,7 +272,7 @@ public class StringGenerator {
 
         try {
             String secondVersion = generator.apply(new GeneratorParams(removeLookaheadAssertions(generatorParams.cleanedPattern()), generatorParams.min, generatorParams.max, generatorParams.originalPattern()));
-            if (secondVersion.matches(generatorParams.originalPattern())) {
+            if (CompiledPatterns.matches(secondVersion, generatorParams.originalPattern())) {
                 LOGGER.debug("Generated value with lookaheads removed " + secondVersion + " matched " + generatorParams.originalPattern());
                 return secondVersion;
             }
@@ -238,7 +293,7 @@ public class StringGenerator {
         if (pattern.startsWith("/") && pattern.endsWith("/i")) {
             pattern = pattern.substring(1, pattern.length() - 2);
         }
-        if (pattern.matches("(?!\\().\\^.*")) {
+        if (STARTS_WITH_ANCHOR_PATTERN.matcher(pattern).matches()) {
             pattern = pattern.substring(1);
         }
         if (pattern.endsWith("$/")) {
@@ -264,7 +319,7 @@ public class StringGenerator {
         int min = generatorParams.min;
         int max = generatorParams.max;
 
-        RegExpGen generator = REGEXPGEN_PROVIDER.matchingExact(pattern);
+        RegExpGen generator = REGEXP_GENERATORS.asMap().computeIfAbsent(pattern, REGEXPGEN_PROVIDER::matchingExact);
 
         for (int i = 0; i < MAX_ATTEMPTS_GENERATE; i++) {
             if (min == max) {
@@ -272,14 +327,14 @@ public class StringGenerator {
             }
             String generated = generator.generate(REGEXP_RANDOM_GEN, min, max);
 
-            if (generated.matches(originalPattern)) {
+            if (CompiledPatterns.matches(generated, originalPattern)) {
                 LOGGER.debug("Generated using REGEXP {} matches {}", generated, pattern);
                 return generated;
             }
         }
 
         LOGGER.debug("Returning alphanumeric random string using REGEXP");
-        return REGEXPGEN_PROVIDER.matchingExact(ALPHANUMERIC_PLUS).generate(REGEXP_RANDOM_GEN, min, max);
+        return REGEXP_GENERATORS.asMap().computeIfAbsent(ALPHANUMERIC_PLUS, REGEXPGEN_PROVIDER::matchingExact).generate(REGEXP_RANDOM_GEN, min, max);
     }
 
     private static String generateUsingCatsRegexGenerator(GeneratorParams generatorParams) {
@@ -288,17 +343,17 @@ public class StringGenerator {
         int min = generatorParams.min;
         int max = generatorParams.max;
 
+        Pattern compiledPattern = CompiledPatterns.compile(pattern);
         for (int i = 0; i < MAX_ATTEMPTS_GENERATE; i++) {
-            Pattern compiledPattern = Pattern.compile(pattern);
             String secondVersionBase = RegexGenerator.generate(compiledPattern, EMPTY, min, max);
 
-            if (secondVersionBase.matches(originalPattern)) {
+            if (CompiledPatterns.matches(secondVersionBase, originalPattern)) {
                 LOGGER.debug("Generated using CATS generator {} and matches {}", secondVersionBase, pattern);
                 return secondVersionBase;
             }
             String generatedString = composeString(secondVersionBase, min, max);
 
-            if (generatedString.matches(originalPattern)) {
+            if (CompiledPatterns.matches(generatedString, originalPattern)) {
                 LOGGER.debug("Generated using CATS generator {} and matches {}", generatedString, pattern);
                 return generatedString;
             }
@@ -316,13 +371,13 @@ public class StringGenerator {
 
         try {
             do {
-                generatedValue = new RgxGen(pattern).generate();
-                if ((hasLengthInline(pattern) || isSetOfAlternatives(pattern) || (min <= 0 && max <= 0)) && generatedValue.matches(originalPattern)) {
+                generatedValue = RGX_GENERATORS.asMap().computeIfAbsent(pattern, RgxGen::new).generate();
+                if ((hasLengthInline(pattern) || isSetOfAlternatives(pattern) || (min <= 0 && max <= 0)) && CompiledPatterns.matches(generatedValue, originalPattern)) {
                     return generatedValue;
                 }
                 generatedValue = composeString(generatedValue, min, max);
                 attempts++;
-            } while (attempts < MAX_ATTEMPTS_GENERATE && !generatedValue.matches(originalPattern));
+            } while (attempts < MAX_ATTEMPTS_GENERATE && !CompiledPatterns.matches(generatedValue, originalPattern));
         } catch (Exception e) {
             LOGGER.debug("RGX generator failed, returning empty.", e);
             return ALPHANUMERIC_VALUE;
@@ -337,7 +392,7 @@ public class StringGenerator {
 
             if (alternatives.length > 1) {
                 for (String alternative : alternatives) {
-                    Pattern.compile(alternative);
+                    CompiledPatterns.compile(alternative);
                 }
                 return true;
             } else {
@@ -480,6 +535,9 @@ public class StringGenerator {
             return complexRegexGenerated;
         }
 
+        if (StringUtils.isNotBlank(property.getPattern())) {
+            return StringGenerator.generateFromPool(pattern, minLength, maxLength);
+        }
         return StringGenerator.generate(pattern, minLength, maxLength);
     }
 
@@ -586,6 +644,9 @@ public class StringGenerator {
         return null;
     }
 
+    private record PreparedPattern(String cleaned, String flattened) {
+    }
+
     /**
      * A record that holds the parameters for the string generator.
      *
@@ -258,6 +258,17 @@ public enum HttpMethod {
         return method == HttpMethod.POST || method == HttpMethod.PUT || method == HttpMethod.PATCH || method == HttpMethod.PROPPATCH || method == HttpMethod.REPORT;
     }
 
+    /**
+     * Checks if the given HTTP method is idempotent, meaning that sending the same request more than once
+     * has the same effect on the server as sending it once.
+     *
+     * @param method The HTTP method to check.
+     * @return {@code true} if the HTTP method is idempotent, {@code false} otherwise.
+     */
+    public static boolean isIdempotent(HttpMethod method) {
+        return method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.PUT;
+    }
+
     /**
      * Checks if the given HTTP method, represented as a String, requires a request body.
      *
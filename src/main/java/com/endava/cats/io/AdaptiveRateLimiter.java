@@ -0,0 +1,242 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.util.KeyValuePair;
+import com.google.common.util.concurrent.RateLimiter;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limiter used to throttle calls to the service.
+ * <p>
+ * A fixed limiter always allows the same number of requests per second. An adaptive limiter starts from a fraction
+ * of the maximum rate and uses AIMD (additive increase, multiplicative decrease) based on the responses received:
+ * </p>
+ * <ul>
+ *     <li>the rate is increased step by step while responses are successful and latency stays flat</li>
+ *     <li>the rate is halved when the service returns 429 or 503, when latency rises above twice the baseline, or when requests
+ *     fail without a response, such as on timeouts</li>
+ *     <li>requests are paused when the service asks for it through {@code Retry-After} or {@code RateLimit-Remaining: 0}</li>
+ * </ul>
+ * <p>
+ * The rate is halved at most once per adjustment window, as responses received right after a decrease are for requests sent
+ * at the previous rate. Latency is tracked per operation, as endpoints have different response times. The baseline of
+ * an operation is the lowest smoothed latency seen, slowly decaying towards the current latency, so that a lasting change
+ * in the service response times eventually becomes the new baseline.
+ * </p>
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class AdaptiveRateLimiter {
+    private static final double INITIAL_RATE_FACTOR = 0.1;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double INCREASE_STEPS = 100;
+    private static final double MIN_RATE = 1;
+    private static final double LATENCY_TOLERANCE = 2;
+    private static final double LATENCY_SMOOTHING = 0.2;
+    private static final double BASELINE_DECAY = 0.01;
+    private static final int MAX_TRACKED_OPERATIONS = 1000;
+    private static final long MIN_ADJUSTMENT_WINDOW_MS = 1000;
+    private static final long MAX_PAUSE_MS = TimeUnit.MINUTES.toMillis(1);
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(AdaptiveRateLimiter.class);
+    private final RateLimiter rateLimiter;
+    private final boolean adaptive;
+    private final double maxRate;
+    private final double minRate;
+    private final double increaseStep;
+    private final LongSupplier clock;
+    private final Map<String, OperationLatency> latencies = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, OperationLatency> eldest) {
+            return size() > MAX_TRACKED_OPERATIONS;
+        }
+    };
+
+    private long nextDecreaseAllowedAt;
+    private volatile long pausedUntil;
+
+    private AdaptiveRateLimiter(double maxRate, boolean adaptive, LongSupplier clock) {
+        this.adaptive = adaptive;
+        this.clock = clock;
+        this.maxRate = maxRate;
+        this.minRate = Math.min(MIN_RATE, maxRate);
+        this.increaseStep = Math.max(MIN_RATE, maxRate / INCREASE_STEPS);
+        this.rateLimiter = RateLimiter.create(adaptive ? Math.max(minRate, maxRate * INITIAL_RATE_FACTOR) : maxRate);
+    }
+
+    /**
+     * Creates a rate limiter allowing a fixed number of requests per second.
+     *
+     * @param requestsPerSecond the number of requests per second
+     * @return a fixed rate limiter
+     */
+    public static AdaptiveRateLimiter fixed(double requestsPerSecond) {
+        return new AdaptiveRateLimiter(requestsPerSecond, false, System::currentTimeMillis);
+    }
+
+    /**
+     * Creates a rate limiter adapting the number of requests per second based on the service responses.
+     *
+     * @param maxRequestsPerSecond the maximum number of requests per second
+     * @return an adaptive rate limiter
+     */
+    public static AdaptiveRateLimiter adaptive(double maxRequestsPerSecond) {
+        return adaptive(maxRequestsPerSecond, System::currentTimeMillis);
+    }
+
+    static AdaptiveRateLimiter adaptive(double maxRequestsPerSecond, LongSupplier clock) {
+        return new AdaptiveRateLimiter(maxRequestsPerSecond, true, clock);
+    }
+
+    /**
+     * Blocks until a new request can be sent to the service.
+     */
+    public void acquire() {
+        long pause = pausedUntil - clock.getAsLong();
+        if (pause > 0) {
+            logger.debug("Service asked to slow down. Pausing for {} ms", pause);
+            try {
+                Thread.sleep(pause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        rateLimiter.acquire();
+    }
+
+    /**
+     * Adjusts the rate based on the given response. It doesn't do anything for fixed rate limiters.
+     *
+     * @param operation the operation called, typically the HTTP method and the contract path, used to compare latencies
+     * @param response  the response received from the service
+     */
+    public void onResponse(String operation, CatsResponse response) {
+        if (!adaptive) {
+            return;
+        }
+        this.pauseIfRequested(response);
+
+        synchronized (this) {
+            boolean latencyIncreased = latencies.computeIfAbsent(operation, key -> new OperationLatency()).record(response.getResponseTimeInMs());
+            if (response.getResponseCode() == 429 || response.getResponseCode() == 503 || latencyIncreased) {
+                this.decreaseRate(response.getResponseTimeInMs(), "Response code " + response.getResponseCode());
+            } else if (response.getResponseCode() < 500) {
+                this.setRate(rateLimiter.getRate() + increaseStep / rateLimiter.getRate());
+            }
+        }
+    }
+
+    /**
+     * Decreases the rate when a request fails without a response, as timeouts and connection errors are usually a sign
+     * of an overloaded service. It doesn't do anything for fixed rate limiters.
+     *
+     * @param elapsedMs the time elapsed between sending the request and the failure
+     * @param cause     the failure
+     */
+    public void onFailure(long elapsedMs, IOException cause) {
+        if (!adaptive) {
+            return;
+        }
+        synchronized (this) {
+            this.decreaseRate(elapsedMs, cause.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Returns the number of requests per second currently allowed.
+     *
+     * @return the current rate
+     */
+    public double getRate() {
+        return rateLimiter.getRate();
+    }
+
+    private void decreaseRate(long latency, String reason) {
+        long now = clock.getAsLong();
+        if (now < nextDecreaseAllowedAt) {
+            return;
+        }
+        /*requests sent before the decrease are answered within about one response time*/
+        nextDecreaseAllowedAt = now + Math.max(MIN_ADJUSTMENT_WINDOW_MS, latency);
+        this.setRate(rateLimiter.getRate() * DECREASE_FACTOR);
+        logger.debug("Decreasing rate to {} requests/second. {}, latency {} ms", rateLimiter.getRate(), reason, latency);
+    }
+
+    private void setRate(double rate) {
+        rateLimiter.setRate(Math.clamp(rate, minRate, maxRate));
+    }
+
+    private void pauseIfRequested(CatsResponse response) {
+        long now = clock.getAsLong();
+        Optional<Long> retryAfter = this.getHeaderValue(response, "Retry-After").flatMap(value -> parseRetryAfter(value, now));
+        Optional<Long> rateLimitReset = this.getHeaderValue(response, "RateLimit-Remaining")
+                .filter("0"::equals)
+                .flatMap(remaining -> this.getHeaderValue(response, "RateLimit-Reset"))
+                .flatMap(AdaptiveRateLimiter::parseSeconds);
+
+        retryAfter.or(() -> rateLimitReset)
+                .map(pause -> Math.min(pause, MAX_PAUSE_MS))
+                .ifPresent(pause -> pausedUntil = Math.max(pausedUntil, now + pause));
+    }
+
+    private Optional<String> getHeaderValue(CatsResponse response, String name) {
+        return Optional.ofNullable(response.getHeaders())
+                .flatMap(headers -> Optional.ofNullable(response.getHeader(name)))
+                .map(KeyValuePair::getValue)
+                .map(String::trim);
+    }
+
+    private static final class OperationLatency {
+        private double smoothedLatency;
+        private double baselineLatency;
+
+        /**
+         * Records the latency of a response.
+         *
+         * @return true if the latency of the operation rose above the tolerated baseline, false otherwise
+         */
+        private boolean record(long latency) {
+            if (smoothedLatency == 0) {
+                smoothedLatency = latency;
+                baselineLatency = latency;
+                return false;
+            }
+            smoothedLatency = smoothedLatency * (1 - LATENCY_SMOOTHING) + latency * LATENCY_SMOOTHING;
+            baselineLatency = Math.min(smoothedLatency, baselineLatency + (smoothedLatency - baselineLatency) * BASELINE_DECAY);
+
+            return smoothedLatency > Math.max(1, baselineLatency) * LATENCY_TOLERANCE;
+        }
+    }
+
+    static Optional<Long> parseRetryAfter(String value, long now) {
+        return parseSeconds(value).or(() -> {
+            try {
+                ZonedDateTime retryDate = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                ZonedDateTime currentDate = ZonedDateTime.ofInstant(Instant.ofEpochMilli(now), ZoneOffset.UTC);
+                return Optional.of(Math.max(0, Duration.between(currentDate, retryDate).toMillis()));
+            } catch (RuntimeException e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private static Optional<Long> parseSeconds(String value) {
+        try {
+            return Optional.of(TimeUnit.SECONDS.toMillis(Long.parseLong(value)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,449 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.WorkItem;
+import com.endava.cats.util.JsonUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * A work queue backed by a folder which can be shared between multiple CATS processes.
+ * <p>
+ * Work items are stored as individual files. Workers claim an item by atomically moving it from the {@code pending}
+ * folder into their own {@code claimed} folder, which makes sure an item is processed by a single worker.
+ * Once processed, the item is moved to the {@code done} folder. Each worker writes its test cases into its own
+ * {@code results} folder, so that they can be merged into a single report.
+ * </p>
+ * <p>
+ * The first worker claiming an item of a resource becomes the owner of the resource, recorded in the {@code resources} folder,
+ * and is the only one claiming its items. This way, resources created by POST requests are deleted by the same worker.
+ * Claims are leases: the last modified time of a claimed item is the time it was claimed or last renewed. Workers renew the lease
+ * while running an item. The coordinator requeues items whose lease expired and releases the resources owned by their workers,
+ * so that the items of a stopped worker are processed by the other workers.
+ * </p>
+ * <p>
+ * Workers record the range of test cases created for each item they marked as done. Only these test cases are merged,
+ * so that the test cases of items which were requeued, or of a stopped worker, are not reported twice.
+ * </p>
+ */
+public class FileWorkQueue {
+    private static final String PENDING = "pending";
+    private static final String CLAIMED = "claimed";
+    private static final String DONE = "done";
+    private static final String RESULTS = "results";
+    private static final String RESOURCES = "resources";
+    private static final String COMPLETED = "completed";
+    private static final String LEASE = "lease";
+    private static final Duration DEFAULT_LEASE_DURATION = Duration.ofMinutes(10);
+    private static final String SEALED = "sealed";
+    private static final String JSON = ".json";
+    private static final Pattern TEST_CASE_FILE = Pattern.compile("Test(\\d+)\\.json");
+    private static final String TEST_CASE_SEGMENTS_INDEX = "test-cases.idx";
+    private static final Pattern RANGE_SEPARATOR = Pattern.compile(" ");
+
+    private final Path root;
+
+    private FileWorkQueue(Path root) {
+        this.root = root;
+    }
+
+    /**
+     * Creates a new empty queue in the given folder. Any previous queue content is removed.
+     *
+     * @param root the queue folder
+     * @return a new empty queue
+     * @throws IOException if the queue folders cannot be created
+     */
+    public static FileWorkQueue create(Path root) throws IOException {
+        FileWorkQueue queue = new FileWorkQueue(root);
+        if (Files.exists(root)) {
+            try (Stream<Path> files = Files.walk(root)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+        queue.createFolders();
+        return queue;
+    }
+
+    /**
+     * Opens an existing queue, creating the folders if the coordinator did not create them yet.
+     *
+     * @param root the queue folder
+     * @return the queue stored in the given folder
+     * @throws IOException if the queue folders cannot be created
+     */
+    public static FileWorkQueue open(Path root) throws IOException {
+        FileWorkQueue queue = new FileWorkQueue(root);
+        queue.createFolders();
+        return queue;
+    }
+
+    private void createFolders() throws IOException {
+        Files.createDirectories(root.resolve(PENDING));
+        Files.createDirectories(root.resolve(CLAIMED));
+        Files.createDirectories(root.resolve(DONE));
+        Files.createDirectories(root.resolve(RESULTS));
+        Files.createDirectories(root.resolve(RESOURCES));
+        Files.createDirectories(root.resolve(COMPLETED));
+    }
+
+    /**
+     * Records the lease duration of claimed items, so that workers know how often they must renew their leases.
+     *
+     * @param leaseDuration the maximum time a worker can hold a claimed item without renewing its lease
+     * @throws IOException if the lease duration cannot be written
+     */
+    public void setLeaseDuration(Duration leaseDuration) throws IOException {
+        Files.writeString(root.resolve(LEASE), String.valueOf(leaseDuration.toSeconds()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the lease duration recorded by the coordinator.
+     *
+     * @return the lease duration of claimed items or 10 minutes if the coordinator did not record one
+     * @throws IOException if the lease duration cannot be read
+     */
+    public Duration getLeaseDuration() throws IOException {
+        Path lease = root.resolve(LEASE);
+        if (!Files.exists(lease)) {
+            return DEFAULT_LEASE_DURATION;
+        }
+        return Duration.ofSeconds(Long.parseLong(Files.readString(lease, StandardCharsets.UTF_8).trim()));
+    }
+
+    /**
+     * Adds a new work item to the queue. The item is first written in a temporary file
+     * in order to avoid workers reading partially written items.
+     *
+     * @param workItem the work item
+     * @throws IOException if the item cannot be written
+     */
+    public void add(WorkItem workItem) throws IOException {
+        Path tempFile = Files.createTempFile(root, workItem.id(), ".tmp");
+        Files.writeString(tempFile, JsonUtils.GSON.toJson(workItem), StandardCharsets.UTF_8);
+        Files.move(tempFile, root.resolve(PENDING).resolve(fileName(workItem)), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Marks the queue as complete. Workers stop once the queue is sealed and there are no more pending items.
+     *
+     * @throws IOException if the marker cannot be written
+     */
+    public void seal() throws IOException {
+        try {
+            Files.createFile(root.resolve(SEALED));
+        } catch (FileAlreadyExistsException e) {
+            //already sealed
+        }
+    }
+
+    /**
+     * Checks if the queue was sealed by the coordinator.
+     *
+     * @return true if no more items will be added to the queue, false otherwise
+     */
+    public boolean isSealed() {
+        return Files.exists(root.resolve(SEALED));
+    }
+
+    /**
+     * Claims the next pending item for the given worker, skipping items of resources owned by other workers.
+     *
+     * @param workerId the id of the worker
+     * @return the claimed item or empty if there are no pending items the worker can claim
+     * @throws IOException if the queue cannot be read
+     */
+    public Optional<WorkItem> claim(String workerId) throws IOException {
+        Path claimedFolder = Files.createDirectories(root.resolve(CLAIMED).resolve(workerId));
+
+        for (Path pendingItem : this.listFiles(root.resolve(PENDING))) {
+            if (!this.ownResource(workerId, resourceKey(pendingItem))) {
+                continue;
+            }
+            Path claimedItem = claimedFolder.resolve(pendingItem.getFileName());
+            try {
+                Files.move(pendingItem, claimedItem, StandardCopyOption.ATOMIC_MOVE);
+                Files.setLastModifiedTime(claimedItem, FileTime.from(Instant.now()));
+                return Optional.of(JsonUtils.GSON.fromJson(Files.readString(claimedItem, StandardCharsets.UTF_8), WorkItem.class));
+            } catch (NoSuchFileException e) {
+                //claimed by another worker in the meantime
+            }
+        }
+        return Optional.empty();
+    }
+
+    private boolean ownResource(String workerId, String resourceKey) throws IOException {
+        Path owner = root.resolve(RESOURCES).resolve(resourceKey);
+        try {
+            Files.writeString(owner, workerId, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            return workerId.equals(readOwner(owner));
+        }
+    }
+
+    /**
+     * Renews the lease of an item claimed by the given worker.
+     *
+     * @param workerId the id of the worker
+     * @param workItem the item being processed
+     * @return true if the lease was renewed, false if it already expired and the item was requeued
+     * @throws IOException if the lease cannot be renewed
+     */
+    public boolean renewClaim(String workerId, WorkItem workItem) throws IOException {
+        try {
+            Files.setLastModifiedTime(root.resolve(CLAIMED).resolve(workerId).resolve(fileName(workItem)), FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Marks an item claimed by the given worker as done.
+     *
+     * @param workerId the id of the worker
+     * @param workItem the processed item
+     * @return true if the item was marked as done, false if its lease expired and the item was requeued in the meantime
+     * @throws IOException if the item cannot be moved
+     */
+    public boolean complete(String workerId, WorkItem workItem) throws IOException {
+        String fileName = fileName(workItem);
+        try {
+            Files.move(root.resolve(CLAIMED).resolve(workerId).resolve(fileName), root.resolve(DONE).resolve(fileName), StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Moves back to pending the items claimed for longer than the given lease duration and releases the resources
+     * owned by the workers which claimed them, so that other workers can take them over.
+     *
+     * @param leaseDuration the maximum time a worker can hold a claimed item
+     * @return the number of requeued items
+     * @throws IOException if the queue cannot be read
+     */
+    public int requeueExpiredClaims(Duration leaseDuration) throws IOException {
+        Instant expiredBefore = Instant.now().minus(leaseDuration);
+        int requeued = 0;
+
+        for (Path workerFolder : this.listFolders(root.resolve(CLAIMED))) {
+            boolean workerExpired = false;
+            for (Path claimedItem : this.listFiles(workerFolder)) {
+                try {
+                    if (Files.getLastModifiedTime(claimedItem).toInstant().isBefore(expiredBefore)) {
+                        Files.move(claimedItem, root.resolve(PENDING).resolve(claimedItem.getFileName()), StandardCopyOption.ATOMIC_MOVE);
+                        workerExpired = true;
+                        requeued++;
+                    }
+                } catch (NoSuchFileException e) {
+                    //completed by the worker in the meantime
+                }
+            }
+            if (workerExpired) {
+                this.releaseResources(workerFolder.getFileName().toString());
+            }
+        }
+        return requeued;
+    }
+
+    private void releaseResources(String workerId) throws IOException {
+        try (Stream<Path> owners = Files.list(root.resolve(RESOURCES))) {
+            for (Path owner : owners.toList()) {
+                if (workerId.equals(readOwner(owner))) {
+                    Files.deleteIfExists(owner);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records test cases written by the given worker which must be merged into the report. Workers record the test cases
+     * of the items they marked as done, as well as the ones created after processing all items.
+     *
+     * @param workerId        the id of the worker
+     * @param firstTestNumber the number of the first test case to merge
+     * @param lastTestNumber  the number of the last test case to merge
+     * @throws IOException if the test cases cannot be recorded
+     */
+    public void recordCompletedTestCases(String workerId, int firstTestNumber, int lastTestNumber) throws IOException {
+        if (lastTestNumber < firstTestNumber) {
+            return;
+        }
+        Files.writeString(root.resolve(COMPLETED).resolve(workerId), firstTestNumber + " " + lastTestNumber + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Returns a predicate checking if a test case written in the given results folder was recorded as completed by its worker.
+     *
+     * @param resultsFolder a folder within the results folder of a worker
+     * @return a predicate testing test ids, such as {@code Test 12}, or test case file names, such as {@code Test12.json}
+     * @throws IOException if the completed test cases cannot be read
+     */
+    public Predicate<String> getCompletedTestCases(Path resultsFolder) throws IOException {
+        String workerId = root.resolve(RESULTS).relativize(resultsFolder).getName(0).toString();
+        Path completed = root.resolve(COMPLETED).resolve(workerId);
+        if (!Files.exists(completed)) {
+            return testId -> false;
+        }
+        List<long[]> ranges;
+        try (Stream<String> lines = Files.lines(completed, StandardCharsets.UTF_8)) {
+            ranges = lines.map(line -> RANGE_SEPARATOR.split(line.trim()))
+                    .filter(range -> range.length == 2)
+                    .map(range -> new long[]{Long.parseLong(range[0]), Long.parseLong(range[1])})
+                    .toList();
+        }
+        return testId -> {
+            long testNumber = testNumber(testId);
+            return ranges.stream().anyMatch(range -> testNumber >= range[0] && testNumber <= range[1]);
+        };
+    }
+
+    /**
+     * Returns the number of processed items.
+     *
+     * @return the number of processed items
+     * @throws IOException if the queue cannot be read
+     */
+    public int countDone() throws IOException {
+        return this.listFiles(root.resolve(DONE)).size();
+    }
+
+    /**
+     * Returns the number of items not claimed by any worker yet.
+     *
+     * @return the number of pending items
+     * @throws IOException if the queue cannot be read
+     */
+    public int countPending() throws IOException {
+        return this.listFiles(root.resolve(PENDING)).size();
+    }
+
+    /**
+     * Returns the folder where the given worker must write its test cases.
+     *
+     * @param workerId the id of the worker
+     * @return the results folder of the worker
+     */
+    public Path getResultsFolder(String workerId) {
+        return root.resolve(RESULTS).resolve(workerId);
+    }
+
+    /**
+     * Returns the test case files written by all workers and recorded as completed, ordered by worker and test number.
+     *
+     * @return the test case files written by workers
+     * @throws IOException if the results folders cannot be read
+     */
+    public List<Path> getTestCaseFiles() throws IOException {
+        List<Path> testCaseFiles;
+        try (Stream<Path> files = Files.walk(root.resolve(RESULTS), 3)) {
+            testCaseFiles = files.filter(file -> TEST_CASE_FILE.matcher(file.getFileName().toString()).matches())
+                    .sorted(Comparator.comparing((Path file) -> file.getParent().toString())
+                            .thenComparingLong(file -> testNumber(file.getFileName().toString())))
+                    .toList();
+        }
+        Map<Path, Predicate<String>> completedTestCases = new HashMap<>();
+        List<Path> completedTestCaseFiles = new ArrayList<>();
+        for (Path testCaseFile : testCaseFiles) {
+            Predicate<String> completed = completedTestCases.get(testCaseFile.getParent());
+            if (completed == null) {
+                completed = this.getCompletedTestCases(testCaseFile.getParent());
+                completedTestCases.put(testCaseFile.getParent(), completed);
+            }
+            if (completed.test(testCaseFile.getFileName().toString())) {
+                completedTestCaseFiles.add(testCaseFile);
+            }
+        }
+        return completedTestCaseFiles;
+    }
+
+    /**
+     * Returns the folders in which workers stored test cases as segments, when running with {@code --reportStorage=SEGMENTS}.
+     *
+     * @return the folders holding test case segments, ordered by worker
+     * @throws IOException if the results folders cannot be read
+     */
+    public List<Path> getTestCaseSegmentFolders() throws IOException {
+        try (Stream<Path> files = Files.walk(root.resolve(RESULTS), 3)) {
+            return files.filter(file -> TEST_CASE_SEGMENTS_INDEX.equals(file.getFileName().toString()))
+                    .map(Path::getParent)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long testNumber(String testId) {
+        String number = testId.replaceAll("\\D", "");
+        return number.isEmpty() ? 0 : Long.parseLong(number);
+    }
+
+    private static String readOwner(Path owner) throws IOException {
+        try {
+            return Files.readString(owner, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Pending items are named after their resource first, so that the items of a resource are claimed in the order they were added.
+     * Resources are identified by the SHA-256 digest of their path, which is safe to use in file names.
+     */
+    private static String fileName(WorkItem workItem) {
+        return "%s-%s%s".formatted(resourceDigest(String.valueOf(workItem.resource())), workItem.id(), JSON);
+    }
+
+    private static String resourceKey(Path item) {
+        String fileName = item.getFileName().toString();
+        return fileName.substring(0, fileName.indexOf('-'));
+    }
+
+    private static String resourceDigest(String resource) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(resource.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<Path> listFolders(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.filter(Files::isDirectory).toList();
+        }
+    }
+
+    private List<Path> listFiles(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(JSON))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.endava.cats.io;
+
+import com.endava.cats.util.LargeValue;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request body writing a {@link LargeValue} directly to the connection, in place of its descriptor inside the JSON payload.
+ * The large value is never materialized in memory; only its JSON escaped unit is written repeatedly.
+ */
+public class LargeValueRequestBody extends RequestBody {
+    private final List<byte[]> segments;
+    private final byte[] prefix;
+    private final byte[] unit;
+    private final int repetitions;
+    private final byte[] suffix;
+
+    private LargeValueRequestBody(List<byte[]> segments, LargeValue escapedValue) {
+        this.segments = segments;
+        this.prefix = escapedValue.getPrefix().getBytes(StandardCharsets.UTF_8);
+        this.unit = escapedValue.getUnit().getBytes(StandardCharsets.UTF_8);
+        this.repetitions = escapedValue.getRepetitions();
+        this.suffix = escapedValue.getSuffix().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a request body for the given payload. If the payload holds the descriptor of the given large value,
+     * the large value is streamed in place of the descriptor. Otherwise, the payload is sent as it is.
+     *
+     * @param payload    the request payload
+     * @param largeValue the large value referenced by the payload or null
+     * @return a request body for the payload
+     */
+    public static RequestBody forPayload(String payload, LargeValue largeValue) {
+        if (largeValue == null || !payload.contains(largeValue.getDescriptor())) {
+            return RequestBody.create(payload.getBytes(StandardCharsets.UTF_8));
+        }
+        List<byte[]> segments = new ArrayList<>();
+        String descriptor = largeValue.getDescriptor();
+        int start = 0;
+        int index;
+        while ((index = payload.indexOf(descriptor, start)) >= 0) {
+            segments.add(payload.substring(start, index).getBytes(StandardCharsets.UTF_8));
+            start = index + descriptor.length();
+        }
+        segments.add(payload.substring(start).getBytes(StandardCharsets.UTF_8));
+
+        return new LargeValueRequestBody(segments, largeValue.jsonEscaped());
+    }
+
+    @Nullable
+    @Override
+    public MediaType contentType() {
+        return null;
+    }
+
+    @Override
+    public long contentLength() {
+        long length = 0;
+        for (byte[] segment : segments) {
+            length += segment.length;
+        }
+        long valueLength = prefix.length + (long) unit.length * repetitions + suffix.length;
+
+        return length + valueLength * (segments.size() - 1);
+    }
+
+    @Override
+    public void writeTo(@NotNull BufferedSink sink) throws IOException {
+        sink.write(segments.getFirst());
+        for (int i = 1; i < segments.size(); i++) {
+            sink.write(prefix);
+            for (int j = 0; j < repetitions; j++) {
+                sink.write(unit);
+            }
+            sink.write(suffix);
+            sink.write(segments.get(i));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.net.HttpHeaders;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Keeps the responses of already executed requests, keyed by a fingerprint of the final request.
+ * <p>
+ * Different fuzzers often end up sending byte-identical requests. The fingerprint is computed from the HTTP method,
+ * the final URL, the headers and the body. The {@code User-Agent} header is ignored as it contains the test case number.
+ * Requests which might change the state of the service invalidate the responses recorded for the same path, its parent paths
+ * and its child paths, so that a resource read after being changed or deleted is not served from the cache.
+ * </p>
+ */
+public class RequestFingerprintCache {
+    private static final char SEPARATOR = '\u0000';
+
+    private final Cache<String, RecordedResponse> responses;
+
+    /**
+     * Creates a new cache keeping at most the given number of responses.
+     *
+     * @param maxSize the maximum number of responses kept
+     */
+    public RequestFingerprintCache(long maxSize) {
+        this.responses = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    }
+
+    /**
+     * Computes the fingerprint of the given request.
+     *
+     * @param catsRequest the final request, including the URL
+     * @return a fingerprint identifying identical requests
+     */
+    public static String fingerprint(CatsRequest catsRequest) {
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putString(String.valueOf(catsRequest.getHttpMethod()), StandardCharsets.UTF_8).putChar(SEPARATOR)
+                .putString(String.valueOf(catsRequest.getUrl()), StandardCharsets.UTF_8).putChar(SEPARATOR);
+
+        catsRequest.getHeaders().stream()
+                .filter(header -> !HttpHeaders.USER_AGENT.equalsIgnoreCase(header.getKey()))
+                .map(header -> header.getKey().toLowerCase(Locale.ROOT) + ":" + header.getValue())
+                .sorted(Comparator.naturalOrder())
+                .forEach(header -> hasher.putString(header, StandardCharsets.UTF_8).putChar(SEPARATOR));
+
+        return hasher.putString(String.valueOf(catsRequest.getPayload()), StandardCharsets.UTF_8).hash().toString();
+    }
+
+    /**
+     * Returns the response recorded for an identical request. The returned response has the fuzzed field of the current request.
+     *
+     * @param fingerprint the fingerprint of the current request
+     * @param fuzzedField the field fuzzed by the current request
+     * @return the recorded response or empty if no identical request was executed
+     */
+    public Optional<CatsResponse> get(String fingerprint, String fuzzedField) {
+        RecordedResponse recorded = responses.getIfPresent(fingerprint);
+        if (recorded == null) {
+            return Optional.empty();
+        }
+        return Optional.of(recorded.response().toBuilder().fuzzedField(fuzzedField).build());
+    }
+
+    /**
+     * Records the response received for the request with the given fingerprint.
+     *
+     * @param fingerprint the fingerprint of the request
+     * @param url         the final URL of the request
+     * @param response    the response received from the service
+     */
+    public void put(String fingerprint, String url, CatsResponse response) {
+        responses.put(fingerprint, new RecordedResponse(path(url), response));
+    }
+
+    /**
+     * Removes the responses recorded for the path of the given URL, for its parent paths and for its child paths.
+     *
+     * @param url the final URL of a request which might change the state of the service
+     */
+    public void invalidate(String url) {
+        String path = path(url);
+        responses.asMap().values().removeIf(recorded -> isSameResource(recorded.path(), path));
+    }
+
+    private static boolean isSameResource(String firstPath, String secondPath) {
+        return firstPath.equals(secondPath) || isChildPath(firstPath, secondPath) || isChildPath(secondPath, firstPath);
+    }
+
+    private static boolean isChildPath(String parent, String child) {
+        return child.startsWith(parent.endsWith("/") ? parent : parent + "/");
+    }
+
+    /**
+     * Fuzzed URLs are not always valid URIs, so the path is extracted without parsing them.
+     */
+    static String path(String url) {
+        String path = String.valueOf(url);
+        int schemeEnd = path.indexOf("://");
+        if (schemeEnd >= 0) {
+            int pathStart = path.indexOf('/', schemeEnd + 3);
+            path = pathStart >= 0 ? path.substring(pathStart) : "/";
+        }
+        int queryStart = StringUtils.indexOfAny(path, '?', '#');
+        return queryStart >= 0 ? path.substring(0, queryStart) : path;
+    }
+
+    private record RecordedResponse(String path, CatsResponse response) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.endava.cats.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads a response body in a single pass, computing its length, number of words and number of lines
+ * while keeping only a limited number of bytes from the body.
+ * <p>
+ * Words are delimited by whitespaces, same as {@link java.util.StringTokenizer}. Lines are delimited by
+ * {@code \r}, {@code \n} and {@code |}, without counting trailing empty lines.
+ * </p>
+ */
+public class ResponseBodyAnalyzer {
+    /**
+     * Appended to the body when it exceeds the maximum number of bytes kept.
+     */
+    public static final String TRUNCATION_MARKER = "...[truncated by CATS]";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final long maxBodyBytes;
+    private final StringBuilder body = new StringBuilder();
+    private long bodyBytes;
+    private long contentLengthInBytes;
+    private long numberOfWords;
+    private long separatorsSeen;
+    private long linesUntilLastContent;
+    private boolean hasContent;
+    private boolean inWord;
+    private boolean truncated;
+    private boolean pendingHighSurrogate;
+    private boolean keepingBody = true;
+
+    /**
+     * Creates a new analyzer keeping at most the given number of bytes from the body.
+     *
+     * @param maxBodyBytes the maximum number of bytes kept from the body
+     */
+    public ResponseBodyAnalyzer(long maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * Reads the entire body from the given reader.
+     *
+     * @param reader the response body reader
+     * @return the result of the analysis
+     * @throws IOException if the body cannot be read
+     */
+    public Result analyze(Reader reader) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                this.accept(buffer[i]);
+            }
+        }
+        if (pendingHighSurrogate) {
+            contentLengthInBytes++;
+        }
+        if (truncated) {
+            body.append(TRUNCATION_MARKER);
+        }
+        long numberOfLines = hasContent ? linesUntilLastContent : (separatorsSeen == 0 ? 1 : 0);
+
+        return new Result(body.toString(), contentLengthInBytes, numberOfWords, numberOfLines, truncated);
+    }
+
+    private void accept(char c) {
+        this.countBytes(c);
+        this.countWordsAndLines(c);
+        this.keep(c);
+    }
+
+    private void countBytes(char c) {
+        if (Character.isLowSurrogate(c) && pendingHighSurrogate) {
+            contentLengthInBytes += 4;
+            pendingHighSurrogate = false;
+            return;
+        }
+        if (pendingHighSurrogate) {
+            /*lone surrogates are encoded as ?*/
+            contentLengthInBytes++;
+            pendingHighSurrogate = false;
+        }
+        if (Character.isHighSurrogate(c)) {
+            pendingHighSurrogate = true;
+        } else {
+            contentLengthInBytes += Character.isLowSurrogate(c) ? 1 : utf8Length(c);
+        }
+    }
+
+    private void countWordsAndLines(char c) {
+        if (c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f') {
+            inWord = false;
+        } else if (!inWord) {
+            inWord = true;
+            numberOfWords++;
+        }
+
+        if (c == '\r' || c == '\n' || c == '|') {
+            separatorsSeen++;
+        } else {
+            hasContent = true;
+            linesUntilLastContent = separatorsSeen + 1;
+        }
+    }
+
+    private void keep(char c) {
+        if (!keepingBody) {
+            return;
+        }
+        /*low surrogates are kept together with their high surrogate*/
+        int bytes = Character.isLowSurrogate(c) ? 0 : (Character.isHighSurrogate(c) ? 4 : utf8Length(c));
+        if (bodyBytes + bytes > maxBodyBytes) {
+            keepingBody = false;
+            truncated = true;
+            return;
+        }
+        bodyBytes += bytes;
+        body.append(c);
+    }
+
+    private static int utf8Length(char c) {
+        if (c < 0x80) {
+            return 1;
+        }
+        return c < 0x800 ? 2 : 3;
+    }
+
+    /**
+     * The result of analyzing a response body.
+     *
+     * @param body                 the response body, possibly truncated
+     * @param contentLengthInBytes the length of the entire body, in UTF-8 bytes
+     * @param numberOfWords        the number of words in the entire body
+     * @param numberOfLines        the number of lines in the entire body
+     * @param truncated            true if the body exceeded the maximum number of bytes kept, false otherwise
+     */
+    public record Result(String body, long contentLengthInBytes, long numberOfWords, long numberOfLines, boolean truncated) {
+    }
+}
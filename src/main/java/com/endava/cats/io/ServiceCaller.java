@@ -19,29 +19,33 @@ import com.endava.cats.util.CatsDSLWords;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.KeyValuePair;
+import com.endava.cats.util.LargeValue;
 import com.endava.cats.util.WordUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.net.HttpHeaders;
-import com.google.common.util.concurrent.RateLimiter;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.jayway.jsonpath.PathNotFoundException;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.Headers;
 import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.SSLContext;
@@ -50,6 +54,7 @@ import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -66,8 +71,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -86,6 +94,7 @@ public class ServiceCaller {
      * Marker for fields to be removed before calling the service.
      */
     public static final String CATS_REMOVE_FIELD = "cats_remove_field";
+    private static final int REQUEST_CACHE_SIZE = 10000;
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(ServiceCaller.class);
     private static final List<String> AUTH_HEADERS = Arrays.asList("authorization", "jwt", "api-key", "api_key", "apikey",
             "secret", "secret-key", "secret_key", "api-secret", "api_secret", "apisecret", "api-token", "api_token", "apitoken");
@@ -97,7 +106,9 @@ public class ServiceCaller {
     private final CatsGlobalContext catsGlobalContext;
     OkHttpClient okHttpClient;
 
-    private RateLimiter rateLimiter;
+    private AdaptiveRateLimiter rateLimiter;
+    private Semaphore inFlightRequests;
+    private final RequestFingerprintCache requestCache = new RequestFingerprintCache(REQUEST_CACHE_SIZE);
 
     /**
      * Constructs a new {@code ServiceCaller} with the specified parameters.
@@ -121,10 +132,13 @@ public class ServiceCaller {
 
     /**
      * Inits the rate limiter with the value received in the {@code --maxRequestsPerMinute} argument.
+     * If {@code --adaptiveRateLimit} is supplied, the value is used as an upper bound.
      */
     @PostConstruct
     public void initRateLimiter() {
-        rateLimiter = RateLimiter.create(1.0 * apiArguments.getMaxRequestsPerMinute() / 60);
+        double requestsPerSecond = 1.0 * apiArguments.getMaxRequestsPerMinute() / 60;
+        rateLimiter = apiArguments.isAdaptiveRateLimit() ? AdaptiveRateLimiter.adaptive(requestsPerSecond) : AdaptiveRateLimiter.fixed(requestsPerSecond);
+        inFlightRequests = new Semaphore(Math.max(1, apiArguments.getMaxInFlightRequests()));
     }
 
     /**
@@ -141,18 +155,36 @@ public class ServiceCaller {
                     .connectTimeout(apiArguments.getConnectionTimeout(), TimeUnit.SECONDS)
                     .readTimeout(apiArguments.getReadTimeout(), TimeUnit.SECONDS)
                     .writeTimeout(apiArguments.getWriteTimeout(), TimeUnit.SECONDS)
-                    .connectionPool(new ConnectionPool(10, 15, TimeUnit.MINUTES))
+                    .connectionPool(new ConnectionPool(apiArguments.getMaxIdleConnections(), 15, TimeUnit.MINUTES))
+                    .dispatcher(this.buildDispatcher())
+                    .protocols(this.getProtocols())
                     .sslSocketFactory(sslSocketFactory, (X509TrustManager) trustAllCerts[0])
                     .retryOnConnectionFailure(true)
                     .hostnameVerifier((hostname, session) -> true).build();
 
             logger.debug("Proxy configuration to be used: {}", authArguments.getProxy());
+            logger.debug("HTTP protocols to be used: {}", okHttpClient.protocols());
         } catch (GeneralSecurityException | IOException e) {
             logger.warning("Failed to configure HTTP CLIENT: {}", e.getMessage());
             logger.debug("Stacktrace", e);
         }
     }
 
+    private Dispatcher buildDispatcher() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Math.max(dispatcher.getMaxRequests(), apiArguments.getMaxRequestsPerHost()));
+        dispatcher.setMaxRequestsPerHost(apiArguments.getMaxRequestsPerHost());
+        return dispatcher;
+    }
+
+    List<Protocol> getProtocols() {
+        return switch (apiArguments.getHttpProtocol()) {
+            case HTTP_1_1 -> List.of(Protocol.HTTP_1_1);
+            case H2 -> List.of(Protocol.HTTP_2, Protocol.HTTP_1_1);
+            case H2C -> List.of(Protocol.H2_PRIOR_KNOWLEDGE);
+        };
+    }
+
     private TrustManager[] buildTrustAllManager() {
         return new TrustManager[]{
                 new X509TrustManager() {
@@ -200,54 +232,168 @@ public class ServiceCaller {
      */
     @DryRun
     public CatsResponse call(ServiceData data) {
+        CatsRequest catsRequest = this.prepareRequest(data);
+
+        long startTime = System.currentTimeMillis();
+        try {
+            this.prepareUrl(catsRequest, data);
+
+            String fingerprint = this.getFingerprint(catsRequest, data);
+            Optional<CatsResponse> reusedResponse = this.getReusedResponse(fingerprint, data);
+            if (reusedResponse.isPresent()) {
+                this.recordResponse(reusedResponse.get());
+                return reusedResponse.get();
+            }
+
+            startTime = System.currentTimeMillis();
+            this.invalidateCachedResponses(catsRequest, data);
+            CatsResponse response = this.callService(catsRequest, data.getFuzzedFields(), operation(data));
+            this.invalidateCachedResponses(catsRequest, data);
+
+            this.recordResponse(response);
+            this.cacheResponse(fingerprint, catsRequest, response);
+            return response;
+        } catch (IOException | IllegalStateException e) {
+            return this.createResponseFromException(catsRequest, data, e, startTime);
+        }
+    }
+
+    /**
+     * Checks if requests should be sent using {@link #callAsync(ServiceData)}.
+     *
+     * @return true if {@code --maxInFlightRequests} is supplied, false otherwise
+     */
+    public boolean isAsync() {
+        return apiArguments.isAsyncRequests();
+    }
+
+    /**
+     * Same as {@link #call(ServiceData)}, but the request is sent without waiting for the response.
+     * The returned future completes within the current test case once the response is received.
+     * When {@code --maxInFlightRequests} requests are already waiting for a response, this method blocks until one completes.
+     *
+     * @param data the current context data
+     * @return a future completing with the result of service invocation or exceptionally if the response cannot be processed within the current test case
+     */
+    @DryRun
+    public CompletableFuture<CatsResponse> callAsync(ServiceData data) {
+        CatsRequest catsRequest = this.prepareRequest(data);
+
+        Executor testCaseExecutor = Optional.ofNullable(testCaseListener.currentTestCaseExecutor()).orElse(Runnable::run);
+        long startTime = System.currentTimeMillis();
+        try {
+            this.prepareUrl(catsRequest, data);
+
+            String fingerprint = this.getFingerprint(catsRequest, data);
+            Optional<CatsResponse> reusedResponse = this.getReusedResponse(fingerprint, data);
+            if (reusedResponse.isPresent()) {
+                this.recordResponse(reusedResponse.get());
+                return CompletableFuture.completedFuture(reusedResponse.get());
+            }
+
+            long callStartTime = System.currentTimeMillis();
+            this.invalidateCachedResponses(catsRequest, data);
+            /*if the test case executor rejects the task, the returned future completes exceptionally*/
+            return this.callServiceAsync(catsRequest, data.getFuzzedFields(), operation(data))
+                    .handleAsync((response, e) -> {
+                        this.invalidateCachedResponses(catsRequest, data);
+                        if (e == null) {
+                            this.recordResponse(response);
+                            this.cacheResponse(fingerprint, catsRequest, response);
+                            return response;
+                        }
+                        Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                        Exception exception = cause instanceof Exception ex ? ex : new IOException(cause);
+                        return this.createResponseFromException(catsRequest, data, exception, callStartTime);
+                    }, testCaseExecutor);
+        } catch (IllegalStateException e) {
+            return CompletableFuture.completedFuture(this.createResponseFromException(catsRequest, data, e, startTime));
+        }
+    }
+
+    /**
+     * Builds the request sent for the given context data: payload with reference data and in the final content type, along with all headers.
+     *
+     * @param data the current context data
+     * @return the request to be sent, without the url
+     */
+    private CatsRequest prepareRequest(ServiceData data) {
         this.recordServiceData(data);
 
-        String processedPayload = this.replacePayloadWithRefData(data);
+        String processedPayload = this.materializeLargeValueIfNotStreamed(this.replacePayloadWithRefData(data), data);
         processedPayload = this.convertPayloadInSpecificContentType(processedPayload, data);
         logger.debug("Payload replaced with ref data: {}", processedPayload);
 
-        List<KeyValuePair<String, Object>> headers = this.buildHeaders(data);
-        CatsRequest catsRequest = CatsRequest.builder()
-                .headers(headers).payload(processedPayload)
+        return CatsRequest.builder()
+                .headers(this.buildHeaders(data)).payload(processedPayload)
                 .httpMethod(data.getHttpMethod().name())
+                .largeValue(this.getStreamedLargeValue(data))
                 .build();
+    }
 
-        long startTime = System.currentTimeMillis();
-        try {
-            String url = this.constructUrl(data, processedPayload);
+    private void prepareUrl(CatsRequest catsRequest, ServiceData data) {
+        String url = this.constructUrl(data, catsRequest.getPayload());
 
-            catsRequest.setUrl(url);
-            this.recordRequest(catsRequest);
+        catsRequest.setUrl(url);
+        this.recordRequest(catsRequest);
 
-            logger.note("Final list of request headers: {}", headers);
-            logger.note("Final payload: {}", processedPayload);
-            logger.note("Final url: {}", url);
+        logger.note("Final list of request headers: {}", catsRequest.getHeaders());
+        logger.note("Final payload: {}", catsRequest.getPayload());
+        logger.note("Final url: {}", url);
+    }
 
-            startTime = System.currentTimeMillis();
-            CatsResponse response = this.callService(catsRequest, data.getFuzzedFields());
+    /*only idempotent requests are deduplicated; repeating a POST, PATCH or DELETE might change the state of the service*/
+    private String getFingerprint(CatsRequest catsRequest, ServiceData data) {
+        boolean deduplicate = apiArguments.isDeduplicateRequests() && data.isReuseResponses() && HttpMethod.isIdempotent(data.getHttpMethod());
+        return deduplicate ? RequestFingerprintCache.fingerprint(catsRequest) : null;
+    }
 
-            this.recordResponse(response);
-            return response;
-        } catch (IOException | IllegalStateException e) {
-            long duration = System.currentTimeMillis() - startTime;
+    /*invalidated both before sending and after receiving the response, as identical requests might complete in between*/
+    private void invalidateCachedResponses(CatsRequest catsRequest, ServiceData data) {
+        if (apiArguments.isDeduplicateRequests() && !HttpMethod.isIdempotent(data.getHttpMethod())) {
+            requestCache.invalidate(catsRequest.getUrl());
+        }
+    }
+
+    private Optional<CatsResponse> getReusedResponse(String fingerprint, ServiceData data) {
+        if (fingerprint == null) {
+            return Optional.empty();
+        }
+        Optional<CatsResponse> reusedResponse = requestCache.get(fingerprint, getFuzzedField(data));
+        reusedResponse.ifPresent(response -> {
+            logger.debug("Identical request already sent. Reusing response code {}", response.getResponseCode());
+            testCaseListener.recordDeduplicatedRequest();
+        });
+        return reusedResponse;
+    }
 
-            CatsResponse.ExceptionalResponse exceptionalResponse = CatsResponse.getResponseByException(e);
+    private void cacheResponse(String fingerprint, CatsRequest catsRequest, CatsResponse response) {
+        if (fingerprint != null) {
+            requestCache.put(fingerprint, catsRequest.getUrl(), response);
+        }
+    }
+
+    private static String getFuzzedField(ServiceData data) {
+        return data.getFuzzedFields().stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null);
+    }
 
-            CatsResponse catsResponse = CatsResponse.builder()
-                    .body(exceptionalResponse.responseBody()).httpMethod(catsRequest.getHttpMethod())
-                    .responseTimeInMs(duration).responseCode(exceptionalResponse.responseCode())
-                    .jsonBody(JsonUtils.parseAsJsonElement(exceptionalResponse.responseBody()))
-                    .fuzzedField(data.getFuzzedFields()
-                            .stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
-                    .build();
+    private CatsResponse createResponseFromException(CatsRequest catsRequest, ServiceData data, Exception e, long startTime) {
+        long duration = System.currentTimeMillis() - startTime;
 
-            this.recordRequestAndResponse(catsRequest, catsResponse, data);
+        CatsResponse.ExceptionalResponse exceptionalResponse = CatsResponse.getResponseByException(e);
 
-            logger.debug("Stacktrace from ServiceCaller", e);
+        CatsResponse catsResponse = CatsResponse.builder()
+                .body(exceptionalResponse.responseBody()).httpMethod(catsRequest.getHttpMethod())
+                .responseTimeInMs(duration).responseCode(exceptionalResponse.responseCode())
+                .jsonBody(JsonUtils.parseAsJsonElement(exceptionalResponse.responseBody()))
+                .fuzzedField(getFuzzedField(data))
+                .build();
 
+        this.recordRequestAndResponse(catsRequest, catsResponse, data);
 
-            return catsResponse;
-        }
+        logger.debug("Stacktrace from ServiceCaller", e);
+
+        return catsResponse;
     }
 
     /**
@@ -425,39 +571,112 @@ public class ServiceCaller {
      * @throws IOException If an I/O error occurs during the service call.
      */
     public CatsResponse callService(CatsRequest catsRequest, Set<String> fuzzedFields) throws IOException {
+        return this.callService(catsRequest, fuzzedFields, catsRequest.getHttpMethod() + " " + catsRequest.getUrl());
+    }
+
+    private CatsResponse callService(CatsRequest catsRequest, Set<String> fuzzedFields, String operation) throws IOException {
         rateLimiter.acquire();
         long startTime = System.currentTimeMillis();
+
+        try (Response response = okHttpClient.newCall(this.buildHttpRequest(catsRequest)).execute()) {
+            return this.createCatsResponse(response, catsRequest, fuzzedFields, startTime, operation);
+        } catch (IOException e) {
+            rateLimiter.onFailure(System.currentTimeMillis() - startTime, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Calls the service with the provided {@code catsRequest} without blocking until the response is received.
+     * The number of requests waiting for a response is limited by {@code --maxInFlightRequests}.
+     *
+     * @param catsRequest  The CATS request to be sent to the service.
+     * @param fuzzedFields The set of fuzzed fields for the request.
+     * @return a future completing with the CATS response received from the service or exceptionally if an I/O error occurs.
+     */
+    public CompletableFuture<CatsResponse> callServiceAsync(CatsRequest catsRequest, Set<String> fuzzedFields) {
+        return this.callServiceAsync(catsRequest, fuzzedFields, catsRequest.getHttpMethod() + " " + catsRequest.getUrl());
+    }
+
+    private CompletableFuture<CatsResponse> callServiceAsync(CatsRequest catsRequest, Set<String> fuzzedFields, String operation) {
+        rateLimiter.acquire();
+        inFlightRequests.acquireUninterruptibly();
+        long startTime = System.currentTimeMillis();
+        CompletableFuture<CatsResponse> result = new CompletableFuture<>();
+
+        try {
+            okHttpClient.newCall(this.buildHttpRequest(catsRequest)).enqueue(new Callback() {
+                @Override
+                public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                    inFlightRequests.release();
+                    rateLimiter.onFailure(System.currentTimeMillis() - startTime, e);
+                    result.completeExceptionally(e);
+                }
+
+                @Override
+                public void onResponse(@NotNull Call call, @NotNull Response response) {
+                    try (response) {
+                        result.complete(createCatsResponse(response, catsRequest, fuzzedFields, startTime, operation));
+                    } catch (IOException e) {
+                        rateLimiter.onFailure(System.currentTimeMillis() - startTime, e);
+                        result.completeExceptionally(e);
+                    } catch (RuntimeException e) {
+                        result.completeExceptionally(e);
+                    } finally {
+                        inFlightRequests.release();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlightRequests.release();
+            result.completeExceptionally(e);
+        }
+
+        return result;
+    }
+
+    private Request buildHttpRequest(CatsRequest catsRequest) {
         RequestBody requestBody = null;
         Headers.Builder headers = new Headers.Builder();
         catsRequest.getHeaders().forEach(header -> headers.addUnsafeNonAscii(header.getKey(), String.valueOf(header.getValue())));
 
         if (HttpMethod.requiresBody(catsRequest.getHttpMethod())) {
-            requestBody = RequestBody.create(catsRequest.getPayload().getBytes(StandardCharsets.UTF_8));
+            requestBody = LargeValueRequestBody.forPayload(catsRequest.getPayload(), catsRequest.getLargeValue());
         } else {
             //for GET and HEAD we remove Content-Type as some servers don't like it
             headers.removeAll("Content-Type");
         }
 
-        try (Response response = okHttpClient.newCall(new Request.Builder()
+        return new Request.Builder()
                 .url(catsRequest.getUrl())
                 .headers(headers.build())
                 .method(catsRequest.getHttpMethod(), requestBody)
-                .build()).execute()) {
-            long endTime = System.currentTimeMillis();
+                .build();
+    }
 
-            CatsResponse.CatsResponseBuilder catsResponseBuilder = this.populateCatsResponseFromHttpResponse(response);
-            CatsResponse catsResponse = catsResponseBuilder.httpMethod(catsRequest.getHttpMethod())
-                    .responseTimeInMs(endTime - startTime)
-                    .path(catsRequest.getUrl())
-                    .fuzzedField(fuzzedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
-                    .build();
+    /**
+     * The operation of a request sent for a contract path, used to compare latencies between calls of the same endpoint.
+     */
+    private static String operation(ServiceData data) {
+        return data.getHttpMethod() + " " + data.getContractPath();
+    }
 
-            logger.complete("Protocol: {}, Method: {}, ResponseCode: {}, ResponseTimeInMs: {}, ResponseLength: {}, ResponseWords: {}, ResponseLines: {}",
-                    response.protocol(), catsResponse.getHttpMethod(), catsResponse.responseCodeAsString(), endTime - startTime,
-                    catsResponse.getContentLengthInBytes(), catsResponse.getNumberOfWordsInResponse(), catsResponse.getNumberOfLinesInResponse());
+    private CatsResponse createCatsResponse(Response response, CatsRequest catsRequest, Set<String> fuzzedFields, long startTime, String operation) throws IOException {
+        long endTime = System.currentTimeMillis();
 
-            return catsResponse;
-        }
+        CatsResponse.CatsResponseBuilder catsResponseBuilder = this.populateCatsResponseFromHttpResponse(response);
+        CatsResponse catsResponse = catsResponseBuilder.httpMethod(catsRequest.getHttpMethod())
+                .responseTimeInMs(endTime - startTime)
+                .path(catsRequest.getUrl())
+                .fuzzedField(fuzzedFields.stream().findAny().map(el -> el.substring(el.lastIndexOf("#") + 1)).orElse(null))
+                .build();
+        rateLimiter.onResponse(operation, catsResponse);
+
+        logger.complete("Protocol: {}, Method: {}, ResponseCode: {}, ResponseTimeInMs: {}, ResponseLength: {}, ResponseWords: {}, ResponseLines: {}",
+                response.protocol(), catsResponse.getHttpMethod(), catsResponse.responseCodeAsString(), endTime - startTime,
+                catsResponse.getContentLengthInBytes(), catsResponse.getNumberOfWordsInResponse(), catsResponse.getNumberOfLinesInResponse());
+
+        return catsResponse;
     }
 
     private CatsResponse.CatsResponseBuilder populateCatsResponseFromHttpResponse(Response response) throws IOException {
@@ -466,25 +685,22 @@ public class ServiceCaller {
                 .entrySet().stream()
                 .map(header -> new KeyValuePair<>(header.getKey(), header.getValue().getFirst())).toList();
 
-        String rawResponse = this.getAsRawString(response);
-        String jsonResponse = JsonUtils.getAsJsonString(rawResponse);
+        ResponseBodyAnalyzer.Result responseBody = this.analyzeResponseBody(response);
         String responseContentType = this.getResponseContentType(response);
 
-        int numberOfWords = new StringTokenizer(rawResponse).countTokens();
-        int numberOfLines = rawResponse.split("[\r|\n]").length;
-
-        logger.debug("Raw response body: {}", rawResponse);
+        logger.debug("Raw response body: {}", responseBody.body());
         logger.debug("Raw response headers: {}", response.headers());
 
         return CatsResponse.builder()
                 .responseCode(response.code())
                 .headers(responseHeaders)
-                .body(rawResponse)
-                .jsonBody(JsonParser.parseString(jsonResponse))
-                .numberOfLinesInResponse(numberOfLines)
-                .contentLengthInBytes(rawResponse.getBytes(StandardCharsets.UTF_8).length)
+                .body(responseBody.body())
+                .lazyJsonBody(true)
+                .bodyTruncated(responseBody.truncated())
+                .numberOfLinesInResponse(responseBody.numberOfLines())
+                .contentLengthInBytes(responseBody.contentLengthInBytes())
                 .responseContentType(responseContentType)
-                .numberOfWordsInResponse(numberOfWords);
+                .numberOfWordsInResponse(responseBody.numberOfWords());
     }
 
     private String getResponseContentType(Response response) {
@@ -561,20 +777,31 @@ public class ServiceCaller {
         return queryParams;
     }
 
-    /**
-     * Retrieves the raw response body as a string from the provided HTTP response.
-     * If the response body is null, an empty string is returned.
-     *
-     * @param response The HTTP response containing the body to be extracted.
-     * @return The raw response body as a string, or an empty string if the body is null.
-     * @throws IOException If an I/O error occurs while reading the response body.
-     */
-    public String getAsRawString(Response response) throws IOException {
+    private ResponseBodyAnalyzer.Result analyzeResponseBody(Response response) throws IOException {
+        ResponseBodyAnalyzer responseBodyAnalyzer = new ResponseBodyAnalyzer(apiArguments.getMaxResponseBodyBytes());
         if (response.body() != null) {
-            return response.body().string();
+            return responseBodyAnalyzer.analyze(response.body().charStream());
         }
 
-        return "";
+        return responseBodyAnalyzer.analyze(Reader.nullReader());
+    }
+
+    /**
+     * Large values can only be streamed inside JSON request bodies. Otherwise, they are materialized in the payload.
+     */
+    private static boolean isLargeValueStreamed(ServiceData data) {
+        return data.getLargeValue() != null && data.isJsonContentType() && HttpMethod.requiresBody(data.getHttpMethod());
+    }
+
+    private LargeValue getStreamedLargeValue(ServiceData data) {
+        return isLargeValueStreamed(data) ? data.getLargeValue() : null;
+    }
+
+    private String materializeLargeValueIfNotStreamed(String payload, ServiceData data) {
+        if (data.getLargeValue() == null || isLargeValueStreamed(data)) {
+            return payload;
+        }
+        return data.getLargeValue().materializeIn(payload);
     }
 
     private void recordServiceData(ServiceData serviceData) {
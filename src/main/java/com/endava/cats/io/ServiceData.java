@@ -2,6 +2,7 @@ package com.endava.cats.io;
 
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.CatsHeader;
+import com.endava.cats.util.LargeValue;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Singular;
@@ -47,6 +48,16 @@ public class ServiceData {
     private final Set<String> pathParams = new HashSet<>();
     @Builder.Default
     private final Set<String> queryParams = new HashSet<>();
+    /**
+     * Set to false if the response must always come from the service, even when {@code --deduplicateRequests} recorded
+     * the response of an identical request. Fuzzers checking the state of the service after previous requests need this.
+     */
+    @Builder.Default
+    private final boolean reuseResponses = true;
+    /**
+     * A large value referenced by its descriptor inside the payload. It gets streamed into the request body when possible.
+     */
+    private final LargeValue largeValue;
 
     /**
      * Checks if the content type of the response is JSON.
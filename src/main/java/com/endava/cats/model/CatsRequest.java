@@ -1,6 +1,7 @@
 package com.endava.cats.model;
 
 import com.endava.cats.util.KeyValuePair;
+import com.endava.cats.util.LargeValue;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -21,6 +22,10 @@ public class CatsRequest {
     String payload;
     String httpMethod;
     String url;
+    /**
+     * A large value sent in place of its descriptor inside the payload, or null if the payload is sent as it is.
+     */
+    LargeValue largeValue;
 
     @Builder.Default
     String timestamp = DateTimeFormatter.RFC_1123_DATE_TIME.format(OffsetDateTime.now());
@@ -4,11 +4,17 @@ import com.endava.cats.model.ann.Exclude;
 import com.endava.cats.util.KeyValuePair;
 import com.endava.cats.util.WordUtils;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.ProtocolException;
 import java.util.Arrays;
 import java.util.Collections;
@@ -19,7 +25,7 @@ import java.util.Optional;
 /**
  * Model class used to hold http response details.
  */
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class CatsResponse {
     private static final String UNKNOWN_MEDIA_TYPE = "unknown/unknown";
@@ -31,7 +37,7 @@ public class CatsResponse {
     private final long numberOfWordsInResponse;
     private final long numberOfLinesInResponse;
     private final long contentLengthInBytes;
-    private final JsonElement jsonBody;
+    private JsonElement jsonBody;
     private final List<KeyValuePair<String, String>> headers;
     private final String responseContentType;
 
@@ -41,6 +47,11 @@ public class CatsResponse {
     private final String body;
     @Exclude
     private final String fuzzedField;
+    /*when set, the jsonBody is parsed from the body only when needed*/
+    @Exclude
+    private final boolean lazyJsonBody;
+    @Exclude
+    private final boolean bodyTruncated;
 
     /**
      * Creates a CatsResponse instance with the specified parameters.
@@ -57,6 +68,36 @@ public class CatsResponse {
                 .headers(Collections.emptyList()).responseTimeInMs(ms).build();
     }
 
+    /**
+     * Returns the response body as a JSON element. When the response was built with {@code lazyJsonBody},
+     * the body is parsed on the first call. Bodies which are not valid JSON are wrapped in a {@code notAJson} element.
+     *
+     * @return the response body as a JSON element
+     */
+    public JsonElement getJsonBody() {
+        if (jsonBody == null && lazyJsonBody && body != null) {
+            jsonBody = parseBody(body);
+        }
+        return jsonBody;
+    }
+
+    /*parses the body only once; only objects and arrays are considered JSON, same as JsonUtils.isValidJson*/
+    private static JsonElement parseBody(String body) {
+        try {
+            JsonReader reader = new JsonReader(new StringReader(body));
+            reader.setStrictness(Strictness.STRICT);
+            JsonElement parsed = JsonParser.parseReader(reader);
+            if ((parsed.isJsonObject() || parsed.isJsonArray()) && reader.peek() == JsonToken.END_DOCUMENT) {
+                return parsed;
+            }
+        } catch (JsonParseException | IOException e) {
+            /*not a JSON body, it will be wrapped below*/
+        }
+        JsonObject notAJson = new JsonObject();
+        notAJson.addProperty("notAJson", body.substring(0, Math.min(500, body.length())));
+        return notAJson;
+    }
+
     /**
      * Returns an empty response with default values.
      *
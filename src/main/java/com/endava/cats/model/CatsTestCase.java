@@ -33,6 +33,7 @@ public class CatsTestCase {
     private static final String CURL_BODY = " -d '%s'";
 
     private static final String CATS_REPLAY = "cats replay %s";
+    private static final String TRUNCATED = "%n%n... %d more characters. Run cats view %s to render the full test case";
     private static final String SKIPPED = "skipped";
 
     /**
@@ -61,6 +62,12 @@ public class CatsTestCase {
     @Exclude
     private Gson maskingSerializer;
 
+    /**
+     * Maximum length of payloads, headers and responses rendered in the test case page, or 0 to render them in full.
+     */
+    @Exclude
+    private int maxRenderedLength;
+
     /**
      * Checks if the test result is not marked as skipped.
      *
@@ -119,7 +126,7 @@ public class CatsTestCase {
      * @return request headers in json format
      */
     public String getHeaders() {
-        return maskingSerializer.toJson(request.getHeaders());
+        return this.truncateIfNeeded(maskingSerializer.toJson(request.getHeaders()));
     }
 
     /**
@@ -131,9 +138,9 @@ public class CatsTestCase {
         if (JsonUtils.isValidJson(request.getPayload())) {
             JsonReader reader = new JsonReader(new StringReader(request.getPayload()));
             reader.setStrictness(Strictness.LENIENT);
-            return maskingSerializer.toJson(JsonParser.parseReader(reader));
+            return this.truncateIfNeeded(maskingSerializer.toJson(JsonParser.parseReader(reader)));
         }
-        return request.getPayload();
+        return this.truncateIfNeeded(request.getPayload());
     }
 
     /**
@@ -142,7 +149,7 @@ public class CatsTestCase {
      * @return The JSON representation of the response object with applied masking.
      */
     public String getResponseJson() {
-        return maskingSerializer.toJson(response);
+        return this.truncateIfNeeded(maskingSerializer.toJson(response));
     }
 
     /**
@@ -172,7 +179,14 @@ public class CatsTestCase {
             body = CURL_BODY.formatted(request.getPayload());
         }
 
-        return CURL_TEMPLATE.formatted(request.getHttpMethod(), headersString.toString(), body, fullRequestPath);
+        return this.truncateIfNeeded(CURL_TEMPLATE.formatted(request.getHttpMethod(), headersString.toString(), body, fullRequestPath));
+    }
+
+    private String truncateIfNeeded(String value) {
+        if (maxRenderedLength <= 0 || value == null || value.length() <= maxRenderedLength) {
+            return value;
+        }
+        return value.substring(0, maxRenderedLength) + TRUNCATED.formatted(value.length() - maxRenderedLength, testId.replace(" ", ""));
     }
 
     /**
@@ -1,18 +1,22 @@
 package com.endava.cats.model;
 
+import com.endava.cats.model.ann.Exclude;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a report summarizing the results of CATS tests.
  * This report includes information about the number of warnings, errors, and successful tests.
+ * Test cases are not serialized with the rest of the report, as they are streamed one by one.
  */
 @Getter
 @Builder
 public class CatsTestReport {
-    private final List<CatsTestCaseSummary> testCases;
+    @Exclude
+    private final Iterable<CatsTestCaseSummary> testCases;
     private final int totalTests;
     private final int success;
     private final int warnings;
@@ -20,4 +24,8 @@ public class CatsTestReport {
     private final long executionTime;
     private final String timestamp;
     private final String catsVersion;
+    private final Map<String, Long> testsByPath;
+    private final Map<String, Long> testsByFuzzer;
+    private final Map<String, Long> testsByResult;
+    private final List<TimeExecution> slowestTests;
 }
@@ -3,6 +3,9 @@ package com.endava.cats.model;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.util.CatsModelUtils;
 import com.endava.cats.util.JsonUtils;
+import com.endava.cats.util.PayloadTemplate;
+import com.endava.cats.util.Subsets;
+import com.jayway.jsonpath.Configuration;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -12,13 +15,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -51,12 +54,18 @@ public class FuzzingData {
     private final String reqSchemaName;
     /*these are cached after the first computation*/
     private Set<String> allFields;
-    private Set<Set<String>> allFieldsSetOfSets;
+    private Subsets<String> allFieldsSetOfSets;
     private List<String> allRequiredFields;
     private Set<CatsField> allFieldsAsCatsFields;
     private Set<String> allReadOnlyFields;
     private Set<String> allWriteOnlyFields;
     private String processedPayload;
+    @ToString.Exclude
+    private Object parsedPayload;
+    @ToString.Exclude
+    private Map<String, Optional<PayloadTemplate>> payloadTemplates;
+    @ToString.Exclude
+    private Map<String, List<ResponseSchemaMatcher>> responseSchemaMatchers;
     private Set<String> targetFields;
     private int selfReferenceDepth;
     private String pathParamsPayload;
@@ -112,6 +121,53 @@ public class FuzzingData {
         return processedPayload;
     }
 
+    /**
+     * Gets the processed payload parsed as a JSON tree. The payload is parsed only once.
+     * The returned tree is shared and must not be modified. Use {@link JsonUtils#copyOnWrite(Object, String)} to get
+     * a modifiable copy.
+     *
+     * @return the parsed payload or null if the payload is blank
+     */
+    public Object getParsedPayload() {
+        if (parsedPayload == null) {
+            parsedPayload = JsonUtils.parsePayload(this.getPayload());
+        }
+
+        return parsedPayload;
+    }
+
+    /**
+     * Gets the documented responses compiled as matchers, keyed by response code or response range, same as {@link #getResponses()}.
+     * The matchers are compiled only once.
+     *
+     * @return the response schema matchers for each documented response code
+     */
+    public Map<String, List<ResponseSchemaMatcher>> getResponseSchemaMatchers() {
+        if (responseSchemaMatchers == null) {
+            responseSchemaMatchers = Optional.ofNullable(this.getResponses()).orElse(Collections.emptyMap()).entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, entry -> Optional.ofNullable(entry.getValue()).orElse(Collections.emptyList())
+                            .stream().map(ResponseSchemaMatcher::compile).toList()));
+        }
+
+        return responseSchemaMatchers;
+    }
+
+    /**
+     * Gets the template of the processed payload for the given field. Templates are compiled only once per field.
+     *
+     * @param field         the field to be replaced
+     * @param configuration the JsonPath configuration used to serialize the payload
+     * @return the payload template or empty if the field value cannot be replaced using a template
+     */
+    public Optional<PayloadTemplate> getPayloadTemplate(String field, Configuration configuration) {
+        if (payloadTemplates == null) {
+            payloadTemplates = new ConcurrentHashMap<>();
+        }
+
+        return payloadTemplates.computeIfAbsent(configuration.jsonProvider().getClass().getName() + ":" + field,
+                key -> PayloadTemplate.compile(this.getPayload(), field, configuration));
+    }
+
     private String removeReadWrite() {
         if (HttpMethod.requiresBody(method)) {
             return this.removeReadOnlyFields(this.getAllReadOnlyFields());
@@ -268,22 +324,20 @@ public class FuzzingData {
     }
 
     /**
-     * Gets a set of sets of field names based on the specified set fuzzing strategy and maximum fields to remove.
+     * Gets the non-empty sets of field names based on the specified set fuzzing strategy and maximum fields to remove.
+     * The sets are generated lazily, while iterating.
      *
      * @param setFuzzingStrategy The set fuzzing strategy to determine how sets of fields are generated.
      * @param maxFieldsToRemove  The maximum number of fields to remove when using the specified strategy.
-     * @return A set of sets of field names generated using the specified set fuzzing strategy.
+     * @return The sets of field names generated using the specified set fuzzing strategy.
      */
-    public Set<Set<String>> getAllFields(SetFuzzingStrategy setFuzzingStrategy, int maxFieldsToRemove) {
+    public Subsets<String> getAllFields(SetFuzzingStrategy setFuzzingStrategy, int maxFieldsToRemove) {
         if (allFieldsSetOfSets == null) {
-
-            Set<Set<String>> sets = switch (setFuzzingStrategy) {
-                case POWERSET -> SetFuzzingStrategy.powerSet(this.getAllFields());
+            allFieldsSetOfSets = switch (setFuzzingStrategy) {
+                case POWERSET -> Subsets.upToSize(this.getAllFields(), this.getAllFields().size());
                 case SIZE -> SetFuzzingStrategy.getAllSetsWithMinSize(this.getAllFields(), maxFieldsToRemove);
                 default -> SetFuzzingStrategy.removeOneByOne(this.getAllFields());
             };
-            sets.remove(Collections.emptySet());
-            allFieldsSetOfSets = sets;
         }
         return allFieldsSetOfSets;
     }
@@ -323,70 +377,21 @@ public class FuzzingData {
          *
          * @param originalSet initial set
          * @param <T>         type of data within the set
-         * @return a set of sets with all possible combinations
-         */
-        public static <T> Set<Set<T>> powerSet(Set<T> originalSet) {
-            Set<Set<T>> sets = new HashSet<>();
-            if (originalSet.isEmpty()) {
-                sets.add(new HashSet<>());
-                return sets;
-            }
-            List<T> list = new ArrayList<>(originalSet);
-            T head = list.getFirst();
-            Set<T> rest = new HashSet<>(list.subList(1, list.size()));
-            for (Set<T> set : powerSet(rest)) {
-                Set<T> newSet = new HashSet<>();
-                newSet.add(head);
-                newSet.addAll(set);
-                sets.add(newSet);
-                sets.add(set);
-            }
-            return sets;
-        }
-
-
-        /**
-         * Returns all possible subsets of size K of the given list
-         *
-         * @param elements list of elements to accumulate
-         * @param k        size
-         * @return a set of sets
+         * @return all possible combinations, generated lazily
          */
-        private static Set<Set<String>> getAllSubsetsOfSize(List<String> elements, int k) {
-            List<List<String>> result = new ArrayList<>();
-            backtrack(elements, k, 0, result, new ArrayList<>());
-            return result.stream().map(HashSet::new).collect(Collectors.toSet());
+        public static <T> Subsets<T> powerSet(Set<T> originalSet) {
+            return Subsets.powerSet(originalSet);
         }
 
-        private static void backtrack(List<String> elements, int k, int startIndex, List<List<String>> result,
-                                      List<String> partialList) {
-            if (k == partialList.size()) {
-                result.add(new ArrayList<>(partialList));
-                return;
-            }
-            for (int i = startIndex; i < elements.size(); i++) {
-                partialList.add(elements.get(i));
-                backtrack(elements, k, i + 1, result, partialList);
-                partialList.removeLast();
-            }
-        }
-
-
         /**
-         * Returns a Set of sets with possibilities of removing one field at a time form the original set.
+         * Returns the possibilities of removing one field at a time form the original set.
          *
          * @param elements a given Set
          * @param <T>      the type of the elements
-         * @return a Set of incremental Sets obtained by removing one element at a time from the original Set
+         * @return single element Sets, one for each element of the original Set
          */
-        public static <T> Set<Set<T>> removeOneByOne(Set<T> elements) {
-            Set<Set<T>> result = new HashSet<>();
-            for (T t : elements) {
-                Set<T> subset = new HashSet<>();
-                subset.add(t);
-                result.add(subset);
-            }
-            return result;
+        public static <T> Subsets<T> removeOneByOne(Set<T> elements) {
+            return Subsets.singletons(elements);
         }
 
         /**
@@ -394,10 +399,9 @@ public class FuzzingData {
          *
          * @param allFields         all fields from the request, including fully qualified fields
          * @param maxFieldsToRemove number of max fields to remove
-         * @return a Set of Sets with all fields combinations
+         * @return all fields combinations, generated lazily
          */
-        public static Set<Set<String>> getAllSetsWithMinSize(Set<String> allFields, int maxFieldsToRemove) {
-            Set<Set<String>> sets = new HashSet<>();
+        public static Subsets<String> getAllSetsWithMinSize(Set<String> allFields, int maxFieldsToRemove) {
             if (maxFieldsToRemove == 0) {
                 LOGGER.note("fieldsSubsetMinSize is ZERO, the value will be changed to {}", allFields.size() / 2);
                 maxFieldsToRemove = allFields.size() / 2;
@@ -405,10 +409,7 @@ public class FuzzingData {
                 LOGGER.note("fieldsSubsetMinSize is bigger than the number of fields, the value will be changed to {}", allFields.size());
                 maxFieldsToRemove = allFields.size();
             }
-            for (int i = maxFieldsToRemove; i >= 1; i--) {
-                sets.addAll(getAllSubsetsOfSize(new ArrayList<>(allFields), i));
-            }
-            return sets;
+            return Subsets.upToSize(allFields, maxFieldsToRemove);
         }
     }
 
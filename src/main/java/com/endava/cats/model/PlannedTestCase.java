@@ -0,0 +1,11 @@
+package com.endava.cats.model;
+
+/**
+ * A test case planned by a fuzzer, but not executed yet.
+ *
+ * @param target the element being fuzzed, for example a field or a header name
+ * @param value  the value used to fuzz the target
+ * @param <T>    the type of the fuzzing value
+ */
+public record PlannedTestCase<T>(String target, T value) {
+}
@@ -0,0 +1,92 @@
+package com.endava.cats.model;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A documented response schema, prepared once for matching actual responses.
+ * <p>
+ * A response matches the schema if all its leaf element names are part of the schema.
+ * </p>
+ */
+public class ResponseSchemaMatcher {
+    private static final String ROOT = "ROOT";
+
+    private final String lowerCaseSchema;
+    private final boolean arraySchema;
+
+    private ResponseSchemaMatcher(String lowerCaseSchema, boolean arraySchema) {
+        this.lowerCaseSchema = lowerCaseSchema;
+        this.arraySchema = arraySchema;
+    }
+
+    /**
+     * Creates a matcher for the given documented response schema.
+     *
+     * @param responseSchema the documented response schema, as generated by CATS
+     * @return a matcher for the given schema
+     */
+    public static ResponseSchemaMatcher compile(String responseSchema) {
+        if (responseSchema == null || responseSchema.isEmpty()) {
+            return new ResponseSchemaMatcher("", false);
+        }
+        return new ResponseSchemaMatcher(responseSchema.toLowerCase(Locale.ROOT), isArray(responseSchema));
+    }
+
+    private static boolean isArray(String responseSchema) {
+        try {
+            return JsonParser.parseString(responseSchema).isJsonArray();
+        } catch (JsonParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the given response matches the schema. For arrays, only the first element is checked.
+     *
+     * @param element                   the response body
+     * @param additionalPropertiesNames the names of the elements which can have any properties
+     * @return true if the response matches the schema, false otherwise
+     */
+    public boolean matches(JsonElement element, Set<String> additionalPropertiesNames) {
+        if (element.isJsonArray()) {
+            return this.matchesArrayElement((JsonArray) element, additionalPropertiesNames);
+        }
+
+        return this.matchesSingleElement(element, ROOT, additionalPropertiesNames);
+    }
+
+    private boolean matchesArrayElement(JsonArray jsonArray, Set<String> additionalPropertiesNames) {
+        if (jsonArray.isEmpty()) {
+            return arraySchema;
+        }
+
+        return this.matchesSingleElement(jsonArray.get(0), ROOT, additionalPropertiesNames);
+    }
+
+    private boolean matchesSingleElement(JsonElement element, String name, Set<String> additionalPropertiesNames) {
+        if (element.isJsonObject() && additionalPropertiesNames.contains(name)) {
+            return true;
+        }
+        if (lowerCaseSchema.isEmpty()) {
+            return true;
+        }
+        if (!element.isJsonObject()) {
+            return lowerCaseSchema.contains(name.toLowerCase(Locale.ROOT));
+        }
+
+        for (Map.Entry<String, JsonElement> inner : element.getAsJsonObject().entrySet()) {
+            if (!this.matchesSingleElement(inner.getValue(), inner.getKey(), additionalPropertiesNames)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
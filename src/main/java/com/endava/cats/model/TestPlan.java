@@ -0,0 +1,92 @@
+package com.endava.cats.model;
+
+import com.google.gson.JsonObject;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The test cases a fuzzer plans to run for a given {@link FuzzingData}.
+ * <p>
+ * Test cases are created lazily, each time the plan is streamed, which allows inspecting the plan (counting or
+ * exporting it) without keeping all the test cases in memory and without calling the service.
+ * </p>
+ *
+ * @param <T> the type of the fuzzing values
+ */
+public class TestPlan<T> {
+    @Getter
+    private final String fuzzer;
+    @Getter
+    private final FuzzingData fuzzingData;
+    private final Supplier<Stream<PlannedTestCase<T>>> testCases;
+
+    /**
+     * Creates a new test plan.
+     *
+     * @param fuzzer      the name of the fuzzer creating the plan
+     * @param fuzzingData the fuzzing data the plan is created for
+     * @param testCases   supplier creating a new stream of the planned test cases
+     */
+    public TestPlan(String fuzzer, FuzzingData fuzzingData, Supplier<Stream<PlannedTestCase<T>>> testCases) {
+        this.fuzzer = fuzzer;
+        this.fuzzingData = fuzzingData;
+        this.testCases = testCases;
+    }
+
+    /**
+     * Returns a new lazy stream of the planned test cases.
+     *
+     * @return the planned test cases
+     */
+    public Stream<PlannedTestCase<T>> stream() {
+        return testCases.get();
+    }
+
+    /**
+     * Counts the planned test cases without executing them.
+     *
+     * @return the number of planned test cases
+     */
+    public long count() {
+        return this.stream().count();
+    }
+
+    /**
+     * Checks if the plan has no test cases. At most the first test case is created.
+     *
+     * @return true if there are no planned test cases, false otherwise
+     */
+    public boolean isEmpty() {
+        return this.stream().findAny().isEmpty();
+    }
+
+    /**
+     * Writes the planned test cases as JSON Lines, one test case per line.
+     *
+     * @param writer the writer
+     * @return the number of written test cases
+     * @throws IOException if something goes wrong while writing
+     */
+    public long writeJsonLines(Writer writer) throws IOException {
+        long written = 0;
+        Iterator<PlannedTestCase<T>> iterator = this.stream().iterator();
+        while (iterator.hasNext()) {
+            PlannedTestCase<T> testCase = iterator.next();
+            JsonObject line = new JsonObject();
+            line.addProperty("fuzzer", fuzzer);
+            line.addProperty("path", fuzzingData.getPath());
+            line.addProperty("httpMethod", String.valueOf(fuzzingData.getMethod()));
+            line.addProperty("target", testCase.target());
+            line.addProperty("value", String.valueOf(testCase.value()));
+            writer.write(line.toString());
+            writer.write("\n");
+            written++;
+        }
+        return written;
+    }
+}
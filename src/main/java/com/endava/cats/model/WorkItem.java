@@ -0,0 +1,13 @@
+package com.endava.cats.model;
+
+/**
+ * A unit of work distributed to CATS workers: running a single fuzzer against a single HTTP method of a contract path.
+ *
+ * @param id         the unique id of the work item within a queue
+ * @param path       the contract path
+ * @param httpMethod the HTTP method
+ * @param fuzzer     the name of the fuzzer
+ * @param resource   the resource the path belongs to; items of the same resource are processed by the same worker
+ */
+public record WorkItem(String id, String path, String httpMethod, String fuzzer, String resource) {
+}
@@ -0,0 +1,215 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCase;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writes finished test cases in the background, so that fuzzing threads don't wait for the report files to be rendered and written.
+ * <p>
+ * Test cases are kept in a bounded queue. When the queue is full, {@link #submit(CatsTestCase, Runnable)} blocks until the writer catches up.
+ * The writer thread takes all the test cases available in the queue, up to a batch size, and hands them to the exporter in a single call.
+ * Callbacks submitted along with the test cases run, in submission order, once the batch is written.
+ * All submitted test cases are written by {@link #close()} or, if the JVM exits before, by a shutdown hook.
+ * Test cases submitted while closing, or when the queue size is 0, are written on the calling thread.
+ * </p>
+ */
+class AsyncTestCaseWriter implements AutoCloseable {
+    static final int BATCH_SIZE = 64;
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(AsyncTestCaseWriter.class);
+    private final TestCaseExporter exporter;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Object lock = new Object();
+    private long pending;
+    private boolean closing;
+    private Thread writerThread;
+    private Thread shutdownHook;
+
+    /**
+     * Creates a new writer delegating to the given exporter.
+     *
+     * @param exporter  writes the test cases in the report
+     * @param queueSize the maximum number of test cases waiting to be written; 0 or less to write them synchronously
+     */
+    AsyncTestCaseWriter(TestCaseExporter exporter, int queueSize) {
+        this.exporter = exporter;
+        this.queue = queueSize > 0 ? new ArrayBlockingQueue<>(queueSize) : null;
+    }
+
+    /**
+     * Submits the test case for writing. Blocks while the queue is full.
+     *
+     * @param testCase the test case to write
+     */
+    void submit(CatsTestCase testCase) {
+        this.submit(testCase, null);
+    }
+
+    /**
+     * Submits the test case for writing. Blocks while the queue is full.
+     *
+     * @param testCase     the test case to write
+     * @param afterWritten runs once the test case is written, or null if there is nothing to run
+     */
+    void submit(CatsTestCase testCase, Runnable afterWritten) {
+        this.enqueue(new PendingWrite(testCase, afterWritten));
+    }
+
+    /**
+     * Runs the given callback once all the test cases submitted so far are written, without waiting for them.
+     *
+     * @param afterWritten runs once the test cases submitted so far are written
+     */
+    void afterWritten(Runnable afterWritten) {
+        this.enqueue(new PendingWrite(null, afterWritten));
+    }
+
+    private void enqueue(PendingWrite pendingWrite) {
+        if (queue == null) {
+            this.writeNow(pendingWrite);
+            return;
+        }
+        boolean queued;
+        synchronized (lock) {
+            /*once closing starts, the writer thread only drains what was already counted as pending*/
+            queued = !closing;
+            if (queued) {
+                this.startWriterIfNeeded();
+                pending++;
+            }
+        }
+        if (!queued) {
+            this.writeNow(pendingWrite);
+            return;
+        }
+        try {
+            queue.put(pendingWrite);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.written(1);
+            this.writeNow(pendingWrite);
+        }
+    }
+
+    /**
+     * Waits until all the test cases submitted so far are written.
+     */
+    void flush() {
+        synchronized (lock) {
+            try {
+                while (pending > 0 && writerThread != null && writerThread.isAlive()) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Writes all the test cases submitted so far and stops the writer thread.
+     * A new writer thread is started if test cases are submitted afterward.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closing = true;
+        }
+        try {
+            this.flush();
+        } finally {
+            synchronized (lock) {
+                if (writerThread != null) {
+                    writerThread.interrupt();
+                    writerThread = null;
+                    this.removeShutdownHook();
+                }
+                closing = false;
+            }
+        }
+    }
+
+    private void startWriterIfNeeded() {
+        if (writerThread == null) {
+            writerThread = Thread.ofPlatform().daemon().name("cats-report-writer").start(this::writeQueued);
+            shutdownHook = new Thread(this::flush, "cats-report-writer-flush");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+    }
+
+    private void removeShutdownHook() {
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            logger.debug("JVM is shutting down, report writer shutdown hook already running");
+        }
+        shutdownHook = null;
+    }
+
+    private void writeQueued() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<PendingWrite> batch = new ArrayList<>(BATCH_SIZE);
+                batch.add(queue.take());
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                this.writeBatch(batch);
+                this.written(batch.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeNow(PendingWrite pendingWrite) {
+        if (pendingWrite.testCase() != null) {
+            exporter.writeTestCase(pendingWrite.testCase());
+        }
+        this.runAfterWritten(pendingWrite.afterWritten());
+    }
+
+    private void writeBatch(List<PendingWrite> batch) {
+        List<CatsTestCase> testCases = batch.stream().map(PendingWrite::testCase).filter(Objects::nonNull).toList();
+        try {
+            if (!testCases.isEmpty()) {
+                exporter.writeTestCases(testCases);
+            }
+        } catch (RuntimeException e) {
+            logger.error("There was a problem writing test cases {} to {}: {}", testCases.getFirst().getTestId(), testCases.getLast().getTestId(), e.getMessage());
+            logger.debug("Stacktrace", e);
+        }
+        for (PendingWrite pendingWrite : batch) {
+            this.runAfterWritten(pendingWrite.afterWritten());
+        }
+    }
+
+    private void runAfterWritten(Runnable afterWritten) {
+        if (afterWritten == null) {
+            return;
+        }
+        try {
+            afterWritten.run();
+        } catch (RuntimeException e) {
+            logger.debug("Callback after writing test cases failed: {}", e.getMessage());
+        }
+    }
+
+    private void written(int count) {
+        synchronized (lock) {
+            pending -= count;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * A test case waiting to be written, along with the callback to run once written. The test case is null for callbacks
+     * which only wait for the test cases submitted before them.
+     */
+    private record PendingWrite(CatsTestCase testCase, Runnable afterWritten) {
+    }
+}
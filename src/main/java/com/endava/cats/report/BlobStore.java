@@ -0,0 +1,173 @@
+package com.endava.cats.report;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content-addressed store for the large parts of test cases, kept in the {@code blobs} folder of the report.
+ * <p>
+ * Request payloads, response bodies and header sets whose JSON is longer than the threshold are gzipped and stored
+ * in a file named after the SHA-256 digest of their JSON. Test case files reference them as {@code {"$blob": "digest"}},
+ * so that identical bodies repeated across test cases are stored only once.
+ * </p>
+ */
+public class BlobStore {
+    static final String BLOBS_FOLDER = "blobs";
+    static final String BLOB_KEY = "$blob";
+    private static final String BLOB_EXTENSION = ".json.gz";
+    private static final List<String[]> BLOB_FIELDS = List.of(
+            new String[]{"request", "payload"}, new String[]{"request", "headers"},
+            new String[]{"response", "jsonBody"}, new String[]{"response", "headers"});
+
+    private final Path folder;
+    private final int threshold;
+    private final Set<String> storedDigests = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates a store for the given report folder.
+     *
+     * @param reportFolder the report folder
+     * @param threshold    the length above which test case parts are stored as blobs; 0 disables the store
+     */
+    public BlobStore(Path reportFolder, int threshold) {
+        this.folder = reportFolder.resolve(BLOBS_FOLDER);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Checks if test case parts are stored as blobs.
+     *
+     * @return true if a threshold was configured, false otherwise
+     */
+    public boolean isEnabled() {
+        return threshold > 0;
+    }
+
+    /**
+     * Deletes the blobs of a previous report.
+     *
+     * @throws IOException if the blobs cannot be deleted
+     */
+    public void clear() throws IOException {
+        storedDigests.clear();
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Replaces the payload, the response body and the headers of the given serialized test case with references
+     * to blobs, when they exceed the threshold.
+     *
+     * @param testCase the test case serialized as a JSON tree
+     * @return the same JSON tree, referencing the stored blobs
+     * @throws IOException if a blob cannot be written
+     */
+    public JsonObject externalize(JsonObject testCase) throws IOException {
+        for (String[] field : BLOB_FIELDS) {
+            JsonElement parent = testCase.get(field[0]);
+            if (parent == null || !parent.isJsonObject() || !parent.getAsJsonObject().has(field[1])) {
+                continue;
+            }
+            String json = parent.getAsJsonObject().get(field[1]).toString();
+            if (json.length() > threshold) {
+                JsonObject reference = new JsonObject();
+                reference.addProperty(BLOB_KEY, this.put(json));
+                parent.getAsJsonObject().add(field[1], reference);
+            }
+        }
+        return testCase;
+    }
+
+    private String put(String json) throws IOException {
+        byte[] content = json.getBytes(StandardCharsets.UTF_8);
+        String digest = digest(content);
+        if (storedDigests.add(digest)) {
+            try {
+                this.write(digest, content);
+            } catch (IOException e) {
+                storedDigests.remove(digest);
+                throw e;
+            }
+        }
+        return digest;
+    }
+
+    private void write(String digest, byte[] content) throws IOException {
+        Path blob = folder.resolve(digest + BLOB_EXTENSION);
+        if (Files.exists(blob)) {
+            return;
+        }
+        Files.createDirectories(folder);
+        /*blobs are written under a temporary name first, so that a blob file is never seen partially written*/
+        Path temporaryBlob = Files.createTempFile(folder, digest, ".tmp");
+        try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(temporaryBlob))) {
+            outputStream.write(content);
+        }
+        Files.move(temporaryBlob, blob, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Replaces the blob references of the given serialized test case with the content of the blobs stored in the given report folder.
+     *
+     * @param reportFolder the report folder holding the test case
+     * @param testCaseJson the test case, as written in the report
+     * @return the test case JSON, with all blobs inlined
+     * @throws IOException if a referenced blob cannot be read
+     */
+    public static String inline(Path reportFolder, String testCaseJson) throws IOException {
+        if (!testCaseJson.contains(BLOB_KEY)) {
+            return testCaseJson;
+        }
+        JsonObject testCase = JsonParser.parseString(testCaseJson).getAsJsonObject();
+        for (String[] field : BLOB_FIELDS) {
+            JsonElement parent = testCase.get(field[0]);
+            if (parent == null || !parent.isJsonObject()) {
+                continue;
+            }
+            JsonElement value = parent.getAsJsonObject().get(field[1]);
+            if (value != null && value.isJsonObject() && value.getAsJsonObject().size() == 1 && value.getAsJsonObject().has(BLOB_KEY)) {
+                parent.getAsJsonObject().add(field[1], JsonParser.parseString(read(reportFolder, value.getAsJsonObject().get(BLOB_KEY).getAsString())));
+            }
+        }
+        return testCase.toString();
+    }
+
+    private static String read(Path reportFolder, String digest) throws IOException {
+        Path blob = reportFolder.resolve(BLOBS_FOLDER).resolve(digest + BLOB_EXTENSION);
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(blob))) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -2,11 +2,11 @@ package com.endava.cats.report;
 
 import com.endava.cats.annotations.DryRun;
 import jakarta.enterprise.context.ApplicationScoped;
-import lombok.Getter;
 import org.fusesource.jansi.Ansi;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Listener for tracking execution statistics of CATS tests, including errors, warnings, successes, and skipped tests.
@@ -18,55 +18,64 @@ public class ExecutionStatisticsListener {
     /**
      * Map to track the count of errors per path.
      */
-    private final Map<String, Integer> errors = new HashMap<>();
+    private final Map<String, Integer> errors = new ConcurrentHashMap<>();
 
     /**
      * Map to track the count of warnings per path.
      */
-    private final Map<String, Integer> warns = new HashMap<>();
+    private final Map<String, Integer> warns = new ConcurrentHashMap<>();
 
     /**
      * Map to track the count of successful executions per path.
      */
-    private final Map<String, Integer> success = new HashMap<>();
+    private final Map<String, Integer> success = new ConcurrentHashMap<>();
 
     /**
      * Count of skipped tests.
      */
-    @Getter
-    private int skipped;
+    private final AtomicInteger skipped = new AtomicInteger();
 
     /**
      * Count of authentication errors.
      */
-    @Getter
-    private int authErrors;
+    private final AtomicInteger authErrors = new AtomicInteger();
 
     /**
      * Count of I/O errors.
      */
-    @Getter
-    private int ioErrors;
+    private final AtomicInteger ioErrors = new AtomicInteger();
+
+    /**
+     * Count of requests not sent as an identical request was already sent.
+     */
+    private final AtomicInteger deduplicatedRequests = new AtomicInteger();
 
     /**
      * Increases the count of authentication errors.
      */
     public void increaseAuthErrors() {
-        this.authErrors++;
+        this.authErrors.incrementAndGet();
     }
 
     /**
      * Increases the count of I/O errors.
      */
     public void increaseIoErrors() {
-        this.ioErrors++;
+        this.ioErrors.incrementAndGet();
+    }
+
+    /**
+     * Increases the count of requests not sent as an identical request was already sent.
+     */
+    public void increaseDeduplicatedRequests() {
+        this.deduplicatedRequests.incrementAndGet();
     }
 
     /**
      * Increases the count of skipped tests.
      */
     public void increaseSkipped() {
-        this.skipped++;
+        this.skipped.incrementAndGet();
     }
 
     /**
@@ -75,7 +84,7 @@ public class ExecutionStatisticsListener {
      * @param path The path for which errors are increased.
      */
     public void increaseErrors(String path) {
-        this.errors.merge(path, 1, Integer::sum);
+        this.errors.merge(String.valueOf(path), 1, Integer::sum);
     }
 
     /**
@@ -84,7 +93,7 @@ public class ExecutionStatisticsListener {
      * @param path The path for which warnings are increased.
      */
     public void increaseWarns(String path) {
-        this.warns.merge(path, 1, Integer::sum);
+        this.warns.merge(String.valueOf(path), 1, Integer::sum);
     }
 
     /**
@@ -93,7 +102,43 @@ public class ExecutionStatisticsListener {
      * @param path The path for which successful executions are increased.
      */
     public void increaseSuccess(String path) {
-        this.success.merge(path, 1, Integer::sum);
+        this.success.merge(String.valueOf(path), 1, Integer::sum);
+    }
+
+    /**
+     * Gets the count of skipped tests.
+     *
+     * @return The count of skipped tests.
+     */
+    public int getSkipped() {
+        return this.skipped.get();
+    }
+
+    /**
+     * Gets the count of authentication errors.
+     *
+     * @return The count of authentication errors.
+     */
+    public int getAuthErrors() {
+        return this.authErrors.get();
+    }
+
+    /**
+     * Gets the count of I/O errors.
+     *
+     * @return The count of I/O errors.
+     */
+    public int getIoErrors() {
+        return this.ioErrors.get();
+    }
+
+    /**
+     * Gets the count of requests not sent as an identical request was already sent.
+     *
+     * @return The count of deduplicated requests.
+     */
+    public int getDeduplicatedRequests() {
+        return this.deduplicatedRequests.get();
     }
 
     /**
@@ -138,7 +183,7 @@ public class ExecutionStatisticsListener {
      * @return {@code true} if there are many authentication errors, {@code false} otherwise.
      */
     public boolean areManyAuthErrors() {
-        return authErrors > this.getAll() / 2;
+        return authErrors.get() > this.getAll() / 2;
     }
 
     /**
@@ -147,7 +192,7 @@ public class ExecutionStatisticsListener {
      * @return {@code true} if there are many I/O errors, {@code false} otherwise.
      */
     public boolean areManyIoErrors() {
-        return ioErrors > this.getAll() / 2;
+        return ioErrors.get() > this.getAll() / 2;
     }
 
     /**
@@ -157,9 +202,9 @@ public class ExecutionStatisticsListener {
      * @return A formatted string representation of the execution results.
      */
     public String resultAsStringPerPath(String path) {
-        String errorsString = Ansi.ansi().fg(Ansi.Color.RED).a("E " + errors.getOrDefault(path, 0)).reset().toString();
-        String warnsString = Ansi.ansi().fg(Ansi.Color.YELLOW).a("W " + warns.getOrDefault(path, 0)).reset().toString();
-        String successString = Ansi.ansi().fg(Ansi.Color.GREEN).a("S " + success.getOrDefault(path, 0)).reset().toString();
+        String errorsString = Ansi.ansi().fg(Ansi.Color.RED).a("E " + errors.getOrDefault(String.valueOf(path), 0)).reset().toString();
+        String warnsString = Ansi.ansi().fg(Ansi.Color.YELLOW).a("W " + warns.getOrDefault(String.valueOf(path), 0)).reset().toString();
+        String successString = Ansi.ansi().fg(Ansi.Color.GREEN).a("S " + success.getOrDefault(String.valueOf(path), 0)).reset().toString();
         return "%s, %s, %s".formatted(errorsString, warnsString, successString);
     }
 }
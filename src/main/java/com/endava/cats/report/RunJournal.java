@@ -0,0 +1,184 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCaseExecutionSummary;
+import com.endava.cats.model.CatsTestCaseSummary;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only journal of a CATS run, stored in the report folder.
+ * <p>
+ * Each line records either a finished test case, together with its summary, or a completed fuzzer run
+ * for a given path and HTTP method. The journal is flushed after each line, so that an interrupted run can be
+ * resumed from the last completed fuzzer run.
+ * </p>
+ */
+public class RunJournal {
+    static final String JOURNAL_FILE = "cats-journal.jsonl";
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(RunJournal.class);
+    private final Set<String> resumedRuns = ConcurrentHashMap.newKeySet();
+    private BufferedWriter writer;
+
+    /**
+     * Builds the key identifying a fuzzer run for a given fuzzing data. A path and HTTP method can have several fuzzing data,
+     * one for each request content type and payload combination, so these are part of the key too. Payloads are generated
+     * from random values, so fuzzing data are identified by their position within the path rather than by their payload,
+     * so that the key stays the same when resuming the run in a new process.
+     *
+     * @param fuzzer      the name of the fuzzer
+     * @param httpMethod  the HTTP method
+     * @param path        the contract path
+     * @param contentType the request content type or null if not known
+     * @param dataIndex   the index of the fuzzing data within the fuzzing data of the path or -1 if not known
+     * @return a key identifying the fuzzer run
+     */
+    public static String runKey(String fuzzer, String httpMethod, String path, String contentType, int dataIndex) {
+        return String.join(" ", fuzzer, httpMethod, path, String.valueOf(contentType), String.valueOf(dataIndex));
+    }
+
+    /**
+     * Reads the entries of a journal previously written in the given folder.
+     * Test cases belonging to fuzzer runs which did not complete are not returned, as these runs will be executed again.
+     *
+     * @param folder the report folder
+     * @return the test cases recorded for completed fuzzer runs
+     * @throws IOException if the journal cannot be read
+     */
+    public synchronized List<Entry> load(Path folder) throws IOException {
+        Path journalFile = folder.resolve(JOURNAL_FILE);
+        if (!Files.exists(journalFile)) {
+            return List.of();
+        }
+        List<Entry> testCaseEntries = new ArrayList<>();
+        resumedRuns.clear();
+        try (var lines = Files.lines(journalFile, StandardCharsets.UTF_8)) {
+            lines.map(this::parseEntry).filter(Objects::nonNull).forEach(entry -> {
+                if (entry.result() == null) {
+                    resumedRuns.add(entry.run());
+                } else {
+                    testCaseEntries.add(entry);
+                }
+            });
+        }
+        return testCaseEntries.stream().filter(entry -> resumedRuns.contains(entry.run())).toList();
+    }
+
+    private Entry parseEntry(String line) {
+        try {
+            return GSON.fromJson(line, Entry.class);
+        } catch (JsonParseException e) {
+            /*the last line might be partially written if the run was killed*/
+            logger.debug("Ignoring invalid journal line: {}", line);
+            return null;
+        }
+    }
+
+    /**
+     * Opens the journal in the given folder for appending new entries.
+     *
+     * @param folder the report folder
+     * @throws IOException if the journal cannot be opened
+     */
+    public synchronized void open(Path folder) throws IOException {
+        this.close();
+        writer = Files.newBufferedWriter(folder.resolve(JOURNAL_FILE), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Records a finished test case.
+     *
+     * @param run              the key of the fuzzer run which created the test case
+     * @param result           the result of the test case
+     * @param path             the contract path of the test case
+     * @param summary          the test case summary or null if the test case is skipped
+     * @param executionSummary the execution details of the test case or null if not kept
+     */
+    public void recordTestCase(String run, String result, String path, CatsTestCaseSummary summary, CatsTestCaseExecutionSummary executionSummary) {
+        this.append(new Entry(run, String.valueOf(result), path, summary, executionSummary));
+    }
+
+    /**
+     * Records a completed fuzzer run.
+     *
+     * @param run the key of the fuzzer run
+     */
+    public void recordCompletedRun(String run) {
+        this.append(new Entry(run, null, null, null, null));
+    }
+
+    /**
+     * Checks if the given fuzzer run completed in a previous, resumed, run.
+     *
+     * @param run the key of the fuzzer run
+     * @return true if the fuzzer run completed, false otherwise
+     */
+    public boolean isCompleted(String run) {
+        return resumedRuns.contains(run);
+    }
+
+    /**
+     * Checks if the journal is open for appending new entries.
+     *
+     * @return true if the journal was opened and not closed yet, false otherwise
+     */
+    public synchronized boolean isOpen() {
+        return writer != null;
+    }
+
+    private synchronized void append(Entry entry) {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(GSON.toJson(entry));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            logger.warning("Unable to write run journal entry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Closes the journal.
+     */
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.debug("Unable to close run journal: {}", e.getMessage());
+        }
+        writer = null;
+    }
+
+    /**
+     * A journal line.
+     *
+     * @param run              the key of the fuzzer run
+     * @param result           the test case result or null when the line records a completed fuzzer run
+     * @param path             the contract path of the test case
+     * @param summary          the test case summary or null if the test case is skipped
+     * @param executionSummary the test case execution details or null if not kept
+     */
+    public record Entry(String run, String result, String path, CatsTestCaseSummary summary, CatsTestCaseExecutionSummary executionSummary) {
+    }
+}
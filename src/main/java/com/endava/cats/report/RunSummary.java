@@ -0,0 +1,308 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCaseExecutionSummary;
+import com.endava.cats.model.CatsTestCaseSummary;
+import com.endava.cats.model.TimeExecution;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.github.ludovicianul.prettylogger.PrettyLogger;
+import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Accumulates the test case summaries and execution times of a run, keeping memory bounded regardless of the number of tests.
+ * <p>
+ * Only aggregates are kept in memory: number of tests per path, fuzzer and result, errors per reason and the slowest tests.
+ * Summaries and execution times are buffered and, once a buffer is full, it's sorted and spilled to a temporary file.
+ * When the final reports are written, the spilled files are merged with the buffered records, so that records are
+ * read in order without loading all of them in memory.
+ * </p>
+ */
+public class RunSummary implements Closeable {
+    static final int SLOWEST_TESTS = 10;
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+    private static final Comparator<CatsTestCaseSummary> EXECUTION_TIME_ORDER = Comparator.comparingLong(CatsTestCaseSummary::getTimeToExecuteInMs);
+    private static final Comparator<CatsTestCaseExecutionSummary> EXECUTION_ORDER = Comparator.comparing(RunSummary::executionKey)
+            .thenComparingLong(CatsTestCaseExecutionSummary::responseTimeInMs);
+
+    private final PrettyLogger logger = PrettyLoggerFactory.getLogger(RunSummary.class);
+    private final SortedSpill<CatsTestCaseSummary> summaries;
+    private final SortedSpill<CatsTestCaseExecutionSummary> executions;
+    private final Map<String, Long> testsByPath = new HashMap<>();
+    private final Map<String, Long> testsByFuzzer = new HashMap<>();
+    private final Map<String, Long> testsByResult = new HashMap<>();
+    private final Map<String, Long> errorsByReason = new HashMap<>();
+    private final PriorityQueue<CatsTestCaseSummary> slowestTests = new PriorityQueue<>(EXECUTION_TIME_ORDER);
+    private long totalTimeToExecuteInMs;
+    private Path spillFolder;
+
+    /**
+     * Creates a new run summary.
+     *
+     * @param bufferSize the maximum number of summaries, and of execution times, kept in memory before being spilled to disk; 0 keeps all of them in memory
+     */
+    public RunSummary(int bufferSize) {
+        this.summaries = new SortedSpill<>("summaries", CatsTestCaseSummary.class, Comparator.naturalOrder(), bufferSize);
+        this.executions = new SortedSpill<>("executions", CatsTestCaseExecutionSummary.class, EXECUTION_ORDER, bufferSize);
+    }
+
+    /**
+     * Builds the key used to group execution times.
+     *
+     * @param execution the execution details of a test case
+     * @return the HTTP method and path of the test case
+     */
+    static String executionKey(CatsTestCaseExecutionSummary execution) {
+        return execution.httpMethod() + " " + execution.path();
+    }
+
+    /**
+     * Adds the summary of a finished test case.
+     *
+     * @param summary the test case summary
+     */
+    public synchronized void addSummary(CatsTestCaseSummary summary) {
+        testsByPath.merge(String.valueOf(summary.getPath()), 1L, Long::sum);
+        testsByFuzzer.merge(String.valueOf(summary.getFuzzer()), 1L, Long::sum);
+        testsByResult.merge(String.valueOf(summary.getResult()), 1L, Long::sum);
+        if ("error".equalsIgnoreCase(summary.getResult()) && StringUtils.isNotBlank(summary.getResultReason())) {
+            errorsByReason.merge(summary.getResultReason(), 1L, Long::sum);
+        }
+        totalTimeToExecuteInMs += summary.getTimeToExecuteInMs();
+        slowestTests.add(summary);
+        if (slowestTests.size() > SLOWEST_TESTS) {
+            slowestTests.poll();
+        }
+        summaries.add(summary);
+    }
+
+    /**
+     * Adds the execution details of a finished test case.
+     *
+     * @param execution the test case execution details
+     */
+    public synchronized void addExecution(CatsTestCaseExecutionSummary execution) {
+        executions.add(execution);
+    }
+
+    /**
+     * Gets the number of test case summaries added so far.
+     *
+     * @return the number of test case summaries
+     */
+    public synchronized long getTotalTests() {
+        return summaries.count;
+    }
+
+    /**
+     * Gets the average response time of the test cases. This is {@code NaN} when there are no test cases.
+     *
+     * @return the average response time in milliseconds
+     */
+    public synchronized double getAverageResponseTimeInMs() {
+        return (double) totalTimeToExecuteInMs / summaries.count;
+    }
+
+    /**
+     * Gets the number of tests for each contract path.
+     *
+     * @return number of tests by path
+     */
+    public synchronized Map<String, Long> getTestsByPath() {
+        return Map.copyOf(testsByPath);
+    }
+
+    /**
+     * Gets the number of tests for each fuzzer.
+     *
+     * @return number of tests by fuzzer
+     */
+    public synchronized Map<String, Long> getTestsByFuzzer() {
+        return Map.copyOf(testsByFuzzer);
+    }
+
+    /**
+     * Gets the number of tests for each result.
+     *
+     * @return number of tests by result
+     */
+    public synchronized Map<String, Long> getTestsByResult() {
+        return Map.copyOf(testsByResult);
+    }
+
+    /**
+     * Gets the number of errors for each result reason. Errors without a reason are not counted.
+     *
+     * @return number of errors by reason
+     */
+    public synchronized Map<String, Long> getErrorsByReason() {
+        return Map.copyOf(errorsByReason);
+    }
+
+    /**
+     * Gets the slowest tests, starting with the slowest one.
+     *
+     * @return at most {@value SLOWEST_TESTS} test ids with their execution time
+     */
+    public synchronized List<TimeExecution> getSlowestTests() {
+        return slowestTests.stream()
+                .sorted(EXECUTION_TIME_ORDER.reversed())
+                .map(summary -> TimeExecution.builder().testId(summary.getId()).executionInMs(summary.getTimeToExecuteInMs()).build())
+                .toList();
+    }
+
+    /**
+     * Gets the test case summaries in their natural order. Spilled summaries are read from disk while iterating.
+     *
+     * @return the sorted test case summaries
+     */
+    public synchronized Iterable<CatsTestCaseSummary> getSortedSummaries() {
+        return summaries.sorted();
+    }
+
+    /**
+     * Gets the execution details grouped by HTTP method and path, as given by {@link #executionKey(CatsTestCaseExecutionSummary)},
+     * and sorted by response time within each group. Spilled execution details are read from disk while iterating.
+     *
+     * @return the sorted execution details
+     */
+    public synchronized Iterable<CatsTestCaseExecutionSummary> getSortedExecutions() {
+        return executions.sorted();
+    }
+
+    /**
+     * Deletes the spilled files and drops the buffered records. Aggregates are still available after closing.
+     */
+    @Override
+    public synchronized void close() {
+        summaries.clear();
+        executions.clear();
+        if (spillFolder != null) {
+            try {
+                Files.deleteIfExists(spillFolder);
+            } catch (IOException e) {
+                logger.debug("Unable to delete summary spill folder {}", spillFolder, e);
+            }
+            spillFolder = null;
+        }
+    }
+
+    private Path spillFolder() throws IOException {
+        if (spillFolder == null) {
+            spillFolder = Files.createTempDirectory("cats-summary");
+        }
+        return spillFolder;
+    }
+
+    /**
+     * Buffer of records which is sorted and written to a new spill file each time it gets full.
+     */
+    private final class SortedSpill<T> {
+        private final String name;
+        private final Class<T> type;
+        private final Comparator<T> order;
+        private final int bufferSize;
+        private final List<T> buffer = new ArrayList<>();
+        private final List<Path> spills = new ArrayList<>();
+        private long count;
+        private boolean spillFailed;
+
+        private SortedSpill(String name, Class<T> type, Comparator<T> order, int bufferSize) {
+            this.name = name;
+            this.type = type;
+            this.order = order;
+            this.bufferSize = bufferSize;
+        }
+
+        private void add(T record) {
+            buffer.add(record);
+            count++;
+            if (bufferSize > 0 && buffer.size() >= bufferSize && !spillFailed) {
+                this.spill();
+            }
+        }
+
+        private void spill() {
+            buffer.sort(order);
+            try {
+                Path spillFile = Files.createTempFile(spillFolder(), name, ".jsonl");
+                try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8)) {
+                    for (T record : buffer) {
+                        writer.write(GSON.toJson(record));
+                        writer.newLine();
+                    }
+                }
+                spills.add(spillFile);
+                buffer.clear();
+            } catch (IOException e) {
+                spillFailed = true;
+                logger.warning("Unable to spill test case {} to disk: {}. They will be kept in memory", name, e.getMessage());
+                logger.debug("Stacktrace", e);
+            }
+        }
+
+        private Iterable<T> sorted() {
+            List<T> sortedBuffer = buffer.stream().sorted(order).toList();
+            List<Path> spillFiles = List.copyOf(spills);
+            return () -> {
+                List<Iterator<T>> sources = new ArrayList<>();
+                spillFiles.forEach(spillFile -> sources.add(this.read(spillFile)));
+                sources.add(sortedBuffer.iterator());
+                return Iterators.mergeSorted(sources, order);
+            };
+        }
+
+        private Iterator<T> read(Path spillFile) {
+            try {
+                BufferedReader reader = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8);
+                return new AbstractIterator<>() {
+                    @Override
+                    protected T computeNext() {
+                        try {
+                            String line = reader.readLine();
+                            if (line == null) {
+                                reader.close();
+                                return endOfData();
+                            }
+                            return GSON.fromJson(line, type);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                };
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void clear() {
+            buffer.clear();
+            for (Path spillFile : spills) {
+                try {
+                    Files.deleteIfExists(spillFile);
+                } catch (IOException e) {
+                    logger.debug("Unable to delete summary spill file {}", spillFile, e);
+                }
+            }
+            spills.clear();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCaseSummary;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Writes the test cases of the summary page as script chunks, instead of inlining them in the page.
+ * <p>
+ * Chunks are scripts rather than JSON files so that the page can load them when opened from disk, without network access.
+ * Fuzzers, paths and result reasons are written once in the index and referenced by position from each test case,
+ * as they repeat across most test cases.
+ * </p>
+ */
+class SummaryChunksWriter {
+    static final String SUMMARY_DATA_FOLDER = "summary-data";
+    static final String SUMMARY_INDEX = "summary-index.js";
+    static final int DEFAULT_CHUNK_SIZE = 5_000;
+    private static final Gson COMPACT_SERIALIZER = new GsonBuilder().disableHtmlEscaping().create();
+
+    private final int chunkSize;
+
+    SummaryChunksWriter(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Writes the given test cases in the summary data folder of the report, replacing any previous chunks.
+     *
+     * @param reportingPath the report folder
+     * @param summaries     the test cases, in the order in which they are displayed by default; they are iterated only once
+     * @throws IOException if the chunks cannot be written
+     */
+    void write(Path reportingPath, Iterable<CatsTestCaseSummary> summaries) throws IOException {
+        Path dataFolder = reportingPath.resolve(SUMMARY_DATA_FOLDER);
+        Files.createDirectories(dataFolder);
+        try (Stream<Path> files = Files.list(dataFolder)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Map<String, Integer> fuzzers = new LinkedHashMap<>();
+        Map<String, Integer> paths = new LinkedHashMap<>();
+        Map<String, Integer> reasons = new LinkedHashMap<>();
+        int chunks = 0;
+        int number = 0;
+        List<Object[]> rows = new ArrayList<>();
+
+        for (CatsTestCaseSummary summary : summaries) {
+            rows.add(new Object[]{number++, summary.getId(), position(fuzzers, summary.getFuzzer()), summary.getHttpMethod(),
+                    position(paths, summary.getPath()), summary.getScenario(), summary.getResult(),
+                    position(reasons, summary.getResultReason()), summary.isSwitchedResult() ? 1 : 0});
+            if (rows.size() == chunkSize) {
+                this.writeChunk(dataFolder, chunks++, rows);
+            }
+        }
+        if (!rows.isEmpty()) {
+            this.writeChunk(dataFolder, chunks++, rows);
+        }
+
+        Map<String, Object> index = new LinkedHashMap<>();
+        index.put("chunks", chunks);
+        index.put("total", number);
+        index.put("fuzzers", fuzzers.keySet());
+        index.put("paths", paths.keySet());
+        index.put("reasons", reasons.keySet());
+        Files.writeString(dataFolder.resolve(SUMMARY_INDEX), "catsSummary.init(" + COMPACT_SERIALIZER.toJson(index) + ");\n", StandardCharsets.UTF_8);
+    }
+
+    private void writeChunk(Path dataFolder, int chunk, List<Object[]> rows) throws IOException {
+        Files.writeString(dataFolder.resolve("chunk-%05d.js".formatted(chunk)), "catsSummary.addChunk(" + COMPACT_SERIALIZER.toJson(rows) + ");\n", StandardCharsets.UTF_8);
+        rows.clear();
+    }
+
+    private static int position(Map<String, Integer> values, String value) {
+        return values.computeIfAbsent(Optional.ofNullable(value).orElse(""), key -> values.size());
+    }
+}
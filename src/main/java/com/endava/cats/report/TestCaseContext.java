@@ -0,0 +1,46 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCase;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Holds the state of a single test case while it is being executed.
+ * <p>
+ * Each test case gets its own context when it starts. The context is bound to the thread executing the test case,
+ * which makes test cases independent of each other when they are executed in parallel.
+ * </p>
+ */
+@Getter
+public class TestCaseContext {
+    private final int testNumber;
+    private final String fuzzer;
+    private final CatsTestCase testCase;
+    private final Map<String, String> loggingContext;
+
+    /**
+     * Creates a new context for the given test case.
+     *
+     * @param testNumber     the number of the test case within the current session
+     * @param fuzzer         the name of the fuzzer which created the test case
+     * @param testCase       the test case being executed
+     * @param loggingContext the logging context at the moment the test case was created
+     */
+    public TestCaseContext(int testNumber, String fuzzer, CatsTestCase testCase, Map<String, String> loggingContext) {
+        this.testNumber = testNumber;
+        this.fuzzer = fuzzer;
+        this.testCase = testCase;
+        this.loggingContext = Optional.ofNullable(loggingContext).orElse(Map.of());
+    }
+
+    /**
+     * Returns the test number as string.
+     *
+     * @return the test number as string
+     */
+    public String testId() {
+        return String.valueOf(testNumber);
+    }
+}
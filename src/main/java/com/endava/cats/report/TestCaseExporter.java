@@ -4,6 +4,7 @@ import com.endava.cats.annotations.DryRun;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.context.CatsConfiguration;
 import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.CatsTestCase;
 import com.endava.cats.model.CatsTestCaseExecutionSummary;
 import com.endava.cats.model.CatsTestCaseSummary;
@@ -20,7 +21,9 @@ import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheFactory;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
 import com.google.gson.Strictness;
+import com.google.gson.stream.JsonWriter;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.inject.Inject;
@@ -33,6 +36,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -46,13 +50,20 @@ import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -72,14 +83,20 @@ public abstract class TestCaseExporter {
     private static final String JSON = ".json";
     private static final Mustache TEST_CASE_MUSTACHE = mustacheFactory.compile("test-case.mustache");
     private static final String STACKTRACE = "Stacktrace";
+    private static final Pattern TEST_CASE_FILE = Pattern.compile("(Test\\d+)\\.(html|json)");
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(TestCaseExporter.class);
 
     final ReportingArguments reportingArguments;
     final CatsGlobalContext catsGlobalContext;
 
+    @Getter
     private Path reportingPath;
     private long t0;
     private final Gson maskingSerializer;
+    private final Gson compactMaskingSerializer;
+    private TestCaseStore testCaseStore;
+    private BlobStore blobStore;
+    private final SummaryChunksWriter summaryChunksWriter = new SummaryChunksWriter(SummaryChunksWriter.DEFAULT_CHUNK_SIZE);
     private static final DecimalFormat LARGE_NUMBER_FORMAT;
     private static final DecimalFormat SINGLE_DECIMAL_FORMAT = new DecimalFormat("#0.0");
 
@@ -105,15 +122,15 @@ public abstract class TestCaseExporter {
     protected TestCaseExporter(ReportingArguments reportingArguments, CatsGlobalContext catsGlobalContext) {
         this.reportingArguments = reportingArguments;
         this.catsGlobalContext = catsGlobalContext;
-        maskingSerializer = new GsonBuilder()
+        GsonBuilder serializerBuilder = new GsonBuilder()
                 .setStrictness(Strictness.LENIENT)
-                .setPrettyPrinting()
                 .disableHtmlEscaping()
                 .setExclusionStrategies(new ExcludeTestCaseStrategy())
                 .registerTypeAdapter(Long.class, new LongTypeSerializer())
                 .registerTypeAdapter(KeyValuePair.class, new KeyValueSerializer(reportingArguments.getMaskedHeaders()))
-                .serializeNulls()
-                .create();
+                .serializeNulls();
+        compactMaskingSerializer = serializerBuilder.create();
+        maskingSerializer = serializerBuilder.setPrettyPrinting().create();
         this.osDetails = System.getProperty("os.name") + "-" + System.getProperty("os.version") + "-" + System.getProperty("os.arch");
     }
 
@@ -128,19 +145,68 @@ public abstract class TestCaseExporter {
         if (!StringUtils.isBlank(folder)) {
             outputFolder = folder;
         }
-        String subFolder = reportingArguments.isTimestampReports() ? String.valueOf(System.currentTimeMillis()) : "";
+        /*when resuming, the report folder already contains the test cases of the interrupted run*/
+        boolean newReport = !reportingArguments.isResume();
+        String subFolder = reportingArguments.isTimestampReports() && newReport ? String.valueOf(System.currentTimeMillis()) : "";
         reportingPath = Paths.get(outputFolder, subFolder);
 
-        if (!reportingArguments.isTimestampReports() && reportingPath.toFile().exists()) {
+        if (!reportingArguments.isTimestampReports() && newReport && reportingPath.toFile().exists()) {
             deleteFiles(reportingPath);
         }
         if (!reportingPath.toFile().exists()) {
             Files.createDirectories(reportingPath);
         }
+        blobStore = new BlobStore(reportingPath, reportingArguments.getReportBlobThreshold());
+        if (newReport) {
+            blobStore.clear();
+        }
+        this.closeTestCaseStore();
+        if (reportingArguments.getReportStorage() == ReportingArguments.ReportStorage.SEGMENTS) {
+            testCaseStore = TestCaseStore.open(reportingPath);
+        }
 
         t0 = System.currentTimeMillis();
     }
 
+    /**
+     * Closes the segments in which test cases are stored, when using {@code --reportStorage=SEGMENTS}.
+     */
+    public void closeTestCaseStore() {
+        if (testCaseStore == null) {
+            return;
+        }
+        try {
+            testCaseStore.close();
+        } catch (IOException e) {
+            logger.warning("There was an issue closing the test case segments: {}", e.getMessage());
+            logger.debug(STACKTRACE, e);
+        }
+        testCaseStore = null;
+    }
+
+    /**
+     * Deletes the HTML and JSON files of the test cases not in the given list. This is used when resuming a run
+     * to remove test cases of the interrupted fuzzer runs, which are executed again.
+     * When using {@code --reportStorage=SEGMENTS}, these test cases are removed from the segments too.
+     *
+     * @param testIds the ids of the test cases to keep
+     * @throws IOException if the report folder cannot be read or a test case file cannot be deleted
+     */
+    public void deleteTestCaseFilesExcept(Set<String> testIds) throws IOException {
+        Set<String> fileNames = testIds.stream().map(testId -> testId.replace(" ", "")).collect(Collectors.toSet());
+        try (Stream<Path> files = Files.list(reportingPath)) {
+            for (Path file : files.toList()) {
+                Matcher matcher = TEST_CASE_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches() && !fileNames.contains(matcher.group(1))) {
+                    Files.delete(file);
+                }
+            }
+        }
+        if (testCaseStore != null) {
+            testCaseStore.retainOnly(fileNames);
+        }
+    }
+
     private void deleteFiles(Path path) throws IOException {
         logger.debug("Start cleaning up cats-report folder ...");
         File[] files = path.toFile().listFiles();
@@ -157,16 +223,10 @@ public abstract class TestCaseExporter {
     /**
      * Writes number of errors encountered by reason.
      *
-     * @param testCaseSummaryDetails a list of test case summaries
+     * @param runSummary the summary of the test cases executed in this run
      */
-    public void writeErrorsByReason(List<CatsTestCaseSummary> testCaseSummaryDetails) {
-        if (testCaseSummaryDetails == null || testCaseSummaryDetails.isEmpty()) {
-            return;
-        }
-        Map<String, Long> resultReasonCounts = testCaseSummaryDetails.stream()
-                .filter(testCase -> StringUtils.isNotBlank(testCase.getResultReason()))
-                .filter(CatsTestCaseSummary::getError)
-                .collect(Collectors.groupingBy(CatsTestCaseSummary::getResultReason, Collectors.counting()));
+    public void writeErrorsByReason(RunSummary runSummary) {
+        Map<String, Long> resultReasonCounts = runSummary.getErrorsByReason();
 
         if (resultReasonCounts.isEmpty()) {
             return;
@@ -180,37 +240,41 @@ public abstract class TestCaseExporter {
     /**
      * Writes performance statistics for the executed test cases, including execution time details.
      * The method checks if printing execution statistics is enabled in the reporting arguments before generating and printing the report.
+     * Execution times are read grouped by HTTP method and path, so only one group is kept in memory at a time.
      *
-     * @param executionSummaries a map containing the summaries of executed test cases
+     * @param runSummary the summary of the test cases executed in this run
      */
-    public void writePerformanceReport(List<CatsTestCaseExecutionSummary> executionSummaries) {
+    public void writePerformanceReport(RunSummary runSummary) {
         if (reportingArguments.isPrintExecutionStatistics()) {
-            Map<String, List<CatsTestCaseExecutionSummary>> executionDetails = extractExecutionDetails(executionSummaries);
-
             ConsoleUtils.renderHeader(" Execution time details ");
             ConsoleUtils.emptyLine();
-            executionDetails.forEach(this::writeExecutionTimesForPathAndHttpMethod);
+            String currentKey = null;
+            List<CatsTestCaseExecutionSummary> currentGroup = new ArrayList<>();
+            for (CatsTestCaseExecutionSummary executionSummary : runSummary.getSortedExecutions()) {
+                String key = RunSummary.executionKey(executionSummary);
+                if (!key.equals(currentKey)) {
+                    this.writeExecutionTimesIfMultipleRuns(currentKey, currentGroup);
+                    currentKey = key;
+                    currentGroup = new ArrayList<>();
+                }
+                currentGroup.add(executionSummary);
+            }
+            this.writeExecutionTimesIfMultipleRuns(currentKey, currentGroup);
+            logger.timer("Slowest tests: {}", runSummary.getSlowestTests());
         } else {
             ConsoleUtils.emptyLine();
             logger.info("Skip printing time execution statistics. You can use --printExecutionStatistics to enable this feature!");
         }
     }
 
-    private Map<String, List<CatsTestCaseExecutionSummary>> extractExecutionDetails(List<CatsTestCaseExecutionSummary> summaries) {
-        return summaries
-                .stream()
-                .collect(Collectors.groupingBy(testCase -> testCase.httpMethod() + " " + testCase.path()))
-                .entrySet()
-                .stream()
-                .filter(entry -> entry.getValue().size() > 1)
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    private void writeExecutionTimesIfMultipleRuns(String key, List<CatsTestCaseExecutionSummary> sortedRuns) {
+        if (sortedRuns.size() > 1) {
+            this.writeExecutionTimesForPathAndHttpMethod(key, sortedRuns);
+        }
     }
 
-    private void writeExecutionTimesForPathAndHttpMethod(String key, List<CatsTestCaseExecutionSummary> value) {
-        double average = value.stream().mapToLong(CatsTestCaseExecutionSummary::responseTimeInMs).average().orElse(0);
-        List<CatsTestCaseExecutionSummary> sortedRuns = value.stream()
-                .sorted(Comparator.comparingLong(CatsTestCaseExecutionSummary::responseTimeInMs))
-                .toList();
+    private void writeExecutionTimesForPathAndHttpMethod(String key, List<CatsTestCaseExecutionSummary> sortedRuns) {
+        double average = sortedRuns.stream().mapToLong(CatsTestCaseExecutionSummary::responseTimeInMs).average().orElse(0);
 
         CatsTestCaseExecutionSummary bestCaseTestCase = sortedRuns.getFirst();
         CatsTestCaseExecutionSummary worstCaseTestCase = sortedRuns.getLast();
@@ -268,6 +332,9 @@ public abstract class TestCaseExporter {
 
         ConsoleUtils.emptyLine();
         logger.complete(finalMessage, duration, executionStatisticsListener.getAll(), executionStatisticsListener.getSuccess(), executionStatisticsListener.getWarns(), executionStatisticsListener.getErrors(), executionStatisticsListener.getSkipped());
+        if (executionStatisticsListener.getDeduplicatedRequests() > 0) {
+            logger.complete(ansi().fgBlue().a("Requests saved by reusing responses of identical requests: {}").reset().toString(), executionStatisticsListener.getDeduplicatedRequests());
+        }
         logger.complete(check);
     }
 
@@ -277,12 +344,12 @@ public abstract class TestCaseExporter {
      * It creates a CatsTestReport and extracts information such as warnings, success, errors, and total tests.
      * The gathered information is stored in a context map.
      *
-     * @param summaries                   the pre-created summary for each test case
+     * @param runSummary                  the summary of the test cases executed in this run
      * @param executionStatisticsListener the listener providing statistics on CATS execution
      */
-    public void writeSummary(List<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener) {
-        CatsTestReport report = this.createTestReport(summaries, executionStatisticsListener);
-        double averageResponseTime = summaries.stream().mapToDouble(CatsTestCaseSummary::getTimeToExecuteInMs).sum() / summaries.size();
+    public void writeSummary(RunSummary runSummary, ExecutionStatisticsListener executionStatisticsListener) {
+        CatsTestReport report = this.createTestReport(runSummary, executionStatisticsListener);
+        double averageResponseTime = runSummary.getAverageResponseTimeInMs();
 
         Map<String, Object> context = new HashMap<>();
         context.put("WARNINGS", LARGE_NUMBER_FORMAT.format(report.getWarnings()));
@@ -290,12 +357,18 @@ public abstract class TestCaseExporter {
         context.put("ERRORS", LARGE_NUMBER_FORMAT.format(report.getErrors()));
         context.put("TOTAL", LARGE_NUMBER_FORMAT.format(report.getTotalTests()));
         context.put("TIMESTAMP", report.getTimestamp());
-        context.put("TEST_CASES", report.getTestCases());
+        /*the javascript summary loads test cases from data chunks, so that large reports don't have to be rendered at once*/
+        if (this.isJavascript()) {
+            context.put("CHUNKED", true);
+        } else {
+            context.put("TEST_CASES", report.getTestCases());
+        }
         context.put("EXECUTION", Duration.ofSeconds(report.getExecutionTime()).toString().toLowerCase(Locale.ROOT).substring(2));
         context.put("VERSION", report.getCatsVersion());
         context.put("JS", this.isJavascript());
         context.put("OS", this.osDetails);
         context.put("AVERAGE_RESPONSE_TIME", SINGLE_DECIMAL_FORMAT.format(averageResponseTime));
+        context.put("SEGMENTS", reportingArguments.getReportStorage() == ReportingArguments.ReportStorage.SEGMENTS);
 
         double warnPercentage = (double) report.getWarnings() / report.getTotalTests() * 100;
         double errorPercentage = (double) report.getErrors() / report.getTotalTests() * 100;
@@ -320,8 +393,11 @@ public abstract class TestCaseExporter {
 
         try {
             writer.flush();
+            if (this.isJavascript()) {
+                summaryChunksWriter.write(reportingPath, report.getTestCases());
+            }
             Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), this.getSummaryReportTitle()), writer.toString(), StandardCharsets.UTF_8);
-            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), REPORT_JS), maskingSerializer.toJson(report), StandardCharsets.UTF_8);
+            this.writeReportJson(report);
         } catch (IOException e) {
             logger.error("There was an error writing the report summary: {}. Please check if CATS has proper right to write in the report location: {}",
                     e.getMessage(), reportingPath.toFile().getAbsolutePath());
@@ -329,16 +405,32 @@ public abstract class TestCaseExporter {
         }
     }
 
-    private CatsTestReport createTestReport(List<CatsTestCaseSummary> summaries, ExecutionStatisticsListener executionStatisticsListener) {
-        List<CatsTestCaseSummary> sortedSummaries = summaries.stream().sorted().toList();
-
-        return CatsTestReport.builder().testCases(sortedSummaries).errors(executionStatisticsListener.getErrors())
+    private CatsTestReport createTestReport(RunSummary runSummary, ExecutionStatisticsListener executionStatisticsListener) {
+        return CatsTestReport.builder().testCases(runSummary.getSortedSummaries()).errors(executionStatisticsListener.getErrors())
                 .success(executionStatisticsListener.getSuccess()).totalTests(executionStatisticsListener.getAll())
                 .warnings(executionStatisticsListener.getWarns()).timestamp(OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME))
                 .executionTime(((System.currentTimeMillis() - t0) / 1000))
+                .testsByPath(runSummary.getTestsByPath()).testsByFuzzer(runSummary.getTestsByFuzzer()).testsByResult(runSummary.getTestsByResult())
+                .slowestTests(runSummary.getSlowestTests())
                 .catsVersion(appVersion).build();
     }
 
+    private void writeReportJson(CatsTestReport report) throws IOException {
+        try (JsonWriter jsonWriter = maskingSerializer.newJsonWriter(Files.newBufferedWriter(reportingPath.resolve(REPORT_JS), StandardCharsets.UTF_8))) {
+            jsonWriter.beginObject();
+            jsonWriter.name("testCases").beginArray();
+            for (CatsTestCaseSummary summary : report.getTestCases()) {
+                maskingSerializer.toJson(summary, CatsTestCaseSummary.class, jsonWriter);
+            }
+            jsonWriter.endArray();
+            for (Map.Entry<String, JsonElement> field : maskingSerializer.toJsonTree(report).getAsJsonObject().entrySet()) {
+                jsonWriter.name(field.getKey());
+                maskingSerializer.toJson(field.getValue(), jsonWriter);
+            }
+            jsonWriter.endObject();
+        }
+    }
+
     /**
      * Writes helper files, such as assets and specific files, to the reporting path.
      * It includes assets and copies specific helper files from the classpath to the reporting path.
@@ -387,14 +479,74 @@ public abstract class TestCaseExporter {
      */
     @DryRun
     public void writeTestCase(CatsTestCase testCase) {
+        /*the response JSON body is parsed lazily, so it must be parsed before serializing the test case*/
+        Optional.ofNullable(testCase.getResponse()).ifPresent(CatsResponse::getJsonBody);
+        if (testCaseStore != null) {
+            appendTestCaseToStore(testCase);
+            return;
+        }
         writeHtmlTestCase(testCase);
         writeJsonTestCase(testCase);
     }
 
+    /**
+     * Writes the given test cases in a single pass. When using {@code --reportStorage=SEGMENTS}, all of them are appended
+     * to the store at once. A test case which cannot be written doesn't prevent writing the others.
+     * We mark it as DryRun in order to avoid writing test cases when in dryRun mode.
+     *
+     * @param testCases the test cases to write
+     */
+    @DryRun
+    public void writeTestCases(List<CatsTestCase> testCases) {
+        if (testCaseStore == null) {
+            testCases.forEach(testCase -> writeTestCaseSafely(testCase, this::writeTestCase));
+            return;
+        }
+        Map<String, String> serializedTestCases = new LinkedHashMap<>();
+        testCases.forEach(testCase -> writeTestCaseSafely(testCase, toSerialize -> {
+            Optional.ofNullable(toSerialize.getResponse()).ifPresent(CatsResponse::getJsonBody);
+            serializedTestCases.put(toSerialize.getTestId().replace(" ", ""), this.toJsonWithBlobsUnchecked(compactMaskingSerializer, toSerialize));
+        }));
+        try {
+            testCaseStore.appendAll(serializedTestCases);
+        } catch (IOException e) {
+            logger.error("There was a problem storing test cases {}: {}. Please check if CATS has proper right to write in the report location: {}",
+                    serializedTestCases.keySet(), e.getMessage(), reportingPath.toFile().getAbsolutePath());
+            logger.debug(STACKTRACE, e);
+        }
+    }
+
+    private void writeTestCaseSafely(CatsTestCase testCase, Consumer<CatsTestCase> writer) {
+        try {
+            writer.accept(testCase);
+        } catch (RuntimeException e) {
+            logger.error("There was a problem writing test case {}: {}", testCase.getTestId(), e.getMessage());
+            logger.debug(STACKTRACE, e);
+        }
+    }
+
+    private String toJsonWithBlobsUnchecked(Gson serializer, CatsTestCase testCase) {
+        try {
+            return this.toJsonWithBlobs(serializer, testCase);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void appendTestCaseToStore(CatsTestCase testCase) {
+        try {
+            testCaseStore.append(testCase.getTestId().replace(" ", ""), this.toJsonWithBlobs(compactMaskingSerializer, testCase));
+        } catch (IOException e) {
+            logger.error("There was a problem storing test case {}: {}. Please check if CATS has proper right to write in the report location: {}",
+                    testCase.getTestId(), e.getMessage(), reportingPath.toFile().getAbsolutePath());
+            logger.debug(STACKTRACE, e);
+        }
+    }
+
     private void writeJsonTestCase(CatsTestCase testCase) {
         String testFileName = testCase.getTestId().replace(" ", "").concat(JSON);
         try {
-            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), testFileName), maskingSerializer.toJson(testCase), StandardCharsets.UTF_8);
+            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), testFileName), this.toJsonWithBlobs(maskingSerializer, testCase), StandardCharsets.UTF_8);
         } catch (IOException e) {
             logger.error("There was a problem writing test case {}: {}. Please check if CATS has proper right to write in the report location: {}",
                     testCase.getTestId(), e.getMessage(), reportingPath.toFile().getAbsolutePath());
@@ -402,19 +554,21 @@ public abstract class TestCaseExporter {
         }
     }
 
+    /**
+     * Large payloads, headers and responses are stored once as blobs and referenced from the test case.
+     */
+    private String toJsonWithBlobs(Gson serializer, CatsTestCase testCase) throws IOException {
+        if (blobStore == null || !blobStore.isEnabled()) {
+            return serializer.toJson(testCase);
+        }
+        return serializer.toJson(blobStore.externalize(serializer.toJsonTree(testCase).getAsJsonObject()));
+    }
+
     private void writeHtmlTestCase(CatsTestCase testCase) {
-        StringWriter stringWriter = new StringWriter();
-        Map<String, Object> context = new HashMap<>();
-        testCase.setJs(this.isJavascript());
-        testCase.setMaskingSerializer(maskingSerializer);
-        context.put("TEST_CASE", testCase);
-        context.put("TIMESTAMP", OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME));
-        context.put("VERSION", appVersion);
-        context.put("JS", this.isJavascript());
-        Writer writer = TEST_CASE_MUSTACHE.execute(stringWriter, context);
         String testFileName = testCase.getTestId().replace(" ", "").concat(HTML);
+        testCase.setMaxRenderedLength(reportingArguments.getReportBlobThreshold());
         try {
-            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), testFileName), writer.toString(), StandardCharsets.UTF_8);
+            Files.writeString(Paths.get(reportingPath.toFile().getAbsolutePath(), testFileName), renderHtmlTestCase(testCase), StandardCharsets.UTF_8);
         } catch (IOException e) {
             logger.error("There was a problem writing test case {}: {}. Please check if CATS has proper right to write in the report location: {}",
                     testCase.getTestId(), e.getMessage(), reportingPath.toFile().getAbsolutePath());
@@ -425,6 +579,24 @@ public abstract class TestCaseExporter {
         }
     }
 
+    /**
+     * Renders the HTML page of the given test case.
+     *
+     * @param testCase the test case
+     * @return the HTML page of the test case
+     */
+    public String renderHtmlTestCase(CatsTestCase testCase) {
+        StringWriter stringWriter = new StringWriter();
+        Map<String, Object> context = new HashMap<>();
+        testCase.setJs(this.isJavascript());
+        testCase.setMaskingSerializer(maskingSerializer);
+        context.put("TEST_CASE", testCase);
+        context.put("TIMESTAMP", OffsetDateTime.now(ZoneId.systemDefault()).format(DateTimeFormatter.RFC_1123_DATE_TIME));
+        context.put("VERSION", appVersion);
+        context.put("JS", this.isJavascript());
+        return TEST_CASE_MUSTACHE.execute(stringWriter, context).toString();
+    }
+
     /**
      * Indicates whether the report format involves JavaScript functionality.
      *
@@ -1,6 +1,8 @@
 package com.endava.cats.report;
 
 import com.endava.cats.annotations.DryRun;
+import com.endava.cats.annotations.SequentialFuzzer;
+import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.IgnoreArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.context.CatsGlobalContext;
@@ -16,12 +18,13 @@ import com.endava.cats.model.CatsTestCase;
 import com.endava.cats.model.CatsTestCaseExecutionSummary;
 import com.endava.cats.model.CatsTestCaseSummary;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.ResponseSchemaMatcher;
+import com.endava.cats.model.PlannedTestCase;
+import com.endava.cats.model.TestPlan;
 import com.endava.cats.util.ConsoleUtils;
 import com.google.common.collect.Iterators;
 import com.google.common.net.MediaType;
-import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.github.ludovicianul.prettylogger.PrettyLoggerFactory;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -34,22 +37,36 @@ import org.slf4j.event.Level;
 import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static com.endava.cats.context.CatsGlobalContext.CONTRACT_PATH;
 import static com.endava.cats.context.CatsGlobalContext.HTTP_METHOD;
@@ -66,22 +83,28 @@ public class TestCaseListener {
     private static final String DEFAULT = "*******";
     static final String ID = "id";
     private static final String FUZZER_KEY = "fuzzerKey";
+    private static final String RUN_KEY = "runKey";
     private static final String FUZZER = "fuzzer";
     private static final String ID_ANSI = "id_ansi";
-    static final AtomicInteger TEST = new AtomicInteger(0);
     private static final List<String> NOT_NECESSARILY_DOCUMENTED = Arrays.asList("406", "415", "414", "501", "413", "431");
     private static final String RECEIVED_RESPONSE_IS_MARKED_AS_IGNORED_SKIPPING = "Received response is marked as ignored... skipping!";
     private static final List<String> CONTENT_TYPE_DONT_MATCH_SCHEMA = List.of("application/csv", "application/pdf");
-    final Map<String, CatsTestCase> testCaseMap = new HashMap<>();
+    private final AtomicInteger testCounter = new AtomicInteger(0);
+    private static final ThreadLocal<TestCaseContext> CURRENT_TEST_CASE_CONTEXT = new ThreadLocal<>();
+    private static final ThreadLocal<List<Future<?>>> RUNNING_TESTS = new ThreadLocal<>();
     private final PrettyLogger logger = PrettyLoggerFactory.getLogger(TestCaseListener.class);
     private static final String SEPARATOR = "-".repeat(ConsoleUtils.getConsoleColumns(22));
     private final ExecutionStatisticsListener executionStatisticsListener;
     private final TestCaseExporter testCaseExporter;
+    private final AsyncTestCaseWriter testCaseWriter;
     private final CatsGlobalContext globalContext;
     private final IgnoreArguments ignoreArguments;
     private final ReportingArguments reportingArguments;
-    final List<CatsTestCaseSummary> testCaseSummaryDetails = new ArrayList<>();
-    final List<CatsTestCaseExecutionSummary> testCaseExecutionDetails = new ArrayList<>();
+    private final ApiArguments apiArguments;
+    final RunSummary runSummary;
+    private final RunJournal runJournal = new RunJournal();
+    private ExecutorService concurrentTestsExecutor;
+    private Semaphore concurrentTestsSlots;
 
     @ConfigProperty(name = "quarkus.application.version", defaultValue = "1.0.0")
     String appVersion;
@@ -100,17 +123,22 @@ public class TestCaseListener {
      * @param exporters          the available TestCaseExporter instances
      * @param filterArguments    the arguments for filtering test cases
      * @param reportingArguments the arguments for reporting test cases
+     * @param apiArguments       the arguments controlling how test cases are executed against the API
      * @throws NoSuchElementException if no matching exporter is found for the specified report format
      */
-    public TestCaseListener(CatsGlobalContext catsGlobalContext, ExecutionStatisticsListener er, Instance<TestCaseExporter> exporters, IgnoreArguments filterArguments, ReportingArguments reportingArguments) {
+    public TestCaseListener(CatsGlobalContext catsGlobalContext, ExecutionStatisticsListener er, Instance<TestCaseExporter> exporters, IgnoreArguments filterArguments,
+                            ReportingArguments reportingArguments, ApiArguments apiArguments) {
         this.executionStatisticsListener = er;
         this.testCaseExporter = exporters.stream()
                 .filter(exporter -> exporter.reportFormat() == reportingArguments.getReportFormat())
                 .findFirst()
                 .orElseThrow();
+        this.testCaseWriter = new AsyncTestCaseWriter(testCaseExporter, reportingArguments.getReportWriterQueueSize());
+        this.runSummary = new RunSummary(reportingArguments.getSummaryBufferSize());
         this.ignoreArguments = filterArguments;
         this.globalContext = catsGlobalContext;
         this.reportingArguments = reportingArguments;
+        this.apiArguments = apiArguments;
     }
 
     private static String replaceBrackets(String message, Object... params) {
@@ -127,6 +155,8 @@ public class TestCaseListener {
 
     /**
      * Performs setup actions before fuzzing for the specified fuzzer class.
+     * If {@code --concurrency} is greater than 1, test cases created by the fuzzer will be executed in parallel
+     * until {@link #afterFuzz(String)} is called. Fuzzers annotated with {@link SequentialFuzzer} always run test cases one by one.
      *
      * @param fuzzer the class representing the fuzzer
      */
@@ -136,21 +166,52 @@ public class TestCaseListener {
         MDC.put(FUZZER_KEY, ConsoleUtils.removeTrimSanitize(fuzzer.getSimpleName()));
         MDC.put(CONTRACT_PATH, path);
         MDC.put(HTTP_METHOD, httpMethod);
+        MDC.put(RUN_KEY, RunJournal.runKey(MDC.get(FUZZER_KEY), httpMethod, path, null, -1));
         this.notifySummaryObservers(path);
+
+        if ((apiArguments.isConcurrent() || apiArguments.isAsyncRequests()) && !fuzzer.isAnnotationPresent(SequentialFuzzer.class)) {
+            RUNNING_TESTS.set(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Same as {@link #beforeFuzz(Class, String, String)}, but the fuzzer run is recorded in the run journal
+     * for the given fuzzing data, so that each content type and payload combination of a path is resumed independently.
+     *
+     * @param fuzzer    the class representing the fuzzer
+     * @param data      the fuzzing data about to be fuzzed
+     * @param dataIndex the index of the fuzzing data within the fuzzing data created for the path
+     */
+    public void beforeFuzz(Class<?> fuzzer, FuzzingData data, int dataIndex) {
+        this.beforeFuzz(fuzzer, data.getContractPath(), data.getMethod().name());
+        MDC.put(RUN_KEY, runKey(fuzzer, data, dataIndex));
+    }
+
+    private static String runKey(Class<?> fuzzer, FuzzingData data, int dataIndex) {
+        String contentType = Optional.ofNullable(data.getRequestContentTypes()).filter(contentTypes -> !contentTypes.isEmpty()).map(List::getFirst).orElse(null);
+        return RunJournal.runKey(ConsoleUtils.removeTrimSanitize(fuzzer.getSimpleName()), data.getMethod().name(), data.getContractPath(), contentType, dataIndex);
     }
 
     /**
      * Performs cleanup actions after fuzzing for a specific path and HTTP method.
+     * It waits for all test cases still running in parallel to finish.
      *
      * @param path the path for which fuzzing has been completed
      */
     public void afterFuzz(String path) {
+        this.awaitRunningTests();
         this.notifySummaryObservers(path);
+        if (runJournal.isOpen()) {
+            String runKey = MDC.get(RUN_KEY);
+            /*the run is marked as completed only after all its test cases are written*/
+            testCaseWriter.afterWritten(() -> runJournal.recordCompletedRun(runKey));
+        }
 
         MDC.put(FUZZER, this.getKeyDefault());
         MDC.put(FUZZER_KEY, this.getKeyDefault());
         MDC.remove(CONTRACT_PATH);
         MDC.remove(HTTP_METHOD);
+        MDC.remove(RUN_KEY);
     }
 
     /**
@@ -162,48 +223,208 @@ public class TestCaseListener {
      * @param s              the runnable representing the test logic
      */
     public void createAndExecuteTest(PrettyLogger externalLogger, Fuzzer fuzzer, Runnable s, FuzzingData data) {
-        this.startTestCase(data);
+        TestCaseContext testCaseContext = this.startTestCase(data);
+        List<Future<?>> running = RUNNING_TESTS.get();
+
+        if (running == null || !apiArguments.isConcurrent()) {
+            this.executeTestCase(testCaseContext, externalLogger, fuzzer, s, data);
+            return;
+        }
+
+        Semaphore slots = this.getConcurrentTestsSlots();
+        slots.acquireUninterruptibly();
+        running.add(this.getConcurrentTestsExecutor().submit(() -> {
+            try {
+                this.executeTestCase(testCaseContext, externalLogger, fuzzer, s, data);
+            } finally {
+                slots.release();
+            }
+        }));
+    }
+
+    /**
+     * Creates and executes a test case for each test case of the given plan.
+     * Test cases are generated lazily, while the plan is being executed.
+     *
+     * @param externalLogger   logger used by the fuzzer
+     * @param fuzzer           the current fuzzer
+     * @param testPlan         the test plan
+     * @param testCaseExecutor the logic executing a planned test case
+     * @param <T>              the type of the fuzzed values
+     */
+    public <T> void executePlan(PrettyLogger externalLogger, Fuzzer fuzzer, TestPlan<T> testPlan, Consumer<PlannedTestCase<T>> testCaseExecutor) {
+        testPlan.stream().forEach(plannedTestCase ->
+                this.createAndExecuteTest(externalLogger, fuzzer, () -> testCaseExecutor.accept(plannedTestCase), testPlan.getFuzzingData()));
+    }
+
+    /**
+     * Creates and executes a test case whose outcome is only known when the supplied future completes.
+     * The supplier is called within the context of the new test case. The test case ends when the returned future completes.
+     * If test cases are executed sequentially, this method waits for the test case to end. Otherwise, test cases are awaited
+     * in {@link #afterFuzz(String)}.
+     *
+     * @param externalLogger the logger used to log test-related information
+     * @param fuzzer         the fuzzer associated with the test case
+     * @param s              the supplier starting the test case logic
+     * @param data           the fuzzing data used to create the test case
+     */
+    public void createAndExecuteTestAsync(PrettyLogger externalLogger, Fuzzer fuzzer, Supplier<CompletableFuture<?>> s, FuzzingData data) {
+        TestCaseContext testCaseContext = this.startTestCase(data);
+        CompletableFuture<?> test = this.callInTestCaseContext(testCaseContext, s);
+
+        CompletableFuture<?> finished = test.handle((result, e) -> {
+            this.runInTestCaseContext(testCaseContext, () -> {
+                if (e != null) {
+                    this.reportUnexpectedException(externalLogger, fuzzer, data, e instanceof CompletionException ? e.getCause() : e);
+                }
+                this.endTestCase();
+            });
+            return result;
+        });
+
+        List<Future<?>> running = RUNNING_TESTS.get();
+        if (running == null) {
+            finished.join();
+        } else {
+            running.add(finished);
+        }
+    }
+
+    /**
+     * Returns an executor running tasks within the test case executed on the current thread.
+     * This is useful when parts of a test case, like processing the response, are executed on other threads.
+     *
+     * @return an executor bound to the current test case
+     */
+    public Executor currentTestCaseExecutor() {
+        TestCaseContext testCaseContext = CURRENT_TEST_CASE_CONTEXT.get();
+        if (testCaseContext == null) {
+            return Runnable::run;
+        }
+        return task -> this.runInTestCaseContext(testCaseContext, task);
+    }
+
+    private void executeTestCase(TestCaseContext testCaseContext, PrettyLogger externalLogger, Fuzzer fuzzer, Runnable s, FuzzingData data) {
+        this.bindTestCaseContext(testCaseContext);
         try {
             s.run();
         } catch (Exception e) {
-            CatsResultFactory.CatsResult catsResult = CatsResultFactory.createUnexpectedException(fuzzer.getClass().getSimpleName(), Optional.ofNullable(e.getMessage()).orElse(""));
-            this.reportResultError(externalLogger, data, catsResult.reason(), catsResult.message());
-            externalLogger.error("Exception while processing: {}", e.getMessage());
-            externalLogger.debug("Detailed stacktrace", e);
-            this.checkForIOErrors(e);
+            this.reportUnexpectedException(externalLogger, fuzzer, data, e);
         }
         this.endTestCase();
     }
 
+    private CompletableFuture<?> callInTestCaseContext(TestCaseContext testCaseContext, Supplier<CompletableFuture<?>> s) {
+        AtomicReference<CompletableFuture<?>> result = new AtomicReference<>();
+        this.runInTestCaseContext(testCaseContext, () -> {
+            try {
+                result.set(s.get());
+            } catch (Exception e) {
+                result.set(CompletableFuture.failedFuture(e));
+            }
+        });
+        return result.get();
+    }
+
+    private void runInTestCaseContext(TestCaseContext testCaseContext, Runnable task) {
+        TestCaseContext previousTestCaseContext = CURRENT_TEST_CASE_CONTEXT.get();
+        Map<String, String> previousLoggingContext = MDC.getCopyOfContextMap();
+        this.bindTestCaseContext(testCaseContext);
+        try {
+            task.run();
+        } finally {
+            CURRENT_TEST_CASE_CONTEXT.set(previousTestCaseContext);
+            if (previousTestCaseContext == null) {
+                CURRENT_TEST_CASE_CONTEXT.remove();
+            }
+            MDC.setContextMap(Optional.ofNullable(previousLoggingContext).orElse(Map.of()));
+        }
+    }
+
+    private void bindTestCaseContext(TestCaseContext testCaseContext) {
+        CURRENT_TEST_CASE_CONTEXT.set(testCaseContext);
+        MDC.setContextMap(testCaseContext.getLoggingContext());
+        MDC.put(ID, testCaseContext.testId());
+        MDC.put(ID_ANSI, ConsoleUtils.centerWithAnsiColor(testCaseContext.testId(), 7, Ansi.Color.MAGENTA));
+    }
+
+    private void reportUnexpectedException(PrettyLogger externalLogger, Fuzzer fuzzer, FuzzingData data, Throwable e) {
+        CatsResultFactory.CatsResult catsResult = CatsResultFactory.createUnexpectedException(fuzzer.getClass().getSimpleName(), Optional.ofNullable(e.getMessage()).orElse(""));
+        this.reportResultError(externalLogger, data, catsResult.reason(), catsResult.message());
+        externalLogger.error("Exception while processing: {}", e.getMessage());
+        externalLogger.debug("Detailed stacktrace", e);
+        if (e instanceof Exception exception) {
+            this.checkForIOErrors(exception);
+        }
+    }
+
+    private void awaitRunningTests() {
+        List<Future<?>> running = RUNNING_TESTS.get();
+        if (running == null) {
+            return;
+        }
+        RUNNING_TESTS.remove();
+        logger.debug("Waiting for {} test cases to finish", running.size());
+
+        for (Future<?> test : running) {
+            try {
+                test.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                logger.error("Test case finished with an exception: {}", e.getCause().getMessage());
+                logger.debug("Detailed stacktrace", e);
+            }
+        }
+    }
+
+    private synchronized ExecutorService getConcurrentTestsExecutor() {
+        if (concurrentTestsExecutor == null) {
+            concurrentTestsExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        }
+        return concurrentTestsExecutor;
+    }
+
+    private synchronized Semaphore getConcurrentTestsSlots() {
+        if (concurrentTestsSlots == null) {
+            concurrentTestsSlots = new Semaphore(apiArguments.getConcurrency());
+        }
+        return concurrentTestsSlots;
+    }
+
     /**
      * Returns the current name of the fuzzer being executed.
      *
      * @return the fuzzer name that is currently being run
      */
     public String getCurrentFuzzer() {
-        return MDC.get(FUZZER_KEY);
+        return Optional.ofNullable(CURRENT_TEST_CASE_CONTEXT.get())
+                .map(TestCaseContext::getFuzzer)
+                .orElse(MDC.get(FUZZER_KEY));
     }
 
     /**
-     * Returns the current test case number being executed.
+     * Returns the number of the test case being executed on the current thread.
+     * If no test case is being executed, it returns the number of test cases started so far.
      *
      * @return the test case number being executed
      */
     public int getCurrentTestCaseNumber() {
-        return TEST.get();
+        return Optional.ofNullable(CURRENT_TEST_CASE_CONTEXT.get())
+                .map(TestCaseContext::getTestNumber)
+                .orElse(testCounter.get());
     }
 
-    private void startTestCase(FuzzingData data) {
-        String testId = String.valueOf(TEST.incrementAndGet());
-        MDC.put(ID, testId);
-        MDC.put(ID_ANSI, ConsoleUtils.centerWithAnsiColor(testId, 7, Ansi.Color.MAGENTA));
+    private TestCaseContext startTestCase(FuzzingData data) {
+        int testNumber = testCounter.incrementAndGet();
 
         CatsTestCase testCase = new CatsTestCase();
-        testCase.setTestId("Test " + testId);
+        testCase.setTestId("Test " + testNumber);
         testCase.setContractPath(data.getContractPath());
         testCase.setPath(data.getContractPath());
         testCase.getRequest().setHttpMethod(String.valueOf(data.getMethod()));
-        testCaseMap.put(testId, testCase);
+
+        return new TestCaseContext(testNumber, MDC.get(FUZZER_KEY), testCase, MDC.getCopyOfContextMap());
     }
 
     /**
@@ -231,8 +452,7 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified path information to the current test case in the test case map.
-     * The path is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified path information to the test case executed on the current thread.
      *
      * @param path the path to be associated with the current test case
      */
@@ -241,8 +461,7 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified contract path information to the current test case in the test case map.
-     * The contract path is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified contract path information to the test case executed on the current thread.
      *
      * @param path the contract path to be associated with the current test case
      */
@@ -251,8 +470,7 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified server information to the current test case in the test case map.
-     * The server information is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified server information to the test case executed on the current thread.
      *
      * @param server the server information to be associated with the current test case
      */
@@ -261,8 +479,7 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified CatsRequest to the current test case in the test case map.
-     * The CatsRequest is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified CatsRequest to the test case executed on the current thread.
      *
      * @param request the CatsRequest to be associated with the current test case
      */
@@ -271,8 +488,7 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified CatsResponse to the current test case in the test case map.
-     * The CatsResponse is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Adds the specified CatsResponse to the test case executed on the current thread.
      *
      * @param response the CatsResponse to be associated with the current test case
      */
@@ -281,8 +497,14 @@ public class TestCaseListener {
     }
 
     /**
-     * Adds the specified full request path information to the current test case in the test case map.
-     * The full request path is associated with the ongoing test case using the Mapped Diagnostic Context (MDC) identifier.
+     * Records that the test case executed on the current thread reused the response of an identical request instead of calling the service.
+     */
+    public void recordDeduplicatedRequest() {
+        executionStatisticsListener.increaseDeduplicatedRequests();
+    }
+
+    /**
+     * Adds the specified full request path information to the test case executed on the current thread.
      *
      * @param fullRequestPath the full request path to be associated with the current test case
      */
@@ -291,28 +513,41 @@ public class TestCaseListener {
     }
 
     private void endTestCase() {
-        CatsTestCase currentTestCase = currentTestCase();
-        currentTestCase.setFuzzer(MDC.get(FUZZER_KEY));
+        TestCaseContext testCaseContext = CURRENT_TEST_CASE_CONTEXT.get();
+        CatsTestCase currentTestCase = testCaseContext.getTestCase();
+        currentTestCase.setFuzzer(testCaseContext.getFuzzer());
+        CatsTestCaseSummary summary = currentTestCase.isNotSkipped() ? keepSummary(currentTestCase) : null;
+        CatsTestCaseExecutionSummary executionSummary = keepExecutionDetails(currentTestCase);
+        String runKey = testCaseContext.getLoggingContext().get(RUN_KEY);
+        String result = currentTestCase.getResult();
+        String contractPath = currentTestCase.getContractPath();
+        /*test cases are journaled only once written, so that a resumed run doesn't reference missing test case files*/
+        Runnable journal = () -> runJournal.recordTestCase(runKey, result, contractPath, summary, executionSummary);
         if (currentTestCase.isNotSkipped()) {
-            testCaseExporter.writeTestCase(currentTestCase);
-            keepSummary(currentTestCase);
+            testCaseWriter.submit(currentTestCase, journal);
+        } else if (runJournal.isOpen()) {
+            testCaseWriter.afterWritten(journal);
         }
-        keepExecutionDetails(currentTestCase);
-        testCaseMap.remove(MDC.get(ID));
+        CURRENT_TEST_CASE_CONTEXT.remove();
         MDC.remove(ID);
         MDC.put(ID_ANSI, this.getKeyDefault());
         logger.info(SEPARATOR);
     }
 
-    private void keepSummary(CatsTestCase testCase) {
-        testCaseSummaryDetails.add(CatsTestCaseSummary.fromCatsTestCase(testCase));
+    private CatsTestCaseSummary keepSummary(CatsTestCase testCase) {
+        CatsTestCaseSummary summary = CatsTestCaseSummary.fromCatsTestCase(testCase);
+        runSummary.addSummary(summary);
+        return summary;
     }
 
-    private void keepExecutionDetails(CatsTestCase testCase) {
+    private CatsTestCaseExecutionSummary keepExecutionDetails(CatsTestCase testCase) {
         if (testCase.notIgnoredForExecutionStatistics() && reportingArguments.isPrintExecutionStatistics()) {
-            testCaseExecutionDetails.add(new CatsTestCaseExecutionSummary(testCase.getTestId(), testCase.getPath(),
-                    testCase.getHttpMethod(), testCase.getResponse().getResponseTimeInMs()));
+            CatsTestCaseExecutionSummary executionSummary = new CatsTestCaseExecutionSummary(testCase.getTestId(), testCase.getPath(),
+                    testCase.getHttpMethod(), testCase.getResponse().getResponseTimeInMs());
+            runSummary.addExecution(executionSummary);
+            return executionSummary;
         }
+        return null;
     }
 
     /**
@@ -321,7 +556,7 @@ public class TestCaseListener {
      *
      * @param path the path for which the progress is being reported
      */
-    public void notifySummaryObservers(String path) {
+    public synchronized void notifySummaryObservers(String path) {
         if (!reportingArguments.isSummaryInConsole()) {
             return;
         }
@@ -402,6 +637,91 @@ public class TestCaseListener {
         testCaseExporter.writeTestCase(catsTestCase);
     }
 
+    /**
+     * Renders the HTML page of a test case using the associated test case exporter.
+     *
+     * @param catsTestCase the CatsTestCase to be rendered
+     * @return the HTML page of the test case
+     */
+    public String renderTestCase(CatsTestCase catsTestCase) {
+        return testCaseExporter.renderHtmlTestCase(catsTestCase);
+    }
+
+    /**
+     * Adds a test case executed by another CATS process to the current session.
+     * The test case gets a new test number and it's accounted for in the summary and execution statistics.
+     *
+     * @param catsTestCase the test case executed by another CATS process
+     */
+    public void mergeTestCase(CatsTestCase catsTestCase) {
+        catsTestCase.setTestId("Test " + testCounter.incrementAndGet());
+        this.recordResultStatistics(catsTestCase.getResult(), catsTestCase.getContractPath());
+        testCaseExporter.writeTestCase(catsTestCase);
+        keepSummary(catsTestCase);
+        keepExecutionDetails(catsTestCase);
+    }
+
+    private void recordResultStatistics(String result, String path) {
+        switch (String.valueOf(result)) {
+            case "error" -> executionStatisticsListener.increaseErrors(path);
+            case "warn" -> executionStatisticsListener.increaseWarns(path);
+            case "success" -> executionStatisticsListener.increaseSuccess(path);
+            default -> executionStatisticsListener.increaseSkipped();
+        }
+    }
+
+    /**
+     * Starts the run journal in the reporting folder, when {@code --journal} or {@code --resume} is supplied. When resuming a previous run,
+     * test cases of the fuzzer runs completed in the previous run are restored from the journal, together with their statistics.
+     * Test case files of the fuzzer runs which did not complete are deleted, as these runs are executed again.
+     *
+     * @throws IOException if the journal cannot be read or written
+     */
+    public void startRunJournal() throws IOException {
+        Path reportingPath = testCaseExporter.getReportingPath();
+        if (reportingPath == null || !reportingArguments.isJournal()) {
+            return;
+        }
+        if (reportingArguments.isResume()) {
+            List<RunJournal.Entry> entries = runJournal.load(reportingPath);
+            entries.forEach(this::restoreTestCase);
+            Set<String> restoredTestIds = entries.stream()
+                    .map(RunJournal.Entry::summary)
+                    .filter(Objects::nonNull)
+                    .map(CatsTestCaseSummary::getId)
+                    .collect(Collectors.toSet());
+            testCaseExporter.deleteTestCaseFilesExcept(restoredTestIds);
+            logger.config(ansi().bold().a("Resuming run from {}. Restored {} test cases").reset().toString(), reportingPath, entries.size());
+        }
+        runJournal.open(reportingPath);
+    }
+
+    private void restoreTestCase(RunJournal.Entry entry) {
+        this.recordResultStatistics(entry.result(), entry.path());
+        Optional.ofNullable(entry.summary()).ifPresent(summary -> {
+            runSummary.addSummary(summary);
+            testCounter.accumulateAndGet(testNumber(summary.getId()), Math::max);
+        });
+        Optional.ofNullable(entry.executionSummary()).ifPresent(runSummary::addExecution);
+    }
+
+    private static int testNumber(String testId) {
+        String number = String.valueOf(testId).replaceAll("\\D", "");
+        return number.isEmpty() ? 0 : Integer.parseInt(number);
+    }
+
+    /**
+     * Checks if the given fuzzer already ran for the given fuzzing data in the run being resumed.
+     *
+     * @param fuzzer    the fuzzer class
+     * @param data      the fuzzing data
+     * @param dataIndex the index of the fuzzing data within the fuzzing data created for the path
+     * @return true if the fuzzer run completed in the resumed run, false otherwise
+     */
+    public boolean isFuzzerRunCompleted(Class<?> fuzzer, FuzzingData data, int dataIndex) {
+        return runJournal.isCompleted(runKey(fuzzer, data, dataIndex));
+    }
+
     /**
      * Writes helper files using the associated test case exporter.
      * This method delegates the task of writing helper files to the underlying test case exporter.
@@ -412,17 +732,29 @@ public class TestCaseListener {
 
     /**
      * Ends the test session by performing necessary actions such as writing summaries, helper files, and performance reports.
+     * Test cases still waiting to be written are written first.
      * Additionally, prints execution details using the associated logger.
      */
     public void endSession() {
+        testCaseWriter.close();
+        testCaseExporter.closeTestCaseStore();
         markPreviousPathAsDone();
         reportingArguments.enableAdditionalLoggingIfSummary();
-        testCaseExporter.writeSummary(testCaseSummaryDetails, executionStatisticsListener);
+        testCaseExporter.writeSummary(runSummary, executionStatisticsListener);
         testCaseExporter.writeHelperFiles();
-        testCaseExporter.writeErrorsByReason(testCaseSummaryDetails);
-        testCaseExporter.writePerformanceReport(testCaseExecutionDetails);
+        testCaseExporter.writeErrorsByReason(runSummary);
+        testCaseExporter.writePerformanceReport(runSummary);
         testCaseExporter.printExecutionDetails(executionStatisticsListener);
         writeRecordedErrorsIfPresent();
+        shutdownConcurrentTestsExecutor();
+        runJournal.close();
+        runSummary.close();
+    }
+
+    private synchronized void shutdownConcurrentTestsExecutor() {
+        if (concurrentTestsExecutor != null) {
+            concurrentTestsExecutor.shutdown();
+        }
     }
 
     /**
@@ -668,7 +1000,7 @@ public class TestCaseListener {
      * @param shouldMatchContentType      a flag indicating whether the response content type should match the one from the OpenAPI spec
      */
     public void reportResult(PrettyLogger logger, FuzzingData data, CatsResponse response, ResponseCodeFamily expectedResultCode, boolean shouldMatchToResponseSchema, boolean shouldMatchContentType) {
-        expectedResultCode = this.getExpectedResponseCodeConfiguredFor(MDC.get(FUZZER_KEY), expectedResultCode);
+        expectedResultCode = this.getExpectedResponseCodeConfiguredFor(this.getCurrentFuzzer(), expectedResultCode);
         boolean matchesResponseSchema = !shouldMatchToResponseSchema || this.matchesResponseSchema(response, data);
         boolean responseCodeExpected = this.isResponseCodeExpected(response, expectedResultCode);
         boolean responseCodeDocumented = this.isResponseCodeDocumented(data, response);
@@ -740,9 +1072,7 @@ public class TestCaseListener {
     private void storeRequestOnPostOrRemoveOnDelete(FuzzingData data, CatsResponse response) {
         if (data.getMethod() == HttpMethod.POST && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("POST method for path {} returned successfully {}. Storing result for DELETE endpoints...", data.getPath(), response.responseCodeAsString());
-            Deque<String> existingPosts = globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath(), new ArrayDeque<>());
-            existingPosts.add(response.getBody());
-            globalContext.getPostSuccessfulResponses().put(data.getPath(), existingPosts);
+            globalContext.getPostSuccessfulResponses().computeIfAbsent(data.getPath(), key -> new ConcurrentLinkedDeque<>()).add(response.getBody());
         } else if (data.getMethod() == HttpMethod.DELETE && ResponseCodeFamily.is2xxCode(response.getResponseCode())) {
             logger.star("Successful DELETE. Removing top POST request from the store...");
             globalContext.getPostSuccessfulResponses().getOrDefault(data.getPath().substring(0, data.getPath().lastIndexOf("/")), new ArrayDeque<>()).poll();
@@ -836,9 +1166,10 @@ public class TestCaseListener {
 
     private boolean matchesResponseSchema(CatsResponse response, FuzzingData data) {
         try {
-            List<String> responses = this.getExpectedResponsesByResponseCode(response, data);
+            List<ResponseSchemaMatcher> responses = this.getExpectedResponsesByResponseCode(response, data);
 
-            return isNullResponse(response)
+            return isBodyTruncated(response)
+                    || isNullResponse(response)
                     || isResponseEmpty(response, responses)
                     || isResponseContentTypeNotMatchable(response)
                     || isNotTypicalDocumentedResponseCode(response)
@@ -851,6 +1182,14 @@ public class TestCaseListener {
         }
     }
 
+    private boolean isBodyTruncated(CatsResponse response) {
+        if (response.isBodyTruncated()) {
+            logger.debug("Response body was truncated to --maxResponseBodyBytes. Skipping response schema matching");
+            return true;
+        }
+        return false;
+    }
+
     private boolean isNullResponse(CatsResponse response) {
         return response.getJsonBody() == null || response.getBody() == null;
     }
@@ -865,9 +1204,9 @@ public class TestCaseListener {
         return jsonElement.isJsonArray() && isEmptyBody(jsonElement.toString());
     }
 
-    private List<String> getExpectedResponsesByResponseCode(CatsResponse response, FuzzingData data) {
-        Map<String, List<String>> responsesMap = Optional.ofNullable(data.getResponses()).orElse(Collections.emptyMap());
-        List<String> responses = responsesMap.get(response.responseCodeAsString());
+    private List<ResponseSchemaMatcher> getExpectedResponsesByResponseCode(CatsResponse response, FuzzingData data) {
+        Map<String, List<ResponseSchemaMatcher>> responsesMap = Optional.ofNullable(data.getResponseSchemaMatchers()).orElse(Collections.emptyMap());
+        List<ResponseSchemaMatcher> responses = responsesMap.get(response.responseCodeAsString());
 
         if (CollectionUtils.isEmpty(responses)) {
             return responsesMap.getOrDefault(response.responseCodeAsResponseRange(),
@@ -877,8 +1216,8 @@ public class TestCaseListener {
         return responses;
     }
 
-    private boolean isActualResponseMatchingDocumentedResponses(CatsResponse response, List<String> responses) {
-        return responses != null && responses.stream().anyMatch(responseSchema -> matchesElement(responseSchema, response.getJsonBody()))
+    private boolean isActualResponseMatchingDocumentedResponses(CatsResponse response, List<ResponseSchemaMatcher> responses) {
+        return responses != null && responses.stream().anyMatch(responseSchema -> responseSchema.matches(response.getJsonBody(), globalContext.getAdditionalProperties().keySet()))
                 && (isFuzzedFieldPresentInResponse(response) || !isErrorResponse(response));
     }
 
@@ -900,7 +1239,7 @@ public class TestCaseListener {
         return NOT_NECESSARILY_DOCUMENTED.contains(response.responseCodeAsString());
     }
 
-    private boolean isResponseEmpty(CatsResponse response, List<String> responses) {
+    private boolean isResponseEmpty(CatsResponse response, List<ResponseSchemaMatcher> responses) {
         return (responses == null || responses.isEmpty()) && isEmptyBody(response.getBody());
     }
 
@@ -912,52 +1251,8 @@ public class TestCaseListener {
         return isEmptyString || isEmptyArray || isEmptyJson;
     }
 
-    private boolean matchesElement(String responseSchema, JsonElement element) {
-        if (element.isJsonArray()) {
-            return matchesArrayElement(responseSchema, element);
-        }
-
-        return matchesSingleElement(responseSchema, element, "ROOT");
-    }
-
-    private boolean matchesArrayElement(String responseSchema, JsonElement element) {
-        JsonArray jsonArray = ((JsonArray) element);
-
-        if (jsonArray.isEmpty() && JsonParser.parseString(responseSchema).isJsonArray()) {
-            return true;
-        } else if (jsonArray.isEmpty()) {
-            return false;
-        }
-
-        JsonElement firstElement = jsonArray.get(0);
-        return matchesSingleElement(responseSchema, firstElement, "ROOT");
-    }
-
-    private boolean matchesSingleElement(String responseSchema, JsonElement element, String name) {
-        if (element.isJsonObject() && globalContext.getAdditionalProperties().containsKey(name)) {
-            return true;
-        }
-        if (doesNotHaveAResponseSchema(responseSchema)) {
-            return true;
-        }
-        if (!element.isJsonObject()) {
-            return responseSchema.toLowerCase(Locale.ROOT).contains(name.toLowerCase(Locale.ROOT));
-        }
-
-        boolean matches = true;
-        for (Map.Entry<String, JsonElement> inner : element.getAsJsonObject().entrySet()) {
-            matches = matches && matchesSingleElement(responseSchema, inner.getValue(), inner.getKey());
-        }
-
-        return matches;
-    }
-
-    private static boolean doesNotHaveAResponseSchema(String responseSchema) {
-        return responseSchema == null || responseSchema.isEmpty();
-    }
-
     private CatsTestCase currentTestCase() {
-        return testCaseMap.get(MDC.get(ID));
+        return CURRENT_TEST_CASE_CONTEXT.get().getTestCase();
     }
 
     public void recordError(String error) {
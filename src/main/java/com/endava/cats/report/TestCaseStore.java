@@ -0,0 +1,296 @@
+package com.endava.cats.report;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Append-only store keeping test cases as JSON lines in a few segment files, instead of one file per test case.
+ * <p>
+ * A new segment is started when the current one exceeds the maximum segment size. Each appended test case gets a line
+ * in the index file holding the test id, the segment number, the offset and the length of the test case in the segment,
+ * so that a single test case can be read without scanning the segments. The index is loaded in memory on the first read.
+ * </p>
+ */
+public class TestCaseStore implements Closeable {
+    static final String INDEX_FILE = "test-cases.idx";
+    static final long DEFAULT_MAX_SEGMENT_SIZE = 64L * 1024 * 1024;
+    private static final Pattern SEGMENT_FILE = Pattern.compile("test-cases-(\\d{5})\\.jsonl");
+    private static final String INDEX_SEPARATOR = "\t";
+    private static final int REWRITE_BATCH_SIZE = 1000;
+
+    private final Path folder;
+    private final long maxSegmentSize;
+    private int segmentNumber;
+    private long segmentSize;
+    private FileChannel segment;
+    private FileChannel index;
+    private Map<String, IndexEntry> indexEntries;
+
+    TestCaseStore(Path folder, long maxSegmentSize) throws IOException {
+        this.folder = folder;
+        this.maxSegmentSize = maxSegmentSize;
+        this.segmentNumber = this.lastSegmentNumber();
+        Path lastSegment = this.segmentPath(segmentNumber);
+        this.segmentSize = Files.exists(lastSegment) ? Files.size(lastSegment) : 0;
+    }
+
+    /**
+     * Opens the store kept in the given folder. Appended test cases are added after the existing ones.
+     *
+     * @param folder the report folder
+     * @return the store kept in the given folder
+     * @throws IOException if the existing segments cannot be read
+     */
+    public static TestCaseStore open(Path folder) throws IOException {
+        return new TestCaseStore(folder, DEFAULT_MAX_SEGMENT_SIZE);
+    }
+
+    /**
+     * Checks if the given folder holds a test case store.
+     *
+     * @param folder the report folder
+     * @return true if test cases were stored in the given folder, false otherwise
+     */
+    public static boolean exists(Path folder) {
+        return Files.isRegularFile(folder.resolve(INDEX_FILE));
+    }
+
+    /**
+     * Appends the given test case at the end of the current segment and records it in the index.
+     *
+     * @param testId the id of the test case, as used for the report file names
+     * @param json   the test case serialized as single line JSON
+     * @throws IOException if the test case cannot be written
+     */
+    public void append(String testId, String json) throws IOException {
+        this.appendAll(Map.of(testId, json));
+    }
+
+    /**
+     * Appends the given test cases, in iteration order, and records them in the index.
+     * Test cases going to the same segment are written at once, followed by a single write of their index lines.
+     *
+     * @param testCases the test cases serialized as single line JSON, by test id
+     * @throws IOException if the test cases cannot be written
+     */
+    public synchronized void appendAll(Map<String, String> testCases) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        StringBuilder indexLines = new StringBuilder();
+        for (Map.Entry<String, String> testCase : testCases.entrySet()) {
+            byte[] line = (testCase.getValue() + "\n").getBytes(StandardCharsets.UTF_8);
+            if (segmentSize > 0 && segmentSize + line.length > maxSegmentSize) {
+                this.writeLines(lines, indexLines);
+                this.rotateSegment();
+            }
+            IndexEntry indexEntry = new IndexEntry(segmentNumber, segmentSize, line.length - 1);
+            indexLines.append(String.join(INDEX_SEPARATOR, testCase.getKey(), String.valueOf(indexEntry.segment()), String.valueOf(indexEntry.offset()), String.valueOf(indexEntry.length()))).append("\n");
+            if (indexEntries != null) {
+                indexEntries.put(testCase.getKey(), indexEntry);
+            }
+            lines.write(line);
+            segmentSize += line.length;
+        }
+        this.writeLines(lines, indexLines);
+    }
+
+    private void writeLines(ByteArrayOutputStream lines, StringBuilder indexLines) throws IOException {
+        if (lines.size() == 0) {
+            return;
+        }
+        if (segment == null) {
+            this.openSegment();
+        }
+        this.write(segment, lines.toByteArray());
+        this.write(index, indexLines.toString().getBytes(StandardCharsets.UTF_8));
+        lines.reset();
+        indexLines.setLength(0);
+    }
+
+    /**
+     * Reads the test case with the given id.
+     *
+     * @param testId the id of the test case, as used for the report file names
+     * @return the test case serialized as JSON or empty if there is no test case with the given id
+     * @throws IOException if the index or the segment cannot be read
+     */
+    public synchronized Optional<String> read(String testId) throws IOException {
+        if (indexEntries == null) {
+            indexEntries = this.loadIndex();
+        }
+        IndexEntry entry = indexEntries.get(testId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        return Optional.of(this.readAt(entry.segment(), entry.offset(), entry.length()));
+    }
+
+    /**
+     * Loads the index lines in memory. When a test id was appended several times, the last entry wins.
+     */
+    private Map<String, IndexEntry> loadIndex() throws IOException {
+        Map<String, IndexEntry> entries = new HashMap<>();
+        Path indexPath = folder.resolve(INDEX_FILE);
+        if (!Files.exists(indexPath)) {
+            return entries;
+        }
+        try (Stream<String> lines = Files.lines(indexPath, StandardCharsets.UTF_8)) {
+            lines.map(line -> line.split(INDEX_SEPARATOR))
+                    .filter(entry -> entry.length == 4)
+                    .forEach(entry -> entries.put(entry[0], new IndexEntry(Integer.parseInt(entry[1]), Long.parseLong(entry[2]), Integer.parseInt(entry[3]))));
+        }
+        return entries;
+    }
+
+    /**
+     * Reads all the stored test cases, in the order in which they were appended.
+     *
+     * @param consumer consumes each test case serialized as JSON
+     * @throws IOException if the segments cannot be read
+     */
+    public void forEach(Consumer<String> consumer) throws IOException {
+        for (Path segmentPath : this.segmentPaths()) {
+            try (BufferedReader reader = Files.newBufferedReader(segmentPath, StandardCharsets.UTF_8)) {
+                reader.lines().filter(line -> !line.isBlank()).forEach(consumer);
+            }
+        }
+    }
+
+    /**
+     * Removes all the test cases not in the given list. The segments and the index are rewritten with the kept test cases,
+     * in the order in which they were appended.
+     *
+     * @param testIds the ids of the test cases to keep, as used for the report file names
+     * @throws IOException if the segments cannot be read or rewritten
+     */
+    public synchronized void retainOnly(Set<String> testIds) throws IOException {
+        this.close();
+        if (!exists(folder)) {
+            return;
+        }
+        Map<String, IndexEntry> entries = this.loadIndex();
+        List<Map.Entry<String, IndexEntry>> keptEntries = entries.entrySet().stream()
+                .filter(entry -> testIds.contains(entry.getKey()))
+                .sorted(Comparator.comparing((Map.Entry<String, IndexEntry> entry) -> entry.getValue().segment())
+                        .thenComparing(entry -> entry.getValue().offset()))
+                .toList();
+        Path rewrittenFolder = Files.createTempDirectory(folder, "test-cases");
+        try (TestCaseStore rewritten = new TestCaseStore(rewrittenFolder, maxSegmentSize)) {
+            Map<String, String> batch = new LinkedHashMap<>();
+            for (Map.Entry<String, IndexEntry> entry : keptEntries) {
+                batch.put(entry.getKey(), this.readAt(entry.getValue().segment(), entry.getValue().offset(), entry.getValue().length()));
+                if (batch.size() == REWRITE_BATCH_SIZE) {
+                    rewritten.appendAll(batch);
+                    batch.clear();
+                }
+            }
+            rewritten.appendAll(batch);
+        }
+        for (Path segmentPath : this.segmentPaths()) {
+            Files.delete(segmentPath);
+        }
+        Files.deleteIfExists(folder.resolve(INDEX_FILE));
+        try (Stream<Path> files = Files.list(rewrittenFolder)) {
+            for (Path file : files.toList()) {
+                Files.move(file, folder.resolve(file.getFileName()));
+            }
+        }
+        Files.delete(rewrittenFolder);
+        indexEntries = null;
+        segmentNumber = this.lastSegmentNumber();
+        Path lastSegment = this.segmentPath(segmentNumber);
+        segmentSize = Files.exists(lastSegment) ? Files.size(lastSegment) : 0;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (segment != null) {
+            segment.close();
+            segment = null;
+        }
+        if (index != null) {
+            index.close();
+            index = null;
+        }
+    }
+
+    private String readAt(int segmentNumber, long offset, int length) throws IOException {
+        try (FileChannel channel = FileChannel.open(this.segmentPath(segmentNumber), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining() && channel.read(buffer, offset + buffer.position()) >= 0) {
+                //read until the buffer is full or the end of the segment is reached
+            }
+            return new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private void rotateSegment() throws IOException {
+        if (segment != null) {
+            segment.close();
+            segment = null;
+        }
+        segmentNumber++;
+        segmentSize = 0;
+    }
+
+    private void openSegment() throws IOException {
+        Files.createDirectories(folder);
+        segment = FileChannel.open(this.segmentPath(segmentNumber), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (index == null) {
+            index = FileChannel.open(folder.resolve(INDEX_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+    }
+
+    private void write(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private int lastSegmentNumber() throws IOException {
+        List<Path> segments = this.segmentPaths();
+        return segments.isEmpty() ? 0 : segmentNumber(segments.getLast());
+    }
+
+    private List<Path> segmentPaths() throws IOException {
+        if (!Files.isDirectory(folder)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(folder)) {
+            return files.filter(file -> SEGMENT_FILE.matcher(file.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private record IndexEntry(int segment, long offset, int length) {
+    }
+
+    private static int segmentNumber(Path segmentPath) {
+        Matcher matcher = SEGMENT_FILE.matcher(segmentPath.getFileName().toString());
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+
+    private Path segmentPath(int number) {
+        return folder.resolve("test-cases-%05d.jsonl".formatted(number));
+    }
+}
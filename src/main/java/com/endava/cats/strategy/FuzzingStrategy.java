@@ -4,6 +4,8 @@ import com.endava.cats.generator.simple.StringGenerator;
 import com.endava.cats.util.JsonUtils;
 import com.endava.cats.util.CatsUtil;
 import com.endava.cats.util.FuzzingResult;
+import com.endava.cats.util.LargeValue;
+import com.endava.cats.util.PayloadTemplate;
 import com.endava.cats.util.WordUtils;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
@@ -15,6 +17,7 @@ import org.springframework.util.CollectionUtils;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -32,6 +35,8 @@ import java.util.regex.Pattern;
 public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, NoopFuzzingStrategy,
         PrefixFuzzingStrategy, ReplaceFuzzingStrategy, SkipFuzzingStrategy, TrailFuzzingStrategy {
     private static final Pattern ALL = Pattern.compile("^[\\p{C}\\p{Z}\\p{So}\\p{Sk}\\p{M}]+[\\p{C}\\p{Z}\\p{So}\\p{Sk}\\p{M}]*$");
+    private static final String LARGE_STRING_PREFIX = "ca";
+    private static final String LARGE_STRING_SUFFIX = "ts";
     private static final Pattern WITHIN = Pattern.compile("([\\p{C}\\p{Z}\\p{So}\\p{Sk}\\p{M}]+|జ్ఞ\u200Cా|স্র\u200Cু)");
 
     /**
@@ -176,7 +181,7 @@ public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, Noop
     }
 
     static boolean isLargeString(String data) {
-        return data.startsWith("ca") && data.endsWith("ts");
+        return data.startsWith(LARGE_STRING_PREFIX) && data.endsWith(LARGE_STRING_SUFFIX);
     }
 
     /**
@@ -190,6 +195,26 @@ public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, Noop
         return this;
     }
 
+    /**
+     * Creates a new FuzzingStrategy of the same type as the current one, holding the specified data.
+     * Unlike {@link #withData(Object)}, the current strategy is not modified, which makes it safe to use
+     * when test cases are executed in parallel.
+     *
+     * @param inner the data to be set for the new FuzzingStrategy
+     * @return a new FuzzingStrategy of the same type with the specified data
+     */
+    public FuzzingStrategy copyWithData(Object inner) {
+        FuzzingStrategy copy = switch (this) {
+            case PrefixFuzzingStrategy ignored -> prefix();
+            case NoopFuzzingStrategy ignored -> noop();
+            case ReplaceFuzzingStrategy ignored -> replace();
+            case SkipFuzzingStrategy ignored -> skip();
+            case TrailFuzzingStrategy ignored -> trail();
+            case InsertFuzzingStrategy ignored -> insert();
+        };
+        return copy.withData(inner);
+    }
+
     /**
      * Checks if the current FuzzingStrategy is a SkipFuzzingStrategy.
      *
@@ -206,11 +231,14 @@ public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, Noop
 
     /**
      * Gets a truncated representation of the data associated with the FuzzingStrategy.
-     * If the data is null, returns the name of the strategy.
+     * If the data is null, returns the name of the strategy. Large values are represented by their descriptor.
      *
      * @return a truncated representation of the data or the name of the strategy if the data is null
      */
     public String truncatedValue() {
+        if (data instanceof LargeValue largeValue) {
+            return this.name() + " with " + largeValue.getDescriptor();
+        }
         if (data != null) {
             String toPrint = String.valueOf(data);
             if (toPrint.length() > 30) {
@@ -245,12 +273,23 @@ public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, Noop
      * @return a list containing a single FuzzingStrategy for large values
      */
     public static List<FuzzingStrategy> getLargeValuesStrategy(int largeStringsSize) {
+        return Collections.singletonList(FuzzingStrategy.replace().withData(generateLargeUnicodeValue(largeStringsSize).materialize()));
+    }
+
+    /**
+     * Generates a marked large unicode value, based on the specified size. Unlike {@link #getLargeValuesStrategy(int)},
+     * the value is not materialized, so it can be streamed when sent in request payloads.
+     *
+     * @param largeStringsSize the desired size for the large value
+     * @return a large unicode value
+     */
+    public static LargeValue generateLargeUnicodeValue(int largeStringsSize) {
         String generatedValue = StringGenerator.generateRandomUnicode();
         int payloadSize = largeStringsSize / generatedValue.length();
         if (payloadSize == 0) {
-            return Collections.singletonList(FuzzingStrategy.replace().withData(markLargeString(generatedValue.substring(0, largeStringsSize))));
+            return LargeValue.of(LARGE_STRING_PREFIX, generatedValue.substring(0, largeStringsSize), 1, LARGE_STRING_SUFFIX);
         }
-        return Collections.singletonList(FuzzingStrategy.replace().withData(markLargeString(StringUtils.repeat(generatedValue, payloadSize + 1))));
+        return LargeValue.of(LARGE_STRING_PREFIX, generatedValue, payloadSize + 1, LARGE_STRING_SUFFIX);
     }
 
     /**
@@ -260,7 +299,7 @@ public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, Noop
      * @return the marked large string with added prefix and suffix
      */
     public static String markLargeString(String input) {
-        return "ca" + input + "ts";
+        return LARGE_STRING_PREFIX + input + LARGE_STRING_SUFFIX;
     }
 
     /**
@@ -331,25 +370,57 @@ public abstract sealed class FuzzingStrategy permits InsertFuzzingStrategy, Noop
      */
     public static FuzzingResult replaceField(String payload, String jsonPropertyForReplacement, FuzzingStrategy fuzzingStrategyToApply, boolean mergeFuzzing) {
         if (StringUtils.isNotBlank(payload)) {
-            String jsonPropToGetValue = jsonPropertyForReplacement;
-            if (JsonUtils.isJsonArray(payload)) {
-                jsonPropToGetValue = JsonUtils.FIRST_ELEMENT_FROM_ROOT_ARRAY + jsonPropertyForReplacement;
-                jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
-            }
-            DocumentContext jsonDocument = JsonPath.parse(payload);
-            Object oldValue = jsonDocument.read(JsonUtils.sanitizeToJsonPath(jsonPropToGetValue));
-            if (oldValue instanceof JSONArray && !jsonPropToGetValue.contains("[*]")) {
-                oldValue = jsonDocument.read("$." + jsonPropToGetValue + "[0]");
-                jsonPropertyForReplacement = "$." + jsonPropertyForReplacement + "[*]";
-            }
-            Object valueToSet = fuzzingStrategyToApply.process(oldValue);
-            if (mergeFuzzing) {
-                valueToSet = FuzzingStrategy.mergeFuzzing(WordUtils.nullOrValueOf(oldValue), fuzzingStrategyToApply.getData());
-            }
-            CatsUtil.replaceOldValueWithNewOne(jsonPropertyForReplacement, jsonDocument, valueToSet);
+            return replaceField(JsonPath.parse(payload), jsonPropertyForReplacement, fuzzingStrategyToApply, mergeFuzzing);
+        }
+        return FuzzingResult.empty();
+    }
 
-            return new FuzzingResult(jsonDocument.jsonString(), valueToSet);
+    /**
+     * Same as {@link #replaceField(String, String, FuzzingStrategy)}, but starting from an already parsed payload.
+     * The parsed payload is not modified. Only the JSON nodes on the path towards the replaced field are copied, which
+     * avoids parsing the entire payload for each fuzzed value.
+     *
+     * @param parsedPayload              the payload parsed using {@link JsonUtils#parsePayload(String)}
+     * @param jsonPropertyForReplacement the JSON property representing the field to be replaced
+     * @param fuzzingStrategyToApply     the fuzzing strategy to apply for replacement
+     * @return a FuzzingResult containing the modified payload and information about the replacement
+     */
+    public static FuzzingResult replaceFieldInParsedPayload(Object parsedPayload, String jsonPropertyForReplacement, FuzzingStrategy fuzzingStrategyToApply) {
+        if (parsedPayload != null) {
+            String propertyToCopy = parsedPayload instanceof List<?> ? JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement : jsonPropertyForReplacement;
+            return replaceField(JsonPath.parse(JsonUtils.copyOnWrite(parsedPayload, propertyToCopy)), jsonPropertyForReplacement, fuzzingStrategyToApply, false);
         }
         return FuzzingResult.empty();
     }
+
+    /**
+     * Replaces the field of the given payload template using the provided fuzzing strategy, without parsing the payload.
+     *
+     * @param payloadTemplate        the payload template of the field to be replaced
+     * @param fuzzingStrategyToApply the fuzzing strategy to apply for replacement
+     * @return a FuzzingResult containing the modified payload or empty if the fuzzed value cannot be set using the template
+     */
+    public static Optional<FuzzingResult> replaceFieldInTemplate(PayloadTemplate payloadTemplate, FuzzingStrategy fuzzingStrategyToApply) {
+        return payloadTemplate.fill(fuzzingStrategyToApply.process(payloadTemplate.getOldValue()));
+    }
+
+    private static FuzzingResult replaceField(DocumentContext jsonDocument, String jsonPropertyForReplacement, FuzzingStrategy fuzzingStrategyToApply, boolean mergeFuzzing) {
+        String jsonPropToGetValue = jsonPropertyForReplacement;
+        if (jsonDocument.json() instanceof JSONArray) {
+            jsonPropToGetValue = JsonUtils.FIRST_ELEMENT_FROM_ROOT_ARRAY + jsonPropertyForReplacement;
+            jsonPropertyForReplacement = JsonUtils.ALL_ELEMENTS_ROOT_ARRAY + jsonPropertyForReplacement;
+        }
+        Object oldValue = jsonDocument.read(JsonUtils.toCompiledJsonPath(jsonPropToGetValue));
+        if (oldValue instanceof JSONArray && !jsonPropToGetValue.contains("[*]")) {
+            oldValue = jsonDocument.read("$." + jsonPropToGetValue + "[0]");
+            jsonPropertyForReplacement = "$." + jsonPropertyForReplacement + "[*]";
+        }
+        Object valueToSet = fuzzingStrategyToApply.process(oldValue);
+        if (mergeFuzzing) {
+            valueToSet = FuzzingStrategy.mergeFuzzing(WordUtils.nullOrValueOf(oldValue), fuzzingStrategyToApply.getData());
+        }
+        CatsUtil.replaceOldValueWithNewOne(jsonPropertyForReplacement, jsonDocument, valueToSet);
+
+        return new FuzzingResult(jsonDocument.jsonString(), valueToSet);
+    }
 }
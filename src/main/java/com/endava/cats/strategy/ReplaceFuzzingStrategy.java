@@ -1,12 +1,18 @@
 package com.endava.cats.strategy;
 
+import com.endava.cats.util.LargeValue;
+
 /**
  * Fuzzing strategy that replaces valid data with fuzzed values.
+ * {@link LargeValue}s are replaced with their descriptor, the actual value being streamed when the request is sent.
  */
 public final class ReplaceFuzzingStrategy extends FuzzingStrategy {
 
     @Override
     public Object process(Object value) {
+        if (data instanceof LargeValue largeValue) {
+            return largeValue.getDescriptor();
+        }
         return data;
     }
 
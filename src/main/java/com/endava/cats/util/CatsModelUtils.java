@@ -173,7 +173,7 @@ public abstract class CatsModelUtils {
      * @return true if the field name contains a complex regex, false otherwise
      */
     public static boolean isUri(String pattern, String lowerField) {
-        return (lowerField.contains("url") || lowerField.contains("uri")) && ("http://www.test.com".matches(pattern) || "https://www.test.com".matches(pattern));
+        return (lowerField.contains("url") || lowerField.contains("uri")) && (CompiledPatterns.matches("http://www.test.com", pattern) || CompiledPatterns.matches("https://www.test.com", pattern));
     }
 
     /**
@@ -184,7 +184,7 @@ public abstract class CatsModelUtils {
      * @return true if the field name contains a complex regex, false otherwise
      */
     public static boolean isEmail(String pattern, String lowerField) {
-        return lowerField.contains("email") && "test@test.com".matches(pattern);
+        return lowerField.contains("email") && CompiledPatterns.matches("test@test.com", pattern);
     }
 
     /**
@@ -195,6 +195,6 @@ public abstract class CatsModelUtils {
      * @return true if the field name contains a complex regex, false otherwise
      */
     public static boolean isPassword(String pattern, String lowerField) {
-        return lowerField.contains("password") && "catsISc00l?!useIt#".matches(pattern);
+        return lowerField.contains("password") && CompiledPatterns.matches("catsISc00l?!useIt#", pattern);
     }
 }
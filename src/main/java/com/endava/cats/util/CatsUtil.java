@@ -130,12 +130,12 @@ public abstract class CatsUtil {
                 jsonPropertyForReplacement = removeArrayTermination(jsonPropertyForReplacement);
             }
             try {
-                jsonDocument.set(JsonUtils.sanitizeToJsonPath(jsonPropertyForReplacement), JsonUtils.JSON_PERMISSIVE_PARSER.parse(String.valueOf(valueToSet)));
+                jsonDocument.set(JsonUtils.toCompiledJsonPath(jsonPropertyForReplacement), JsonUtils.JSON_PERMISSIVE_PARSER.parse(String.valueOf(valueToSet)));
             } catch (ParseException e) {
                 throw new CatsException(e);
             }
         } else {
-            jsonDocument.set(JsonUtils.sanitizeToJsonPath(jsonPropertyForReplacement), valueToSet);
+            jsonDocument.set(JsonUtils.toCompiledJsonPath(jsonPropertyForReplacement), valueToSet);
         }
     }
 
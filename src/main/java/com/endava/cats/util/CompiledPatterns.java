@@ -0,0 +1,42 @@
+package com.endava.cats.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.regex.Pattern;
+
+/**
+ * Bounded cache of compiled regexes. Patterns coming from contracts and arguments are matched against many values
+ * during a run, so each of them is compiled only once.
+ */
+public final class CompiledPatterns {
+    private static final int COMPILED_PATTERNS_CACHE_SIZE = 10_000;
+    private static final Cache<String, Pattern> COMPILED_PATTERNS = CacheBuilder.newBuilder().maximumSize(COMPILED_PATTERNS_CACHE_SIZE).build();
+
+    private CompiledPatterns() {
+        //ntd
+    }
+
+    /**
+     * Returns the compiled version of the given regex, compiling it only the first time.
+     *
+     * @param regex the regex
+     * @return the compiled regex
+     * @throws java.util.regex.PatternSyntaxException if the given regex is not valid
+     */
+    public static Pattern compile(String regex) {
+        return COMPILED_PATTERNS.asMap().computeIfAbsent(regex, Pattern::compile);
+    }
+
+    /**
+     * Same as {@link String#matches(String)}, but using the cached compiled regex.
+     *
+     * @param input the value to match
+     * @param regex the regex
+     * @return true if the entire input matches the regex, false otherwise
+     * @throws java.util.regex.PatternSyntaxException if the given regex is not valid
+     */
+    public static boolean matches(CharSequence input, String regex) {
+        return compile(regex).matcher(input).matches();
+    }
+}
@@ -3,6 +3,8 @@ package com.endava.cats.util;
 import com.endava.cats.model.ann.ExcludeTestCaseStrategy;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
@@ -37,6 +39,7 @@ import java.io.StringReader;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -76,6 +79,9 @@ public abstract class JsonUtils {
 
     private static final Pattern JSON_SQUARE_BR_KEYS = Pattern.compile("\\w+(\\[(?>[a-zA-Z0-9_*]*[a-zA-Z][a-zA-Z0-9_*]*)])+\\w*");
     private static final Pattern EMPTY_SQUARE_BRACKETS = Pattern.compile("\\w+\\[]\\w*");
+    private static final Pattern PATH_SEGMENT = Pattern.compile("([^\\[\\]]*)((?:\\[\\*])*)");
+    private static final Pattern PROPERTY_SEPARATOR = Pattern.compile("[#.]");
+    private static final String ALL_ELEMENTS = "[*]";
 
 
     /**
@@ -112,6 +118,10 @@ public abstract class JsonUtils {
 
     private static final ParseContext PARSE_CONTEXT = new ParseContextImpl(JACKSON_JSON_NODE_CONFIGURATION);
 
+    private static final int COMPILED_PATHS_CACHE_SIZE = 10_000;
+    /*field names are sanitized and compiled only once, as the same fields are read and replaced for each test case*/
+    private static final Cache<String, JsonPath> COMPILED_PATHS = CacheBuilder.newBuilder().maximumSize(COMPILED_PATHS_CACHE_SIZE).build();
+
     private JsonUtils() {
         //ntd
     }
@@ -150,6 +160,18 @@ public abstract class JsonUtils {
         return escapeFullPath(escapeSpaces(input.replace("#", ".")));
     }
 
+    /**
+     * Same as {@link #sanitizeToJsonPath(String)}, but returns the compiled JsonPath. Compiled paths are cached,
+     * so each field is sanitized and compiled only once.
+     *
+     * @param input the input path
+     * @return the compiled JsonPath of the given path
+     * @throws InvalidPathException if the given path is not a valid JsonPath
+     */
+    public static JsonPath toCompiledJsonPath(String input) {
+        return COMPILED_PATHS.asMap().computeIfAbsent(input, key -> JsonPath.compile(sanitizeToJsonPath(key)));
+    }
+
     /**
      * Checks if the 2 input strings are equal as JSON elements.
      *
@@ -227,7 +249,7 @@ public abstract class JsonUtils {
             property = FIRST_ELEMENT_FROM_ROOT_ARRAY + property;
         }
 
-        JsonNode jsonNode = PARSE_CONTEXT.parse(payload).read(JsonUtils.sanitizeToJsonPath(property));
+        JsonNode jsonNode = PARSE_CONTEXT.parse(payload).read(toCompiledJsonPath(property));
         return testFunction.test(jsonNode);
     }
 
@@ -300,7 +322,7 @@ public abstract class JsonUtils {
     public static String deleteNode(String payload, String node) {
         if (StringUtils.isNotBlank(payload)) {
             try {
-                return JsonPath.parse(payload).delete(sanitizeToJsonPath(node)).jsonString();
+                return JsonPath.parse(payload).delete(toCompiledJsonPath(node)).jsonString();
             } catch (PathNotFoundException e) {
                 return payload;
             }
@@ -450,14 +472,103 @@ public abstract class JsonUtils {
      */
     public static Object getVariableFromJson(String jsonPayload, String value) {
         try {
-            DocumentContext jsonDoc = JsonPath.parse(jsonPayload);
-            return jsonDoc.read(JsonUtils.sanitizeToJsonPath(value));
+            return getVariableFromParsedJson(JsonPath.parse(jsonPayload), value);
         } catch (JsonPathException | IllegalArgumentException e) {
             LOGGER.debug("Expected variable {} was not found. Setting to NOT_SET", value);
             return NOT_SET;
         }
     }
 
+    /**
+     * Same as {@link #getVariableFromJson(String, String)}, but reads the value from an already parsed JSON.
+     *
+     * @param parsedJson the JSON parsed using {@link #parsePayload(String)}
+     * @param value      The JSON variable to retrieve. Use JSONPath notation to specify the variable.
+     * @return The value of the specified JSON variable. Returns {@code NOT_SET} if the variable is not found.
+     */
+    public static Object getVariableFromParsedJson(Object parsedJson, String value) {
+        try {
+            return getVariableFromParsedJson(JsonPath.parse(parsedJson), value);
+        } catch (JsonPathException | IllegalArgumentException e) {
+            LOGGER.debug("Expected variable {} was not found. Setting to NOT_SET", value);
+            return NOT_SET;
+        }
+    }
+
+    private static Object getVariableFromParsedJson(DocumentContext jsonDoc, String value) {
+        return jsonDoc.read(toCompiledJsonPath(value));
+    }
+
+    /**
+     * Parses the given payload into the tree of maps and lists used by {@link JsonPath#parse(String)}.
+     * The result can be used for multiple reads and, through {@link #copyOnWrite(Object, String)}, for multiple
+     * updates, without parsing the payload again.
+     *
+     * @param payload the JSON payload
+     * @return the parsed payload or null if the payload is blank
+     */
+    public static Object parsePayload(String payload) {
+        if (StringUtils.isBlank(payload)) {
+            return null;
+        }
+        return Configuration.defaultConfiguration().jsonProvider().parse(payload);
+    }
+
+    /**
+     * Returns a copy of a JSON parsed with {@link #parsePayload(String)} which can be safely updated at the given property.
+     * Only the objects and arrays on the path towards the given property are copied, all the other nodes are shared
+     * with the original JSON. The original JSON must not be modified.
+     *
+     * @param parsedJson   the parsed JSON
+     * @param jsonProperty the property which will be updated, using the {@code #} or {@code .} separators
+     * @return a copy of the parsed JSON
+     */
+    public static Object copyOnWrite(Object parsedJson, String jsonProperty) {
+        String property = StringUtils.removeStart(StringUtils.removeStart(jsonProperty, "$"), ".");
+        List<String> segments = new ArrayList<>();
+        for (String segment : PROPERTY_SEPARATOR.split(property)) {
+            Matcher matcher = PATH_SEGMENT.matcher(segment);
+            if (!matcher.matches()) {
+                /*complex JSON paths are not parsed, the entire JSON is copied*/
+                return copyPath(parsedJson, null, 0);
+            }
+            if (!matcher.group(1).isEmpty()) {
+                segments.add(matcher.group(1));
+            }
+            for (int i = 0; i < matcher.group(2).length() / ALL_ELEMENTS.length(); i++) {
+                segments.add(ALL_ELEMENTS);
+            }
+        }
+        return copyPath(parsedJson, segments, 0);
+    }
+
+    /**
+     * Copies the given node and its children on the path given by {@code segments}. When {@code segments} is null, all children are copied.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object copyPath(Object node, List<String> segments, int index) {
+        boolean copyAll = segments == null;
+        if (node instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>((Map<String, Object>) map);
+            if (copyAll) {
+                copy.replaceAll((key, child) -> copyPath(child, null, 0));
+            } else if (index < segments.size() && copy.containsKey(segments.get(index))) {
+                copy.put(segments.get(index), copyPath(copy.get(segments.get(index)), segments, index + 1));
+            }
+            return copy;
+        }
+        if (node instanceof List<?> list) {
+            JSONArray copy = new JSONArray(list.size());
+            /*arrays are traversed for [*], but also when JsonPath would step into all elements of an array*/
+            int nextIndex = !copyAll && index < segments.size() && ALL_ELEMENTS.equals(segments.get(index)) ? index + 1 : index;
+            for (Object child : list) {
+                copy.add(copyAll || index < segments.size() ? copyPath(child, segments, nextIndex) : child);
+            }
+            return copy;
+        }
+        return node;
+    }
+
     /**
      * Checks if the given field is present in the given json payload.
      *
@@ -469,6 +580,17 @@ public abstract class JsonUtils {
         return !NOT_SET.equalsIgnoreCase(String.valueOf(getVariableFromJson(jsonPayload, field)));
     }
 
+    /**
+     * Same as {@link #isFieldInJson(String, String)}, but checks an already parsed payload.
+     *
+     * @param parsedJson the JSON parsed using {@link #parsePayload(String)}
+     * @param field      the field to search
+     * @return true if the field is found inside the given payload, false otherwise
+     */
+    public static boolean isFieldInParsedJson(Object parsedJson, String field) {
+        return !NOT_SET.equalsIgnoreCase(String.valueOf(getVariableFromParsedJson(parsedJson, field)));
+    }
+
     /**
      * Checks if the given payload is null, empty or {}.
      *
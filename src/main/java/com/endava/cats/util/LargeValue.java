@@ -0,0 +1,126 @@
+package com.endava.cats.util;
+
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import net.minidev.json.JSONStyle;
+import net.minidev.json.JSONValue;
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A very large string value made of a unit repeated many times, surrounded by a prefix and a suffix.
+ * <p>
+ * Large values are not materialized inside request payloads. The payload holds a short descriptor in place
+ * of the value, like {@code [CATS large value: ca + 37 x U+1F600 + ts]}, which is also what gets reported.
+ * The actual value is written directly into the request body when the request is sent.
+ * </p>
+ */
+@Getter
+public final class LargeValue {
+    private static final String DESCRIPTOR_START = "[CATS large value: ";
+    private static final String DESCRIPTOR_END = "]";
+
+    private final String prefix;
+    private final String unit;
+    private final int repetitions;
+    private final String suffix;
+    private final String descriptor;
+
+    private LargeValue(String prefix, String unit, int repetitions, String suffix) {
+        this.prefix = prefix;
+        this.unit = unit;
+        this.repetitions = repetitions;
+        this.suffix = suffix;
+        this.descriptor = DESCRIPTOR_START + describe(prefix, unit, repetitions, suffix) + DESCRIPTOR_END;
+    }
+
+    /**
+     * Creates a large value repeating the given unit.
+     *
+     * @param prefix      the text before the repeated unit
+     * @param unit        the repeated text
+     * @param repetitions how many times the unit is repeated
+     * @param suffix      the text after the repeated unit
+     * @return a new large value
+     */
+    public static LargeValue of(String prefix, String unit, int repetitions, String suffix) {
+        return new LargeValue(prefix, unit, repetitions, suffix);
+    }
+
+    /**
+     * Returns the length of the value, in chars, without materializing it.
+     *
+     * @return the length of the value
+     */
+    public long length() {
+        return prefix.length() + (long) unit.length() * repetitions + suffix.length();
+    }
+
+    /**
+     * Builds the entire value. This should only be used when the value cannot be streamed, like for headers.
+     *
+     * @return the entire value
+     */
+    public String materialize() {
+        return prefix + StringUtils.repeat(unit, repetitions) + suffix;
+    }
+
+    /**
+     * Returns the same value having all parts escaped for being written inside a JSON string.
+     * The escaping is the same one used by JsonPath when serializing payloads.
+     *
+     * @return the JSON escaped value
+     */
+    public LargeValue jsonEscaped() {
+        return new LargeValue(escape(prefix), escape(unit), repetitions, escape(suffix));
+    }
+
+    /**
+     * Replaces the descriptor of this value inside the given JSON payload with the entire value.
+     *
+     * @param json a JSON payload holding the descriptor of this value
+     * @return the payload with the entire value in place of the descriptor
+     */
+    public String materializeIn(String json) {
+        if (json == null || !json.contains(descriptor)) {
+            return json;
+        }
+        return json.replace(descriptor, this.jsonEscaped().materialize());
+    }
+
+    @Override
+    public String toString() {
+        return descriptor;
+    }
+
+    private static String escape(String text) {
+        return JSONValue.escape(text, JSONStyle.LT_COMPRESS);
+    }
+
+    private static String describe(String prefix, String unit, int repetitions, String suffix) {
+        StringBuilder builder = new StringBuilder();
+        if (!prefix.isEmpty()) {
+            builder.append(describe(prefix)).append(" + ");
+        }
+        builder.append(repetitions).append(" x ").append(describe(unit));
+        if (!suffix.isEmpty()) {
+            builder.append(" + ").append(describe(suffix));
+        }
+        return builder.toString();
+    }
+
+    /*
+     * The descriptor must not change when serialized as a JSON string, so only letters, digits and a few safe symbols are used.
+     */
+    private static String describe(String text) {
+        if (StringUtils.isAsciiPrintable(text) && StringUtils.isAlphanumeric(text)) {
+            return text;
+        }
+        if (text.codePointCount(0, text.length()) == 1) {
+            return String.format("U+%04X", text.codePointAt(0));
+        }
+        return "unicode sequence " + Hashing.murmur3_32_fixed().hashString(text, StandardCharsets.UTF_8)
+                + " of " + text.length() + " chars";
+    }
+}
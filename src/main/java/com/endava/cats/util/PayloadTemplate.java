@@ -0,0 +1,106 @@
+package com.endava.cats.util;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.json.JsonProvider;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A payload pre-serialized around the value of a single field.
+ * <p>
+ * The payload is split in the text before and the text after the value of the field. Replacing the field value
+ * only requires encoding the new value and concatenating it with the two segments, without parsing or serializing
+ * the payload again. The segments are produced using the same {@link JsonProvider} as the JsonPath based replacement,
+ * so the result is identical to setting the value using JsonPath.
+ * </p>
+ * Templates can only be compiled for fields holding a scalar value, outside arrays.
+ */
+public final class PayloadTemplate {
+    private static final String ALL_ELEMENTS = "[*]";
+
+    private final JsonProvider jsonProvider;
+    private final String beforeValue;
+    private final String afterValue;
+    private final Object oldValue;
+
+    private PayloadTemplate(JsonProvider jsonProvider, String beforeValue, String afterValue, Object oldValue) {
+        this.jsonProvider = jsonProvider;
+        this.beforeValue = beforeValue;
+        this.afterValue = afterValue;
+        this.oldValue = oldValue;
+    }
+
+    /**
+     * Compiles a template for the given field.
+     *
+     * @param payload       the JSON payload
+     * @param field         the field, in CATS {@code #} separated format
+     * @param configuration the JsonPath configuration used to parse and serialize the payload
+     * @return a template for the given field or empty if the field is not a single scalar value in the payload
+     */
+    public static Optional<PayloadTemplate> compile(String payload, String field, Configuration configuration) {
+        if (StringUtils.isBlank(payload) || field.contains(ALL_ELEMENTS)) {
+            return Optional.empty();
+        }
+        JsonProvider jsonProvider = configuration.jsonProvider();
+        try {
+            DocumentContext jsonDocument = JsonPath.using(configuration).parse(payload);
+            JsonPath jsonPath = JsonUtils.toCompiledJsonPath(field);
+            Object oldValue = jsonDocument.read(jsonPath);
+            if (jsonProvider.isArray(jsonDocument.json()) || jsonProvider.isArray(oldValue) || jsonProvider.isMap(oldValue)) {
+                return Optional.empty();
+            }
+            String slotValue = "cats-slot-" + UUID.randomUUID();
+            String slot = encode(jsonProvider, slotValue);
+            String serialized = jsonDocument.set(jsonPath, slotValue).jsonString();
+            int slotIndex = serialized.indexOf(slot);
+            if (slotIndex < 0 || slotIndex != serialized.lastIndexOf(slot)) {
+                return Optional.empty();
+            }
+            return Optional.of(new PayloadTemplate(jsonProvider, serialized.substring(0, slotIndex),
+                    serialized.substring(slotIndex + slot.length()), oldValue));
+        } catch (InvalidPathException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the value of the field in the original payload.
+     *
+     * @return the current value of the field
+     */
+    public Object getOldValue() {
+        return oldValue;
+    }
+
+    /**
+     * Creates the payload having the given value set for the field. Only strings, numbers and booleans can be set.
+     * Other values, including strings which are valid JSON objects or arrays, must be set using JsonPath.
+     *
+     * @param value the new field value
+     * @return the resulting payload or empty if the value cannot be set using the template
+     */
+    public Optional<FuzzingResult> fill(Object value) {
+        if (!(value instanceof String || value instanceof Number || value instanceof Boolean) || JsonUtils.isValidJson(String.valueOf(value))) {
+            return Optional.empty();
+        }
+        String encodedValue = encode(jsonProvider, value);
+        String json = new StringBuilder(beforeValue.length() + encodedValue.length() + afterValue.length())
+                .append(beforeValue).append(encodedValue).append(afterValue).toString();
+
+        return Optional.of(new FuzzingResult(json, value));
+    }
+
+    private static String encode(JsonProvider jsonProvider, Object value) {
+        Object array = jsonProvider.createArray();
+        jsonProvider.setArrayIndex(array, 0, value);
+        String serializedArray = jsonProvider.toJson(array);
+
+        return serializedArray.substring(1, serializedArray.length() - 1).trim();
+    }
+}
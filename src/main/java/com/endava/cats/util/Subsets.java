@@ -0,0 +1,235 @@
+package com.endava.cats.util;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.math.LongMath;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Subsets of a collection of elements, generated lazily while iterating.
+ * <p>
+ * Each subset is encoded as a bitset over the initial elements and only turned into a {@code Set} when returned,
+ * so only the current subset is kept in memory, regardless of how many subsets there are.
+ * When a budget is set using {@link #sampled(int)} and there are more subsets than the budget, distinct random subsets
+ * are returned until the budget is reached.
+ * </p>
+ *
+ * @param <T> the type of the elements
+ */
+public final class Subsets<T> implements Iterable<Set<T>> {
+    private final List<T> elements;
+    private final Kind kind;
+    private final int maxSize;
+    private final int budget;
+
+    private Subsets(List<T> elements, Kind kind, int maxSize, int budget) {
+        this.elements = elements;
+        this.kind = kind;
+        this.maxSize = maxSize;
+        this.budget = budget;
+    }
+
+    /**
+     * All subsets of the given elements, including the empty set, in Gray code order.
+     * Each subset differs from the previous one by exactly one element.
+     *
+     * @param elements the initial elements
+     * @param <T>      the type of the elements
+     * @return all subsets of the given elements
+     */
+    public static <T> Subsets<T> powerSet(Collection<T> elements) {
+        return new Subsets<>(new ArrayList<>(elements), Kind.POWER_SET, elements.size(), 0);
+    }
+
+    /**
+     * All non-empty subsets having at most {@code maxSize} elements, starting with the largest ones.
+     * Subsets of the same size are returned in lexicographic order of the element positions.
+     *
+     * @param elements the initial elements
+     * @param maxSize  the maximum size of a subset
+     * @param <T>      the type of the elements
+     * @return all non-empty subsets of at most the given size
+     */
+    public static <T> Subsets<T> upToSize(Collection<T> elements, int maxSize) {
+        return new Subsets<>(new ArrayList<>(elements), Kind.UP_TO_SIZE, Math.min(maxSize, elements.size()), 0);
+    }
+
+    /**
+     * One subset for each of the given elements.
+     *
+     * @param elements the initial elements
+     * @param <T>      the type of the elements
+     * @return one single element subset for each element
+     */
+    public static <T> Subsets<T> singletons(Collection<T> elements) {
+        return new Subsets<>(new ArrayList<>(elements), Kind.UP_TO_SIZE, Math.min(1, elements.size()), 0);
+    }
+
+    /**
+     * Returns the same subsets, but limited to the given budget. If there are more subsets than the budget,
+     * random distinct subsets are returned instead of the first ones.
+     *
+     * @param budget the maximum number of subsets; 0 or less for no limit
+     * @return the subsets limited to the given budget
+     */
+    public Subsets<T> sampled(int budget) {
+        return new Subsets<>(elements, kind, maxSize, budget);
+    }
+
+    /**
+     * Returns the number of subsets, without generating them. The result is {@link Long#MAX_VALUE} when it overflows.
+     *
+     * @return the number of subsets
+     */
+    public long size() {
+        return this.isSampled() ? budget : this.totalSize();
+    }
+
+    @Override
+    public Iterator<Set<T>> iterator() {
+        if (this.isSampled()) {
+            return new SampledIterator();
+        }
+        return kind == Kind.POWER_SET ? new GrayCodeIterator() : new CombinationsIterator();
+    }
+
+    private boolean isSampled() {
+        return budget > 0 && this.totalSize() > budget;
+    }
+
+    private long totalSize() {
+        if (kind == Kind.POWER_SET) {
+            return elements.size() >= Long.SIZE - 1 ? Long.MAX_VALUE : 1L << elements.size();
+        }
+        long total = 0;
+        for (int size = 1; size <= maxSize; size++) {
+            total = LongMath.saturatedAdd(total, LongMath.binomial(elements.size(), size));
+        }
+        return total;
+    }
+
+    private Set<T> toSet(BitSet bits) {
+        Set<T> subset = new HashSet<>();
+        bits.stream().forEach(index -> subset.add(elements.get(index)));
+        return subset;
+    }
+
+    private enum Kind {
+        POWER_SET, UP_TO_SIZE
+    }
+
+    /*
+     * Step i flips the bit given by the number of trailing zeros of i.
+     */
+    private class GrayCodeIterator extends AbstractIterator<Set<T>> {
+        private final BitSet current = new BitSet(elements.size());
+        private final long total = totalSize();
+        private long step;
+
+        @Override
+        protected Set<T> computeNext() {
+            if (step >= total) {
+                return endOfData();
+            }
+            if (step > 0) {
+                current.flip(Long.numberOfTrailingZeros(step));
+            }
+            step++;
+            return toSet(current);
+        }
+    }
+
+    private class CombinationsIterator extends AbstractIterator<Set<T>> {
+        private int size = maxSize;
+        private int[] positions;
+
+        @Override
+        protected Set<T> computeNext() {
+            while (size >= 1) {
+                if (positions == null) {
+                    positions = new int[size];
+                    for (int i = 0; i < size; i++) {
+                        positions[i] = i;
+                    }
+                    return this.currentSubset();
+                }
+                if (this.advance()) {
+                    return this.currentSubset();
+                }
+                positions = null;
+                size--;
+            }
+            return endOfData();
+        }
+
+        private boolean advance() {
+            int i = size - 1;
+            while (i >= 0 && positions[i] == elements.size() - size + i) {
+                i--;
+            }
+            if (i < 0) {
+                return false;
+            }
+            positions[i]++;
+            for (int j = i + 1; j < size; j++) {
+                positions[j] = positions[j - 1] + 1;
+            }
+            return true;
+        }
+
+        private Set<T> currentSubset() {
+            BitSet bits = new BitSet(elements.size());
+            for (int position : positions) {
+                bits.set(position);
+            }
+            return toSet(bits);
+        }
+    }
+
+    /*
+     * Only the bitsets of the returned subsets are kept, which is bounded by the budget.
+     */
+    private class SampledIterator extends AbstractIterator<Set<T>> {
+        private final Set<BitSet> returned = new HashSet<>();
+
+        @Override
+        protected Set<T> computeNext() {
+            while (returned.size() < budget) {
+                BitSet candidate = kind == Kind.POWER_SET ? this.randomSubset() : this.randomSubsetUpToSize();
+                if (returned.add(candidate)) {
+                    return toSet(candidate);
+                }
+            }
+            return endOfData();
+        }
+
+        private BitSet randomSubset() {
+            BitSet bits = new BitSet(elements.size());
+            for (int i = 0; i < elements.size(); i++) {
+                if (CatsUtil.random().nextBoolean()) {
+                    bits.set(i);
+                }
+            }
+            return bits;
+        }
+
+        /*
+         * Floyd's algorithm for choosing size distinct positions.
+         */
+        private BitSet randomSubsetUpToSize() {
+            int size = 1 + CatsUtil.random().nextInt(maxSize);
+            BitSet bits = new BitSet(elements.size());
+            for (int i = elements.size() - size; i < elements.size(); i++) {
+                int position = CatsUtil.random().nextInt(i + 1);
+                bits.set(bits.get(position) ? i : position);
+            }
+            return bits;
+        }
+    }
+}
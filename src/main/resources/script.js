@@ -18,7 +18,15 @@ function escapeHtml(string) {
 	});
 }
 
+function isChunkedSummary() {
+	return typeof catsSummary !== 'undefined' && catsSummary.isActive();
+}
+
 function populateTable() {
+	if (isChunkedSummary()) {
+		catsSummary.refresh();
+		return;
+	}
 	const filter = selectedFilter.toUpperCase();
 	const fuzzer = selectedFuzzer.toUpperCase();
 
@@ -50,17 +58,21 @@ function handleSearch() {
 	const searchInput = document.querySelector('.search-input');
 	const searchText = searchInput.value.trim().toUpperCase();
 
-	document.querySelectorAll('#summaryTable tr:not(.header)').forEach((tr) => {
-		const anyMatchSearch = [...tr.children].some(td => td.textContent.toUpperCase().includes(searchText));
-		const anyMatchFuzzer = [...tr.children].some(td => td.textContent.toUpperCase().includes(selectedFuzzer) || selectedFuzzer === "All");
-
-		if (anyMatchSearch && anyMatchFuzzer) {
-			tr.style.removeProperty('display');
-			set.add(tr.querySelector("td:nth-child(2)").textContent);
-		} else {
-			tr.style.display = 'none';
-		}
-	});
+	if (isChunkedSummary()) {
+		catsSummary.refresh();
+	} else {
+		document.querySelectorAll('#summaryTable tr:not(.header)').forEach((tr) => {
+			const anyMatchSearch = [...tr.children].some(td => td.textContent.toUpperCase().includes(searchText));
+			const anyMatchFuzzer = [...tr.children].some(td => td.textContent.toUpperCase().includes(selectedFuzzer) || selectedFuzzer === "All");
+
+			if (anyMatchSearch && anyMatchFuzzer) {
+				tr.style.removeProperty('display');
+				set.add(tr.querySelector("td:nth-child(2)").textContent);
+			} else {
+				tr.style.display = 'none';
+			}
+		});
+	}
 
 	const clearButton = document.querySelector('.search-clear-btn');
 	if (searchText.length > 0) {
@@ -0,0 +1,185 @@
+/*
+ * Renders the summary table from the data chunks written in the summary-data folder.
+ * Chunks are plain scripts, so they can be loaded without network access when the report is opened from disk.
+ * Only the rows visible in the table container are rendered, while filtering and sorting are done on all the rows.
+ */
+const catsSummary = (function () {
+	/*initial estimate; the actual height is measured on the rendered rows, as it depends on fonts and zoom*/
+	const ESTIMATED_ROW_HEIGHT = 56;
+	const OVERSCAN = 10;
+	const RESULTS_ORDER = {error: 0, warn: 1, success: 2, skipped: 3};
+
+	let index = null;
+	let rows = [];
+	let visibleRows = [];
+	let loadedChunks = 0;
+	let sortKey = 'id';
+	let sortAscending = true;
+	let renderScheduled = false;
+	let rowHeight = ESTIMATED_ROW_HEIGHT;
+
+	/*each row is [number, id, fuzzer index, http method, path index, scenario, result, result reason index, switched result]*/
+	const COLUMNS = {number: 0, id: 1, fuzzer: 2, httpMethod: 3, path: 4, scenario: 5, result: 6, resultReason: 7, switchedResult: 8};
+
+	function isActive() {
+		return index !== null;
+	}
+
+	function init(summaryIndex) {
+		index = summaryIndex;
+		document.addEventListener('DOMContentLoaded', function () {
+			populateSelect('fuzzer-filter', index.fuzzers);
+			populateSelect('path-filter', index.paths);
+			document.querySelector('.table-container').addEventListener('scroll', scheduleRender);
+			document.querySelectorAll('#summaryTable th[data-sort]').forEach(th => th.addEventListener('click', () => sortBy(th.getAttribute('data-sort'))));
+			loadNextChunk();
+		});
+	}
+
+	function addChunk(chunkRows) {
+		rows = rows.concat(chunkRows);
+		loadedChunks++;
+		refresh();
+		loadNextChunk();
+	}
+
+	function loadNextChunk() {
+		if (loadedChunks >= index.chunks) {
+			document.getElementById('summary-loading').style.display = 'none';
+			return;
+		}
+		const script = document.createElement('script');
+		script.src = 'summary-data/chunk-' + String(loadedChunks).padStart(5, '0') + '.js';
+		document.body.appendChild(script);
+	}
+
+	function populateSelect(id, values) {
+		const select = document.getElementById(id);
+		values.map((value, position) => [value, position])
+			.sort((first, second) => first[0].localeCompare(second[0]))
+			.forEach(([value, position]) => {
+				const option = document.createElement('option');
+				option.value = position;
+				option.textContent = value;
+				select.appendChild(option);
+			});
+		select.addEventListener('change', refresh);
+	}
+
+	function sortBy(key) {
+		sortAscending = key === sortKey ? !sortAscending : true;
+		sortKey = key;
+		refresh();
+	}
+
+	function compareRows(first, second) {
+		let comparison;
+		switch (sortKey) {
+			case 'fuzzer':
+				comparison = index.fuzzers[first[COLUMNS.fuzzer]].localeCompare(index.fuzzers[second[COLUMNS.fuzzer]]);
+				break;
+			case 'path':
+				comparison = index.paths[first[COLUMNS.path]].localeCompare(index.paths[second[COLUMNS.path]]);
+				break;
+			case 'result':
+				comparison = (RESULTS_ORDER[first[COLUMNS.result]] ?? 4) - (RESULTS_ORDER[second[COLUMNS.result]] ?? 4);
+				break;
+			default:
+				comparison = 0;
+		}
+		if (comparison === 0) {
+			comparison = first[COLUMNS.number] - second[COLUMNS.number];
+		}
+		return sortAscending ? comparison : -comparison;
+	}
+
+	function matches(row, filter, fuzzer, path, searchText) {
+		if (filter !== 'ALL' && !row[COLUMNS.result].toUpperCase().includes(filter)) {
+			return false;
+		}
+		if (fuzzer !== '' && String(row[COLUMNS.fuzzer]) !== fuzzer) {
+			return false;
+		}
+		if (path !== '' && String(row[COLUMNS.path]) !== path) {
+			return false;
+		}
+		if (searchText === '') {
+			return true;
+		}
+		return [row[COLUMNS.id], index.fuzzers[row[COLUMNS.fuzzer]], index.paths[row[COLUMNS.path]], row[COLUMNS.scenario], row[COLUMNS.result], index.reasons[row[COLUMNS.resultReason]]]
+			.some(value => String(value).toUpperCase().includes(searchText));
+	}
+
+	function refresh() {
+		if (!isActive()) {
+			return;
+		}
+		const activeMenu = document.querySelector('#summary span.active');
+		const filter = (activeMenu ? activeMenu.getAttribute('data-filtered') : 'All').toUpperCase();
+		const fuzzer = document.getElementById('fuzzer-filter').value;
+		const path = document.getElementById('path-filter').value;
+		const searchInput = document.querySelector('.search-input');
+		const searchText = searchInput ? searchInput.value.trim().toUpperCase() : '';
+
+		visibleRows = rows.filter(row => matches(row, filter, fuzzer, path, searchText)).sort(compareRows);
+		document.getElementById('summary-count').textContent = visibleRows.length + ' of ' + index.total + ' tests';
+		render();
+	}
+
+	function scheduleRender() {
+		if (!renderScheduled) {
+			renderScheduled = true;
+			window.requestAnimationFrame(() => {
+				renderScheduled = false;
+				render();
+			});
+		}
+	}
+
+	function render() {
+		const container = document.querySelector('.table-container');
+		const tbody = document.querySelector('#summaryTable tbody');
+		const first = Math.max(0, Math.floor(container.scrollTop / rowHeight) - OVERSCAN);
+		const last = Math.min(visibleRows.length, first + Math.ceil(container.clientHeight / rowHeight) + 2 * OVERSCAN);
+		const html = [spacer(first * rowHeight)];
+		for (let i = first; i < last; i++) {
+			html.push(renderRow(visibleRows[i]));
+		}
+		html.push(spacer((visibleRows.length - last) * rowHeight));
+		tbody.innerHTML = html.join('');
+
+		/*cells don't wrap, so all rows have the same height; spacers are resized if it differs from the current one*/
+		const renderedRow = tbody.querySelector('tr.summary-row');
+		if (renderedRow && renderedRow.offsetHeight > 0 && renderedRow.offsetHeight !== rowHeight) {
+			rowHeight = renderedRow.offsetHeight;
+			scheduleRender();
+		}
+	}
+
+	function spacer(height) {
+		return '<tr class="spacer" style="height: ' + height + 'px"><td colspan="5"></td></tr>';
+	}
+
+	function renderRow(row) {
+		const key = escapeHtml(row[COLUMNS.id].replace(/ /g, ''));
+		/*test case pages don't exist when test cases are stored in segments, until rendered using cats view*/
+		const segments = document.getElementById('summaryTable').dataset.segments === 'true';
+		const link = segments ? '<a>' : '<a href="' + key + '.html" target="_blank">';
+		const rowAction = segments ? 'title="Run cats view ' + key + ' to render this test case"' : 'onclick="window.open(\'' + key + '.html\',\'_blank\')"';
+		const httpMethod = escapeHtml(row[COLUMNS.httpMethod]);
+		const result = escapeHtml(row[COLUMNS.result]);
+
+		return '<tr class="summary-row ' + key + '" data-id="' + key + '" ' + rowAction + '>' +
+			'<td>' + link + escapeHtml(row[COLUMNS.id]) + '</a></td>' +
+			'<td>' + link + escapeHtml(index.fuzzers[row[COLUMNS.fuzzer]]) + '</a></td>' +
+			'<td>' + link + '<span class="active rounded rounded-' + httpMethod + '">' + httpMethod + '</span>' +
+			'<span class="active rounded path">' + escapeHtml(index.paths[row[COLUMNS.path]]) + '</span>' +
+			'<span class="scenario">' + escapeHtml(row[COLUMNS.scenario]) + '</span></a></td>' +
+			'<td>' + link + '<label class="test-result result-' + result + '">' + result + '</label></a></td>' +
+			'<td>' + (row[COLUMNS.switchedResult] ? '<span class="result-warn"> ⚠ </span>' : '') +
+			link + '&nbsp;' + escapeHtml(index.reasons[row[COLUMNS.resultReason]]) + '</a></td>' +
+			'</tr>';
+	}
+
+	return {init: init, addChunk: addChunk, refresh: refresh, isActive: isActive};
+})();
@@ -9,6 +9,8 @@ import com.endava.cats.factory.FuzzingDataFactory;
 import com.endava.cats.fuzzer.contract.PathTagsLinterFuzzer;
 import com.endava.cats.fuzzer.http.CheckDeletedResourcesNotAvailableFuzzer;
 import com.endava.cats.http.HttpMethod;
+import com.endava.cats.io.FileWorkQueue;
+import com.endava.cats.model.WorkItem;
 import com.endava.cats.report.ExecutionStatisticsListener;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
@@ -19,11 +21,14 @@ import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 import picocli.CommandLine;
 
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Future;
 
 @QuarkusTest
@@ -147,6 +152,95 @@ class CatsCommandTest {
         ReflectionTestUtils.setField(apiArguments, "server", "empty");
     }
 
+    @Test
+    void shouldFuzzPathsInParallelWhenPathConcurrencySupplied() {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/openapi.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(apiArguments, "pathConcurrency", 3);
+        ReflectionTestUtils.setField(reportingArguments, "verbosity", ReportingArguments.Verbosity.SUMMARY);
+
+        CatsCommand spyMain = Mockito.spy(catsMain);
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("PathTagsLinterFuzzer"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutFuzzersNotMatchingHttpMethods(Mockito.any())).thenReturn(List.of(new PathTagsLinterFuzzer(testCaseListener)));
+        Mockito.when(filterArguments.getSecondPhaseFuzzers()).thenReturn(List.of(new CheckDeletedResourcesNotAvailableFuzzer(null, Mockito.mock(CatsGlobalContext.class), null)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(
+                List.of("/pet", "/pets", "/pet/findByStatus", "/pet/findByTags", "/pet/{petId}", "/pet/{petId}/uploadImage", "/store/inventory"));
+
+        spyMain.run();
+        Mockito.verify(fuzzingDataFactory).fromPathItem(Mockito.eq("/pet"), Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(13)).afterFuzz(Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(9)).beforeFuzz(Mockito.eq(PathTagsLinterFuzzer.class), Mockito.anyString(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(4)).beforeFuzz(Mockito.eq(CheckDeletedResourcesNotAvailableFuzzer.class), Mockito.any(), Mockito.any());
+
+        ReflectionTestUtils.setField(apiArguments, "pathConcurrency", 1);
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldGroupChildPathsWithTheirParentPath() {
+        List<Map.Entry<String, String>> paths = List.of(Map.entry("/pet", "a"), Map.entry("/pet/findByStatus", "b"), Map.entry("/pet/{petId}", "c"),
+                Map.entry("/pet/{petId}/uploadImage", "d"), Map.entry("/pets", "e"), Map.entry("/store/inventory", "f"), Map.entry("/store/order/{id}", "g"));
+
+        List<List<Map.Entry<String, String>>> groups = CatsCommand.groupPathsByResource(paths);
+
+        Assertions.assertThat(groups).extracting(group -> group.stream().map(Map.Entry::getKey).toList()).containsExactly(
+                List.of("/pet", "/pet/findByStatus", "/pet/{petId}", "/pet/{petId}/uploadImage"),
+                List.of("/pets"), List.of("/store/inventory"), List.of("/store/order/{id}"));
+    }
+
+    @Test
+    void shouldAddWorkItemsWhenRunningAsCoordinator(@TempDir Path queueFolder) throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/openapi.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(reportingArguments, "verbosity", ReportingArguments.Verbosity.SUMMARY);
+
+        CatsCommand spyMain = Mockito.spy(catsMain);
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("PathTagsLinterFuzzer"));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+        Mockito.when(filterArguments.filterOutFuzzersNotMatchingHttpMethods(Mockito.any())).thenReturn(List.of(new PathTagsLinterFuzzer(testCaseListener)));
+        Mockito.when(filterArguments.getPathsToRun(Mockito.any())).thenReturn(List.of("/pet", "/pet/{petId}"));
+
+        FileWorkQueue workQueue = FileWorkQueue.create(queueFolder);
+        spyMain.runAsCoordinator(workQueue, 0, 600);
+
+        Assertions.assertThat(workQueue.isSealed()).isTrue();
+        Assertions.assertThat(workQueue.countPending()).isEqualTo(6);
+        Assertions.assertThat(workQueue.claim("worker1")).get().extracting(WorkItem::resource).isEqualTo("/pet");
+        Assertions.assertThat(workQueue.claim("worker2")).isEmpty();
+        Mockito.verify(testCaseListener, Mockito.never()).beforeFuzz(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.verify(testCaseListener, Mockito.times(1)).endSession();
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
+    @Test
+    void shouldRunWorkItemsWhenRunningAsWorker(@TempDir Path queueFolder) throws Exception {
+        ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/openapi.yml");
+        ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:8080");
+        ReflectionTestUtils.setField(reportingArguments, "verbosity", ReportingArguments.Verbosity.SUMMARY);
+
+        CatsCommand spyMain = Mockito.spy(catsMain);
+        Mockito.when(filterArguments.getFirstPhaseFuzzersForPath()).thenReturn(List.of("PathTagsLinterFuzzer"));
+        Mockito.when(filterArguments.getFirstPhaseFuzzersAsFuzzers()).thenReturn(List.of(new PathTagsLinterFuzzer(testCaseListener)));
+        Mockito.when(filterArguments.isHttpMethodSupplied(Mockito.any())).thenReturn(true);
+
+        FileWorkQueue workQueue = FileWorkQueue.create(queueFolder);
+        workQueue.add(new WorkItem("00000001", "/pet", "POST", "PathTagsLinterFuzzer", "/pet"));
+        workQueue.add(new WorkItem("00000002", "/pet", "POST", "NotConfiguredFuzzer", "/pet"));
+        workQueue.seal();
+        spyMain.runAsWorker(workQueue, "worker1");
+
+        Assertions.assertThat(workQueue.countDone()).isEqualTo(2);
+        Mockito.verify(testCaseListener, Mockito.times(1)).initReportingPath(workQueue.getResultsFolder("worker1").toString());
+        Mockito.verify(testCaseListener, Mockito.times(1)).beforeFuzz(PathTagsLinterFuzzer.class, "/pet", "POST");
+
+        ReflectionTestUtils.setField(apiArguments, "contract", "empty");
+        ReflectionTestUtils.setField(apiArguments, "server", "empty");
+    }
+
     @Test
     void givenAnOpenApiContract_whenStartingCats_thenTheContractIsCorrectlyParsed() throws Exception {
         ReflectionTestUtils.setField(apiArguments, "contract", "src/test/resources/openapi.yml");
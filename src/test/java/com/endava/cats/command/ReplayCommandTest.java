@@ -5,17 +5,22 @@ import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.report.TestCaseStore;
+import com.endava.cats.util.JsonUtils;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 
 @QuarkusTest
@@ -69,6 +74,20 @@ class ReplayCommandTest {
         Mockito.verify(testCaseListener).writeIndividualTestCase(Mockito.any());
     }
 
+    @Test
+    void shouldReplayTestCaseStoredInSegments(@TempDir Path reportFolder) throws Exception {
+        try (TestCaseStore store = TestCaseStore.open(reportFolder)) {
+            store.append("Test12", JsonUtils.GSON_NO_PRETTY_PRINTING.toJson(JsonUtils.parseAsJsonElement(Files.readString(Path.of("src/test/resources/Test12.json")))));
+        }
+        replayCommand.tests = new String[]{reportFolder.resolve("Test12.json").toString()};
+        CatsResponse response = Mockito.mock(CatsResponse.class);
+        Mockito.when(response.getBody()).thenReturn("");
+        Mockito.when(serviceCaller.callService(Mockito.any(), Mockito.anySet())).thenReturn(response);
+        replayCommand.run();
+
+        Mockito.verify(serviceCaller, Mockito.times(1)).callService(Mockito.argThat(request -> request.getUrl() != null), Mockito.eq(Collections.emptySet()));
+    }
+
     @Test
     void shouldThrowExceptionWhenTestCasesInvalid() {
         replayCommand.tests = new String[]{"Test1212121212121"};
@@ -0,0 +1,57 @@
+package com.endava.cats.command;
+
+import com.endava.cats.report.BlobStore;
+import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.report.TestCaseStore;
+import com.endava.cats.util.JsonUtils;
+import com.google.gson.JsonObject;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.mockito.InjectSpy;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import picocli.CommandLine;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@QuarkusTest
+class ViewCommandTest {
+
+    @InjectSpy
+    TestCaseListener testCaseListener;
+
+    @Test
+    void shouldRenderTestCaseStoredInSegments(@TempDir Path reportFolder) throws Exception {
+        try (TestCaseStore store = TestCaseStore.open(reportFolder)) {
+            store.append("Test12", JsonUtils.GSON_NO_PRETTY_PRINTING.toJson(JsonUtils.parseAsJsonElement(Files.readString(Path.of("src/test/resources/Test12.json")))));
+        }
+        CommandLine commandLine = new CommandLine(new ViewCommand(testCaseListener));
+        commandLine.execute("Test12,Test13", "--output", reportFolder.toString());
+
+        Assertions.assertThat(reportFolder.resolve("Test12.html")).exists().content().contains("values prefixed with unicode control characters");
+        Assertions.assertThat(reportFolder.resolve("Test13.html")).doesNotExist();
+        Mockito.verify(testCaseListener, Mockito.times(1)).renderTestCase(Mockito.any());
+    }
+
+    @Test
+    void shouldRenderTestCaseFileWithBlobs(@TempDir Path reportFolder) throws Exception {
+        JsonObject testCase = JsonUtils.parseAsJsonElement(Files.readString(Path.of("src/test/resources/Test12.json"))).getAsJsonObject();
+        Files.writeString(reportFolder.resolve("Test12.json"), new BlobStore(reportFolder, 10).externalize(testCase).toString());
+        CommandLine commandLine = new CommandLine(new ViewCommand(testCaseListener));
+        commandLine.execute("Test12", "--output", reportFolder.toString());
+
+        Assertions.assertThat(reportFolder.resolve("Test12.json")).content().contains("$blob");
+        Assertions.assertThat(reportFolder.resolve("Test12.html")).exists().content().contains("values prefixed with unicode control characters").doesNotContain("$blob");
+    }
+
+    @Test
+    void shouldNotRenderWhenNoSegments(@TempDir Path reportFolder) {
+        CommandLine commandLine = new CommandLine(new ViewCommand(testCaseListener));
+        commandLine.execute("Test12", "--output", reportFolder.toString());
+
+        Assertions.assertThat(reportFolder.resolve("Test12.html")).doesNotExist();
+        Mockito.verify(testCaseListener, Mockito.never()).renderTestCase(Mockito.any());
+    }
+}
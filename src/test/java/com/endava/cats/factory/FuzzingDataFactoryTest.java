@@ -28,6 +28,8 @@ import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mockito;
 
 import java.io.IOException;
@@ -296,10 +298,31 @@ class FuzzingDataFactoryTest {
         Mockito.when(processingArguments.getLimitXxxOfCombinations()).thenReturn(100);
         List<FuzzingData> dataList = setupFuzzingData("/shipments", "src/test/resources/shippo.yaml");
 
-        Assertions.assertThat(dataList).hasSize(77);
+        Assertions.assertThat(dataList).hasSize(65);
         Assertions.assertThat(dataList.stream().map(FuzzingData::getPayload).toList())
-                .filteredOn(payload -> payload.contains("ANY_OF") || payload.contains("ONE_OF") || payload.contains("ALL_OF"))
-                .hasSize(4);
+                .noneMatch(payload -> payload.contains("ANY_OF") || payload.contains("ONE_OF") || payload.contains("ALL_OF"));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ProcessingArguments.XxxOfSampling.class, names = {"RANDOM", "COVERING"})
+    void shouldSampleXxxCombinationsWhenSamplingEnabled(ProcessingArguments.XxxOfSampling sampling) throws Exception {
+        Mockito.when(processingArguments.getXxxOfSampling()).thenReturn(sampling);
+        List<FuzzingData> dataList = setupFuzzingData("/shipments", "src/test/resources/shippo.yaml");
+        List<String> payloads = dataList.stream().map(FuzzingData::getPayload).toList();
+
+        Assertions.assertThat(dataList).hasSize(11);
+        Assertions.assertThat(payloads).doesNotHaveDuplicates()
+                .noneMatch(payload -> payload.contains("ANY_OF") || payload.contains("ONE_OF") || payload.contains("ALL_OF"));
+    }
+
+    @Test
+    void shouldCoverAllXxxElementsWhenCoveringSampling() throws Exception {
+        Mockito.when(processingArguments.getXxxOfSampling()).thenReturn(ProcessingArguments.XxxOfSampling.COVERING);
+        List<FuzzingData> dataList = setupFuzzingData("/shipments", "src/test/resources/shippo.yaml");
+
+        Assertions.assertThat(dataList.stream().map(FuzzingData::getPayload).toList())
+                .anyMatch(payload -> JsonUtils.getVariableFromJson(payload, "$.address_from") instanceof String)
+                .anyMatch(payload -> JsonUtils.getVariableFromJson(payload, "$.address_from") instanceof Map);
     }
 
     @Test
@@ -307,10 +330,9 @@ class FuzzingDataFactoryTest {
         Mockito.when(processingArguments.getLimitXxxOfCombinations()).thenReturn(50);
         List<FuzzingData> dataList = setupFuzzingData("/api/v1/studies", "src/test/resources/prolific.yaml");
 
-        Assertions.assertThat(dataList).hasSize(29);
+        Assertions.assertThat(dataList).hasSize(26);
         Assertions.assertThat(dataList.stream().map(FuzzingData::getPayload).toList())
-                .filteredOn(payload -> payload.contains("ANY_OF") || payload.contains("ONE_OF") || payload.contains("ALL_OF"))
-                .hasSize(1);
+                .noneMatch(payload -> payload.contains("ANY_OF") || payload.contains("ONE_OF") || payload.contains("ALL_OF"));
 
         FuzzingData firstData = dataList.getFirst();
         boolean isActionsArray = JsonUtils.isArray(firstData.getPayload(), "$.CreateStudy.completion_codes[0].actions");
@@ -341,10 +363,9 @@ class FuzzingDataFactoryTest {
         Assertions.assertThat(dataList.stream().map(FuzzingData::getPayload).toList())
                 .noneMatch(payload -> payload.contains("ANY_OF") || payload.contains("ONE_OF") || payload.contains("ALL_OF"));
 
-        FuzzingData data = dataList.get(4);
+        FuzzingData data = dataList.getFirst();
         Object createPermission = JsonUtils.getVariableFromJson(data.getPayload(), "$.permissions.create[0]");
         Object updatePermission = JsonUtils.getVariableFromJson(data.getPayload(), "$.permissions.update[0]");
-
         Assertions.assertThat(createPermission).asString().isEqualTo("database");
         Assertions.assertThat(updatePermission).asString().isEqualTo("database");
     }
@@ -372,7 +393,7 @@ class FuzzingDataFactoryTest {
     void shouldProperlyParseRootAllOfAndOneOfElements() throws Exception {
         List<FuzzingData> dataList = setupFuzzingData("/payouts", "src/test/resources/token.yml");
 
-        Assertions.assertThat(dataList).hasSize(10);
+        Assertions.assertThat(dataList).hasSize(11);
         Assertions.assertThat(dataList.stream().map(FuzzingData::getPayload).toList())
                 .noneMatch(payload -> payload.contains("ANY_OF") || payload.contains("ONE_OF") || payload.contains("ALL_OF"));
         FuzzingData firstData = dataList.getFirst();
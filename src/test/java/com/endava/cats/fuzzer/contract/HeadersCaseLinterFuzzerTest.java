@@ -1,5 +1,6 @@
 package com.endava.cats.fuzzer.contract;
 
+import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.IgnoreArguments;
 import com.endava.cats.args.NamingArguments;
 import com.endava.cats.args.ReportingArguments;
@@ -36,7 +37,7 @@ class HeadersCaseLinterFuzzerTest {
         Instance<TestCaseExporter> exporters = Mockito.mock(Instance.class);
         Mockito.when(exporters.stream()).thenReturn(Stream.of(Mockito.mock(TestCaseExporter.class)));
         testCaseListener = Mockito.spy(new TestCaseListener(Mockito.mock(CatsGlobalContext.class), Mockito.mock(ExecutionStatisticsListener.class), exporters,
-                Mockito.mock(IgnoreArguments.class), Mockito.mock(ReportingArguments.class)));
+                Mockito.mock(IgnoreArguments.class), Mockito.mock(ReportingArguments.class), Mockito.mock(ApiArguments.class)));
         headersCaseLinterFuzzer = new HeadersCaseLinterFuzzer(testCaseListener, namingArguments);
         ReflectionTestUtils.setField(namingArguments, "headersNaming", NamingArguments.Naming.HTTP_HEADER);
 
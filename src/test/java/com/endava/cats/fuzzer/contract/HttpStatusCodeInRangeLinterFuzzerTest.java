@@ -1,5 +1,6 @@
 package com.endava.cats.fuzzer.contract;
 
+import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.IgnoreArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.context.CatsGlobalContext;
@@ -32,7 +33,7 @@ class HttpStatusCodeInRangeLinterFuzzerTest {
         TestCaseExporter exporter = Mockito.mock(TestCaseExporterHtmlJs.class);
         Mockito.when(exporters.stream()).thenReturn(Stream.of(exporter));
         testCaseListener = Mockito.spy(new TestCaseListener(Mockito.mock(CatsGlobalContext.class), Mockito.mock(ExecutionStatisticsListener.class), exporters,
-                Mockito.mock(IgnoreArguments.class), Mockito.mock(ReportingArguments.class)));
+                Mockito.mock(IgnoreArguments.class), Mockito.mock(ReportingArguments.class), Mockito.mock(ApiArguments.class)));
         httpStatusCodeInValidRangeContractInfoFuzzer = new HttpStatusCodeInRangeLinterFuzzer(testCaseListener);
     }
 
@@ -1,5 +1,6 @@
 package com.endava.cats.fuzzer.contract;
 
+import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.IgnoreArguments;
 import com.endava.cats.args.NamingArguments;
 import com.endava.cats.args.ProcessingArguments;
@@ -39,7 +40,7 @@ class JsonObjectsCaseLinterFuzzerTest {
         Mockito.when(processingArguments.getDefaultContentType()).thenReturn("application/json");
         Mockito.when(exporters.stream()).thenReturn(Stream.of(Mockito.mock(TestCaseExporter.class)));
         testCaseListener = Mockito.spy(new TestCaseListener(Mockito.mock(CatsGlobalContext.class), Mockito.mock(ExecutionStatisticsListener.class), exporters,
-                Mockito.mock(IgnoreArguments.class), Mockito.mock(ReportingArguments.class)));
+                Mockito.mock(IgnoreArguments.class), Mockito.mock(ReportingArguments.class), Mockito.mock(ApiArguments.class)));
         jsonObjectsCaseLinterFuzzer = new JsonObjectsCaseLinterFuzzer(testCaseListener, processingArguments, namingArguments);
         ReflectionTestUtils.setField(namingArguments, "jsonPropertiesNaming", NamingArguments.Naming.CAMEL);
         ReflectionTestUtils.setField(namingArguments, "jsonObjectsNaming", NamingArguments.Naming.PASCAL);
@@ -1,5 +1,6 @@
 package com.endava.cats.fuzzer.contract;
 
+import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.IgnoreArguments;
 import com.endava.cats.args.NamingArguments;
 import com.endava.cats.args.ReportingArguments;
@@ -41,7 +42,7 @@ class PathCaseLinterFuzzerTest {
         Instance<TestCaseExporter> exporters = Mockito.mock(Instance.class);
         Mockito.when(exporters.stream()).thenReturn(Stream.of(Mockito.mock(TestCaseExporter.class)));
         testCaseListener = Mockito.spy(new TestCaseListener(Mockito.mock(CatsGlobalContext.class), Mockito.mock(ExecutionStatisticsListener.class), exporters,
-                Mockito.mock(IgnoreArguments.class), Mockito.mock(ReportingArguments.class)));
+                Mockito.mock(IgnoreArguments.class), Mockito.mock(ReportingArguments.class), Mockito.mock(ApiArguments.class)));
         pathCaseLinterFuzzer = new PathCaseLinterFuzzer(testCaseListener, namingArguments);
         ReflectionTestUtils.setField(namingArguments, "pathNaming", NamingArguments.Naming.CAMEL);
         ReflectionTestUtils.setField(namingArguments, "pathVariablesNaming", NamingArguments.Naming.CAMEL);
@@ -7,6 +7,8 @@ import com.endava.cats.http.ResponseCodeFamilyPredefined;
 import com.endava.cats.io.ServiceCaller;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.model.PlannedTestCase;
+import com.endava.cats.model.TestPlan;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.strategy.FuzzingStrategy;
@@ -15,6 +17,7 @@ import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -92,6 +95,8 @@ class FieldsIteratorExecutorTest {
 
     private FieldsIteratorExecutorContext.FieldsIteratorExecutorContextBuilder setupContextBuilder() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
+        Mockito.when(data.getPayloadTemplate(Mockito.anyString(), Mockito.any())).thenCallRealMethod();
         Map<String, Schema> schemaMap = new HashMap<>();
         schemaMap.put("field", new StringSchema());
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(new HashSet<>(Set.of("field", "id")));
@@ -116,6 +121,16 @@ class FieldsIteratorExecutorTest {
                 .fuzzingData(data);
     }
 
+    @Test
+    void shouldPlanTestCasesWithoutCallingTheService() {
+        TestPlan<Object> testPlan = fieldsIteratorExecutor.plan(setupContextBuilder().build());
+
+        Assertions.assertThat(testPlan.count()).isEqualTo(4);
+        Assertions.assertThat(testPlan.stream().map(PlannedTestCase::target)).containsOnly("field", "id");
+        Assertions.assertThat(testPlan.stream().map(PlannedTestCase::value)).containsOnly("value1", "value2");
+        Mockito.verifyNoInteractions(serviceCaller);
+    }
+
     @Test
     void shouldNotRunForFieldsRemovedFromRefData() {
         Mockito.when(filesArguments.getRefData(Mockito.any())).thenReturn(Map.of("id", ServiceCaller.CATS_REMOVE_FIELD));
@@ -56,6 +56,7 @@ class DefaultValuesInFieldsFuzzerTest {
     @Test
     void shouldSkipIfEnum() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("myField"));
         Schema<String> myEnumSchema = new Schema<>();
         myEnumSchema.setEnum(List.of("one", "two"));
@@ -70,6 +71,7 @@ class DefaultValuesInFieldsFuzzerTest {
     @Test
     void shouldSkipIfDiscriminator() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("myField"));
         Mockito.when(data.getRequestPropertyTypes()).thenReturn(Map.of("myField", new Schema<String>()));
         Mockito.when(testCaseListener.isFieldNotADiscriminator("myField")).thenReturn(false);
@@ -83,6 +85,7 @@ class DefaultValuesInFieldsFuzzerTest {
     @Test
     void shouldExecuteWhenHavingDefaultAndNoDiscriminatorOrEnum() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(CatsResponse.builder().body("{}").responseCode(200).build());
         Schema<String> mySchema = new Schema<>();
         mySchema.setDefault("test");
@@ -56,6 +56,7 @@ class IterateThroughEnumValuesFieldsFuzzerTest {
     @Test
     void shouldSkipIfNotEnum() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("myField"));
         Mockito.when(data.getRequestPropertyTypes()).thenReturn(Map.of("myField", new Schema<String>()));
         Mockito.when(data.getPayload()).thenReturn("""
@@ -68,6 +69,7 @@ class IterateThroughEnumValuesFieldsFuzzerTest {
     @Test
     void shouldSkipIfEnumAndDiscriminator() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("myField"));
         Schema<String> myEnumSchema = new Schema<>();
         myEnumSchema.setEnum(List.of("one", "two"));
@@ -83,6 +85,7 @@ class IterateThroughEnumValuesFieldsFuzzerTest {
     @Test
     void shouldReplaceIfFieldEnumAndNotDiscriminator() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
         Mockito.when(serviceCaller.call(Mockito.any())).thenReturn(CatsResponse.builder().body("{}").responseCode(200).build());
         Schema<String> myEnumSchema = new Schema<>();
         myEnumSchema.setEnum(List.of("one", "two", "three"));
@@ -9,6 +9,7 @@ import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseExporter;
 import com.endava.cats.report.TestCaseListener;
+import com.endava.cats.util.Subsets;
 import io.quarkus.test.junit.QuarkusTest;
 import io.quarkus.test.junit.mockito.InjectSpy;
 import io.swagger.v3.oas.models.media.ObjectSchema;
@@ -50,7 +51,7 @@ class RemoveFieldsFuzzerTest {
     void shouldSkipFuzzerIfSkippedTests() {
         data = Mockito.mock(FuzzingData.class);
         Mockito.when(processingArguments.getFieldsFuzzingStrategy()).thenReturn(ProcessingArguments.SetFuzzingStrategy.ONEBYONE);
-        Mockito.when(data.getAllFields(Mockito.any(), Mockito.anyInt())).thenReturn(Collections.singleton(Collections.singleton("id")));
+        Mockito.when(data.getAllFields(Mockito.any(), Mockito.anyInt())).thenReturn(Subsets.singletons(List.of("id")));
         Mockito.when(filterArguments.getSkipFields()).thenReturn(Collections.singletonList("id"));
         removeFieldsFuzzer.fuzz(data);
 
@@ -75,6 +76,16 @@ class RemoveFieldsFuzzerTest {
         Mockito.verify(testCaseListener, Mockito.times(2)).skipTest(Mockito.any(), Mockito.eq("Field is from a different ANY_OF or ONE_OF payload"));
     }
 
+    @Test
+    void shouldSampleFieldsSubsetsWhenMoreThanMaxFieldsSubsets() {
+        setup("{\"field\":\"oldValue\"}");
+        Mockito.when(processingArguments.getFieldsFuzzingStrategy()).thenReturn(ProcessingArguments.SetFuzzingStrategy.POWERSET);
+        Mockito.when(processingArguments.getMaxFieldsSubsets()).thenReturn(2);
+        removeFieldsFuzzer.fuzz(data);
+
+        Mockito.verify(testCaseListener, Mockito.times(2)).createAndExecuteTest(Mockito.any(), Mockito.eq(removeFieldsFuzzer), Mockito.any(), Mockito.eq(data));
+    }
+
     @Test
     void givenARemoveFieldsFuzzerInstance_whenCallingTheMethodInheritedFromTheBaseClass_thenTheMethodsAreProperlyOverridden() {
         Assertions.assertThat(removeFieldsFuzzer.description()).isNotNull();
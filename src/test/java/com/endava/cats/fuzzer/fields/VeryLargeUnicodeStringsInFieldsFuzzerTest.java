@@ -3,6 +3,8 @@ package com.endava.cats.fuzzer.fields;
 import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.strategy.FuzzingStrategy;
+import com.endava.cats.util.LargeValue;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,13 +37,22 @@ class VeryLargeUnicodeStringsInFieldsFuzzerTest {
     void shouldGetPayloadSize() {
         Mockito.when(processingArguments.getLargeStringsSize()).thenReturn(20000);
 
-        Assertions.assertThat(veryLargeUnicodeStringsInFieldsFuzzer.getFieldFuzzingStrategy(null, null).get(0).getData().toString()).hasSizeGreaterThan(20000);
+        Assertions.assertThat(((LargeValue) veryLargeUnicodeStringsInFieldsFuzzer.getFieldFuzzingStrategy(null, null).get(0).getData()).materialize()).hasSizeGreaterThan(20000);
     }
 
     @Test
     void shouldGenerateLessThan500() {
         Mockito.when(processingArguments.getLargeStringsSize()).thenReturn(20);
-        Assertions.assertThat(veryLargeUnicodeStringsInFieldsFuzzer.getFieldFuzzingStrategy(null, null).get(0).getData().toString()).hasSize(20 + "cats".length());
+        Assertions.assertThat(((LargeValue) veryLargeUnicodeStringsInFieldsFuzzer.getFieldFuzzingStrategy(null, null).get(0).getData()).materialize()).hasSize(20 + "cats".length());
+    }
+
+    @Test
+    void shouldReplaceFieldWithLargeValueDescriptor() {
+        Mockito.when(processingArguments.getLargeStringsSize()).thenReturn(20000);
+        FuzzingStrategy strategy = veryLargeUnicodeStringsInFieldsFuzzer.getFieldFuzzingStrategy(null, null).get(0);
+
+        Assertions.assertThat(strategy.process("value")).isEqualTo(((LargeValue) strategy.getData()).getDescriptor());
+        Assertions.assertThat(strategy.truncatedValue()).startsWith("REPLACE with [CATS large value: ca + ");
     }
 
     @Test
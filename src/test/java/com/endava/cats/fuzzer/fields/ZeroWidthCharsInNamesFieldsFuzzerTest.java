@@ -47,6 +47,7 @@ class ZeroWidthCharsInNamesFieldsFuzzerTest {
     @CsvSource(value = {"''", "null"}, nullValues = "null")
     void shouldNotRunWithEmptyPayload(String payload) {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
         Mockito.when(data.getPayload()).thenReturn(payload);
         zeroWidthCharsInNamesFieldsFuzzer.fuzz(data);
         Mockito.verifyNoInteractions(serviceCaller);
@@ -56,6 +57,7 @@ class ZeroWidthCharsInNamesFieldsFuzzerTest {
     @Test
     void shouldNotRunWhenNoFields() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of());
         zeroWidthCharsInNamesFieldsFuzzer.fuzz(data);
         Mockito.verifyNoInteractions(serviceCaller);
@@ -65,6 +67,7 @@ class ZeroWidthCharsInNamesFieldsFuzzerTest {
     @Test
     void shouldRunWhenFieldsPresent() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Set.of("name", "lastName", "address#zip"));
         Mockito.when(data.getPayload()).thenReturn("""
                 {
@@ -73,6 +73,8 @@ class BaseBoundaryFieldFuzzerTest {
     void givenABaseBoundaryFuzzerAndAFieldWithNoSchema_whenGettingTheFuzzingStrategy_thenTheSkipStrategyIsBeingReturned() {
         BaseBoundaryFieldFuzzer myBaseBoundaryFuzzer = new MyBaseBoundaryWithBoundariesAndIntegerSchemaFuzzer(serviceCaller, testCaseListener, filesArguments);
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
+        Mockito.when(data.getPayloadTemplate(Mockito.anyString(), Mockito.any())).thenCallRealMethod();
         Mockito.when(data.getRequestPropertyTypes()).thenReturn(new HashMap<>());
 
         FuzzingStrategy strategy = myBaseBoundaryFuzzer.getFieldFuzzingStrategy(data, "field").get(0);
@@ -115,6 +117,8 @@ class BaseBoundaryFieldFuzzerTest {
         Map<String, Schema> schemaMap = new HashMap<>();
         schemaMap.put("field", new StringSchema());
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
+        Mockito.when(data.getPayloadTemplate(Mockito.anyString(), Mockito.any())).thenCallRealMethod();
         Mockito.when(data.getPayload()).thenReturn("{\"field\":\"value\"}");
         Mockito.when(data.getRequestPropertyTypes()).thenReturn(schemaMap);
         return data;
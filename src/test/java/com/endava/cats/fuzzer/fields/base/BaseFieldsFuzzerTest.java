@@ -51,6 +51,8 @@ class BaseFieldsFuzzerTest {
     void givenAFieldWithAReplaceFuzzingStrategyWithANonPrimitiveField_whenTheFieldIsFuzzedAndNoExceptionOccurs_thenTestsAreSkipped() {
         baseFieldsFuzzer = new MyBaseFieldsFuzzer(serviceCaller, testCaseListener, filesArguments, "");
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
+        Mockito.when(data.getPayloadTemplate(Mockito.anyString(), Mockito.any())).thenCallRealMethod();
         Set<String> fields = Collections.singleton("field");
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(fields);
         Mockito.when(data.getPayload()).thenReturn("{}");
@@ -63,6 +65,8 @@ class BaseFieldsFuzzerTest {
     void shouldSkipFuzzerWhenSkipStrategy() {
         baseFieldsFuzzer = new MyBaseFieldsFuzzer(serviceCaller, testCaseListener, filesArguments, "");
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
+        Mockito.when(data.getPayloadTemplate(Mockito.anyString(), Mockito.any())).thenCallRealMethod();
         Set<String> fields = Collections.singleton("field");
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(fields);
         Mockito.when(data.getPayload()).thenReturn("{}");
@@ -76,6 +80,8 @@ class BaseFieldsFuzzerTest {
     void givenAFieldWithASkipFuzzingStrategy_whenTheFieldIsFuzzedAndNoExceptionOccurs_thenTestIsNotRun() {
         baseFieldsFuzzer = new MyBaseFieldsSkipFuzzer(serviceCaller, testCaseListener, filesArguments);
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
+        Mockito.when(data.getPayloadTemplate(Mockito.anyString(), Mockito.any())).thenCallRealMethod();
         Set<String> fields = Collections.singleton("field");
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(fields);
 
@@ -94,6 +100,8 @@ class BaseFieldsFuzzerTest {
     @NotNull
     private FuzzingData createFuzzingData() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
+        Mockito.when(data.getPayloadTemplate(Mockito.anyString(), Mockito.any())).thenCallRealMethod();
         Set<String> fields = Collections.singleton("field");
         Map<String, Schema> schemaMap = new HashMap<>();
         schemaMap.put("field", new StringSchema());
@@ -110,6 +118,8 @@ class BaseFieldsFuzzerTest {
     @Test
     void shouldNotRunWhenNoFields() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
+        Mockito.when(data.getPayloadTemplate(Mockito.anyString(), Mockito.any())).thenCallRealMethod();
         Mockito.when(data.getAllFieldsByHttpMethod()).thenReturn(Collections.emptySet());
         baseFieldsFuzzer = new MyBaseFieldsFuzzer(serviceCaller, testCaseListener, filesArguments, "");
 
@@ -139,6 +149,8 @@ class BaseFieldsFuzzerTest {
     @CsvSource(value = {"null,[a-z]+,200", "cats,[a-z]+,200", "CATS,[a-z]+,400"}, nullValues = "null")
     void shouldExpectDifferentCodesBasedOnFuzzedFieldMatchingPattern(String fuzzedValue, String pattern, String responseCode) {
         FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getParsedPayload()).thenCallRealMethod();
+        Mockito.when(data.getPayloadTemplate(Mockito.anyString(), Mockito.any())).thenCallRealMethod();
         Set<String> fields = Collections.singleton("field");
         Map<String, Schema> schemaMap = new HashMap<>();
         StringSchema schema = new StringSchema();
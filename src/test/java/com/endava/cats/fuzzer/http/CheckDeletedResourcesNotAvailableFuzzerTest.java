@@ -4,6 +4,7 @@ import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.fuzzer.executor.SimpleExecutor;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.io.ServiceCaller;
+import com.endava.cats.io.ServiceData;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.FuzzingData;
 import com.endava.cats.report.TestCaseExporter;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -88,6 +90,18 @@ class CheckDeletedResourcesNotAvailableFuzzerTest {
         Assertions.assertThat(catsGlobalContext.getSuccessfulDeletes()).isEmpty();
     }
 
+    @Test
+    void shouldNotReuseRecordedResponses() {
+        FuzzingData data = Mockito.mock(FuzzingData.class);
+        Mockito.when(data.getMethod()).thenReturn(HttpMethod.GET);
+        catsGlobalContext.getSuccessfulDeletes().add("http://localhost/path");
+        checkDeletedResourcesNotAvailableFuzzer.fuzz(data);
+
+        ArgumentCaptor<ServiceData> serviceDataCaptor = ArgumentCaptor.forClass(ServiceData.class);
+        Mockito.verify(serviceCaller).call(serviceDataCaptor.capture());
+        Assertions.assertThat(serviceDataCaptor.getValue().isReuseResponses()).isFalse();
+    }
+
     @Test
     void shouldSkipAllMethodsButNotGet() {
         Assertions.assertThat(checkDeletedResourcesNotAvailableFuzzer.skipForHttpMethods()).containsOnly(HttpMethod.HEAD, HttpMethod.PATCH, HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.TRACE);
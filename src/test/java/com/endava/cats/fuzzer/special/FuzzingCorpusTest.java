@@ -0,0 +1,47 @@
+package com.endava.cats.fuzzer.special;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@QuarkusTest
+class FuzzingCorpusTest {
+    private static final ResponseSignature BAD_REQUEST = new ResponseSignature(400, "shape", 5, "error", 3);
+    private static final ResponseSignature SERVER_ERROR = new ResponseSignature(500, "shape", 5, "error", 3);
+
+    @Test
+    void shouldAddPayloadOnlyWhenReachingNewBehaviour() throws Exception {
+        FuzzingCorpus corpus = FuzzingCorpus.create("{}", null);
+
+        Assertions.assertThat(corpus.recordBehaviour("{\"id\":1}", BAD_REQUEST)).isTrue();
+        Assertions.assertThat(corpus.recordBehaviour("{\"id\":2}", BAD_REQUEST)).isFalse();
+        Assertions.assertThat(corpus.recordBehaviour("{\"id\":3}", SERVER_ERROR)).isTrue();
+
+        Assertions.assertThat(corpus.size()).isEqualTo(3);
+        Assertions.assertThat(corpus.getBehaviours()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotGrowWhenFixed() {
+        FuzzingCorpus corpus = FuzzingCorpus.fixed("{}");
+        corpus.recordBehaviour("{\"id\":1}", BAD_REQUEST);
+
+        Assertions.assertThat(corpus.size()).isEqualTo(1);
+        Assertions.assertThat(corpus.selectRandom()).isEqualTo("{}");
+    }
+
+    @Test
+    void shouldLoadPersistedPayloads(@TempDir Path folder) throws Exception {
+        FuzzingCorpus corpus = FuzzingCorpus.create("{}", folder);
+        corpus.recordBehaviour("{\"id\":1}", BAD_REQUEST);
+
+        try (var files = Files.list(folder)) {
+            Assertions.assertThat(files).hasSize(1);
+        }
+        Assertions.assertThat(FuzzingCorpus.create("{}", folder).size()).isEqualTo(2);
+    }
+}
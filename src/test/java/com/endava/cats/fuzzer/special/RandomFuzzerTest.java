@@ -5,6 +5,7 @@ import com.endava.cats.args.MatchArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.args.StopArguments;
 import com.endava.cats.fuzzer.executor.SimpleExecutor;
+import com.endava.cats.fuzzer.executor.SimpleExecutorContext;
 import com.endava.cats.fuzzer.special.mutators.api.Mutator;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.CatsResponse;
@@ -19,10 +20,13 @@ import org.assertj.core.api.Assertions;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Set;
 
 @QuarkusTest
@@ -130,6 +134,24 @@ class RandomFuzzerTest {
         Mockito.verify(randomFuzzerSpy, Mockito.times(1)).readValueFromFile(Mockito.endsWith("dict.txt"));
     }
 
+    @Test
+    void shouldStoreCorpusWhenCoverageGuided(@TempDir Path corpusFolder) throws Exception {
+        Mockito.when(stopArguments.isCoverageGuided()).thenReturn(true);
+        Mockito.when(filesArguments.getCorpusFolder()).thenReturn(corpusFolder.toFile());
+        Mockito.doAnswer(invocation -> {
+            SimpleExecutorContext context = invocation.getArgument(0);
+            context.getResponseProcessor().accept(CatsResponse.from(400, "{}", "POST", 10), context.getFuzzingData());
+            return null;
+        }).when(simpleExecutor).execute(Mockito.any());
+        FuzzingData data = mockData();
+        randomFuzzer.fuzz(data);
+
+        Mockito.verify(simpleExecutor, Mockito.times(3)).execute(Mockito.any());
+        try (var operationFolders = Files.list(corpusFolder)) {
+            Assertions.assertThat(operationFolders.map(folder -> folder.getFileName().toString())).containsExactly("_path_POST");
+        }
+    }
+
     @NotNull
     private FuzzingData mockData() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
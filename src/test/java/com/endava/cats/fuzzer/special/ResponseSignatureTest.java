@@ -0,0 +1,43 @@
+package com.endava.cats.fuzzer.special;
+
+import com.endava.cats.model.CatsResponse;
+import com.google.gson.JsonParser;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@QuarkusTest
+class ResponseSignatureTest {
+
+    @Test
+    void shouldHaveSameSignatureWhenOnlyValuesDiffer() {
+        ResponseSignature first = ResponseSignature.from(CatsResponse.from(400, "{\"error\":\"invalid id 12\",\"ids\":[1,2]}", "POST", 10));
+        ResponseSignature second = ResponseSignature.from(CatsResponse.from(400, "{\"error\":\"invalid id 345\",\"ids\":[4,5]}", "POST", 12));
+
+        Assertions.assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void shouldHaveDifferentSignatureWhenShapeOrErrorDiffers() {
+        ResponseSignature signature = ResponseSignature.from(CatsResponse.from(400, "{\"error\":\"invalid id\"}", "POST", 10));
+
+        Assertions.assertThat(signature)
+                .isNotEqualTo(ResponseSignature.from(CatsResponse.from(400, "{\"error\":\"missing name\"}", "POST", 10)))
+                .isNotEqualTo(ResponseSignature.from(CatsResponse.from(400, "{\"errors\":[\"invalid id\"]}", "POST", 10)))
+                .isNotEqualTo(ResponseSignature.from(CatsResponse.from(500, "{\"error\":\"invalid id\"}", "POST", 10)));
+    }
+
+    @Test
+    void shouldIgnoreBodyForSuccessfulResponses() {
+        Assertions.assertThat(ResponseSignature.from(CatsResponse.from(200, "{\"name\":\"a\"}", "POST", 10)).errorCluster()).isEmpty();
+        Assertions.assertThat(ResponseSignature.shapeOf(JsonParser.parseString("{\"b\":true,\"a\":[{\"c\":1}]}"))).isEqualTo("{a=[{c=number}], b=boolean}");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0,0", "1,1", "2,2", "3,2", "1000,10"})
+    void shouldComputeLogarithmicBuckets(long value, int expectedBucket) {
+        Assertions.assertThat(ResponseSignature.bucket(value)).isEqualTo(expectedBucket);
+    }
+}
@@ -4,6 +4,7 @@ import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.Schema;
 import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -35,4 +36,21 @@ class ValidDataFormatTest {
         List<ValidDataFormatGenerator> validDataFormatList = validDataFormat.getGenerators(schema, "");
         Assertions.assertThat(validDataFormatList).hasSize(1);
     }
+
+    @Test
+    void shouldReturnSameGeneratorsForSameFormatAndProperty() {
+        Schema<?> schema = new Schema<>();
+        schema.setFormat("email");
+        List<ValidDataFormatGenerator> first = validDataFormat.getGenerators(schema, "userEmail");
+        List<ValidDataFormatGenerator> second = validDataFormat.getGenerators(schema, "userEmail");
+
+        Assertions.assertThat(first).hasSize(1).isSameAs(second);
+    }
+
+    @Test
+    void shouldMatchGeneratorsSeparatelyForDifferentProperties() {
+        Assertions.assertThat(validDataFormat.getGenerators(new Schema<>(), "city")).hasSize(1);
+        Assertions.assertThat(validDataFormat.getGenerators(new Schema<>(), "notAKnownProperty")).isEmpty();
+        Assertions.assertThat(validDataFormat.getGenerators(new Schema<>(), null)).isEmpty();
+    }
 }
@@ -10,6 +10,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @QuarkusTest
 class StringGeneratorTest {
@@ -41,6 +44,15 @@ class StringGeneratorTest {
         Assertions.assertThat(actual).hasSize(3);
     }
 
+    @Test
+    void shouldReuseGeneratedValuesOncePoolIsFull() {
+        Set<String> generated = IntStream.range(0, 100)
+                .mapToObj(i -> StringGenerator.generateFromPool("[a-z]{5}[0-9]{3}", 8, 8))
+                .collect(Collectors.toSet());
+
+        Assertions.assertThat(generated).hasSizeBetween(1, 8).allMatch(value -> value.matches("[a-z]{5}[0-9]{3}"));
+    }
+
     @Test
     void givenASchemaWithMaxLength_whenGeneratingARightBoundaryString_thenTheGeneratedStringHasProperLength() {
         Schema schema = new StringSchema();
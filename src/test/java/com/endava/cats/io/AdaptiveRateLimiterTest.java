@@ -0,0 +1,193 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.util.KeyValuePair;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.net.SocketTimeoutException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@QuarkusTest
+class AdaptiveRateLimiterTest {
+    private static final String GET_PETS = "GET /pets";
+    private static final String GET_REPORTS = "GET /reports";
+
+    @Test
+    void shouldNotChangeRateWhenFixed() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.fixed(100);
+        rateLimiter.onResponse(GET_PETS, response(429, 10));
+
+        Assertions.assertThat(rateLimiter.getRate()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldStartFromFractionOfMaxRateWhenAdaptive() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(100);
+
+        Assertions.assertThat(rateLimiter.getRate()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldIncreaseRateWhileResponsesAreSuccessful() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(100);
+        for (int i = 0; i < 200; i++) {
+            rateLimiter.onResponse(GET_PETS, response(200, 10));
+        }
+
+        Assertions.assertThat(rateLimiter.getRate()).isGreaterThan(10).isLessThanOrEqualTo(100);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"429", "503"})
+    void shouldDecreaseRateWhenServiceIsOverloaded(int responseCode) {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(100);
+        rateLimiter.onResponse(GET_PETS, response(responseCode, 10));
+
+        Assertions.assertThat(rateLimiter.getRate()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldDecreaseRateWhenLatencyIncreases() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(100);
+        rateLimiter.onResponse(GET_PETS, response(200, 10));
+        double rateBeforeSlowResponses = rateLimiter.getRate();
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.onResponse(GET_PETS, response(200, 1000));
+        }
+
+        Assertions.assertThat(rateLimiter.getRate()).isLessThan(rateBeforeSlowResponses);
+    }
+
+    @Test
+    void shouldNotGoBelowMinimumRate() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(100, clock::get);
+        for (int i = 0; i < 20; i++) {
+            rateLimiter.onResponse(GET_PETS, response(429, 10));
+            clock.addAndGet(1000);
+        }
+
+        Assertions.assertThat(rateLimiter.getRate()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDecreaseRateOnlyOncePerAdjustmentWindow() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(100, clock::get);
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.onResponse(GET_PETS, response(429, 10));
+        }
+        Assertions.assertThat(rateLimiter.getRate()).isEqualTo(5);
+
+        clock.addAndGet(1000);
+        rateLimiter.onResponse(GET_PETS, response(429, 10));
+        Assertions.assertThat(rateLimiter.getRate()).isEqualTo(2.5);
+    }
+
+    @Test
+    void shouldCompareLatencyWithBaselineOfTheSameOperation() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(100);
+        rateLimiter.onResponse(GET_PETS, response(200, 10));
+        double rateBeforeSlowOperation = rateLimiter.getRate();
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.onResponse(GET_REPORTS, response(200, 1000));
+        }
+
+        Assertions.assertThat(rateLimiter.getRate()).isGreaterThan(rateBeforeSlowOperation);
+    }
+
+    @Test
+    void shouldAdaptBaselineToLastingLatencyChanges() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(100, clock::get);
+        rateLimiter.onResponse(GET_PETS, response(200, 10));
+        for (int i = 0; i < 1000; i++) {
+            rateLimiter.onResponse(GET_PETS, response(200, 100));
+            clock.addAndGet(1000);
+        }
+        double rateAfterLatencyChange = rateLimiter.getRate();
+        rateLimiter.onResponse(GET_PETS, response(200, 100));
+
+        Assertions.assertThat(rateLimiter.getRate()).isGreaterThan(rateAfterLatencyChange);
+    }
+
+    @Test
+    void shouldPauseWhenRetryAfterReceived() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(6000);
+        CatsResponse response = CatsResponse.builder().responseCode(429).responseTimeInMs(10)
+                .headers(List.of(new KeyValuePair<>("Retry-After", "1"))).build();
+        rateLimiter.onResponse(GET_PETS, response);
+
+        long t0 = System.currentTimeMillis();
+        rateLimiter.acquire();
+
+        Assertions.assertThat(System.currentTimeMillis() - t0).isGreaterThan(800);
+    }
+
+    @Test
+    void shouldPauseWhenRateLimitRemainingIsZero() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(6000);
+        CatsResponse response = CatsResponse.builder().responseCode(200).responseTimeInMs(10)
+                .headers(List.of(new KeyValuePair<>("RateLimit-Remaining", "0"), new KeyValuePair<>("RateLimit-Reset", "1"))).build();
+        rateLimiter.onResponse(GET_PETS, response);
+
+        long t0 = System.currentTimeMillis();
+        rateLimiter.acquire();
+
+        Assertions.assertThat(System.currentTimeMillis() - t0).isGreaterThan(800);
+    }
+
+    @Test
+    void shouldStopPausingOnceClockPassesRetryAfter() {
+        AtomicLong clock = new AtomicLong();
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(6000, clock::get);
+        CatsResponse response = CatsResponse.builder().responseCode(429).responseTimeInMs(10)
+                .headers(List.of(new KeyValuePair<>("Retry-After", "30"))).build();
+        rateLimiter.onResponse(GET_PETS, response);
+        clock.addAndGet(30000);
+
+        long t0 = System.currentTimeMillis();
+        rateLimiter.acquire();
+
+        Assertions.assertThat(System.currentTimeMillis() - t0).isLessThan(1000);
+    }
+
+    @Test
+    void shouldDecreaseRateWhenRequestFails() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.adaptive(100);
+        rateLimiter.onFailure(10000, new SocketTimeoutException("timeout"));
+
+        Assertions.assertThat(rateLimiter.getRate()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldNotChangeRateWhenRequestFailsAndFixed() {
+        AdaptiveRateLimiter rateLimiter = AdaptiveRateLimiter.fixed(100);
+        rateLimiter.onFailure(10000, new SocketTimeoutException("timeout"));
+
+        Assertions.assertThat(rateLimiter.getRate()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldParseRetryAfterAsDate() {
+        Instant now = Instant.parse("2024-05-10T10:15:30Z");
+        String retryDate = now.plusSeconds(30).atZone(ZoneOffset.UTC).format(DateTimeFormatter.RFC_1123_DATE_TIME);
+
+        Assertions.assertThat(AdaptiveRateLimiter.parseRetryAfter(retryDate, now.toEpochMilli())).contains(30000L);
+        Assertions.assertThat(AdaptiveRateLimiter.parseRetryAfter(retryDate, now.plusSeconds(60).toEpochMilli())).contains(0L);
+        Assertions.assertThat(AdaptiveRateLimiter.parseRetryAfter("5", now.toEpochMilli())).contains(5000L);
+        Assertions.assertThat(AdaptiveRateLimiter.parseRetryAfter("invalid", now.toEpochMilli())).isEmpty();
+    }
+
+    private static CatsResponse response(int responseCode, long latency) {
+        return CatsResponse.builder().responseCode(responseCode).responseTimeInMs(latency).headers(List.of()).build();
+    }
+}
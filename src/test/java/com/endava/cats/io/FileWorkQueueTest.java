@@ -0,0 +1,187 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.WorkItem;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@QuarkusTest
+class FileWorkQueueTest {
+    @Test
+    void shouldClaimEachItemOnlyOnce(@TempDir Path queueFolder) throws Exception {
+        FileWorkQueue coordinatorQueue = FileWorkQueue.create(queueFolder);
+        coordinatorQueue.add(new WorkItem("00000001", "/pets", "POST", "PathTagsLinterFuzzer", "/pets"));
+        coordinatorQueue.add(new WorkItem("00000002", "/pets", "GET", "PathTagsLinterFuzzer", "/pets"));
+
+        FileWorkQueue workerQueue = FileWorkQueue.open(queueFolder);
+        Optional<WorkItem> first = workerQueue.claim("worker1");
+        Optional<WorkItem> second = workerQueue.claim("worker1");
+        Optional<WorkItem> third = workerQueue.claim("worker1");
+
+        Assertions.assertThat(first).contains(new WorkItem("00000001", "/pets", "POST", "PathTagsLinterFuzzer", "/pets"));
+        Assertions.assertThat(second).contains(new WorkItem("00000002", "/pets", "GET", "PathTagsLinterFuzzer", "/pets"));
+        Assertions.assertThat(third).isEmpty();
+        Assertions.assertThat(workerQueue.countPending()).isZero();
+    }
+
+    @Test
+    void shouldMarkItemsAsDone(@TempDir Path queueFolder) throws Exception {
+        FileWorkQueue queue = FileWorkQueue.create(queueFolder);
+        WorkItem workItem = new WorkItem("00000001", "/pets", "POST", "PathTagsLinterFuzzer", "/pets");
+        queue.add(workItem);
+        queue.claim("worker1");
+        boolean completed = queue.complete("worker1", workItem);
+
+        Assertions.assertThat(completed).isTrue();
+        Assertions.assertThat(queue.countDone()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGiveItemsOfTheSameResourceToTheSameWorker(@TempDir Path queueFolder) throws Exception {
+        FileWorkQueue queue = FileWorkQueue.create(queueFolder);
+        queue.add(new WorkItem("00000001", "/pets", "POST", "PathTagsLinterFuzzer", "/pets"));
+        queue.add(new WorkItem("00000002", "/pets/{id}", "DELETE", "PathTagsLinterFuzzer", "/pets"));
+        queue.add(new WorkItem("00000003", "/store", "GET", "PathTagsLinterFuzzer", "/store"));
+
+        Optional<WorkItem> worker1First = queue.claim("worker1");
+        Optional<WorkItem> worker2First = queue.claim("worker2");
+        Optional<WorkItem> worker2Second = queue.claim("worker2");
+        Optional<WorkItem> worker1Second = queue.claim("worker1");
+
+        Assertions.assertThat(worker1First).get().extracting(WorkItem::resource).isEqualTo(worker1Second.orElseThrow().resource());
+        Assertions.assertThat(worker1First.orElseThrow().id()).isLessThan(worker1Second.orElseThrow().id());
+        Assertions.assertThat(worker2First).get().extracting(WorkItem::resource).isNotEqualTo(worker1First.orElseThrow().resource());
+        Assertions.assertThat(worker2Second).isEmpty();
+        Assertions.assertThat(queue.countPending()).isZero();
+    }
+
+    @Test
+    void shouldNotShareOwnerBetweenResourcesWithSameHashCode(@TempDir Path queueFolder) throws Exception {
+        FileWorkQueue queue = FileWorkQueue.create(queueFolder);
+        WorkItem first = new WorkItem("00000001", "/Aa", "GET", "PathTagsLinterFuzzer", "/Aa");
+        WorkItem second = new WorkItem("00000002", "/BB", "GET", "PathTagsLinterFuzzer", "/BB");
+        queue.add(first);
+        queue.add(second);
+
+        Assertions.assertThat(first.resource()).hasSameHashCodeAs(second.resource());
+        Assertions.assertThat(queue.claim("worker1")).isPresent();
+        Assertions.assertThat(queue.claim("worker2")).isPresent();
+        Assertions.assertThat(queue.countPending()).isZero();
+    }
+
+    @Test
+    void shouldRequeueExpiredClaimsAndReleaseResources(@TempDir Path queueFolder) throws Exception {
+        FileWorkQueue queue = FileWorkQueue.create(queueFolder);
+        WorkItem post = new WorkItem("00000001", "/pets", "POST", "PathTagsLinterFuzzer", "/pets");
+        WorkItem delete = new WorkItem("00000002", "/pets/{id}", "DELETE", "PathTagsLinterFuzzer", "/pets");
+        queue.add(post);
+        queue.add(delete);
+        queue.claim("worker1");
+        Assertions.assertThat(queue.claim("worker2")).isEmpty();
+
+        Assertions.assertThat(queue.requeueExpiredClaims(Duration.ofMinutes(1))).isZero();
+        try (Stream<Path> claimed = Files.list(queueFolder.resolve("claimed").resolve("worker1"))) {
+            for (Path claimedItem : claimed.toList()) {
+                Files.setLastModifiedTime(claimedItem, FileTime.from(Instant.now().minus(Duration.ofMinutes(2))));
+            }
+        }
+        Assertions.assertThat(queue.requeueExpiredClaims(Duration.ofMinutes(1))).isEqualTo(1);
+
+        Assertions.assertThat(queue.claim("worker2")).contains(post);
+        Assertions.assertThat(queue.claim("worker2")).contains(delete);
+        Assertions.assertThat(queue.complete("worker1", post)).isFalse();
+        Assertions.assertThat(queue.complete("worker2", post)).isTrue();
+        Assertions.assertThat(queue.countDone()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSealQueue(@TempDir Path queueFolder) throws Exception {
+        FileWorkQueue queue = FileWorkQueue.create(queueFolder);
+        Assertions.assertThat(queue.isSealed()).isFalse();
+
+        queue.seal();
+        queue.seal();
+        Assertions.assertThat(FileWorkQueue.open(queueFolder).isSealed()).isTrue();
+    }
+
+    @Test
+    void shouldRemovePreviousContentWhenCreatingQueue(@TempDir Path queueFolder) throws Exception {
+        FileWorkQueue queue = FileWorkQueue.create(queueFolder);
+        queue.add(new WorkItem("00000001", "/pets", "POST", "PathTagsLinterFuzzer", "/pets"));
+        queue.seal();
+
+        FileWorkQueue newQueue = FileWorkQueue.create(queueFolder);
+        Assertions.assertThat(newQueue.countPending()).isZero();
+        Assertions.assertThat(newQueue.isSealed()).isFalse();
+    }
+
+    @Test
+    void shouldReturnTestCaseFilesOrderedByWorkerAndTestNumber(@TempDir Path queueFolder) throws Exception {
+        FileWorkQueue queue = FileWorkQueue.create(queueFolder);
+        Path worker1 = Files.createDirectories(queue.getResultsFolder("worker1"));
+        Path worker2 = Files.createDirectories(queue.getResultsFolder("worker2"));
+        Files.writeString(worker1.resolve("Test10.json"), "{}");
+        Files.writeString(worker1.resolve("Test2.json"), "{}");
+        Files.writeString(worker1.resolve("cats-summary-report.json"), "{}");
+        Files.writeString(worker2.resolve("Test1.json"), "{}");
+        queue.recordCompletedTestCases("worker1", 1, 10);
+        queue.recordCompletedTestCases("worker2", 1, 1);
+
+        Assertions.assertThat(queue.getTestCaseFiles())
+                .containsExactly(worker1.resolve("Test2.json"), worker1.resolve("Test10.json"), worker2.resolve("Test1.json"));
+    }
+
+    @Test
+    void shouldOnlyReturnTestCasesRecordedAsCompleted(@TempDir Path queueFolder) throws Exception {
+        FileWorkQueue queue = FileWorkQueue.create(queueFolder);
+        Path worker1 = Files.createDirectories(queue.getResultsFolder("worker1"));
+        Path worker2 = Files.createDirectories(queue.getResultsFolder("worker2"));
+        for (int i = 1; i <= 6; i++) {
+            Files.writeString(worker1.resolve("Test" + i + ".json"), "{}");
+        }
+        Files.writeString(worker2.resolve("Test1.json"), "{}");
+        queue.recordCompletedTestCases("worker1", 1, 2);
+        queue.recordCompletedTestCases("worker1", 5, 4);
+        queue.recordCompletedTestCases("worker1", 5, 6);
+
+        Assertions.assertThat(queue.getTestCaseFiles())
+                .containsExactly(worker1.resolve("Test1.json"), worker1.resolve("Test2.json"), worker1.resolve("Test5.json"), worker1.resolve("Test6.json"));
+        Assertions.assertThat(queue.getCompletedTestCases(worker1)).accepts("Test 2", "Test 6").rejects("Test 3", "Test 7");
+        Assertions.assertThat(queue.getCompletedTestCases(worker2)).rejects("Test 1");
+    }
+
+    @Test
+    void shouldNotRequeueClaimsWhileRenewed(@TempDir Path queueFolder) throws Exception {
+        FileWorkQueue queue = FileWorkQueue.create(queueFolder);
+        WorkItem post = new WorkItem("00000001", "/pets", "POST", "PathTagsLinterFuzzer", "/pets");
+        queue.add(post);
+        queue.setLeaseDuration(Duration.ofMinutes(1));
+        queue.claim("worker1");
+        expireClaims(queueFolder, "worker1");
+
+        Assertions.assertThat(FileWorkQueue.open(queueFolder).getLeaseDuration()).isEqualTo(Duration.ofMinutes(1));
+        Assertions.assertThat(queue.renewClaim("worker1", post)).isTrue();
+        Assertions.assertThat(queue.requeueExpiredClaims(Duration.ofMinutes(1))).isZero();
+
+        expireClaims(queueFolder, "worker1");
+        Assertions.assertThat(queue.requeueExpiredClaims(Duration.ofMinutes(1))).isEqualTo(1);
+        Assertions.assertThat(queue.renewClaim("worker1", post)).isFalse();
+    }
+
+    private static void expireClaims(Path queueFolder, String workerId) throws Exception {
+        try (Stream<Path> claimed = Files.list(queueFolder.resolve("claimed").resolve(workerId))) {
+            for (Path claimedItem : claimed.toList()) {
+                Files.setLastModifiedTime(claimedItem, FileTime.from(Instant.now().minus(Duration.ofMinutes(2))));
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.endava.cats.io;
+
+import com.endava.cats.util.LargeValue;
+import io.quarkus.test.junit.QuarkusTest;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@QuarkusTest
+class LargeValueRequestBodyTest {
+
+    @Test
+    void shouldStreamLargeValueInPlaceOfDescriptor() throws IOException {
+        LargeValue largeValue = LargeValue.of("ca", "é\"😀", 1000, "ts");
+        String payload = "{\"first\":\"" + largeValue.getDescriptor() + "\",\"second\":\"" + largeValue.getDescriptor() + "\"}";
+        RequestBody requestBody = LargeValueRequestBody.forPayload(payload, largeValue);
+
+        Buffer buffer = new Buffer();
+        requestBody.writeTo(buffer);
+        String expected = largeValue.materializeIn(payload);
+
+        Assertions.assertThat(requestBody).isInstanceOf(LargeValueRequestBody.class);
+        Assertions.assertThat(buffer.readUtf8()).isEqualTo(expected);
+        Assertions.assertThat(requestBody.contentLength()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+        Assertions.assertThat(requestBody.contentType()).isNull();
+    }
+
+    @Test
+    void shouldSendPayloadAsItIsWhenNoDescriptor() throws IOException {
+        RequestBody requestBody = LargeValueRequestBody.forPayload("{\"name\":\"cats\"}", LargeValue.of("", "fuzz", 10, ""));
+
+        Buffer buffer = new Buffer();
+        requestBody.writeTo(buffer);
+
+        Assertions.assertThat(requestBody).isNotInstanceOf(LargeValueRequestBody.class);
+        Assertions.assertThat(buffer.readUtf8()).isEqualTo("{\"name\":\"cats\"}");
+    }
+
+    @Test
+    void shouldSendPayloadAsItIsWhenNoLargeValue() throws IOException {
+        RequestBody requestBody = LargeValueRequestBody.forPayload("{\"name\":\"cats\"}", null);
+
+        Assertions.assertThat(requestBody).isNotInstanceOf(LargeValueRequestBody.class);
+        Assertions.assertThat(requestBody.contentLength()).isEqualTo(15);
+    }
+}
@@ -0,0 +1,69 @@
+package com.endava.cats.io;
+
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.util.KeyValuePair;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@QuarkusTest
+class RequestFingerprintCacheTest {
+
+    @Test
+    void shouldIgnoreUserAgentAndHeadersOrder() {
+        CatsRequest first = request("{}", new KeyValuePair<>("User-Agent", "cats (Test 1)"), new KeyValuePair<>("Accept", "application/json"), new KeyValuePair<>("X-Id", "1"));
+        CatsRequest second = request("{}", new KeyValuePair<>("x-id", "1"), new KeyValuePair<>("accept", "application/json"), new KeyValuePair<>("User-Agent", "cats (Test 2)"));
+
+        Assertions.assertThat(RequestFingerprintCache.fingerprint(first)).isEqualTo(RequestFingerprintCache.fingerprint(second));
+    }
+
+    @Test
+    void shouldHaveDifferentFingerprintWhenBodyOrHeadersDiffer() {
+        CatsRequest request = request("{}", new KeyValuePair<>("X-Id", "1"));
+
+        Assertions.assertThat(RequestFingerprintCache.fingerprint(request))
+                .isNotEqualTo(RequestFingerprintCache.fingerprint(request("{\"id\":1}", new KeyValuePair<>("X-Id", "1"))))
+                .isNotEqualTo(RequestFingerprintCache.fingerprint(request("{}", new KeyValuePair<>("X-Id", "2"))));
+    }
+
+    @Test
+    void shouldReturnRecordedResponseWithCurrentFuzzedField() {
+        RequestFingerprintCache cache = new RequestFingerprintCache(10);
+        cache.put("fingerprint", "http://localhost/pets", CatsResponse.builder().responseCode(400).body("{}").fuzzedField("first").headers(List.of()).build());
+
+        Assertions.assertThat(cache.get("other", "second")).isEmpty();
+        Assertions.assertThat(cache.get("fingerprint", "second")).hasValueSatisfying(response -> {
+            Assertions.assertThat(response.getResponseCode()).isEqualTo(400);
+            Assertions.assertThat(response.getFuzzedField()).isEqualTo("second");
+        });
+    }
+
+    @Test
+    void shouldInvalidateResponsesOfRelatedPaths() {
+        RequestFingerprintCache cache = new RequestFingerprintCache(10);
+        CatsResponse response = CatsResponse.builder().responseCode(200).body("{}").headers(List.of()).build();
+        cache.put("pets", "http://localhost/pets?limit=10", response);
+        cache.put("pet", "http://localhost/pets/1", response);
+        cache.put("petTags", "http://localhost/pets/1/tags", response);
+        cache.put("otherPet", "http://localhost/pets/10", response);
+        cache.put("stores", "http://localhost/stores", response);
+
+        cache.invalidate("http://localhost/pets/1");
+
+        Assertions.assertThat(cache.get("pets", null)).isEmpty();
+        Assertions.assertThat(cache.get("pet", null)).isEmpty();
+        Assertions.assertThat(cache.get("petTags", null)).isEmpty();
+        Assertions.assertThat(cache.get("otherPet", null)).isPresent();
+        Assertions.assertThat(cache.get("stores", null)).isPresent();
+    }
+
+    @SafeVarargs
+    private static CatsRequest request(String payload, KeyValuePair<String, Object>... headers) {
+        CatsRequest request = CatsRequest.builder().httpMethod("POST").payload(payload).headers(List.of(headers)).build();
+        request.setUrl("http://localhost/pets");
+        return request;
+    }
+}
@@ -0,0 +1,49 @@
+package com.endava.cats.io;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.StringTokenizer;
+
+@QuarkusTest
+class ResponseBodyAnalyzerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "\n", "word", "{\"key\": \"value\"}\n", "\n\nfirst line\r\nsecond | third\n\n", "  spaced \t words\f ",
+            "ünicödé 🐱 body", "lone \uD83D surrogate", "|||"})
+    void shouldComputeSameStatisticsAsWholeBody(String body) throws IOException {
+        ResponseBodyAnalyzer.Result result = new ResponseBodyAnalyzer(1024).analyze(new StringReader(body));
+
+        Assertions.assertThat(result.body()).isEqualTo(body);
+        Assertions.assertThat(result.truncated()).isFalse();
+        Assertions.assertThat(result.contentLengthInBytes()).isEqualTo(body.getBytes(StandardCharsets.UTF_8).length);
+        Assertions.assertThat(result.numberOfWords()).isEqualTo(new StringTokenizer(body).countTokens());
+        Assertions.assertThat(result.numberOfLines()).isEqualTo(body.split("[\r|\n]").length);
+    }
+
+    @Test
+    void shouldTruncateBodyButComputeStatisticsOnEntireBody() throws IOException {
+        String body = "first line\nsecond line\nthird line";
+        ResponseBodyAnalyzer.Result result = new ResponseBodyAnalyzer(10).analyze(new StringReader(body));
+
+        Assertions.assertThat(result.body()).isEqualTo("first line" + ResponseBodyAnalyzer.TRUNCATION_MARKER);
+        Assertions.assertThat(result.truncated()).isTrue();
+        Assertions.assertThat(result.contentLengthInBytes()).isEqualTo(body.length());
+        Assertions.assertThat(result.numberOfWords()).isEqualTo(6);
+        Assertions.assertThat(result.numberOfLines()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotSplitSurrogatePairsWhenTruncating() throws IOException {
+        ResponseBodyAnalyzer.Result result = new ResponseBodyAnalyzer(6).analyze(new StringReader("ab🐱🐱"));
+
+        Assertions.assertThat(result.body()).isEqualTo("ab🐱" + ResponseBodyAnalyzer.TRUNCATION_MARKER);
+        Assertions.assertThat(result.contentLengthInBytes()).isEqualTo(10);
+    }
+}
@@ -7,13 +7,16 @@ import com.endava.cats.args.ProcessingArguments;
 import com.endava.cats.context.CatsGlobalContext;
 import com.endava.cats.http.HttpMethod;
 import com.endava.cats.model.CatsHeader;
+import com.endava.cats.model.CatsRequest;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.report.TestCaseListener;
 import com.endava.cats.util.KeyValuePair;
+import com.endava.cats.util.LargeValue;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
@@ -23,11 +26,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.File;
 import java.net.Proxy;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Deque;
@@ -35,7 +40,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @QuarkusTest
 class ServiceCallerTest {
@@ -159,6 +168,39 @@ class ServiceCallerTest {
         wireMockServer.verify(WireMock.postRequestedFor(WireMock.urlEqualTo("/pets")).withRequestBody(WireMock.equalTo("test=2&id=1")));
     }
 
+    @Test
+    void shouldStreamLargeValueInJsonPayload() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        LargeValue largeValue = LargeValue.of("ca", "\uD83D\uDE00\"", 3, "ts");
+
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/pets").payload("{\"large\":\"" + largeValue.getDescriptor() + "\"}")
+                .httpMethod(HttpMethod.POST).largeValue(largeValue)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+
+        TestCaseListener testCaseListener = (TestCaseListener) ReflectionTestUtils.getField(serviceCaller, "testCaseListener");
+        ArgumentCaptor<CatsRequest> recordedRequest = ArgumentCaptor.forClass(CatsRequest.class);
+        Mockito.verify(testCaseListener).addRequest(recordedRequest.capture());
+
+        Assertions.assertThat(catsResponse.responseCodeAsString()).isEqualTo("200");
+        Assertions.assertThat(recordedRequest.getValue().getPayload()).isEqualTo("{\"large\":\"" + largeValue.getDescriptor() + "\"}");
+        wireMockServer.verify(WireMock.postRequestedFor(WireMock.urlEqualTo("/pets"))
+                .withRequestBody(WireMock.equalTo("{\"large\":\"ca\uD83D\uDE00\\\"\uD83D\uDE00\\\"\uD83D\uDE00\\\"ts\"}")));
+    }
+
+    @Test
+    void shouldMaterializeLargeValueInUrlFormEncodedPayload() {
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        LargeValue largeValue = LargeValue.of("", "ab", 3, "");
+
+        serviceCaller.call(ServiceData.builder().relativePath("/pets").payload("{\"large\":\"" + largeValue.getDescriptor() + "\"}")
+                .httpMethod(HttpMethod.POST).largeValue(largeValue)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/x-www-form-urlencoded").build());
+
+        wireMockServer.verify(WireMock.postRequestedFor(WireMock.urlEqualTo("/pets")).withRequestBody(WireMock.equalTo("large=ababab")));
+    }
+
     @Test
     void shouldNotReturnJson() {
         serviceCaller.initHttpClient();
@@ -172,6 +214,104 @@ class ServiceCallerTest {
         Assertions.assertThat(catsResponse.getJsonBody().toString()).contains("notAJson");
     }
 
+    @Test
+    void shouldTruncateResponseBodyLongerThanMaxResponseBodyBytes() {
+        ReflectionTestUtils.setField(apiArguments, "maxResponseBodyBytes", 6);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        CatsResponse catsResponse = serviceCaller.call(ServiceData.builder().relativePath("/not-json").httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+        ReflectionTestUtils.setField(apiArguments, "maxResponseBodyBytes", 10485760);
+
+        Assertions.assertThat(catsResponse.getBody()).isEqualTo("<html>" + ResponseBodyAnalyzer.TRUNCATION_MARKER);
+        Assertions.assertThat(catsResponse.isBodyTruncated()).isTrue();
+        Assertions.assertThat(catsResponse.getContentLengthInBytes()).isEqualTo(17);
+        Assertions.assertThat(catsResponse.getNumberOfWordsInResponse()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"HTTP_1_1,http/1.1", "H2,h2;http/1.1", "H2C,h2_prior_knowledge"})
+    void shouldSetHttpProtocols(ApiArguments.HttpProtocol httpProtocol, String expectedProtocols) {
+        ReflectionTestUtils.setField(apiArguments, "httpProtocol", httpProtocol);
+        serviceCaller.initHttpClient();
+        ReflectionTestUtils.setField(apiArguments, "httpProtocol", ApiArguments.HttpProtocol.H2);
+
+        Assertions.assertThat(serviceCaller.okHttpClient.protocols()).map(Object::toString).containsExactly(expectedProtocols.split(";"));
+    }
+
+    @Test
+    void shouldSetMaxRequestsPerHost() {
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerHost", 20);
+        serviceCaller.initHttpClient();
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerHost", 5);
+
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(20);
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().getMaxRequests()).isEqualTo(64);
+    }
+
+    @Test
+    void shouldNotRaiseMaxRequestsPerHostToMaxInFlightRequests() {
+        ReflectionTestUtils.setField(apiArguments, "maxInFlightRequests", 20);
+        serviceCaller.initHttpClient();
+        ReflectionTestUtils.setField(apiArguments, "maxInFlightRequests", 0);
+
+        Assertions.assertThat(serviceCaller.okHttpClient.dispatcher().getMaxRequestsPerHost()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldCallServiceAsync() {
+        ReflectionTestUtils.setField(apiArguments, "maxInFlightRequests", 2);
+        serviceCaller.initRateLimiter();
+        serviceCaller.initHttpClient();
+
+        List<CatsResponse> responses = Stream.of(1, 2, 3, 4)
+                .map(i -> serviceCaller.callAsync(ServiceData.builder().relativePath("/pets/{id}").payload("{'id':'1'}").httpMethod(HttpMethod.GET)
+                        .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build()))
+                .toList()
+                .stream().map(CompletableFuture::join)
+                .toList();
+        ReflectionTestUtils.setField(apiArguments, "maxInFlightRequests", 0);
+
+        Assertions.assertThat(serviceCaller.isAsync()).isFalse();
+        Assertions.assertThat(responses).hasSize(4).allSatisfy(response -> {
+            Assertions.assertThat(response.getResponseCode()).isEqualTo(200);
+            Assertions.assertThat(response.getBody()).isEqualTo("{'pet':'pet'}");
+        });
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenTestCaseExecutorRejectsResponse() {
+        ReflectionTestUtils.setField(apiArguments, "maxInFlightRequests", 2);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        TestCaseListener testCaseListener = (TestCaseListener) ReflectionTestUtils.getField(serviceCaller, "testCaseListener");
+        Mockito.when(testCaseListener.currentTestCaseExecutor()).thenReturn(command -> {
+            throw new RejectedExecutionException("test case finished");
+        });
+
+        CompletableFuture<CatsResponse> response = serviceCaller.callAsync(ServiceData.builder().relativePath("/pets/1").httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+        ReflectionTestUtils.setField(apiArguments, "maxInFlightRequests", 0);
+
+        Assertions.assertThat(response).failsWithin(Duration.ofSeconds(5)).withThrowableOfType(ExecutionException.class).withRootCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"/pets/fault/reset,958,connection reset", "/pets/fault/empty,952,empty reply from server"})
+    void shouldHandleIOExceptionsWhenCallingServiceAsync(String path, String responseCode, String expectedBody) {
+        ReflectionTestUtils.setField(apiArguments, "maxInFlightRequests", 2);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+
+        CatsResponse catsResponse = serviceCaller.callAsync(ServiceData.builder().relativePath(path).httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build()).join();
+        ReflectionTestUtils.setField(apiArguments, "maxInFlightRequests", 0);
+
+        Assertions.assertThat(catsResponse.responseCodeAsString()).isEqualTo(responseCode);
+        Assertions.assertThat(catsResponse.getBody()).contains(expectedBody);
+    }
+
     @ParameterizedTest
     @CsvSource({"/pets/fault/reset,958,connection reset", "/pets/fault/malformed,957,protocol exception", "/pets/fault/random,952,empty reply from server", "/pets/fault/empty,952,empty reply from server"})
     void shouldHandleIOExceptions(String path, String responseCode, String expectedBody) {
@@ -186,6 +326,24 @@ class ServiceCallerTest {
         Assertions.assertThat(catsResponse.getJsonBody().toString()).contains("notAJson");
     }
 
+    @Test
+    void shouldDecreaseAdaptiveRateWhenRequestFails() {
+        int maxRequestsPerMinute = apiArguments.getMaxRequestsPerMinute();
+        ReflectionTestUtils.setField(apiArguments, "adaptiveRateLimit", true);
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerMinute", 6000);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ReflectionTestUtils.setField(apiArguments, "adaptiveRateLimit", false);
+        ReflectionTestUtils.setField(apiArguments, "maxRequestsPerMinute", maxRequestsPerMinute);
+        AdaptiveRateLimiter rateLimiter = (AdaptiveRateLimiter) ReflectionTestUtils.getField(serviceCaller, "rateLimiter");
+        double initialRate = rateLimiter.getRate();
+
+        serviceCaller.call(ServiceData.builder().relativePath("/pets/fault/reset").httpMethod(HttpMethod.GET)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build());
+
+        Assertions.assertThat(rateLimiter.getRate()).isLessThan(initialRate);
+    }
+
     @Test
     void shouldNotConvertToUrlFormEncodedWhenError() {
         serviceCaller.initHttpClient();
@@ -249,6 +407,80 @@ class ServiceCallerTest {
         Assertions.assertThat(catsResponse.getBody()).isEqualTo("{'result':'OK'}");
     }
 
+    @Test
+    void shouldReuseResponseOfIdenticalRequestWhenDeduplicating() {
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        TestCaseListener testCaseListener = (TestCaseListener) ReflectionTestUtils.getField(serviceCaller, "testCaseListener");
+        ServiceData serviceData = ServiceData.builder().relativePath("/pets").payload("{\"duplicate\":\"duplicate\"}").httpMethod(HttpMethod.PUT)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build();
+
+        CatsResponse firstResponse = serviceCaller.call(serviceData);
+        CatsResponse secondResponse = serviceCaller.call(serviceData);
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+
+        Assertions.assertThat(secondResponse.getResponseCode()).isEqualTo(firstResponse.getResponseCode());
+        Assertions.assertThat(secondResponse.getBody()).isEqualTo(firstResponse.getBody());
+        wireMockServer.verify(1, WireMock.putRequestedFor(WireMock.urlEqualTo("/pets")).withRequestBody(WireMock.equalTo("{\"duplicate\":\"duplicate\"}")));
+        Mockito.verify(testCaseListener, Mockito.times(1)).recordDeduplicatedRequest();
+    }
+
+    @Test
+    void shouldNotDeduplicateNonIdempotentRequests() {
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ServiceData serviceData = ServiceData.builder().relativePath("/pets").payload("{\"notDeduplicated\":\"post\"}").httpMethod(HttpMethod.POST)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build();
+
+        serviceCaller.call(serviceData);
+        serviceCaller.call(serviceData);
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+
+        wireMockServer.verify(2, WireMock.postRequestedFor(WireMock.urlEqualTo("/pets")).withRequestBody(WireMock.equalTo("{\"notDeduplicated\":\"post\"}")));
+    }
+
+    @Test
+    void shouldNotReuseResponseOfGetSentBeforeDelete() {
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        wireMockServer.stubFor(WireMock.get("/deleted/1").inScenario("delete").whenScenarioStateIs(Scenario.STARTED)
+                .willReturn(WireMock.ok("{}")));
+        wireMockServer.stubFor(WireMock.delete("/deleted/1").inScenario("delete").willReturn(WireMock.noContent()).willSetStateTo("deleted"));
+        wireMockServer.stubFor(WireMock.get("/deleted/1").inScenario("delete").whenScenarioStateIs("deleted").willReturn(WireMock.notFound()));
+
+        CatsResponse beforeDelete = serviceCaller.call(deletedResourceData(HttpMethod.GET));
+        serviceCaller.call(deletedResourceData(HttpMethod.DELETE));
+        CatsResponse afterDelete = serviceCaller.call(deletedResourceData(HttpMethod.GET));
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+
+        Assertions.assertThat(beforeDelete.getResponseCode()).isEqualTo(200);
+        Assertions.assertThat(afterDelete.getResponseCode()).isEqualTo(404);
+        wireMockServer.verify(2, WireMock.getRequestedFor(WireMock.urlEqualTo("/deleted/1")));
+    }
+
+    @Test
+    void shouldNotReuseResponsesWhenDisabledForServiceData() {
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", true);
+        serviceCaller.initHttpClient();
+        serviceCaller.initRateLimiter();
+        ServiceData serviceData = ServiceData.builder().relativePath("/pets").payload("{\"notReused\":\"put\"}").httpMethod(HttpMethod.PUT).reuseResponses(false)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build();
+
+        serviceCaller.call(serviceData);
+        serviceCaller.call(serviceData);
+        ReflectionTestUtils.setField(apiArguments, "deduplicateRequests", false);
+
+        wireMockServer.verify(2, WireMock.putRequestedFor(WireMock.urlEqualTo("/pets")).withRequestBody(WireMock.equalTo("{\"notReused\":\"put\"}")));
+    }
+
+    private static ServiceData deletedResourceData(HttpMethod httpMethod) {
+        return ServiceData.builder().relativePath("/deleted/1").payload("{}").httpMethod(httpMethod).replaceUrlParams(false)
+                .headers(Collections.singleton(CatsHeader.builder().name("header").value("header").build())).contentType("application/json").build();
+    }
+
     @Test
     void givenAServer_whenDoingAPostCallAndServerUnavailable_thenProperDetailsAreBeingReturned() {
         ReflectionTestUtils.setField(apiArguments, "server", "http://localhost:111");
@@ -5,6 +5,7 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
 import java.net.ProtocolException;
@@ -54,4 +55,24 @@ class CatsResponseTest {
 
         Assertions.assertThat(response.responseCode()).isEqualTo(957);
     }
+
+    @Test
+    void shouldParseJsonBodyOnlyWhenNeeded() {
+        CatsResponse catsResponse = CatsResponse.builder().responseCode(200).body("{\"test\": \"value\"}").lazyJsonBody(true).build();
+        CatsResponse notJsonResponse = CatsResponse.builder().responseCode(200).body("<html>").lazyJsonBody(true).build();
+
+        Assertions.assertThat(ReflectionTestUtils.getField(catsResponse, "jsonBody")).isNull();
+        Assertions.assertThat(catsResponse.getJsonBody().getAsJsonObject().get("test").getAsString()).isEqualTo("value");
+        Assertions.assertThat(catsResponse.getJsonBody()).isSameAs(catsResponse.getJsonBody());
+        Assertions.assertThat(notJsonResponse.getJsonBody().toString()).contains("notAJson");
+        Assertions.assertThat(CatsResponse.builder().body("{}").build().getJsonBody()).isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"''", "123", "\"text\"", "{test: value}", "{\"test\": \"value\"} trailing", "[1,2"}, delimiter = '|')
+    void shouldWrapLazyBodiesWhichAreNotJsonObjectsOrArrays(String body) {
+        CatsResponse catsResponse = CatsResponse.builder().responseCode(200).body(body).lazyJsonBody(true).build();
+
+        Assertions.assertThat(catsResponse.getJsonBody().getAsJsonObject().get("notAJson").getAsString()).isEqualTo(body);
+    }
 }
@@ -1,5 +1,6 @@
 package com.endava.cats.model;
 
+import com.endava.cats.util.Subsets;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.NumberSchema;
@@ -169,7 +170,7 @@ class FuzzingDataTest {
         baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
         FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema).build();
 
-        Set<Set<String>> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.POWERSET, 3);
+        Subsets<String> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.POWERSET, 3);
         Assertions.assertThat(setOfFields).hasSize(15);
     }
 
@@ -180,7 +181,7 @@ class FuzzingDataTest {
         baseSchema.setProperties(this.getBasePropertiesMapWithSubfields());
         FuzzingData data = FuzzingData.builder().schemaMap(getBasePropertiesMapWithSubfields()).requestPropertyTypes(this.buildRequestPropertyTypes()).reqSchema(baseSchema).build();
 
-        Set<Set<String>> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.SIZE, maxSizeToRemove);
+        Subsets<String> setOfFields = data.getAllFields(FuzzingData.SetFuzzingStrategy.SIZE, maxSizeToRemove);
         Assertions.assertThat(setOfFields).hasSize(expected);
     }
 
@@ -203,7 +204,7 @@ class FuzzingDataTest {
     @Test
     void shouldReturnSetOfSetsWithHalfSize() {
         Set<String> fields = Set.of("a", "b", "c", "d");
-        Set<Set<String>> allSets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(fields, 0);
+        Subsets<String> allSets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(fields, 0);
         Assertions.assertThat(allSets).hasSize(10)
                 .contains(Set.of("a"), Set.of("b"), Set.of("a", "b"))
                 .doesNotContain(Set.of("a", "b", "c", "d"));
@@ -212,14 +213,14 @@ class FuzzingDataTest {
     @Test
     void shouldReturnSizeOfInitialSetWhenMaxFieldToRemoveBiggerThanSize() {
         Set<String> fields = Set.of("a", "b", "c", "d");
-        Set<Set<String>> allSets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(fields, 10);
+        Subsets<String> allSets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(fields, 10);
         Assertions.assertThat(allSets).hasSize(15).contains(Set.of("a"), Set.of("b"), Set.of("a", "b", "c", "d"));
     }
 
     @Test
     void shouldReturnSetsUpToMaxFieldToRemove() {
         Set<String> fields = Set.of("a", "b", "c", "d");
-        Set<Set<String>> allSets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(fields, 3);
+        Subsets<String> allSets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(fields, 3);
         Assertions.assertThat(allSets).hasSize(14)
                 .contains(Set.of("a"), Set.of("b"), Set.of("a", "b", "c"))
                 .doesNotContain(Set.of("a", "b", "c", "d"));
@@ -268,4 +269,18 @@ class FuzzingDataTest {
 
         return schemaMap;
     }
+
+    @Test
+    void shouldCompileResponseSchemaMatchersOnlyOnce() {
+        Map<String, List<String>> responses = new HashMap<>();
+        responses.put("200", List.of("{\"id\": \"integer\"}"));
+        responses.put("4XX", Collections.singletonList(null));
+        FuzzingData data = FuzzingData.builder().responses(responses).build();
+
+        Map<String, List<ResponseSchemaMatcher>> matchers = data.getResponseSchemaMatchers();
+
+        Assertions.assertThat(matchers).containsOnlyKeys("200", "4XX");
+        Assertions.assertThat(matchers.get("200")).hasSize(1);
+        Assertions.assertThat(data.getResponseSchemaMatchers()).isSameAs(matchers);
+    }
 }
@@ -0,0 +1,35 @@
+package com.endava.cats.model;
+
+import com.google.gson.JsonParser;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Set;
+
+@QuarkusTest
+class ResponseSchemaMatcherTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {"{\"id\": 1, \"Name\": \"cats\"}|true", "{\"id\": 1, \"other\": \"cats\"}|false", "[{\"id\": 1}]|true",
+            "[]|false", "{\"address\": {\"street\": \"main\"}}|true", "{\"address\": {\"number\": 1}}|false", "\"value\"|false"}, delimiter = '|')
+    void shouldMatchResponseAgainstSchema(String response, boolean expected) {
+        ResponseSchemaMatcher matcher = ResponseSchemaMatcher.compile("{\"id\": \"integer\", \"name\": \"string\", \"address\": {\"street\": \"string\"}}");
+
+        Assertions.assertThat(matcher.matches(JsonParser.parseString(response), Set.of())).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldMatchEmptyArrayOnlyForArraySchemas() {
+        Assertions.assertThat(ResponseSchemaMatcher.compile("[{\"id\": \"integer\"}]").matches(JsonParser.parseString("[]"), Set.of())).isTrue();
+        Assertions.assertThat(ResponseSchemaMatcher.compile("not json").matches(JsonParser.parseString("[]"), Set.of())).isFalse();
+    }
+
+    @Test
+    void shouldMatchAnythingWhenNoSchemaOrAdditionalProperties() {
+        Assertions.assertThat(ResponseSchemaMatcher.compile(null).matches(JsonParser.parseString("{\"any\": 1}"), Set.of())).isTrue();
+        Assertions.assertThat(ResponseSchemaMatcher.compile("{\"id\": 1}").matches(JsonParser.parseString("{\"any\": 1}"), Set.of("ROOT"))).isTrue();
+    }
+}
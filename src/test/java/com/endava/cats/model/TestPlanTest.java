@@ -0,0 +1,65 @@
+package com.endava.cats.model;
+
+import com.endava.cats.http.HttpMethod;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+@QuarkusTest
+class TestPlanTest {
+
+    @Test
+    void shouldCountPlannedTestCases() {
+        TestPlan<String> testPlan = new TestPlan<>("Fuzzer", fuzzingData(), () -> Stream.of(
+                new PlannedTestCase<>("field1", "value1"), new PlannedTestCase<>("field2", "value2")));
+
+        Assertions.assertThat(testPlan.count()).isEqualTo(2);
+        Assertions.assertThat(testPlan.stream()).extracting(PlannedTestCase::target).containsExactly("field1", "field2");
+    }
+
+    @Test
+    void shouldCreateTestCasesLazily() {
+        AtomicInteger created = new AtomicInteger();
+        TestPlan<Integer> testPlan = new TestPlan<>("Fuzzer", fuzzingData(), () -> Stream.iterate(0, i -> i + 1)
+                .peek(i -> created.incrementAndGet())
+                .map(i -> new PlannedTestCase<>("field", i)));
+
+        Assertions.assertThat(created).hasValue(0);
+        Assertions.assertThat(testPlan.stream().limit(3).toList()).hasSize(3);
+        Assertions.assertThat(created).hasValue(3);
+    }
+
+    @Test
+    void shouldWritePlanAsJsonLines() throws IOException {
+        TestPlan<String> testPlan = new TestPlan<>("Fuzzer", fuzzingData(), () -> Stream.of(
+                new PlannedTestCase<>("field1", "value1"), new PlannedTestCase<>("field2", null)));
+        StringWriter writer = new StringWriter();
+        long written = testPlan.writeJsonLines(writer);
+
+        Assertions.assertThat(written).isEqualTo(2);
+        Assertions.assertThat(writer.toString().split("\n")).containsExactly(
+                "{\"fuzzer\":\"Fuzzer\",\"path\":\"/pets\",\"httpMethod\":\"POST\",\"target\":\"field1\",\"value\":\"value1\"}",
+                "{\"fuzzer\":\"Fuzzer\",\"path\":\"/pets\",\"httpMethod\":\"POST\",\"target\":\"field2\",\"value\":\"null\"}");
+    }
+
+    @Test
+    void shouldCheckIfPlanIsEmptyCreatingAtMostOneTestCase() {
+        AtomicInteger created = new AtomicInteger();
+        TestPlan<Integer> testPlan = new TestPlan<>("Fuzzer", fuzzingData(), () -> Stream.iterate(0, i -> i + 1)
+                .peek(i -> created.incrementAndGet())
+                .map(i -> new PlannedTestCase<>("field", i)));
+
+        Assertions.assertThat(testPlan.isEmpty()).isFalse();
+        Assertions.assertThat(created).hasValue(1);
+        Assertions.assertThat(new TestPlan<>("Fuzzer", fuzzingData(), Stream::empty).isEmpty()).isTrue();
+    }
+
+    private static FuzzingData fuzzingData() {
+        return FuzzingData.builder().path("/pets").method(HttpMethod.POST).build();
+    }
+}
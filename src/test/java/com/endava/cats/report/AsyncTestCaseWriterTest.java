@@ -0,0 +1,187 @@
+package com.endava.cats.report;
+
+import com.endava.cats.model.CatsTestCase;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class AsyncTestCaseWriterTest {
+
+    @Test
+    void shouldWriteOnCallingThreadWhenQueueSizeIsZero() {
+        List<String> threads = new CopyOnWriteArrayList<>();
+        AsyncTestCaseWriter writer = new AsyncTestCaseWriter(exporter(testCase -> threads.add(Thread.currentThread().getName())), 0);
+
+        writer.submit(testCase(1));
+
+        Assertions.assertThat(threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void shouldWriteAllTestCasesInOrderWhenClosing() {
+        List<String> written = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        AsyncTestCaseWriter writer = new AsyncTestCaseWriter(exporter(testCase -> {
+            written.add(testCase.getTestId());
+            threads.add(Thread.currentThread().getName());
+        }), 4);
+
+        IntStream.rangeClosed(1, 200).forEach(i -> writer.submit(testCase(i)));
+        writer.close();
+
+        Assertions.assertThat(written).hasSize(200).startsWith("Test 1", "Test 2").endsWith("Test 200");
+        Assertions.assertThat(threads).containsOnly("cats-report-writer");
+    }
+
+    @Test
+    void shouldWriteQueuedTestCasesInBatches() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        TestCaseExporter exporter = Mockito.mock(TestCaseExporter.class);
+        Mockito.doAnswer(invocation -> {
+            awaitQuietly(release);
+            batchSizes.add(invocation.<List<CatsTestCase>>getArgument(0).size());
+            return null;
+        }).when(exporter).writeTestCases(Mockito.anyList());
+        AsyncTestCaseWriter writer = new AsyncTestCaseWriter(exporter, 10);
+
+        IntStream.rangeClosed(1, 6).forEach(i -> writer.submit(testCase(i)));
+        release.countDown();
+        writer.close();
+
+        Assertions.assertThat(batchSizes).hasSizeLessThan(6);
+        Assertions.assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldKeepWritingWhenOneBatchFails() {
+        List<String> written = new CopyOnWriteArrayList<>();
+        AsyncTestCaseWriter writer = new AsyncTestCaseWriter(exporter(testCase -> {
+            if ("Test 2".equals(testCase.getTestId())) {
+                throw new IllegalStateException("cannot write");
+            }
+            written.add(testCase.getTestId());
+        }), 10);
+
+        writer.submit(testCase(1));
+        writer.flush();
+        writer.submit(testCase(2));
+        writer.flush();
+        writer.submit(testCase(3));
+        writer.close();
+
+        Assertions.assertThat(written).containsExactly("Test 1", "Test 3");
+    }
+
+    @Test
+    void shouldBlockSubmitWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = new CopyOnWriteArrayList<>();
+        AsyncTestCaseWriter writer = new AsyncTestCaseWriter(exporter(testCase -> {
+            awaitQuietly(release);
+            written.add(testCase.getTestId());
+        }), 1);
+
+        Thread submitter = Thread.ofPlatform().start(() -> IntStream.rangeClosed(1, 4).forEach(i -> writer.submit(testCase(i))));
+        submitter.join(300);
+
+        Assertions.assertThat(submitter.isAlive()).isTrue();
+        Assertions.assertThat(written).isEmpty();
+
+        release.countDown();
+        submitter.join(TimeUnit.SECONDS.toMillis(5));
+        writer.close();
+
+        Assertions.assertThat(submitter.isAlive()).isFalse();
+        Assertions.assertThat(written).containsExactly("Test 1", "Test 2", "Test 3", "Test 4");
+    }
+
+    @Test
+    void shouldWriteOnCallingThreadWhenSubmittingWhileClosing() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> written = new CopyOnWriteArrayList<>();
+        AsyncTestCaseWriter writer = new AsyncTestCaseWriter(exporter(testCase -> {
+            if ("Test 1".equals(testCase.getTestId())) {
+                writing.countDown();
+                awaitQuietly(release);
+            }
+            written.add(testCase.getTestId() + "@" + Thread.currentThread().getName());
+        }), 2);
+
+        writer.submit(testCase(1));
+        writing.await(5, TimeUnit.SECONDS);
+        Thread closer = Thread.ofPlatform().start(writer::close);
+        while (closer.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        writer.submit(testCase(2));
+        release.countDown();
+        closer.join(TimeUnit.SECONDS.toMillis(5));
+
+        Assertions.assertThat(written).containsExactly("Test 2@" + Thread.currentThread().getName(), "Test 1@cats-report-writer");
+    }
+
+    @Test
+    void shouldRunCallbacksOnceTestCasesAreWritten() {
+        List<String> events = new CopyOnWriteArrayList<>();
+        AsyncTestCaseWriter writer = new AsyncTestCaseWriter(exporter(testCase -> events.add("write " + testCase.getTestId())), 4);
+
+        writer.submit(testCase(1), () -> events.add("written Test 1"));
+        writer.submit(testCase(2), () -> events.add("written Test 2"));
+        writer.afterWritten(() -> events.add("all written"));
+        writer.close();
+
+        Assertions.assertThat(events).containsSubsequence("write Test 1", "written Test 1")
+                .containsSubsequence("write Test 2", "written Test 2", "all written");
+    }
+
+    @Test
+    void shouldRestartWriterWhenSubmittingAfterClose() {
+        List<String> written = new CopyOnWriteArrayList<>();
+        AsyncTestCaseWriter writer = new AsyncTestCaseWriter(exporter(testCase -> written.add(testCase.getTestId())), 2);
+
+        writer.submit(testCase(1));
+        writer.close();
+        writer.submit(testCase(2));
+        writer.close();
+
+        Assertions.assertThat(written).containsExactly("Test 1", "Test 2");
+    }
+
+    private static TestCaseExporter exporter(Consumer<CatsTestCase> writer) {
+        TestCaseExporter exporter = Mockito.mock(TestCaseExporter.class);
+        Mockito.doAnswer(invocation -> {
+            writer.accept(invocation.getArgument(0));
+            return null;
+        }).when(exporter).writeTestCase(Mockito.any());
+        Mockito.doAnswer(invocation -> {
+            invocation.<List<CatsTestCase>>getArgument(0).forEach(writer);
+            return null;
+        }).when(exporter).writeTestCases(Mockito.anyList());
+        return exporter;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static CatsTestCase testCase(int number) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId("Test " + number);
+        return testCase;
+    }
+}
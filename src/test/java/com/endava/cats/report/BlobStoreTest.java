@@ -0,0 +1,104 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.CatsTestCase;
+import com.endava.cats.util.JsonUtils;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+@QuarkusTest
+class BlobStoreTest {
+    private static final String LARGE_PAYLOAD = "{\"name\":\"" + "cats".repeat(100) + "\"}";
+
+    @Test
+    void shouldStoreIdenticalLargeBodiesOnce(@TempDir Path reportFolder) throws Exception {
+        BlobStore blobStore = new BlobStore(reportFolder, 100);
+        String firstTestCase = testCaseJson("Test 1", LARGE_PAYLOAD);
+        String secondTestCase = testCaseJson("Test 2", LARGE_PAYLOAD);
+
+        JsonObject firstExternalized = blobStore.externalize(JsonParser.parseString(firstTestCase).getAsJsonObject());
+        JsonObject secondExternalized = blobStore.externalize(JsonParser.parseString(secondTestCase).getAsJsonObject());
+
+        Assertions.assertThat(blobs(reportFolder)).hasSize(1);
+        Assertions.assertThat(firstExternalized.getAsJsonObject("request").getAsJsonObject("payload").get(BlobStore.BLOB_KEY))
+                .isEqualTo(secondExternalized.getAsJsonObject("request").getAsJsonObject("payload").get(BlobStore.BLOB_KEY));
+        Assertions.assertThat(firstExternalized.getAsJsonObject("request").get("httpMethod").getAsString()).isEqualTo("POST");
+        Assertions.assertThat(JsonParser.parseString(BlobStore.inline(reportFolder, firstExternalized.toString())))
+                .isEqualTo(JsonParser.parseString(firstTestCase));
+    }
+
+    @Test
+    void shouldKeepSmallBodiesInline(@TempDir Path reportFolder) throws Exception {
+        BlobStore blobStore = new BlobStore(reportFolder, 1000);
+        String testCase = testCaseJson("Test 1", LARGE_PAYLOAD);
+
+        JsonObject externalized = blobStore.externalize(JsonParser.parseString(testCase).getAsJsonObject());
+
+        Assertions.assertThat(externalized).isEqualTo(JsonParser.parseString(testCase));
+        Assertions.assertThat(reportFolder.resolve(BlobStore.BLOBS_FOLDER)).doesNotExist();
+        Assertions.assertThat(BlobStore.inline(reportFolder, testCase)).isSameAs(testCase);
+        Assertions.assertThat(new BlobStore(reportFolder, 0).isEnabled()).isFalse();
+    }
+
+    @Test
+    void shouldDeleteBlobsOfPreviousReport(@TempDir Path reportFolder) throws Exception {
+        BlobStore blobStore = new BlobStore(reportFolder, 100);
+        blobStore.externalize(JsonParser.parseString(testCaseJson("Test 1", LARGE_PAYLOAD)).getAsJsonObject());
+
+        blobStore.clear();
+        blobStore.externalize(JsonParser.parseString(testCaseJson("Test 1", LARGE_PAYLOAD)).getAsJsonObject());
+
+        Assertions.assertThat(blobs(reportFolder)).hasSize(1);
+    }
+
+    @Test
+    void shouldReferenceBlobsFromTestCaseFilesAndTruncateTestCasePage(@TempDir Path reportFolder) throws Exception {
+        ReportingArguments reportingArguments = Mockito.mock(ReportingArguments.class);
+        Mockito.when(reportingArguments.getOutputReportFolder()).thenReturn(reportFolder.toString());
+        Mockito.when(reportingArguments.getReportBlobThreshold()).thenReturn(100);
+        TestCaseExporter exporter = new TestCaseExporterHtmlJs(reportingArguments, Mockito.mock(CatsGlobalContext.class));
+        exporter.initPath(null);
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId("Test 12");
+        testCase.setFullRequestPath("http://localhost/pets");
+        testCase.setRequest(CatsRequest.builder().httpMethod("POST").url("http://localhost/pets").headers(List.of()).payload(LARGE_PAYLOAD).build());
+        testCase.setResponse(CatsResponse.builder().responseCode(200).body("{}").build());
+
+        exporter.writeTestCase(testCase);
+
+        String testCaseJson = Files.readString(reportFolder.resolve("Test12.json"));
+        Assertions.assertThat(testCaseJson).contains(BlobStore.BLOB_KEY).doesNotContain("catscats");
+        Assertions.assertThat(reportFolder.resolve("Test12.html")).content().contains("more characters. Run cats view Test12");
+        CatsTestCase storedTestCase = JsonUtils.GSON.fromJson(BlobStore.inline(reportFolder, testCaseJson), CatsTestCase.class);
+        Assertions.assertThat(storedTestCase.getRequest().getPayload()).isEqualTo(LARGE_PAYLOAD);
+    }
+
+    private static String testCaseJson(String testId, String payload) {
+        JsonObject request = new JsonObject();
+        request.addProperty("httpMethod", "POST");
+        request.addProperty("payload", payload);
+        JsonObject testCase = new JsonObject();
+        testCase.addProperty("testId", testId);
+        testCase.add("request", request);
+        return testCase.toString();
+    }
+
+    private static List<Path> blobs(Path reportFolder) throws Exception {
+        try (Stream<Path> files = Files.list(reportFolder.resolve(BlobStore.BLOBS_FOLDER))) {
+            return files.toList();
+        }
+    }
+}
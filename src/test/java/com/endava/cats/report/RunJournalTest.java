@@ -0,0 +1,69 @@
+package com.endava.cats.report;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@QuarkusTest
+class RunJournalTest {
+    private static final String POST_RUN = RunJournal.runKey("Fuzzer", "POST", "/pets", "application/json", 0);
+    private static final String GET_RUN = RunJournal.runKey("Fuzzer", "GET", "/pets", null, 0);
+
+    @Test
+    void shouldOnlyLoadTestCasesOfCompletedRuns(@TempDir Path reportFolder) throws Exception {
+        RunJournal journal = new RunJournal();
+        journal.open(reportFolder);
+        journal.recordTestCase(POST_RUN, "error", "/pets", null, null);
+        journal.recordCompletedRun(POST_RUN);
+        journal.recordTestCase(GET_RUN, "success", "/pets", null, null);
+        journal.close();
+
+        RunJournal resumedJournal = new RunJournal();
+        List<RunJournal.Entry> entries = resumedJournal.load(reportFolder);
+
+        Assertions.assertThat(entries).containsExactly(new RunJournal.Entry(POST_RUN, "error", "/pets", null, null));
+        Assertions.assertThat(resumedJournal.isCompleted(POST_RUN)).isTrue();
+        Assertions.assertThat(resumedJournal.isCompleted(GET_RUN)).isFalse();
+    }
+
+    @Test
+    void shouldIgnorePartiallyWrittenLines(@TempDir Path reportFolder) throws Exception {
+        RunJournal journal = new RunJournal();
+        journal.open(reportFolder);
+        journal.recordCompletedRun(POST_RUN);
+        journal.close();
+        Files.writeString(reportFolder.resolve(RunJournal.JOURNAL_FILE), "{\"run\":\"Fuzzer GET", StandardOpenOption.APPEND);
+
+        RunJournal resumedJournal = new RunJournal();
+        resumedJournal.load(reportFolder);
+
+        Assertions.assertThat(resumedJournal.isCompleted(POST_RUN)).isTrue();
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoJournal(@TempDir Path reportFolder) throws Exception {
+        Assertions.assertThat(new RunJournal().load(reportFolder)).isEmpty();
+    }
+
+    @Test
+    void shouldNotWriteWhenNotOpened(@TempDir Path reportFolder) {
+        RunJournal journal = new RunJournal();
+        journal.recordCompletedRun(POST_RUN);
+
+        Assertions.assertThat(journal.isCompleted(POST_RUN)).isFalse();
+        Assertions.assertThat(reportFolder.resolve(RunJournal.JOURNAL_FILE)).doesNotExist();
+    }
+
+    @Test
+    void shouldBuildDifferentKeysForEachContentTypeAndFuzzingData() {
+        Assertions.assertThat(RunJournal.runKey("Fuzzer", "POST", "/pets", "application/json", 1)).isNotEqualTo(POST_RUN);
+        Assertions.assertThat(RunJournal.runKey("Fuzzer", "POST", "/pets", "application/xml", 0)).isNotEqualTo(POST_RUN);
+        Assertions.assertThat(RunJournal.runKey("Fuzzer", "POST", "/pets", "application/json", 0)).isEqualTo(POST_RUN);
+    }
+}
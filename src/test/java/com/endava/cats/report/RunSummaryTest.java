@@ -0,0 +1,123 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.CatsTestCase;
+import com.endava.cats.model.CatsTestCaseExecutionSummary;
+import com.endava.cats.model.CatsTestCaseSummary;
+import com.endava.cats.model.TimeExecution;
+import com.google.common.collect.Lists;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+@QuarkusTest
+class RunSummaryTest {
+
+    @Test
+    void shouldMergeSpilledSummariesInOrder() {
+        RunSummary runSummary = new RunSummary(3);
+        for (int number : List.of(7, 2, 10, 5, 1, 9, 4, 8, 3, 6)) {
+            runSummary.addSummary(summary(number, number % 2 == 0 ? "error" : "success", number * 10L));
+        }
+        Path spillFolder = (Path) ReflectionTestUtils.getField(runSummary, "spillFolder");
+
+        Assertions.assertThat(spillFolder).isDirectoryContaining(file -> file.getFileName().toString().startsWith("summaries"));
+        Assertions.assertThat(Lists.newArrayList(runSummary.getSortedSummaries())).extracting(CatsTestCaseSummary::getId)
+                .containsExactly("Test 1", "Test 2", "Test 3", "Test 4", "Test 5", "Test 6", "Test 7", "Test 8", "Test 9", "Test 10");
+        Assertions.assertThat(runSummary.getTotalTests()).isEqualTo(10);
+        Assertions.assertThat(runSummary.getAverageResponseTimeInMs()).isEqualTo(55);
+        Assertions.assertThat(runSummary.getTestsByResult()).containsExactlyInAnyOrderEntriesOf(Map.of("error", 5L, "success", 5L));
+        Assertions.assertThat(runSummary.getTestsByPath()).containsExactlyInAnyOrderEntriesOf(Map.of("/pets/0", 3L, "/pets/1", 4L, "/pets/2", 3L));
+        Assertions.assertThat(runSummary.getErrorsByReason()).containsExactlyInAnyOrderEntriesOf(Map.of("Unexpected response", 5L));
+
+        runSummary.close();
+
+        Assertions.assertThat(spillFolder).doesNotExist();
+        Assertions.assertThat(runSummary.getTotalTests()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldKeepSlowestTests() {
+        RunSummary runSummary = new RunSummary(4);
+        for (int number = 1; number <= RunSummary.SLOWEST_TESTS + 5; number++) {
+            runSummary.addSummary(summary(number, "success", number * 100L));
+        }
+
+        Assertions.assertThat(runSummary.getSlowestTests()).hasSize(RunSummary.SLOWEST_TESTS)
+                .extracting(TimeExecution::getTestId).startsWith("Test 15", "Test 14").endsWith("Test 6");
+        runSummary.close();
+    }
+
+    @Test
+    void shouldGroupSpilledExecutionsByPathAndSortThemByResponseTime() {
+        RunSummary runSummary = new RunSummary(2);
+        runSummary.addExecution(new CatsTestCaseExecutionSummary("Test 1", "/pets", "POST", 30));
+        runSummary.addExecution(new CatsTestCaseExecutionSummary("Test 2", "/users", "GET", 20));
+        runSummary.addExecution(new CatsTestCaseExecutionSummary("Test 3", "/pets", "POST", 10));
+        runSummary.addExecution(new CatsTestCaseExecutionSummary("Test 4", "/pets", "GET", 50));
+        runSummary.addExecution(new CatsTestCaseExecutionSummary("Test 5", "/pets", "POST", 20));
+
+        Assertions.assertThat(Lists.newArrayList(runSummary.getSortedExecutions())).extracting(CatsTestCaseExecutionSummary::testId)
+                .containsExactly("Test 4", "Test 2", "Test 3", "Test 5", "Test 1");
+        runSummary.close();
+    }
+
+    @Test
+    void shouldNotSpillWhenBufferSizeIsZero() {
+        RunSummary runSummary = new RunSummary(0);
+        for (int number = 1; number <= 100; number++) {
+            runSummary.addSummary(summary(number, "success", number));
+        }
+
+        Assertions.assertThat(ReflectionTestUtils.getField(runSummary, "spillFolder")).isNull();
+        Assertions.assertThat(Lists.newArrayList(runSummary.getSortedSummaries())).hasSize(100);
+    }
+
+    @Test
+    void shouldStreamTestCasesAndAggregatesInSummaryReport(@TempDir Path reportFolder) throws Exception {
+        ReportingArguments reportingArguments = Mockito.mock(ReportingArguments.class);
+        Mockito.when(reportingArguments.getOutputReportFolder()).thenReturn(reportFolder.toString());
+        TestCaseExporter exporter = new TestCaseExporterHtmlOnly(reportingArguments, Mockito.mock(CatsGlobalContext.class));
+        exporter.initPath(null);
+        RunSummary runSummary = new RunSummary(2);
+        for (int number = 5; number >= 1; number--) {
+            runSummary.addSummary(summary(number, "error", number));
+        }
+
+        exporter.writeSummary(runSummary, Mockito.mock(ExecutionStatisticsListener.class));
+
+        JsonObject report = JsonParser.parseString(Files.readString(reportFolder.resolve("cats-summary-report.json"))).getAsJsonObject();
+        Assertions.assertThat(report.getAsJsonArray("testCases").asList()).extracting(testCase -> testCase.getAsJsonObject().get("id").getAsString())
+                .containsExactly("Test 1", "Test 2", "Test 3", "Test 4", "Test 5");
+        Assertions.assertThat(report.getAsJsonObject("testsByResult").get("error").getAsLong()).isEqualTo(5);
+        Assertions.assertThat(report.getAsJsonArray("slowestTests")).hasSize(5);
+        Assertions.assertThat(reportFolder.resolve("index.html")).content().contains("Test5.html");
+        runSummary.close();
+    }
+
+    private static CatsTestCaseSummary summary(int number, String result, long responseTimeInMs) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId("Test " + number);
+        testCase.setScenario("Scenario " + number);
+        testCase.setResult(result);
+        testCase.setResultReason("Unexpected response");
+        testCase.setFuzzer("Fuzzer" + number % 2);
+        testCase.setContractPath("/pets/" + number % 3);
+        testCase.setRequest(CatsRequest.builder().httpMethod("POST").build());
+        testCase.setResponse(CatsResponse.builder().responseCode(500).responseTimeInMs(responseTimeInMs).build());
+        return CatsTestCaseSummary.fromCatsTestCase(testCase);
+    }
+}
@@ -0,0 +1,112 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.CatsTestCase;
+import com.endava.cats.model.CatsTestCaseSummary;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class SummaryChunksWriterTest {
+
+    @Test
+    void shouldWriteTestCasesInChunksReferencingIndex(@TempDir Path reportFolder) throws Exception {
+        List<CatsTestCaseSummary> summaries = IntStream.rangeClosed(1, 5).mapToObj(SummaryChunksWriterTest::summary).toList();
+
+        new SummaryChunksWriter(2).write(reportFolder, summaries);
+
+        Path dataFolder = reportFolder.resolve(SummaryChunksWriter.SUMMARY_DATA_FOLDER);
+        Assertions.assertThat(dataFolder.resolve(SummaryChunksWriter.SUMMARY_INDEX)).content()
+                .isEqualTo("catsSummary.init({\"chunks\":3,\"total\":5,\"fuzzers\":[\"Fuzzer1\",\"Fuzzer0\"],\"paths\":[\"/pets/1\",\"/pets/2\",\"/pets/0\"],\"reasons\":[\"Unexpected <code>\"]});\n");
+        Assertions.assertThat(dataFolder.resolve("chunk-00000.js")).content()
+                .isEqualTo("catsSummary.addChunk([[0,\"Test 1\",0,\"post\",0,\"Scenario \\\"1\\\"\",\"error\",0,0],[1,\"Test 2\",1,\"post\",1,\"Scenario \\\"2\\\"\",\"error\",0,0]]);\n");
+        Assertions.assertThat(dataFolder.resolve("chunk-00002.js")).content().contains("\"Test 5\"");
+        Assertions.assertThat(dataFolder.resolve("chunk-00003.js")).doesNotExist();
+    }
+
+    @Test
+    void shouldReplacePreviousChunks(@TempDir Path reportFolder) throws Exception {
+        new SummaryChunksWriter(1).write(reportFolder, List.of(summary(1), summary(2)));
+        new SummaryChunksWriter(1).write(reportFolder, List.of(summary(3)));
+
+        Path dataFolder = reportFolder.resolve(SummaryChunksWriter.SUMMARY_DATA_FOLDER);
+        Assertions.assertThat(dataFolder.resolve("chunk-00000.js")).content().contains("\"Test 3\"");
+        Assertions.assertThat(dataFolder.resolve("chunk-00001.js")).doesNotExist();
+    }
+
+    @Test
+    void shouldNotInlineTestCasesInJavascriptSummary(@TempDir Path reportFolder) throws Exception {
+        ReportingArguments reportingArguments = Mockito.mock(ReportingArguments.class);
+        Mockito.when(reportingArguments.getOutputReportFolder()).thenReturn(reportFolder.toString());
+        TestCaseExporter exporter = new TestCaseExporterHtmlJs(reportingArguments, Mockito.mock(CatsGlobalContext.class));
+        exporter.initPath(null);
+
+        exporter.writeSummary(runSummary(summary(1), summary(2)), Mockito.mock(ExecutionStatisticsListener.class));
+
+        Assertions.assertThat(reportFolder.resolve("index.html")).content()
+                .doesNotContain("Scenario &quot;1&quot;")
+                .contains("summary-data/summary-index.js");
+        Assertions.assertThat(Files.readString(reportFolder.resolve(SummaryChunksWriter.SUMMARY_DATA_FOLDER).resolve("chunk-00000.js")))
+                .contains("\"Test 1\"", "\"Test 2\"");
+    }
+
+    @Test
+    void shouldInlineTestCasesInHtmlOnlySummary(@TempDir Path reportFolder) throws Exception {
+        ReportingArguments reportingArguments = Mockito.mock(ReportingArguments.class);
+        Mockito.when(reportingArguments.getOutputReportFolder()).thenReturn(reportFolder.toString());
+        TestCaseExporter exporter = new TestCaseExporterHtmlOnly(reportingArguments, Mockito.mock(CatsGlobalContext.class));
+        exporter.initPath(null);
+
+        exporter.writeSummary(runSummary(summary(1)), Mockito.mock(ExecutionStatisticsListener.class));
+
+        Assertions.assertThat(reportFolder.resolve("index.html")).content().contains("Test1.html").doesNotContain("summary-index.js");
+        Assertions.assertThat(reportFolder.resolve(SummaryChunksWriter.SUMMARY_DATA_FOLDER)).doesNotExist();
+    }
+
+    @Test
+    void shouldNotLinkTestCasePagesWhenStoringSegments(@TempDir Path reportFolder) throws Exception {
+        ReportingArguments reportingArguments = Mockito.mock(ReportingArguments.class);
+        Mockito.when(reportingArguments.getOutputReportFolder()).thenReturn(reportFolder.toString());
+        Mockito.when(reportingArguments.getReportStorage()).thenReturn(ReportingArguments.ReportStorage.SEGMENTS);
+        TestCaseExporter exporter = new TestCaseExporterHtmlOnly(reportingArguments, Mockito.mock(CatsGlobalContext.class));
+        exporter.initPath(null);
+
+        exporter.writeSummary(runSummary(summary(1)), Mockito.mock(ExecutionStatisticsListener.class));
+        exporter.closeTestCaseStore();
+
+        Assertions.assertThat(reportFolder.resolve("index.html")).content()
+                .doesNotContain("Test1.html")
+                .contains("Run cats view Test1 to render this test case", "data-segments=\"true\"");
+    }
+
+    private static RunSummary runSummary(CatsTestCaseSummary... summaries) {
+        RunSummary runSummary = new RunSummary(0);
+        Arrays.stream(summaries).forEach(runSummary::addSummary);
+        return runSummary;
+    }
+
+    private static CatsTestCaseSummary summary(int number) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId("Test " + number);
+        testCase.setScenario("Scenario \"" + number + "\"");
+        testCase.setResult("error");
+        testCase.setResultReason("Unexpected <code>");
+        testCase.setFuzzer("Fuzzer" + number % 2);
+        testCase.setContractPath("/pets/" + number % 3);
+        testCase.setRequest(CatsRequest.builder().httpMethod("POST").build());
+        testCase.setResponse(CatsResponse.builder().responseCode(500).build());
+        return CatsTestCaseSummary.fromCatsTestCase(testCase);
+    }
+}
@@ -1,5 +1,6 @@
 package com.endava.cats.report;
 
+import com.endava.cats.args.ApiArguments;
 import com.endava.cats.args.IgnoreArguments;
 import com.endava.cats.args.ReportingArguments;
 import com.endava.cats.context.CatsConfiguration;
@@ -12,14 +13,18 @@ import com.endava.cats.http.ResponseCodeFamily;
 import com.endava.cats.http.ResponseCodeFamilyDynamic;
 import com.endava.cats.http.ResponseCodeFamilyPredefined;
 import com.endava.cats.model.CatsRequest;
+import com.endava.cats.io.ResponseBodyAnalyzer;
 import com.endava.cats.model.CatsResponse;
 import com.endava.cats.model.CatsTestCase;
 import com.endava.cats.model.CatsTestCaseSummary;
 import com.endava.cats.model.FuzzingData;
+import com.endava.cats.util.CatsUtil;
+import com.google.common.collect.Lists;
 import com.google.gson.JsonParser;
 import io.github.ludovicianul.prettylogger.PrettyLogger;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.StringSchema;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
@@ -27,14 +32,17 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.slf4j.MDC;
 import org.slf4j.event.Level;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -42,6 +50,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 @QuarkusTest
@@ -52,6 +62,7 @@ class TestCaseListenerTest {
     ExecutionStatisticsListener executionStatisticsListener;
     IgnoreArguments ignoreArguments;
     ReportingArguments reportingArguments;
+    ApiArguments apiArguments;
     @Inject
     CatsGlobalContext catsGlobalContext;
 
@@ -70,16 +81,17 @@ class TestCaseListenerTest {
         Mockito.when(testCaseExporter.reportFormat()).thenReturn(ReportingArguments.ReportFormat.HTML_JS);
         executionStatisticsListener = Mockito.mock(ExecutionStatisticsListener.class);
         ignoreArguments = Mockito.mock(IgnoreArguments.class);
+        apiArguments = Mockito.mock(ApiArguments.class);
         Instance<TestCaseExporter> exporters = Mockito.mock(Instance.class);
         Mockito.when(exporters.stream()).thenReturn(Stream.of(testCaseExporter));
-        testCaseListener = new TestCaseListener(catsGlobalContext, executionStatisticsListener, exporters, ignoreArguments, reportingArguments);
+        testCaseListener = new TestCaseListener(catsGlobalContext, executionStatisticsListener, exporters, ignoreArguments, reportingArguments, apiArguments);
         catsGlobalContext.getDiscriminators().clear();
         catsGlobalContext.getFuzzersConfiguration().clear();
     }
 
     @AfterEach
     void tearDown() {
-        TestCaseListener.TEST.set(0);
+        MDC.clear();
     }
 
     @Test
@@ -96,13 +108,13 @@ class TestCaseListenerTest {
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
         }, FuzzingData.builder().build());
 
-        Assertions.assertThat(testCaseListener.testCaseSummaryDetails.get(0)).isNotNull();
+        Assertions.assertThat(summaries(testCaseListener).get(0)).isNotNull();
         Mockito.verify(testCaseExporter).writeTestCase(Mockito.any());
     }
 
     @Test
     void givenAFunction_whenExecutingATestCaseAndAddingDetails_thenTheDetailsAreCorrectlyAttachedToTheTestCase() {
-        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).isEmpty();
+        Assertions.assertThat(summaries(testCaseListener)).isEmpty();
 
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
             testCaseListener.addScenario(logger, "Given a {} field", "string");
@@ -114,12 +126,124 @@ class TestCaseListenerTest {
             testCaseListener.reportWarn(logger, "Warn {} happened", "1");
         }, FuzzingData.builder().build());
 
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = summaries(testCaseListener).get(0);
         Assertions.assertThat(testCase).isNotNull();
         Assertions.assertThat(testCase.getPath()).isEqualTo("path");
         Assertions.assertThat(testCase.getScenario()).isEqualTo("Given a string field");
     }
 
+    @Test
+    void shouldWriteTestCasesInBackgroundAndFlushThemWhenEndingSession() {
+        Mockito.when(reportingArguments.getReportWriterQueueSize()).thenReturn(2);
+        Instance<TestCaseExporter> exporters = Mockito.mock(Instance.class);
+        Mockito.when(exporters.stream()).thenReturn(Stream.of(testCaseExporter));
+        TestCaseListener asyncListener = new TestCaseListener(catsGlobalContext, executionStatisticsListener, exporters, ignoreArguments, reportingArguments, apiArguments);
+
+        for (int i = 0; i < 5; i++) {
+            asyncListener.createAndExecuteTest(logger, fuzzer, () -> {
+            }, FuzzingData.builder().build());
+        }
+        asyncListener.endSession();
+
+        ArgumentCaptor<List<CatsTestCase>> batches = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(testCaseExporter, Mockito.atLeastOnce()).writeTestCases(batches.capture());
+        Assertions.assertThat(asyncListener.runSummary.getTotalTests()).isEqualTo(5);
+        Assertions.assertThat(batches.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(5);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"error,1,0,0", "warn,0,1,0", "success,0,0,1"})
+    void shouldMergeTestCaseFromAnotherProcess(String result, int errors, int warns, int success) {
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId("Test 20");
+        testCase.setResult(result);
+        testCase.setContractPath("/pets");
+        testCaseListener.mergeTestCase(testCase);
+
+        Assertions.assertThat(testCase.getTestId()).isEqualTo("Test 1");
+        Assertions.assertThat(summaries(testCaseListener)).hasSize(1);
+        Mockito.verify(testCaseExporter).writeTestCase(testCase);
+        Mockito.verify(executionStatisticsListener, Mockito.times(errors)).increaseErrors("/pets");
+        Mockito.verify(executionStatisticsListener, Mockito.times(warns)).increaseWarns("/pets");
+        Mockito.verify(executionStatisticsListener, Mockito.times(success)).increaseSuccess("/pets");
+    }
+
+    @Test
+    void shouldRestoreCompletedFuzzerRunsWhenResuming(@TempDir Path reportFolder) throws Exception {
+        Mockito.when(testCaseExporter.getReportingPath()).thenReturn(reportFolder);
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+        Mockito.when(reportingArguments.isJournal()).thenReturn(true);
+        FuzzingData postData = FuzzingData.builder().contractPath("/test").method(HttpMethod.POST).payload("{\"name\":\"cats\"}").reqSchema(new ObjectSchema()).requestContentTypes(List.of("application/json")).build();
+        FuzzingData otherPostData = FuzzingData.builder().contractPath("/test").method(HttpMethod.POST).payload("{\"name\":\"dogs\"}").reqSchema(new ObjectSchema()).requestContentTypes(List.of("application/json")).build();
+        FuzzingData getData = FuzzingData.builder().contractPath("/test").method(HttpMethod.GET).reqSchema(new ObjectSchema()).build();
+        testCaseListener.startRunJournal();
+        testCaseListener.beforeFuzz(RandomResourcesFuzzer.class, postData, 0);
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportWarn(logger, "Warn {} happened", "1"), FuzzingData.builder().contractPath("/test").method(HttpMethod.POST).build());
+        testCaseListener.afterFuzz("/test");
+        testCaseListener.beforeFuzz(RandomResourcesFuzzer.class, getData, 2);
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportWarn(logger, "Warn {} happened", "2"), getData);
+        testCaseListener.endSession();
+
+        Mockito.when(reportingArguments.isResume()).thenReturn(true);
+        ExecutionStatisticsListener resumedStatistics = Mockito.mock(ExecutionStatisticsListener.class);
+        Instance<TestCaseExporter> exporters = Mockito.mock(Instance.class);
+        Mockito.when(exporters.stream()).thenReturn(Stream.of(testCaseExporter));
+        TestCaseListener resumedListener = new TestCaseListener(catsGlobalContext, resumedStatistics, exporters, ignoreArguments, reportingArguments, apiArguments);
+        resumedListener.startRunJournal();
+
+        Assertions.assertThat(summaries(resumedListener)).hasSize(1);
+        Assertions.assertThat(summaries(resumedListener).getFirst().getId()).isEqualTo("Test 1");
+        Assertions.assertThat(resumedListener.getCurrentTestCaseNumber()).isEqualTo(1);
+        Assertions.assertThat(resumedListener.isFuzzerRunCompleted(RandomResourcesFuzzer.class, postData, 0)).isTrue();
+        Assertions.assertThat(resumedListener.isFuzzerRunCompleted(RandomResourcesFuzzer.class, otherPostData, 1)).isFalse();
+        Assertions.assertThat(resumedListener.isFuzzerRunCompleted(RandomResourcesFuzzer.class, getData, 2)).isFalse();
+        Mockito.verify(resumedStatistics, Mockito.times(1)).increaseWarns("/test");
+        Mockito.verify(testCaseExporter).deleteTestCaseFilesExcept(Set.of("Test 1"));
+        resumedListener.endSession();
+    }
+
+    @Test
+    void shouldSkipCompletedRunsWhenResumingWithNewRandomPayloads(@TempDir Path reportFolder) throws Exception {
+        Mockito.when(testCaseExporter.getReportingPath()).thenReturn(reportFolder);
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+        Mockito.when(reportingArguments.isJournal()).thenReturn(true);
+        List<FuzzingData> firstRunData = List.of(randomPostData(), randomPostData());
+        testCaseListener.startRunJournal();
+        testCaseListener.beforeFuzz(RandomResourcesFuzzer.class, firstRunData.getFirst(), 0);
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportWarn(logger, "Warn {} happened", "1"), firstRunData.getFirst());
+        testCaseListener.afterFuzz("/test");
+        testCaseListener.endSession();
+
+        Mockito.when(reportingArguments.isResume()).thenReturn(true);
+        Instance<TestCaseExporter> exporters = Mockito.mock(Instance.class);
+        Mockito.when(exporters.stream()).thenReturn(Stream.of(testCaseExporter));
+        TestCaseListener resumedListener = new TestCaseListener(catsGlobalContext, Mockito.mock(ExecutionStatisticsListener.class), exporters, ignoreArguments, reportingArguments, apiArguments);
+        resumedListener.startRunJournal();
+        List<FuzzingData> resumedRunData = List.of(randomPostData(), randomPostData());
+
+        Assertions.assertThat(resumedRunData.getFirst().getPayload()).isNotEqualTo(firstRunData.getFirst().getPayload());
+        Assertions.assertThat(resumedListener.isFuzzerRunCompleted(RandomResourcesFuzzer.class, resumedRunData.getFirst(), 0)).isTrue();
+        Assertions.assertThat(resumedListener.isFuzzerRunCompleted(RandomResourcesFuzzer.class, resumedRunData.getLast(), 1)).isFalse();
+        resumedListener.endSession();
+    }
+
+    private static FuzzingData randomPostData() {
+        return FuzzingData.builder().contractPath("/test").method(HttpMethod.POST).payload("{\"name\":\"" + CatsUtil.random().nextLong() + "\"}")
+                .reqSchema(new ObjectSchema()).requestContentTypes(List.of("application/json")).build();
+    }
+
+    @Test
+    void shouldNotWriteRunJournalWhenNotEnabled(@TempDir Path reportFolder) throws Exception {
+        Mockito.when(testCaseExporter.getReportingPath()).thenReturn(reportFolder);
+        testCaseListener.startRunJournal();
+        testCaseListener.beforeFuzz(RandomResourcesFuzzer.class, "/test", "POST");
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportWarn(logger, "Warn {} happened", "1"), FuzzingData.builder().contractPath("/test").method(HttpMethod.POST).build());
+        testCaseListener.afterFuzz("/test");
+        testCaseListener.endSession();
+
+        Assertions.assertThat(reportFolder.resolve(RunJournal.JOURNAL_FILE)).doesNotExist();
+    }
+
     @Test
     void givenATestCase_whenExecutingStartAndEndSession_thenTheSummaryAndReportFilesAreCreated() {
         ReflectionTestUtils.setField(testCaseListener, "appName", "CATS");
@@ -127,7 +251,7 @@ class TestCaseListenerTest {
         testCaseListener.endSession();
 
         Mockito.verify(testCaseExporter, Mockito.times(1)).writeHelperFiles();
-        Mockito.verify(testCaseExporter, Mockito.times(1)).writeSummary(Mockito.anyList(), Mockito.any());
+        Mockito.verify(testCaseExporter, Mockito.times(1)).writeSummary(Mockito.any(RunSummary.class), Mockito.any());
     }
 
     @Test
@@ -143,7 +267,7 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
 
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = summaries(testCaseListener).get(0);
         Assertions.assertThat(testCase.getResult()).isEqualTo(Level.WARN.toString().toLowerCase());
         Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Warn 1 happened");
     }
@@ -183,6 +307,7 @@ class TestCaseListenerTest {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("300", "400"));
         Mockito.when(data.getResponses()).thenReturn(Map.of("300", Collections.emptyList()));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
 
         prepareTestCaseListenerSimpleSetup(response, () -> testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX));
 
@@ -272,24 +397,97 @@ class TestCaseListenerTest {
         FuzzingData data = Mockito.mock(FuzzingData.class);
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("300", "400"));
         Mockito.when(data.getResponses()).thenReturn(Map.of("300", Collections.emptyList()));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(data.getMethod()).thenReturn(HttpMethod.POST);
         Mockito.when(data.getPath()).thenReturn("/test");
-        MDC.put(TestCaseListener.ID, "1");
-        testCaseListener.testCaseMap.put("1", new CatsTestCase());
-        testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
-
-        testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
+            testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
+        }, data);
         Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
         Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).isNotEmpty();
 
         Mockito.when(data.getMethod()).thenReturn(HttpMethod.DELETE);
         Mockito.when(data.getPath()).thenReturn("/test/{testId}");
-        testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
+            testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
+        }, data);
         Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses()).hasSize(1).containsKey("/test");
         Assertions.assertThat(catsGlobalContext.getPostSuccessfulResponses().get("/test")).isEmpty();
+    }
 
-        MDC.remove(TestCaseListener.ID);
-        testCaseListener.testCaseMap.clear();
+    @Test
+    void shouldEndAsyncTestCaseWhenFutureCompletes() {
+        Mockito.when(apiArguments.isAsyncRequests()).thenReturn(true);
+        FuzzingData data = FuzzingData.builder().path("/test").contractPath("/test").method(HttpMethod.POST).build();
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        testCaseListener.beforeFuzz(RandomResourcesFuzzer.class, "/test", "POST");
+        testCaseListener.createAndExecuteTestAsync(logger, fuzzer, () -> {
+            testCaseListener.addScenario(logger, "Async scenario");
+            Executor testCaseExecutor = testCaseListener.currentTestCaseExecutor();
+            return response.thenAcceptAsync(body -> testCaseListener.reportResultInfo(logger, data, "Received {}", body), testCaseExecutor);
+        }, data);
+        Assertions.assertThat(summaries(testCaseListener)).isEmpty();
+
+        new Thread(() -> response.complete("body")).start();
+        testCaseListener.afterFuzz("/test");
+
+        Assertions.assertThat(summaries(testCaseListener)).hasSize(1);
+        Assertions.assertThat(summaries(testCaseListener).getFirst().getScenario()).isEqualTo("Async scenario");
+        Assertions.assertThat(summaries(testCaseListener).getFirst().getResult()).isEqualTo("success");
+    }
+
+    @Test
+    void shouldReportErrorWhenAsyncTestCaseFails() {
+        FuzzingData data = FuzzingData.builder().path("/test").contractPath("/test").method(HttpMethod.POST).build();
+
+        testCaseListener.createAndExecuteTestAsync(logger, fuzzer, () -> CompletableFuture.failedFuture(new IllegalStateException("failed")), data);
+
+        Assertions.assertThat(summaries(testCaseListener)).hasSize(1);
+        Assertions.assertThat(summaries(testCaseListener).getFirst().getResult()).isEqualTo("error");
+    }
+
+    @Test
+    void shouldExecuteTestCasesConcurrentlyWhenConcurrencyIsEnabled() {
+        Mockito.when(apiArguments.isConcurrent()).thenReturn(true);
+        Mockito.when(apiArguments.getConcurrency()).thenReturn(4);
+        Set<String> threads = Collections.synchronizedSet(new TreeSet<>());
+        FuzzingData data = FuzzingData.builder().path("/test").contractPath("/test").method(HttpMethod.POST).build();
+
+        testCaseListener.beforeFuzz(RandomResourcesFuzzer.class, "/test", "POST");
+        for (int i = 0; i < 20; i++) {
+            testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+                threads.add(Thread.currentThread().toString());
+                testCaseListener.addScenario(logger, "Scenario for test {}", testCaseListener.getCurrentTestCaseNumber());
+                testCaseListener.reportResultInfo(logger, data, "Concurrent test");
+            }, data);
+        }
+        testCaseListener.afterFuzz("/test");
+
+        Assertions.assertThat(summaries(testCaseListener)).hasSize(20);
+        Assertions.assertThat(summaries(testCaseListener).stream().map(CatsTestCaseSummary::getId).distinct()).hasSize(20);
+        Assertions.assertThat(summaries(testCaseListener))
+                .allSatisfy(summary -> Assertions.assertThat(summary.getScenario()).isEqualTo("Scenario for test " + summary.getId().replace("Test ", "")));
+        Assertions.assertThat(threads).doesNotContain(Thread.currentThread().toString());
+        Assertions.assertThat(testCaseListener.getCurrentTestCaseNumber()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldWaitForAllConcurrentTestCasesWhenOneFailsWithError() {
+        Mockito.when(apiArguments.isConcurrent()).thenReturn(true);
+        Mockito.when(apiArguments.getConcurrency()).thenReturn(4);
+        FuzzingData data = FuzzingData.builder().path("/test").contractPath("/test").method(HttpMethod.POST).build();
+
+        testCaseListener.beforeFuzz(RandomResourcesFuzzer.class, "/test", "POST");
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+            throw new AssertionError("failed");
+        }, data);
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportResultInfo(logger, data, "Concurrent test"), data);
+
+        Assertions.assertThatCode(() -> testCaseListener.afterFuzz("/test")).doesNotThrowAnyException();
+        Assertions.assertThat(summaries(testCaseListener)).extracting(CatsTestCaseSummary::getResult).contains("success");
     }
 
     @Test
@@ -343,7 +541,7 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
 
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = summaries(testCaseListener).get(0);
         Assertions.assertThat(testCase.getResult()).isEqualTo(Level.ERROR.toString().toLowerCase());
         Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Error 1 happened");
     }
@@ -360,7 +558,7 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSkipped();
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
 
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = summaries(testCaseListener).get(0);
         Assertions.assertThat(testCase.getResult()).isEqualTo("success");
         Assertions.assertThat(testCase.getResultDetails()).isEqualTo("Success 1 happened");
     }
@@ -374,7 +572,7 @@ class TestCaseListenerTest {
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseErrors(Mockito.any());
 
-        Assertions.assertThat(testCaseListener.testCaseSummaryDetails).isEmpty();
+        Assertions.assertThat(summaries(testCaseListener)).isEmpty();
     }
 
     @Test
@@ -384,6 +582,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getBody()).thenReturn("{}");
         Mockito.when(data.getResponseCodes()).thenReturn(Collections.singleton("200"));
         Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("200");
 
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
@@ -401,6 +600,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'test':1}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Collections.singleton("200"));
         Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("nomatch")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("200");
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
 
@@ -410,10 +610,30 @@ class TestCaseListenerTest {
         }, FuzzingData.builder().build());
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = summaries(testCaseListener).get(0);
         Assertions.assertThat(testCase.getResultDetails()).startsWith("Response does NOT match expected result. Response code");
     }
 
+    @Test
+    void shouldNotMatchResponseSchemaWhenResponseBodyIsTruncated() {
+        FuzzingData data = Mockito.mock(FuzzingData.class);
+        CatsResponse response = Mockito.mock(CatsResponse.class);
+        Mockito.when(response.getBody()).thenReturn("{'test':1" + ResponseBodyAnalyzer.TRUNCATION_MARKER);
+        Mockito.when(response.isBodyTruncated()).thenReturn(true);
+        Mockito.when(data.getResponseCodes()).thenReturn(Collections.singleton("200"));
+        Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("nomatch")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
+        Mockito.when(response.responseCodeAsString()).thenReturn("200");
+        Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
+
+        testCaseListener.createAndExecuteTest(logger, fuzzer, () -> {
+            testCaseListener.addRequest(CatsRequest.builder().httpMethod("method").build());
+            testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX);
+        }, FuzzingData.builder().build());
+        Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseSuccess(Mockito.any());
+        Mockito.verify(response, Mockito.never()).getJsonBody();
+    }
+
     @Test
     void givenAnUndocumentedResponseThatMatchesTheResponseCode_whenReportingTheResult_thenTheResultIsCorrectlyReported() {
         FuzzingData data = Mockito.mock(FuzzingData.class);
@@ -421,6 +641,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getBody()).thenReturn("{'test':1}");
         Mockito.when(data.getResponseCodes()).thenReturn(Collections.singleton("400"));
         Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("test")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("200");
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
 
@@ -430,7 +651,7 @@ class TestCaseListenerTest {
         }, FuzzingData.builder().build());
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseWarns(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = summaries(testCaseListener).get(0);
         Assertions.assertThat(testCase.getResultDetails()).startsWith("Response does NOT match expected result. Response code is from a list of expected codes for this FUZZER");
     }
 
@@ -441,6 +662,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getBody()).thenReturn("{'test':1}");
         Mockito.when(data.getResponseCodes()).thenReturn(Collections.singleton("400"));
         Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("test")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
 
@@ -456,6 +678,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getBody()).thenReturn("{'test':1}");
         Mockito.when(data.getResponseCodes()).thenReturn(Collections.singleton("200"));
         Mockito.when(data.getResponses()).thenReturn(Collections.singletonMap("200", Collections.singletonList("test")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
         Mockito.when(response.responseCodeAsResponseRange()).thenReturn("4XX");
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
@@ -463,7 +686,7 @@ class TestCaseListenerTest {
         testCaseListener.createAndExecuteTest(logger, fuzzer, () -> testCaseListener.reportResult(logger, data, response, ResponseCodeFamilyPredefined.TWOXX), FuzzingData.builder().build());
         Mockito.verify(executionStatisticsListener, Mockito.times(1)).increaseErrors(Mockito.any());
         Mockito.verify(executionStatisticsListener, Mockito.never()).increaseSuccess(Mockito.any());
-        CatsTestCaseSummary testCase = testCaseListener.testCaseSummaryDetails.get(0);
+        CatsTestCaseSummary testCase = summaries(testCaseListener).get(0);
         Assertions.assertThat(testCase.getResultDetails()).startsWith("Unexpected behaviour");
     }
 
@@ -482,6 +705,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'test':1,'anEnum':null}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(Map.of("400", Collections.singletonList("{'test':'4','anEnum':'value'}"), "200", Collections.singletonList("{'other':'2'}")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(data.getRequestPropertyTypes()).thenReturn(Map.of("anEnum", enumSchema));
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
         Mockito.when(response.getFuzzedField()).thenReturn(fuzzedField);
@@ -504,6 +728,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString(body));
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(Collections.emptyMap());
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
         Mockito.when(response.responseCodeAsResponseRange()).thenReturn("4XX");
 
@@ -524,6 +749,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("[{'test':1},{'test':2}]"));
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(Map.of("400", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
 
         spyListener.createAndExecuteTest(logger, fuzzer, () -> {
@@ -544,6 +770,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString(returnedBody));
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(Map.of("400", Collections.singletonList(documentedResponses), "200", Collections.singletonList("{'other':'2'}")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
 
         spyListener.createAndExecuteTest(logger, fuzzer, () -> {
@@ -563,6 +790,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("[]"));
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(Map.of("400", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
 
@@ -584,6 +812,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'notAJson': 'column1,column2,column3'}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(Map.of("400", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(data.getContentTypesByResponseCode(Mockito.any())).thenReturn(List.of(contentType));
         Mockito.when(response.responseCodeAsString()).thenReturn("200");
         Mockito.when(response.getResponseContentType()).thenReturn(contentType);
@@ -606,6 +835,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'test':1}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("200", "400"));
         Mockito.when(data.getResponses()).thenReturn(Map.of("400", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
         Mockito.when(response.getFuzzedField()).thenReturn("someField");
         Mockito.when(ignoreArguments.isNotIgnoredResponse(Mockito.any())).thenReturn(true);
@@ -628,6 +858,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getJsonBody()).thenReturn(JsonParser.parseString("{'test':1}"));
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("200", "4xx"));
         Mockito.when(data.getResponses()).thenReturn(new TreeMap<>(Map.of("4xx", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}"))));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn(responseCode);
         Mockito.when(response.responseCodeAsResponseRange()).thenReturn("4XX");
         Mockito.when(response.getFuzzedField()).thenReturn("test");
@@ -664,6 +895,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getBody()).thenReturn("{'test':1}");
         Mockito.when(data.getResponseCodes()).thenReturn(new TreeSet<>(Set.of("200", "401")));
         Mockito.when(data.getResponses()).thenReturn(Map.of("401", Collections.singletonList("{'test':'4'}"), "200", Collections.singletonList("{'other':'2'}")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("400");
         Mockito.when(response.responseCodeAsResponseRange()).thenReturn("4XX");
 
@@ -681,6 +913,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getBody()).thenReturn("");
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("401"));
         Mockito.when(data.getResponses()).thenReturn(Map.of("401", Collections.singletonList("{'test':'4'}")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("404");
         Mockito.when(response.getResponseCode()).thenReturn(404);
         Mockito.when(response.responseCodeAsResponseRange()).thenReturn("4XX");
@@ -699,6 +932,7 @@ class TestCaseListenerTest {
         Mockito.when(response.getBody()).thenReturn("");
         Mockito.when(data.getResponseCodes()).thenReturn(Set.of("401"));
         Mockito.when(data.getResponses()).thenReturn(Map.of("401", Collections.singletonList("{'test':'4'}")));
+        Mockito.when(data.getResponseSchemaMatchers()).thenCallRealMethod();
         Mockito.when(response.responseCodeAsString()).thenReturn("501");
         Mockito.when(response.getResponseCode()).thenReturn(501);
         Mockito.when(response.responseCodeAsResponseRange()).thenReturn("501");
@@ -831,4 +1065,8 @@ class TestCaseListenerTest {
             runnable.run();
         }, FuzzingData.builder().build());
     }
+
+    private static List<CatsTestCaseSummary> summaries(TestCaseListener listener) {
+        return Lists.newArrayList(listener.runSummary.getSortedSummaries());
+    }
 }
@@ -0,0 +1,168 @@
+package com.endava.cats.report;
+
+import com.endava.cats.args.ReportingArguments;
+import com.endava.cats.context.CatsGlobalContext;
+import com.endava.cats.model.CatsRequest;
+import com.endava.cats.model.CatsResponse;
+import com.endava.cats.model.CatsTestCase;
+import com.endava.cats.util.JsonUtils;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@QuarkusTest
+class TestCaseStoreTest {
+
+    @Test
+    void shouldReadAppendedTestCasesById(@TempDir Path reportFolder) throws Exception {
+        try (TestCaseStore store = TestCaseStore.open(reportFolder)) {
+            store.append("Test1", "{\"testId\":\"Test 1\"}");
+            store.append("Test2", "{\"testId\":\"Test 2\",\"scenario\":\"é😀\"}");
+        }
+
+        TestCaseStore store = TestCaseStore.open(reportFolder);
+
+        Assertions.assertThat(TestCaseStore.exists(reportFolder)).isTrue();
+        Assertions.assertThat(store.read("Test2")).contains("{\"testId\":\"Test 2\",\"scenario\":\"é😀\"}");
+        Assertions.assertThat(store.read("Test1")).contains("{\"testId\":\"Test 1\"}");
+        Assertions.assertThat(store.read("Test")).isEmpty();
+    }
+
+    @Test
+    void shouldRotateSegmentsWhenExceedingMaxSize(@TempDir Path reportFolder) throws Exception {
+        try (TestCaseStore store = new TestCaseStore(reportFolder, 50)) {
+            for (int i = 1; i <= 10; i++) {
+                store.append("Test" + i, "{\"testId\":\"Test " + i + "\"}");
+            }
+        }
+        List<String> testCases = new ArrayList<>();
+        TestCaseStore store = TestCaseStore.open(reportFolder);
+        store.forEach(testCases::add);
+
+        Assertions.assertThat(segments(reportFolder)).hasSize(5);
+        Assertions.assertThat(testCases).hasSize(10).startsWith("{\"testId\":\"Test 1\"}").endsWith("{\"testId\":\"Test 10\"}");
+        Assertions.assertThat(store.read("Test7")).contains("{\"testId\":\"Test 7\"}");
+    }
+
+    @Test
+    void shouldAppendBatchesAcrossSegments(@TempDir Path reportFolder) throws Exception {
+        Map<String, String> batch = new LinkedHashMap<>();
+        for (int i = 1; i <= 10; i++) {
+            batch.put("Test" + i, "{\"testId\":\"Test " + i + "\"}");
+        }
+        try (TestCaseStore store = new TestCaseStore(reportFolder, 50)) {
+            store.appendAll(batch);
+        }
+        List<String> testCases = new ArrayList<>();
+        TestCaseStore store = TestCaseStore.open(reportFolder);
+        store.forEach(testCases::add);
+
+        Assertions.assertThat(segments(reportFolder)).hasSize(5);
+        Assertions.assertThat(testCases).containsExactlyElementsOf(batch.values());
+        Assertions.assertThat(store.read("Test8")).contains("{\"testId\":\"Test 8\"}");
+    }
+
+    @Test
+    void shouldAppendAfterExistingTestCasesWhenReopening(@TempDir Path reportFolder) throws Exception {
+        try (TestCaseStore store = new TestCaseStore(reportFolder, 50)) {
+            store.append("Test1", "{\"testId\":\"Test 1\"}");
+        }
+        try (TestCaseStore store = new TestCaseStore(reportFolder, 50)) {
+            store.append("Test2", "{\"testId\":\"Test 2\"}");
+            store.append("Test3", "{\"testId\":\"Test 3\"}");
+        }
+        List<String> testCases = new ArrayList<>();
+        TestCaseStore.open(reportFolder).forEach(testCases::add);
+
+        Assertions.assertThat(segments(reportFolder)).hasSize(2);
+        Assertions.assertThat(testCases).containsExactly("{\"testId\":\"Test 1\"}", "{\"testId\":\"Test 2\"}", "{\"testId\":\"Test 3\"}");
+        Assertions.assertThat(TestCaseStore.open(reportFolder).read("Test1")).contains("{\"testId\":\"Test 1\"}");
+    }
+
+    @Test
+    void shouldReadTestCasesAppendedAfterLoadingTheIndex(@TempDir Path reportFolder) throws Exception {
+        try (TestCaseStore store = new TestCaseStore(reportFolder, 50)) {
+            store.append("Test1", "{\"testId\":\"Test 1\"}");
+            Assertions.assertThat(store.read("Test2")).isEmpty();
+
+            store.append("Test2", "{\"testId\":\"Test 2\"}");
+            store.append("Test1", "{\"testId\":\"Test 1\",\"replaced\":true}");
+
+            Assertions.assertThat(store.read("Test2")).contains("{\"testId\":\"Test 2\"}");
+            Assertions.assertThat(store.read("Test1")).contains("{\"testId\":\"Test 1\",\"replaced\":true}");
+        }
+        Assertions.assertThat(TestCaseStore.open(reportFolder).read("Test1")).contains("{\"testId\":\"Test 1\",\"replaced\":true}");
+    }
+
+    @Test
+    void shouldRemoveTestCasesNotRetained(@TempDir Path reportFolder) throws Exception {
+        try (TestCaseStore store = new TestCaseStore(reportFolder, 50)) {
+            for (int i = 1; i <= 4; i++) {
+                store.append("Test" + i, "{\"testId\":\"Test " + i + "\"}");
+            }
+            store.read("Test1");
+            store.retainOnly(Set.of("Test1", "Test3"));
+            store.append("Test5", "{\"testId\":\"Test 5\"}");
+
+            Assertions.assertThat(store.read("Test2")).isEmpty();
+            Assertions.assertThat(store.read("Test3")).contains("{\"testId\":\"Test 3\"}");
+        }
+        List<String> testCases = new ArrayList<>();
+        TestCaseStore store = TestCaseStore.open(reportFolder);
+        store.forEach(testCases::add);
+
+        Assertions.assertThat(testCases).containsExactly("{\"testId\":\"Test 1\"}", "{\"testId\":\"Test 3\"}", "{\"testId\":\"Test 5\"}");
+        Assertions.assertThat(store.read("Test4")).isEmpty();
+        Assertions.assertThat(store.read("Test5")).contains("{\"testId\":\"Test 5\"}");
+        try (Stream<Path> files = Files.list(reportFolder)) {
+            Assertions.assertThat(files.filter(Files::isDirectory)).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoStore(@TempDir Path reportFolder) throws Exception {
+        Assertions.assertThat(TestCaseStore.exists(reportFolder)).isFalse();
+        Assertions.assertThat(TestCaseStore.open(reportFolder).read("Test1")).isEmpty();
+    }
+
+    @Test
+    void shouldStoreTestCasesInSegmentsWhenExporting(@TempDir Path reportFolder) throws Exception {
+        ReportingArguments reportingArguments = Mockito.mock(ReportingArguments.class);
+        Mockito.when(reportingArguments.getOutputReportFolder()).thenReturn(reportFolder.toString());
+        Mockito.when(reportingArguments.getReportStorage()).thenReturn(ReportingArguments.ReportStorage.SEGMENTS);
+        TestCaseExporter exporter = new TestCaseExporterHtmlJs(reportingArguments, Mockito.mock(CatsGlobalContext.class));
+        exporter.initPath(null);
+        CatsTestCase testCase = new CatsTestCase();
+        testCase.setTestId("Test 12");
+        testCase.setScenario("Send a multi\nline scenario");
+        testCase.setRequest(CatsRequest.builder().httpMethod("POST").url("http://localhost/pets").headers(List.of()).payload("{\"name\":\"cats\"}").build());
+        testCase.setResponse(CatsResponse.builder().responseCode(200).body("{}").build());
+
+        exporter.writeTestCase(testCase);
+        exporter.closeTestCaseStore();
+
+        Assertions.assertThat(reportFolder.resolve("Test12.json")).doesNotExist();
+        Assertions.assertThat(reportFolder.resolve("Test12.html")).doesNotExist();
+        Assertions.assertThat(segments(reportFolder)).hasSize(1);
+        CatsTestCase storedTestCase = JsonUtils.GSON.fromJson(TestCaseStore.open(reportFolder).read("Test12").orElseThrow(), CatsTestCase.class);
+        Assertions.assertThat(storedTestCase.getScenario()).isEqualTo("Send a multi\nline scenario");
+        Assertions.assertThat(exporter.renderHtmlTestCase(storedTestCase)).contains("Test 12").contains("Send a multi");
+    }
+
+    private static List<Path> segments(Path reportFolder) throws Exception {
+        try (Stream<Path> files = Files.list(reportFolder)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jsonl")).toList();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.endava.cats.strategy;
 
 import com.endava.cats.util.FuzzingResult;
+import com.endava.cats.util.JsonUtils;
+import com.jayway.jsonpath.JsonPath;
 import io.quarkus.test.junit.QuarkusTest;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
@@ -57,6 +59,19 @@ class FuzzingStrategyTest {
         Assertions.assertThat(result).isEqualTo("replaced");
     }
 
+    @ParameterizedTest
+    @CsvSource({"trail,TrailFuzzingStrategy", "replace,ReplaceFuzzingStrategy", "prefix,PrefixFuzzingStrategy",
+            "noop,NoopFuzzingStrategy", "skip,SkipFuzzingStrategy", "insert,InsertFuzzingStrategy"})
+    void shouldCopyWithDataWithoutChangingInitialStrategy(String factoryMethod, String expectedClass) throws Exception {
+        FuzzingStrategy initial = ((FuzzingStrategy) FuzzingStrategy.class.getMethod(factoryMethod).invoke(null)).withData("initial");
+        FuzzingStrategy copy = initial.copyWithData("copy");
+
+        Assertions.assertThat(copy).isNotSameAs(initial);
+        Assertions.assertThat(copy.getClass().getSimpleName()).isEqualTo(expectedClass);
+        Assertions.assertThat(copy.getData()).isEqualTo("copy");
+        Assertions.assertThat(initial.getData()).isEqualTo("initial");
+    }
+
     @Test
     void givenAStringWithNoSpaces_whenMergingTheFuzzingWithAnotherString_thenTheSuppliedValueIsUnchanged() {
         Object result = FuzzingStrategy.mergeFuzzing("test", "air");
@@ -281,4 +296,18 @@ class FuzzingStrategyTest {
         FuzzingResult result = FuzzingStrategy.replaceField(payload, "arrayWithInteger", FuzzingStrategy.replace().withData(List.of(55, 66)));
         Assertions.assertThat(result.json()).contains("55").contains("66").contains("USA").doesNotContain("88").doesNotContain("99");
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @CsvSource(value = {"{\"name\":\"cats\",\"address\":{\"street\":\"main\",\"no\":1}}|address#street",
+            "{\"name\":\"cats\",\"items\":[{\"id\":1},{\"id\":2}]}|items[*]#id",
+            "[{\"id\":1,\"name\":\"cats\"},{\"id\":2,\"name\":\"dogs\"}]|name",
+            "{\"tags\":[\"a\",\"b\"],\"name\":\"cats\"}|tags"}, delimiter = '|')
+    void shouldReplaceFieldInParsedPayloadSameAsInString(String payload, String field) {
+        Object parsedPayload = JsonUtils.parsePayload(payload);
+        FuzzingResult fromParsed = FuzzingStrategy.replaceFieldInParsedPayload(parsedPayload, field, FuzzingStrategy.replace().withData("fuzzed"));
+        FuzzingResult fromString = FuzzingStrategy.replaceField(payload, field, FuzzingStrategy.replace().withData("fuzzed"));
+
+        Assertions.assertThat(fromParsed.json()).isEqualTo(fromString.json()).contains("fuzzed");
+        Assertions.assertThat(JsonUtils.equalAsJson(JsonPath.parse(parsedPayload).jsonString(), payload)).isTrue();
+    }
+}
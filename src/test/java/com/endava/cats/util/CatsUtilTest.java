@@ -26,7 +26,7 @@ class CatsUtilTest {
     @Test
     void givenASetAndMinSize_whenGettingAllSetsWithMinSize_thenAllSubsetsAreProperlyReturned() {
         Set<String> data = new HashSet<>(Arrays.asList("a", "b", "c"));
-        Set<Set<String>> sets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(data, 2);
+        Subsets<String> sets = FuzzingData.SetFuzzingStrategy.getAllSetsWithMinSize(data, 2);
 
         Assertions.assertThat(sets)
                 .isNotEmpty()
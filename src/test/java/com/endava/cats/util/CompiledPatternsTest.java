@@ -0,0 +1,29 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.regex.PatternSyntaxException;
+
+@QuarkusTest
+class CompiledPatternsTest {
+
+    @ParameterizedTest
+    @CsvSource({"abc,[a-z]+,true", "abc1,[a-z]+,false", "ab,[a-z],false", "RO,[A-Z]{2},true"})
+    void shouldMatchSameAsString(String input, String regex, boolean expected) {
+        Assertions.assertThat(CompiledPatterns.matches(input, regex)).isEqualTo(expected).isEqualTo(input.matches(regex));
+    }
+
+    @Test
+    void shouldCompileOnlyOnce() {
+        Assertions.assertThat(CompiledPatterns.compile("[0-9]+")).isSameAs(CompiledPatterns.compile("[0-9]+"));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenInvalidRegex() {
+        Assertions.assertThatThrownBy(() -> CompiledPatterns.matches("abc", "[a-z")).isInstanceOf(PatternSyntaxException.class);
+    }
+}
@@ -1,6 +1,7 @@
 package com.endava.cats.util;
 
 import com.google.gson.JsonElement;
+import com.jayway.jsonpath.JsonPath;
 import io.quarkus.test.junit.QuarkusTest;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -8,6 +9,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.util.List;
+import java.util.Map;
 
 @QuarkusTest
 class JsonUtilsTest {
@@ -278,4 +280,38 @@ class JsonUtilsTest {
                         """;
         Assertions.assertThat(JsonUtils.equalAsJson(myString, myString)).isTrue();
     }
+
+    @Test
+    void shouldCopyOnlyNodesOnPathWhenCopyOnWrite() {
+        Map<String, Object> parsed = (Map<String, Object>) JsonUtils.parsePayload("""
+                {"address": {"street": "main"}, "other": {"key": "value"}, "items": [{"id": 1}, {"id": 2}]}
+                """);
+        Map<String, Object> copy = (Map<String, Object>) JsonUtils.copyOnWrite(parsed, "address#street");
+        Map<String, Object> copyOfItems = (Map<String, Object>) JsonUtils.copyOnWrite(parsed, "items[*]#id");
+
+        Assertions.assertThat(copy).isNotSameAs(parsed).isEqualTo(parsed);
+        Assertions.assertThat(copy.get("address")).isNotSameAs(parsed.get("address"));
+        Assertions.assertThat(copy.get("other")).isSameAs(parsed.get("other"));
+        Assertions.assertThat(((List<?>) copyOfItems.get("items")).getFirst()).isNotSameAs(((List<?>) parsed.get("items")).getFirst());
+        Assertions.assertThat(copyOfItems.get("address")).isSameAs(parsed.get("address"));
+    }
+
+    @Test
+    void shouldReadFieldsFromParsedJson() {
+        Object parsed = JsonUtils.parsePayload("{\"address\": {\"street\": \"main\"}}");
+
+        Assertions.assertThat(JsonUtils.isFieldInParsedJson(parsed, "address#street")).isTrue();
+        Assertions.assertThat(JsonUtils.isFieldInParsedJson(parsed, "address#number")).isFalse();
+        Assertions.assertThat(JsonUtils.isFieldInParsedJson(null, "address")).isFalse();
+        Assertions.assertThat(JsonUtils.parsePayload(" ")).isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"address#street", "$[*]#address#street", "with space#field", "items[*]#id"})
+    void shouldCompileJsonPathOnlyOnce(String field) {
+        JsonPath compiledPath = JsonUtils.toCompiledJsonPath(field);
+
+        Assertions.assertThat(JsonUtils.toCompiledJsonPath(field)).isSameAs(compiledPath);
+        Assertions.assertThat(compiledPath.getPath()).isEqualTo(JsonPath.compile(JsonUtils.sanitizeToJsonPath(field)).getPath());
+    }
 }
@@ -0,0 +1,53 @@
+package com.endava.cats.util;
+
+import com.jayway.jsonpath.JsonPath;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@QuarkusTest
+class LargeValueTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {"ca|😀|ts|[CATS large value: ca + 40000 x U+1F600 + ts]", "''|fuzz|''|[CATS large value: 40000 x fuzz]",
+            "ca|' '|''|[CATS large value: ca + 40000 x U+0020]"}, delimiter = '|')
+    void shouldDescribeValue(String prefix, String unit, String suffix, String expected) {
+        Assertions.assertThat(LargeValue.of(prefix, unit, 40000, suffix).getDescriptor()).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldDescribeUnicodeSequencesUsingHash() {
+        LargeValue first = LargeValue.of("ca", "\u0000😀a", 10, "ts");
+        LargeValue second = LargeValue.of("ca", "\u0001😀a", 10, "ts");
+
+        Assertions.assertThat(first.getDescriptor()).matches("\\[CATS large value: ca \\+ 10 x unicode sequence [0-9a-f]{8} of 4 chars \\+ ts]");
+        Assertions.assertThat(first.getDescriptor()).isNotEqualTo(second.getDescriptor()).isEqualTo(first.toString());
+    }
+
+    @Test
+    void shouldMaterializeValue() {
+        LargeValue largeValue = LargeValue.of("ca", "fuzz", 3, "ts");
+
+        Assertions.assertThat(largeValue.materialize()).isEqualTo("cafuzzfuzzfuzzts");
+        Assertions.assertThat(largeValue.length()).isEqualTo(16);
+    }
+
+    @Test
+    void shouldMaterializeInJsonSameAsJsonPath() {
+        LargeValue largeValue = LargeValue.of("ca", "a\"/\\\u0000 😀", 5, "ts");
+        String payload = JsonPath.parse("{\"name\": \"cats\", \"other\": 1}").set("$.name", largeValue.getDescriptor()).jsonString();
+
+        Assertions.assertThat(largeValue.materializeIn(payload))
+                .isEqualTo(JsonPath.parse("{\"name\": \"cats\", \"other\": 1}").set("$.name", largeValue.materialize()).jsonString());
+    }
+
+    @Test
+    void shouldNotChangePayloadWithoutDescriptor() {
+        LargeValue largeValue = LargeValue.of("ca", "fuzz", 3, "ts");
+
+        Assertions.assertThat(largeValue.materializeIn("{\"name\": \"cats\"}")).isEqualTo("{\"name\": \"cats\"}");
+        Assertions.assertThat(largeValue.materializeIn(null)).isNull();
+    }
+}
@@ -0,0 +1,71 @@
+package com.endava.cats.util;
+
+import com.endava.cats.strategy.FuzzingStrategy;
+import com.jayway.jsonpath.Configuration;
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+
+@QuarkusTest
+class PayloadTemplateTest {
+    private static final String PAYLOAD = """
+            {"name": "cats", "age": 3, "url": "http://cats/1", "address": {"street": "main", "number": 10, "active": true}, "tags": ["a", "b"]}
+            """;
+
+    @ParameterizedTest
+    @CsvSource(value = {"name|fuzzed", "age|\u0000\u200B", "address#street|a\"quoted\" /value\\\\", "address#number|ünicödé 🐱", "url|'\t\n'"}, delimiter = '|')
+    void shouldProduceSamePayloadAsJsonPathReplace(String field, String value) {
+        FuzzingStrategy strategy = FuzzingStrategy.replace().withData(value);
+        Optional<PayloadTemplate> template = PayloadTemplate.compile(PAYLOAD, field, Configuration.defaultConfiguration());
+
+        Assertions.assertThat(template).isPresent();
+        Assertions.assertThat(FuzzingStrategy.replaceFieldInTemplate(template.get(), strategy)).contains(FuzzingStrategy.replaceField(PAYLOAD, field, strategy));
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"name|fuzzed", "address#street|a\"quoted\" /value", "address#active|'\u0000'"}, delimiter = '|')
+    void shouldProduceSamePayloadAsJustReplaceField(String field, String value) {
+        Optional<PayloadTemplate> template = PayloadTemplate.compile(PAYLOAD, field, JsonUtils.GSON_CONFIGURATION);
+
+        Assertions.assertThat(template).isPresent();
+        Assertions.assertThat(template.get().fill(value)).contains(CatsUtil.justReplaceField(PAYLOAD, field, value));
+        Assertions.assertThat(template.get().fill(new BigInteger("123456789012345678901234567890"))).contains(
+                CatsUtil.justReplaceField(PAYLOAD, field, new BigInteger("123456789012345678901234567890")));
+    }
+
+    @Test
+    void shouldApplyStrategyOnOldValue() {
+        PayloadTemplate template = PayloadTemplate.compile(PAYLOAD, "name", Configuration.defaultConfiguration()).orElseThrow();
+
+        Assertions.assertThat(template.getOldValue()).isEqualTo("cats");
+        Assertions.assertThat(FuzzingStrategy.replaceFieldInTemplate(template, FuzzingStrategy.prefix().withData("  ")))
+                .map(FuzzingResult::json).get().asString().contains("\"name\":\"  cats\"");
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"address", "tags", "tags[*]", "missing", "address#missing"})
+    void shouldNotCompileTemplateForNonScalarOrMissingFields(String field) {
+        Assertions.assertThat(PayloadTemplate.compile(PAYLOAD, field, Configuration.defaultConfiguration())).isEmpty();
+    }
+
+    @Test
+    void shouldNotCompileTemplateForRootArrays() {
+        Assertions.assertThat(PayloadTemplate.compile("[{\"name\": \"cats\"}]", "name", Configuration.defaultConfiguration())).isEmpty();
+        Assertions.assertThat(PayloadTemplate.compile(" ", "name", Configuration.defaultConfiguration())).isEmpty();
+    }
+
+    @Test
+    void shouldNotFillNonScalarValues() {
+        PayloadTemplate template = PayloadTemplate.compile(PAYLOAD, "name", Configuration.defaultConfiguration()).orElseThrow();
+
+        Assertions.assertThat(template.fill(null)).isEmpty();
+        Assertions.assertThat(template.fill(List.of("a"))).isEmpty();
+        Assertions.assertThat(template.fill("{\"json\": \"object\"}")).isEmpty();
+    }
+}
@@ -0,0 +1,83 @@
+package com.endava.cats.util;
+
+import io.quarkus.test.junit.QuarkusTest;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+@QuarkusTest
+class SubsetsTest {
+
+    @Test
+    void shouldGeneratePowerSetInGrayCodeOrder() {
+        List<Set<String>> subsets = new ArrayList<>();
+        Subsets.powerSet(List.of("a", "b", "c")).forEach(subsets::add);
+
+        Assertions.assertThat(subsets).hasSize(8).doesNotHaveDuplicates().startsWith(Collections.emptySet());
+        for (int i = 1; i < subsets.size(); i++) {
+            Set<String> difference = new HashSet<>(subsets.get(i));
+            difference.addAll(subsets.get(i - 1));
+            difference.removeAll(intersection(subsets.get(i), subsets.get(i - 1)));
+            Assertions.assertThat(difference).hasSize(1);
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,4", "2,10", "3,14", "4,15", "10,15"})
+    void shouldGenerateSubsetsUpToSize(int maxSize, int expected) {
+        Subsets<String> subsets = Subsets.upToSize(List.of("a", "b", "c", "d"), maxSize);
+
+        Assertions.assertThat(subsets).hasSize(expected).doesNotHaveDuplicates()
+                .allMatch(subset -> !subset.isEmpty() && subset.size() <= maxSize);
+        Assertions.assertThat(subsets.size()).isEqualTo(expected);
+        Assertions.assertThat(subsets.iterator().next()).hasSize(Math.min(maxSize, 4));
+    }
+
+    @Test
+    void shouldGenerateSingletons() {
+        Assertions.assertThat(Subsets.singletons(List.of("a", "b"))).containsExactly(Set.of("a"), Set.of("b"));
+        Assertions.assertThat(Subsets.singletons(List.of())).isEmpty();
+    }
+
+    @Test
+    void shouldNotGenerateAllSubsetsWhenManyElements() {
+        List<Integer> elements = IntStream.range(0, 100).boxed().toList();
+        Subsets<Integer> subsets = Subsets.powerSet(elements);
+
+        Assertions.assertThat(subsets.size()).isEqualTo(Long.MAX_VALUE);
+        Assertions.assertThat(subsets.iterator().next()).isEmpty();
+        Assertions.assertThat(Subsets.upToSize(elements, 100).size()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldSampleDistinctSubsetsWhenMoreThanBudget() {
+        List<Integer> elements = IntStream.range(0, 30).boxed().toList();
+        Subsets<Integer> subsets = Subsets.upToSize(elements, 30).sampled(50);
+
+        Assertions.assertThat(subsets.size()).isEqualTo(50);
+        Assertions.assertThat(subsets).hasSize(50).doesNotHaveDuplicates().allMatch(subset -> !subset.isEmpty());
+        Assertions.assertThat(Subsets.powerSet(elements).sampled(50)).hasSize(50).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldNotSampleWhenLessThanBudget() {
+        Subsets<String> subsets = Subsets.upToSize(List.of("a", "b", "c"), 3).sampled(50);
+
+        Assertions.assertThat(subsets.size()).isEqualTo(7);
+        Assertions.assertThat(subsets).hasSize(7).doesNotHaveDuplicates();
+    }
+
+    private static Set<String> intersection(Set<String> first, Set<String> second) {
+        Set<String> result = new HashSet<>(first);
+        result.retainAll(second);
+        return result;
+    }
+}